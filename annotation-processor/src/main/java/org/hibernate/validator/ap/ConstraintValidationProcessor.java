@@ -4,6 +4,7 @@
  */
 package org.hibernate.validator.ap;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -21,6 +22,7 @@
 
 import org.hibernate.validator.ap.internal.ClassVisitor;
 import org.hibernate.validator.ap.internal.ConstraintAnnotationVisitor;
+import org.hibernate.validator.ap.internal.PropertyAccessorProviderGenerator;
 import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
 import org.hibernate.validator.ap.internal.util.Configuration;
 import org.hibernate.validator.ap.internal.util.MessagerAdapter;
@@ -43,6 +45,12 @@
  * set to {@code false} in order to allow only getter based property
  * constraints but not method level constraints as supported by Hibernate
  * Validator. Default is {@code true}.</li>
+ * <li>{@code generatePropertyAccessors}: Whether implementations of
+ * {@code org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider}
+ * shall be generated for the types hosting constrained fields or methods, allowing
+ * Hibernate Validator to access their property values without reflection. Must be
+ * given as String parsable by {@link Boolean#parseBoolean}. Default is
+ * {@code false}.</li>
  * </ul>
  *
  * @author Hardy Ferentschik
@@ -52,7 +60,8 @@
 @SupportedOptions({
 		Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION,
 		Configuration.VERBOSE_PROCESSOR_OPTION,
-		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION
+		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION,
+		Configuration.GENERATE_PROPERTY_ACCESSORS_PROCESSOR_OPTION
 })
 public class ConstraintValidationProcessor extends AbstractProcessor {
 
@@ -61,6 +70,13 @@ public class ConstraintValidationProcessor extends AbstractProcessor {
 	 */
 	private static final boolean ANNOTATIONS_CLAIMED_EXCLUSIVELY = false;
 
+	/**
+	 * The Gradle incremental processing category, depending on whether a service file aggregating the generated
+	 * property accessor providers is written or not.
+	 */
+	private static final String GRADLE_AGGREGATING_CATEGORY = "org.gradle.annotation.processing.aggregating";
+	private static final String GRADLE_ISOLATING_CATEGORY = "org.gradle.annotation.processing.isolating";
+
 	/**
 	 * The messager to be used for error reports.
 	 */
@@ -71,6 +87,11 @@ public class ConstraintValidationProcessor extends AbstractProcessor {
 	 */
 	private Configuration configuration;
 
+	/**
+	 * Generates the property accessor providers, if enabled.
+	 */
+	private PropertyAccessorProviderGenerator propertyAccessorProviderGenerator;
+
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
 
@@ -78,6 +99,19 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
 		configuration = new Configuration( processingEnv.getOptions(), processingEnv.getMessager() );
 		messager = new MessagerAdapter( processingEnv.getMessager(), configuration.getDiagnosticKind() );
+
+		if ( configuration.generatePropertyAccessors() ) {
+			propertyAccessorProviderGenerator = new PropertyAccessorProviderGenerator( processingEnv, messager );
+		}
+	}
+
+	@Override
+	public Set<String> getSupportedOptions() {
+		Set<String> supportedOptions = new HashSet<>( super.getSupportedOptions() );
+		supportedOptions.add(
+				configuration != null && configuration.generatePropertyAccessors() ? GRADLE_AGGREGATING_CATEGORY : GRADLE_ISOLATING_CATEGORY
+		);
+		return supportedOptions;
 	}
 
 	@Override
@@ -124,6 +158,15 @@ public boolean process(
 			element.accept( classVisitor, null );
 		}
 
+		if ( propertyAccessorProviderGenerator != null ) {
+			for ( Element element : roundEnvironment.getRootElements() ) {
+				propertyAccessorProviderGenerator.generate( element );
+			}
+			if ( roundEnvironment.processingOver() ) {
+				propertyAccessorProviderGenerator.writeServiceFile();
+			}
+		}
+
 		return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
 	}
 
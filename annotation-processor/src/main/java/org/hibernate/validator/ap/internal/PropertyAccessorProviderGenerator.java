@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap.internal;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
+import org.hibernate.validator.ap.internal.util.CollectionHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper.AnnotationType;
+import org.hibernate.validator.ap.internal.util.MessagerAdapter;
+import org.hibernate.validator.ap.internal.util.StringHelper;
+import org.hibernate.validator.ap.internal.util.TypeNames.HibernateValidatorTypes;
+
+/**
+ * Generates an implementation of {@code org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider} for each
+ * type hosting constrained or cascaded fields or methods, allowing the engine to access the property values of these
+ * types without relying on reflection.
+ * <p>
+ * The generated providers are registered in a service file which is written once the last processing round is over.
+ * Types which cannot be accessed from a class in the same package (e.g. private nested types) are skipped, as well
+ * as private and static members.
+ */
+public class PropertyAccessorProviderGenerator {
+
+	private static final String GENERATED_CLASS_NAME_SUFFIX = "_HibernateValidatorPropertyAccessors";
+
+	private final Elements elementUtils;
+
+	private final Filer filer;
+
+	private final MessagerAdapter messager;
+
+	private final ConstraintHelper constraintHelper;
+
+	private final Set<String> processedTypes;
+
+	private final List<String> generatedProviders;
+
+	public PropertyAccessorProviderGenerator(ProcessingEnvironment processingEnvironment, MessagerAdapter messager) {
+		this.elementUtils = processingEnvironment.getElementUtils();
+		this.filer = processingEnvironment.getFiler();
+		this.messager = messager;
+		this.constraintHelper = new ConstraintHelper(
+				processingEnvironment.getTypeUtils(),
+				new AnnotationApiHelper( processingEnvironment.getElementUtils(), processingEnvironment.getTypeUtils() )
+		);
+		this.processedTypes = CollectionHelper.newHashSet();
+		this.generatedProviders = CollectionHelper.newArrayList();
+	}
+
+	/**
+	 * Generates the accessor providers for the given type and its member types.
+	 *
+	 * @param element a root element of the current processing round
+	 */
+	public void generate(Element element) {
+		if ( !element.getKind().isClass() && !element.getKind().isInterface() ) {
+			return;
+		}
+
+		TypeElement typeElement = (TypeElement) element;
+
+		for ( TypeElement memberType : ElementFilter.typesIn( typeElement.getEnclosedElements() ) ) {
+			generate( memberType );
+		}
+
+		if ( !isAccessible( typeElement ) || !processedTypes.add( typeElement.getQualifiedName().toString() ) ) {
+			return;
+		}
+
+		List<VariableElement> fields = getAccessibleFields( typeElement );
+		List<ExecutableElement> getters = getAccessibleGetters( typeElement );
+
+		if ( !hasConstrainedMember( fields ) && !hasConstrainedMember( getters ) ) {
+			return;
+		}
+
+		writeProvider( typeElement, fields, getters );
+	}
+
+	/**
+	 * Writes the service file registering all the providers generated so far. Must be called once the processing is
+	 * over.
+	 */
+	public void writeServiceFile() {
+		if ( generatedProviders.isEmpty() ) {
+			return;
+		}
+
+		try {
+			Writer writer = filer.createResource(
+					StandardLocation.CLASS_OUTPUT,
+					"",
+					"META-INF/services/" + HibernateValidatorTypes.BEAN_PROPERTY_ACCESSOR_PROVIDER
+			).openWriter();
+			try ( PrintWriter out = new PrintWriter( writer ) ) {
+				for ( String provider : generatedProviders ) {
+					out.println( provider );
+				}
+			}
+		}
+		catch (IOException e) {
+			messager.getDelegate().printMessage(
+					Kind.ERROR,
+					StringHelper.format( "Unable to write the bean property accessor provider service file: %1$s.", e.getMessage() )
+			);
+		}
+	}
+
+	private boolean isAccessible(TypeElement typeElement) {
+		Element current = typeElement;
+		while ( current.getKind().isClass() || current.getKind().isInterface() ) {
+			TypeElement currentType = (TypeElement) current;
+			if ( currentType.getModifiers().contains( Modifier.PRIVATE )
+					|| currentType.getNestingKind() == NestingKind.LOCAL
+					|| currentType.getNestingKind() == NestingKind.ANONYMOUS
+					|| currentType.getKind() == ElementKind.ANNOTATION_TYPE ) {
+				return false;
+			}
+			current = current.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private List<VariableElement> getAccessibleFields(TypeElement typeElement) {
+		List<VariableElement> fields = CollectionHelper.newArrayList();
+		for ( VariableElement field : ElementFilter.fieldsIn( typeElement.getEnclosedElements() ) ) {
+			if ( !field.getModifiers().contains( Modifier.PRIVATE ) && !field.getModifiers().contains( Modifier.STATIC ) ) {
+				fields.add( field );
+			}
+		}
+		return fields;
+	}
+
+	private List<ExecutableElement> getAccessibleGetters(TypeElement typeElement) {
+		List<ExecutableElement> getters = CollectionHelper.newArrayList();
+		for ( ExecutableElement method : ElementFilter.methodsIn( typeElement.getEnclosedElements() ) ) {
+			if ( !method.getModifiers().contains( Modifier.PRIVATE )
+					&& !method.getModifiers().contains( Modifier.STATIC )
+					&& method.getParameters().isEmpty()
+					&& method.getReturnType().getKind() != TypeKind.VOID
+					&& method.getThrownTypes().isEmpty() ) {
+				getters.add( method );
+			}
+		}
+		return getters;
+	}
+
+	private boolean hasConstrainedMember(List<? extends Element> members) {
+		for ( Element member : members ) {
+			for ( AnnotationMirror annotationMirror : member.getAnnotationMirrors() ) {
+				AnnotationType annotationType = constraintHelper.getAnnotationType( annotationMirror );
+				if ( annotationType == AnnotationType.CONSTRAINT_ANNOTATION
+						|| annotationType == AnnotationType.MULTI_VALUED_CONSTRAINT_ANNOTATION
+						|| annotationType == AnnotationType.GRAPH_VALIDATION_ANNOTATION ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void writeProvider(TypeElement typeElement, List<VariableElement> fields, List<ExecutableElement> getters) {
+		PackageElement packageElement = elementUtils.getPackageOf( typeElement );
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String beanClassName = typeElement.getQualifiedName().toString();
+		String relativeBeanClassName = packageName.isEmpty() ? beanClassName : beanClassName.substring( packageName.length() + 1 );
+		String providerSimpleName = relativeBeanClassName.replace( '.', '_' ) + GENERATED_CLASS_NAME_SUFFIX;
+		String providerName = packageName.isEmpty() ? providerSimpleName : packageName + "." + providerSimpleName;
+
+		try {
+			JavaFileObject sourceFile = filer.createSourceFile( providerName, typeElement );
+			try ( PrintWriter out = new PrintWriter( sourceFile.openWriter() ) ) {
+				if ( !packageName.isEmpty() ) {
+					out.println( "package " + packageName + ";" );
+					out.println();
+				}
+				out.println( "@SuppressWarnings(\"rawtypes\")" );
+				out.println( "public final class " + providerSimpleName + " implements " + HibernateValidatorTypes.BEAN_PROPERTY_ACCESSOR_PROVIDER + " {" );
+				out.println();
+				out.println( "\t@Override" );
+				out.println( "\tpublic Class<?> getBeanClass() {" );
+				out.println( "\t\treturn " + beanClassName + ".class;" );
+				out.println( "\t}" );
+				out.println();
+				writeAccessorMethod( out, "getFieldAccessor", "fieldName", beanClassName, fields, "" );
+				out.println();
+				writeAccessorMethod( out, "getGetterAccessor", "methodName", beanClassName, getters, "()" );
+				out.println( "}" );
+			}
+			generatedProviders.add( providerName );
+		}
+		catch (IOException e) {
+			messager.getDelegate().printMessage(
+					Kind.ERROR,
+					StringHelper.format( "Unable to generate the bean property accessor provider %1$s: %2$s.", providerName, e.getMessage() ),
+					typeElement
+			);
+		}
+	}
+
+	private void writeAccessorMethod(PrintWriter out, String methodName, String parameterName, String beanClassName, List<? extends Element> members,
+			String memberSuffix) {
+		out.println( "\t@Override" );
+		out.println( "\tpublic java.util.function.Function<Object, Object> " + methodName + "(String " + parameterName + ") {" );
+		if ( !members.isEmpty() ) {
+			out.println( "\t\tswitch ( " + parameterName + " ) {" );
+			for ( Element member : members ) {
+				String memberName = member.getSimpleName().toString();
+				out.println( "\t\t\tcase \"" + memberName + "\":" );
+				out.println( "\t\t\t\treturn bean -> ( (" + beanClassName + ") bean )." + memberName + memberSuffix + ";" );
+			}
+			out.println( "\t\t}" );
+		}
+		out.println( "\t\treturn null;" );
+		out.println( "\t}" );
+	}
+}
@@ -34,6 +34,12 @@ public class Configuration {
 	 */
 	public static final String METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION = "methodConstraintsSupported";
 
+	/**
+	 * The name of the processor option for generating reflection-free property
+	 * accessors for the constrained types.
+	 */
+	public static final String GENERATE_PROPERTY_ACCESSORS_PROCESSOR_OPTION = "generatePropertyAccessors";
+
 	/**
 	 * The diagnostic kind to be used if no or an invalid kind is given as processor option.
 	 */
@@ -45,11 +51,14 @@ public class Configuration {
 
 	private final boolean methodConstraintsSupported;
 
+	private final boolean generatePropertyAccessors;
+
 	public Configuration(Map<String, String> options, Messager messager) {
 
 		this.diagnosticKind = getDiagnosticKindOption( options, messager );
 		this.verbose = getVerboseOption( options, messager );
 		this.methodConstraintsSupported = getMethodConstraintsSupportedOption( options );
+		this.generatePropertyAccessors = Boolean.parseBoolean( options.get( GENERATE_PROPERTY_ACCESSORS_PROCESSOR_OPTION ) );
 	}
 
 	/**
@@ -80,6 +89,15 @@ public boolean methodConstraintsSupported() {
 		return methodConstraintsSupported;
 	}
 
+	/**
+	 * Whether property accessor providers shall be generated for the constrained types or not.
+	 *
+	 * @return {@code true} if property accessor providers shall be generated, {@code false} otherwise
+	 */
+	public boolean generatePropertyAccessors() {
+		return generatePropertyAccessors;
+	}
+
 	/**
 	 * Retrieves the diagnostic kind to be used for error messages. If given in
 	 * processor options, it will be taken from there, otherwise the default
@@ -62,6 +62,9 @@ public static class HibernateValidatorTypes {
 		private static final String ORG_HIBERNATE_VALIDATOR_SPI_GROUP = "org.hibernate.validator.spi.group";
 		public static final String DEFAULT_GROUP_SEQUENCE_PROVIDER = ORG_HIBERNATE_VALIDATOR_SPI_GROUP + ".DefaultGroupSequenceProvider";
 
+		private static final String ORG_HIBERNATE_VALIDATOR_SPI_PROPERTIES = "org.hibernate.validator.spi.properties";
+		public static final String BEAN_PROPERTY_ACCESSOR_PROVIDER = ORG_HIBERNATE_VALIDATOR_SPI_PROPERTIES + ".BeanPropertyAccessorProvider";
+
 		private static final String ORG_HIBERNATE_VALIDATOR_CONSTRAINTS = "org.hibernate.validator.constraints";
 
 		public static final String BITCOIN_ADDRESS = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".BitcoinAddress";
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.function.Function;
+
+import org.hibernate.validator.ap.internal.util.Configuration;
+import org.hibernate.validator.ap.internal.util.StringHelper;
+import org.hibernate.validator.ap.testmodel.propertyaccessors.ModelWithPropertyAccessors;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper.Library;
+import org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the generation of the {@link BeanPropertyAccessorProvider}s.
+ */
+public class PropertyAccessorProviderGenerationIT extends ConstraintValidationProcessorITBase {
+
+	private static final String PACKAGE_NAME = ModelWithPropertyAccessors.class.getPackage().getName();
+
+	@Test
+	public void testPropertyAccessorProvidersAreGenerated() throws Exception {
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				Arrays.asList( StringHelper.format( "-A%s=%b", Configuration.GENERATE_PROPERTY_ACCESSORS_PROCESSOR_OPTION, true ) ),
+				EnumSet.allOf( Library.class ),
+				compilerHelper.getSourceFile( ModelWithPropertyAccessors.class )
+		);
+
+		assertTrue( compilationResult );
+
+		File outputDir = CompilerTestHelper.getProcessorOutputDir();
+		String packageDir = PACKAGE_NAME.replace( '.', File.separatorChar );
+		assertFalse( new File( outputDir, packageDir + File.separator + "ModelWithPropertyAccessors_PrivateNested_HibernateValidatorPropertyAccessors.class" ).exists() );
+
+		String serviceFile = readServiceFile( outputDir );
+		assertTrue( serviceFile.contains( PACKAGE_NAME + ".ModelWithPropertyAccessors_HibernateValidatorPropertyAccessors" ) );
+		assertTrue( serviceFile.contains( PACKAGE_NAME + ".ModelWithPropertyAccessors_Nested_HibernateValidatorPropertyAccessors" ) );
+
+		// the compiled model and the generated providers have to be loaded by the same class loader to share the runtime package
+		URL[] urls = new URL[] {
+				outputDir.toURI().toURL(),
+				BeanPropertyAccessorProvider.class.getProtectionDomain().getCodeSource().getLocation()
+		};
+		try ( URLClassLoader classLoader = new URLClassLoader( urls, ClassLoader.getPlatformClassLoader() ) ) {
+			Class<?> beanClass = classLoader.loadClass( ModelWithPropertyAccessors.class.getName() );
+			Class<?> providerClass = classLoader.loadClass( PACKAGE_NAME + ".ModelWithPropertyAccessors_HibernateValidatorPropertyAccessors" );
+			Object provider = providerClass.getConstructor().newInstance();
+			Object bean = beanClass.getConstructor( String.class, String.class ).newInstance( "foo", "ba" );
+
+			assertEquals( providerClass.getMethod( "getBeanClass" ).invoke( provider ), beanClass );
+			assertEquals( getAccessor( provider, "getFieldAccessor", "name" ).apply( bean ), "foo" );
+			assertNull( getAccessor( provider, "getFieldAccessor", "code" ) );
+			assertEquals( getAccessor( provider, "getGetterAccessor", "getLength" ).apply( bean ), 5 );
+			assertNull( getAccessor( provider, "getGetterAccessor", "unknown" ) );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> getAccessor(Object provider, String methodName, String memberName) throws Exception {
+		return (Function<Object, Object>) provider.getClass().getMethod( methodName, String.class ).invoke( provider, memberName );
+	}
+
+	private static String readServiceFile(File outputDir) throws IOException {
+		File serviceFile = new File(
+				outputDir,
+				"META-INF" + File.separator + "services" + File.separator + BeanPropertyAccessorProvider.class.getName()
+		);
+		assertTrue( serviceFile.exists() );
+		return new String( Files.readAllBytes( serviceFile.toPath() ), StandardCharsets.UTF_8 );
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap.testmodel.propertyaccessors;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class ModelWithPropertyAccessors {
+
+	@NotNull
+	String name;
+
+	/**
+	 * Not accessible (private field).
+	 */
+	@NotNull
+	private String code;
+
+	@Valid
+	Nested nested;
+
+	public ModelWithPropertyAccessors(String name, String code) {
+		this.name = name;
+		this.code = code;
+	}
+
+	@Min(1)
+	public int getLength() {
+		return name.length() + code.length();
+	}
+
+	public static class Nested {
+
+		@NotNull
+		protected String value;
+	}
+
+	/**
+	 * Not accessible (private type).
+	 */
+	private static class PrivateNested {
+
+		@NotNull
+		String value;
+	}
+}
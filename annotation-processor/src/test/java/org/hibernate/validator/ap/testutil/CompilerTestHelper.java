@@ -161,8 +161,6 @@ public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFi
 	 */
 	public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, Kind diagnosticKind, Boolean verbose, Boolean allowMethodConstraints,
 			EnumSet<Library> dependencies, File... sourceFiles) {
-		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
-		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
 		List<String> options = new ArrayList<String>();
 
 		if ( diagnosticKind != null ) {
@@ -183,6 +181,27 @@ public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFi
 			);
 		}
 
+		return compile( annotationProcessor, diagnostics, options, dependencies, sourceFiles );
+	}
+
+	/**
+	 * Creates and executes a {@link CompilationTask} using the given processor options, e.g.
+	 * {@code -AgeneratePropertyAccessors=true}.
+	 *
+	 * @param annotationProcessor An annotation processor to be attached to the task.
+	 * @param diagnostics An diagnostics listener to be attached to the task.
+	 * @param options The options to be passed to the compiler.
+	 * @param dependencies A set with libraries which shall be added to the class path of
+	 * the compilation task.
+	 * @param sourceFiles The source files to be compiled.
+	 *
+	 * @return True, if the source files could be compiled successfully, false otherwise.
+	 */
+	public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, List<String> options, EnumSet<Library> dependencies,
+			File... sourceFiles) {
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
+		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
+
 		try {
 			fileManager.setLocation( StandardLocation.CLASS_PATH, getDependenciesAsFiles( dependencies ) );
 			fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Arrays.asList( PROCESSOR_OUT_DIR ) );
@@ -235,6 +254,15 @@ private Set<File> getDependenciesAsFiles(EnumSet<Library> dependencies) {
 		return files;
 	}
 
+	/**
+	 * Returns the directory the compilation tasks write their output to.
+	 *
+	 * @return the output directory of the compilation tasks
+	 */
+	public static File getProcessorOutputDir() {
+		return PROCESSOR_OUT_DIR;
+	}
+
 	/**
 	 * Returns the target directory of the build.
 	 *
@@ -9,6 +9,7 @@
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.Configuration;
 import jakarta.validation.ConstraintValidatorContext;
@@ -23,11 +24,15 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.hibernate.validator.engine.ValidationTimeoutException;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
+import org.hibernate.validator.spi.regex.RegexEngine;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -53,6 +58,33 @@
 	 */
 	String FAIL_FAST = "hibernate.validator.fail_fast";
 
+	/**
+	 * Property corresponding to the {@link #maxConstraintViolations} method.
+	 * Accepts a positive integer, or {@code 0} for no limit. Defaults to {@code 0}.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	String MAX_CONSTRAINT_VIOLATIONS = "hibernate.validator.max_constraint_violations";
+
+	/**
+	 * Property corresponding to the {@link #validationTimeout} method.
+	 * Accepts a number of milliseconds, {@code 0} meaning no timeout. Defaults to {@code 0}.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	String VALIDATION_TIMEOUT = "hibernate.validator.validation_timeout";
+
+	/**
+	 * Property corresponding to the {@link #parallelCascadedValidationThreshold} method.
+	 * Accepts a positive integer, or {@code 0} to disable the parallel validation. Defaults to {@code 0}.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	String PARALLEL_CASCADED_VALIDATION_THRESHOLD = "hibernate.validator.parallel_cascaded_validation_threshold";
+
 	/**
 	 * Property corresponding to the {@link #allowOverridingMethodAlterParameterConstraint} method.
 	 * Accepts {@code true} or {@code false}.
@@ -103,6 +135,15 @@
 	@Incubating
 	String SCRIPT_EVALUATOR_FACTORY_CLASSNAME = "hibernate.validator.script_evaluator_factory";
 
+	/**
+	 * Property corresponding to the {@link #regexEngine} method. A fully qualified name of a class implementing
+	 * {@link RegexEngine} is expected as a value.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	String REGEX_ENGINE_CLASSNAME = "hibernate.validator.regex_engine";
+
 	/**
 	 * Property for configuring temporal validation tolerance, allowing to set the acceptable margin of error when
 	 * comparing date/time in temporal constraints. In milliseconds.
@@ -178,6 +219,33 @@
 	@Incubating
 	String FAIL_FAST_ON_PROPERTY_VIOLATION = "hibernate.validator.fail_fast_on_property_violation";
 
+	/**
+	 * Property corresponding to the {@link #enableCompiledValidationPlans} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	String ENABLE_COMPILED_VALIDATION_PLANS = "hibernate.validator.enable_compiled_validation_plans";
+
+	/**
+	 * Property corresponding to the {@link #lazyMessageInterpolation} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	String LAZY_MESSAGE_INTERPOLATION = "hibernate.validator.lazy_message_interpolation";
+
+	/**
+	 * Property corresponding to the {@link #enableStatisticsMBean} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	String ENABLE_STATISTICS_MBEAN = "hibernate.validator.enable_statistics_mbean";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -247,6 +315,90 @@
 	 */
 	S failFast(boolean failFast);
 
+	/**
+	 * Limits the number of constraint violations reported by a single validation call. Once the limit is reached, the
+	 * validation stops as soon as another constraint violation is detected: this additional violation is not reported
+	 * and the reported violations are marked as truncated, see {@link HibernateConstraintViolation#isResultTruncated()}.
+	 * <p>
+	 * This bounds the memory and the time spent validating objects presenting a large number of violations, e.g. a
+	 * large malformed collection, while still reporting more than the first violation as the fail fast mode does.
+	 *
+	 * @param maxConstraintViolations the maximum number of constraint violations reported by a validation call,
+	 * {@code 0} for no limit
+	 * @return {@code this} following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code maxConstraintViolations} is negative
+	 * @since 9.1
+	 */
+	@Incubating
+	S maxConstraintViolations(int maxConstraintViolations);
+
+	/**
+	 * Sets the time a single validation call may take. The elapsed time is checked before each constraint is evaluated
+	 * and before each cascaded value is validated: once the timeout has elapsed, the validation is aborted with a
+	 * {@link ValidationTimeoutException} holding the constraint violations found so far.
+	 * <p>
+	 * The evaluation of a single constraint is never interrupted, so a validation call might take longer than the
+	 * timeout by the duration of the slowest constraint validator.
+	 *
+	 * @param validationTimeout the maximum duration of a validation call, {@link Duration#ZERO} for no timeout
+	 * @return {@code this} following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code validationTimeout} is negative
+	 * @since 9.1
+	 */
+	@Incubating
+	S validationTimeout(Duration validationTimeout);
+
+	/**
+	 * Registers a listener receiving the events of the validation engine, e.g. to measure the time spent in each
+	 * constraint. The listener is shared by all the validators created by the validator factory.
+	 * <p>
+	 * No event is created when no listener is registered, which is the default.
+	 *
+	 * @param validationListener the listener, {@code null} to remove a previously registered listener
+	 * @return {@code this} following the chaining method pattern
+	 * @see org.hibernate.validator.spi.instrumentation.AggregatingValidationListener
+	 * @since 9.1
+	 */
+	@Incubating
+	S validationListener(ValidationListener validationListener);
+
+	/**
+	 * Enables the parallel validation of the elements of the large containers marked for cascading, e.g.
+	 * {@code @Valid List<LineItem>}: the elements of a collection, map or array having at least {@code threshold}
+	 * elements are split in chunks validated concurrently by the executor set with
+	 * {@link #parallelCascadedValidationExecutor(Executor)}.
+	 * <p>
+	 * The result is the same as the one of a sequential validation: the constraint violations of the chunks are merged
+	 * in the order of the elements, taking the fail fast mode and the maximum number of constraint violations into
+	 * account. Only the outermost large container of an object graph is validated in parallel, the containers nested in
+	 * its elements being validated sequentially.
+	 * <p>
+	 * The constraint validators, the traversable resolver and the validation listener must be thread-safe, as required
+	 * by the specification. The getters of the validated elements are also called concurrently.
+	 *
+	 * @param threshold the minimum number of elements of a container validated in parallel, {@code 0} to disable the
+	 * parallel validation
+	 * @return {@code this} following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code threshold} is negative
+	 * @since 9.1
+	 */
+	@Incubating
+	S parallelCascadedValidationThreshold(int threshold);
+
+	/**
+	 * Sets the executor validating the chunks of the large containers when the parallel validation is enabled with
+	 * {@link #parallelCascadedValidationThreshold(int)}, e.g. an executor running each task in a virtual thread.
+	 * <p>
+	 * Defaults to {@link java.util.concurrent.ForkJoinPool#commonPool()}. The first chunk is always validated in the
+	 * thread calling the validator, which waits for the other chunks.
+	 *
+	 * @param executor the executor, {@code null} to use the default one
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.1
+	 */
+	@Incubating
+	S parallelCascadedValidationExecutor(Executor executor);
+
 	/**
 	 * Sets the class loader to be used for loading user-provided resources:
 	 * <ul>
@@ -341,6 +493,21 @@
 	@Incubating
 	S scriptEvaluatorFactory(ScriptEvaluatorFactory scriptEvaluatorFactory);
 
+	/**
+	 * Allows to specify the {@link RegexEngine} compiling the regular expressions of the {@code @Pattern} and
+	 * {@code @Email} constraints, e.g. an engine matching in linear time to protect against catastrophic
+	 * backtracking on user input.
+	 * <p>
+	 * The compiled regular expressions are cached by the validator factory. Defaults to an engine based on
+	 * {@link java.util.regex.Pattern}.
+	 *
+	 * @param regexEngine the {@link RegexEngine} to be used, {@code null} to use the default one
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.1
+	 */
+	@Incubating
+	S regexEngine(RegexEngine regexEngine);
+
 	/**
 	 * Allows to set the acceptable margin of error when comparing date/time in temporal constraints such as
 	 * {@link Past}/{@link PastOrPresent} and {@link Future}/{@link FutureOrPresent}.
@@ -486,4 +653,49 @@ default S locales(Locale... locales) {
 	 */
 	@Incubating
 	S failFastOnPropertyViolation(boolean failFastOnPropertyViolation);
+
+	/**
+	 * En- or disables the compiled validation plans. When enabled, the constraints and cascadables to validate for a
+	 * given bean type and group are resolved once, flattened into an immutable plan and reused by all subsequent
+	 * validation calls, instead of walking the bean metadata of the class hierarchy on each call.
+	 * <p>
+	 * Beans redefining the default group sequence are always validated without a compiled plan.
+	 *
+	 * @param enabled {@code true} to enable the compiled validation plans, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.1
+	 */
+	@Incubating
+	S enableCompiledValidationPlans(boolean enabled);
+
+	/**
+	 * En- or disables the lazy interpolation of the constraint violation messages. When enabled, the message of a
+	 * constraint violation is only interpolated the first time {@link jakarta.validation.ConstraintViolation#getMessage()}
+	 * is called, which avoids the cost of the interpolation for callers only checking whether there are violations or
+	 * relying on the message template or the constraint descriptor.
+	 * <p>
+	 * Note that the message is then interpolated in the thread calling {@code getMessage()}, i.e. a locale resolver
+	 * relying on the state of the current thread might resolve a different locale. Also, two violations are considered
+	 * equal if they share the same message template, message parameters and expression variables (instead of the same
+	 * interpolated message), in addition to the usual criteria.
+	 *
+	 * @param enabled {@code true} to interpolate the messages lazily, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.1
+	 */
+	@Incubating
+	S lazyMessageInterpolation(boolean enabled);
+
+	/**
+	 * En- or disables the registration of the {@link HibernateValidatorFactory#getStatistics() statistics} of the
+	 * validator factory as an MXBean in the platform MBean server. The MXBean is registered under the name
+	 * {@code org.hibernate.validator:type=ValidatorFactoryStatistics,factory=<identifier of the factory>} and
+	 * unregistered when the validator factory is closed.
+	 *
+	 * @param enabled {@code true} to register the statistics MXBean, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.1
+	 */
+	@Incubating
+	S enableStatisticsMBean(boolean enabled);
 }
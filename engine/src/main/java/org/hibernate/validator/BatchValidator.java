@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Validates large numbers of beans in one call, typically the rows of an import.
+ * <p>
+ * The groups are resolved once for the whole batch and the metadata is only looked up again when the type of the
+ * validated beans changes. Each bean is otherwise validated as if {@link Validator#validate(Object, Class[])} had been
+ * called on it.
+ * <p>
+ * An instance can be obtained by unwrapping a validator:
+ * <pre>
+ * BatchValidator batchValidator = validator.unwrap( BatchValidator.class );
+ * </pre>
+ *
+ * @since 9.1
+ */
+@Incubating
+public interface BatchValidator {
+
+	/**
+	 * Validates all the given beans.
+	 *
+	 * @param objects the beans to validate; none of them may be {@code null}
+	 * @param groups the groups targeted for validation
+	 * @param <T> the type of the validated beans
+	 *
+	 * @return the constraint violations of the invalid beans, keyed by their index in the batch and sorted by index;
+	 * empty if all the beans are valid
+	 *
+	 * @throws IllegalArgumentException if {@code objects} or one of its elements is {@code null} or if {@code null}
+	 * is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Validates all the beans of the given stream.
+	 *
+	 * @param objects the beans to validate; none of them may be {@code null}
+	 * @param groups the groups targeted for validation
+	 * @param <T> the type of the validated beans
+	 *
+	 * @return the constraint violations of the invalid beans, keyed by their index in the stream and sorted by index;
+	 * empty if all the beans are valid
+	 *
+	 * @see #validateAll(Iterable, Class[])
+	 */
+	<T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Stream<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Validates all the given beans, spreading the work across the given executor.
+	 * <p>
+	 * The beans are validated in chunks, each chunk being submitted as one task to the executor; an executor creating
+	 * a virtual thread per task is a good fit. This method blocks until all the tasks are completed.
+	 * <p>
+	 * The constraint validators, as well as the other components involved in the validation, must not rely on being
+	 * called from the calling thread.
+	 *
+	 * @param objects the beans to validate; none of them may be {@code null}
+	 * @param executor the executor running the validation tasks
+	 * @param groups the groups targeted for validation
+	 * @param <T> the type of the validated beans
+	 *
+	 * @return the constraint violations of the invalid beans, keyed by their index in the batch and sorted by index;
+	 * empty if all the beans are valid
+	 *
+	 * @see #validateAll(Iterable, Class[])
+	 */
+	<T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Executor executor, Class<?>... groups);
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * Receives the constraint violations of a validation as soon as they are found.
+ *
+ * @param <T> the type of the root bean
+ *
+ * @see StreamingValidator
+ * @since 9.1
+ */
+@Incubating
+@FunctionalInterface
+public interface ConstraintViolationSink<T> {
+
+	/**
+	 * Receives a constraint violation.
+	 *
+	 * @param violation the constraint violation found
+	 *
+	 * @return {@code true} to continue the validation, {@code false} to stop it: no other violation is created and
+	 * reported once the sink asked for the validation to stop
+	 */
+	boolean accept(ConstraintViolation<T> violation);
+}
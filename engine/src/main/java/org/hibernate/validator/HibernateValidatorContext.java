@@ -190,4 +190,64 @@ public interface HibernateValidatorContext extends ValidatorContext {
 	 */
 	@Incubating
 	HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnPropertyViolation);
+
+	/**
+	 * En- or disables the lazy interpolation of the constraint violation messages, i.e. the message of a constraint
+	 * violation is only interpolated the first time it is requested.
+	 *
+	 * @param enabled {@code true} to interpolate the messages lazily, {@code false} otherwise.
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see org.hibernate.validator.HibernateValidatorConfiguration#lazyMessageInterpolation(boolean)
+	 * @since 9.1
+	 */
+	@Incubating
+	HibernateValidatorContext lazyMessageInterpolation(boolean enabled);
+
+	/**
+	 * Limits the number of constraint violations reported by a single validation call, {@code 0} meaning no limit.
+	 *
+	 * @param maxConstraintViolations the maximum number of constraint violations reported by a validation call,
+	 * {@code 0} for no limit
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @throws IllegalArgumentException if {@code maxConstraintViolations} is negative
+	 * @see org.hibernate.validator.HibernateValidatorConfiguration#maxConstraintViolations(int)
+	 * @since 9.1
+	 */
+	@Incubating
+	HibernateValidatorContext maxConstraintViolations(int maxConstraintViolations);
+
+	/**
+	 * Sets the time a single validation call may take before it is aborted with a
+	 * {@link org.hibernate.validator.engine.ValidationTimeoutException}.
+	 *
+	 * @param validationTimeout the maximum duration of a validation call, {@link Duration#ZERO} for no timeout
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @throws IllegalArgumentException if {@code validationTimeout} is negative
+	 * @see org.hibernate.validator.HibernateValidatorConfiguration#validationTimeout(Duration)
+	 * @since 9.1
+	 */
+	@Incubating
+	HibernateValidatorContext validationTimeout(Duration validationTimeout);
+
+	/**
+	 * Sets the minimum number of elements of a container marked for cascading for its elements to be validated in
+	 * parallel, {@code 0} disabling the parallel validation.
+	 *
+	 * @param threshold the minimum number of elements of a container validated in parallel, {@code 0} to disable the
+	 * parallel validation
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @throws IllegalArgumentException if {@code threshold} is negative
+	 * @see org.hibernate.validator.HibernateValidatorConfiguration#parallelCascadedValidationThreshold(int)
+	 * @since 9.1
+	 */
+	@Incubating
+	HibernateValidatorContext parallelCascadedValidationThreshold(int threshold);
 }
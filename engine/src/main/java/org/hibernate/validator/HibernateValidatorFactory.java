@@ -11,6 +11,7 @@
 
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
@@ -67,6 +68,18 @@ public interface HibernateValidatorFactory extends ValidatorFactory {
 	@Incubating
 	PropertyNodeNameProvider getPropertyNodeNameProvider();
 
+	/**
+	 * Returns the statistics of this validator factory: the usage of its caches and the time spent building the bean
+	 * metadata, e.g. to size the caches or to detect bean metadata being built over and over again because of leaking
+	 * class loaders.
+	 *
+	 * @return a live view of the statistics of the current {@link ValidatorFactory}
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	ValidatorFactoryStatistics getStatistics();
+
 	/**
 	 * Returns a context for validator configuration via options from the
 	 * Bean Validation API as well as specific ones from Hibernate Validator.
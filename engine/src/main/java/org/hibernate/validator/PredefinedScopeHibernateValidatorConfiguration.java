@@ -4,6 +4,8 @@
  */
 package org.hibernate.validator;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Set;
 
 /**
@@ -35,4 +37,39 @@ public interface PredefinedScopeHibernateValidatorConfiguration extends BaseHibe
 	 */
 	@Incubating
 	PredefinedScopeHibernateValidatorConfiguration includeBeansAndConstraintsDefinedOnlyInXml(boolean include);
+
+	/**
+	 * Provides a snapshot of the bean metadata, as written by
+	 * {@link PredefinedScopeHibernateValidatorFactory#writeBeanMetaDataSnapshot(OutputStream)}, typically at build time.
+	 * <p>
+	 * The snapshot allows to skip the metadata creation of the classes known to be unconstrained. Classes which changed
+	 * since the snapshot was created are handled as usual. The snapshot is ignored if it is invalid, if it has been
+	 * created by another version of Hibernate Validator, or if constraints are also defined using XML or the
+	 * programmatic API.
+	 *
+	 * @param snapshot the stream to read the snapshot from; it is read immediately and is not closed by this method
+	 * @return {@code this} for chaining configuration method calls.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration beanMetaDataSnapshot(InputStream snapshot);
+
+	/**
+	 * Specify whether the metadata of the {@link #initializeBeanMetaData(Set) beans to initialize} is created in
+	 * parallel, on the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>
+	 * As the constraint validators are created and initialized while creating the metadata, they, as well as the
+	 * {@link jakarta.validation.ConstraintValidatorFactory}, must not rely on being called from the thread bootstrapping
+	 * the factory.
+	 * <p>
+	 * This option is disabled by default.
+	 *
+	 * @param enabled whether to initialize the bean metadata in parallel
+	 * @return {@code this} for chaining configuration method calls.
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration parallelBeanMetaDataInitialization(boolean enabled);
 }
@@ -5,6 +5,9 @@
 
 package org.hibernate.validator;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+
 import jakarta.validation.ValidatorFactory;
 
 /**
@@ -14,4 +17,16 @@
  */
 @Incubating
 public interface PredefinedScopeHibernateValidatorFactory extends HibernateValidatorFactory {
+
+	/**
+	 * Writes a snapshot of the bean metadata initialized by this factory. The snapshot can be provided to
+	 * {@link PredefinedScopeHibernateValidatorConfiguration#beanMetaDataSnapshot(InputStream)} to speed up the
+	 * bootstrap of a factory with the same scope.
+	 *
+	 * @param outputStream the stream to write the snapshot to; it is not closed by this method
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	void writeBeanMetaDataSnapshot(OutputStream outputStream);
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import jakarta.validation.Validator;
+
+/**
+ * Validates beans, pushing the constraint violations to a {@link ConstraintViolationSink} as soon as they are found
+ * instead of collecting them in a set.
+ * <p>
+ * The sink can stop the validation at any time, in which case the remaining constraints are not evaluated: clients
+ * only interested in the first violations don't pay for the rest of them. As the violations are not collected, they
+ * are not deduplicated either.
+ * <p>
+ * An instance can be obtained by unwrapping a validator:
+ * <pre>
+ * StreamingValidator streamingValidator = validator.unwrap( StreamingValidator.class );
+ * </pre>
+ *
+ * @since 9.1
+ */
+@Incubating
+public interface StreamingValidator {
+
+	/**
+	 * Validates all constraints on {@code object}.
+	 *
+	 * @param object object to validate
+	 * @param sink the sink receiving the constraint violations
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 *
+	 * @return the number of constraint violations pushed to the sink
+	 *
+	 * @throws IllegalArgumentException if object, sink or any of the groups is {@code null}
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see Validator#validate(Object, Class[])
+	 */
+	<T> int validate(T object, ConstraintViolationSink<T> sink, Class<?>... groups);
+
+	/**
+	 * Validates all constraints placed on the property of {@code object} named {@code propertyName}.
+	 *
+	 * @param object object to validate
+	 * @param propertyName property to validate (i.e. field and getter constraints)
+	 * @param sink the sink receiving the constraint violations
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 *
+	 * @return the number of constraint violations pushed to the sink
+	 *
+	 * @throws IllegalArgumentException if object, sink or any of the groups is {@code null} or if
+	 * {@code propertyName} is {@code null}, empty or not a valid object property
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see Validator#validateProperty(Object, String, Class[])
+	 */
+	<T> int validateProperty(T object, String propertyName, ConstraintViolationSink<T> sink, Class<?>... groups);
+
+	/**
+	 * Validates all constraints placed on the property named {@code propertyName} of the class {@code beanType} would
+	 * the property value be {@code value}.
+	 *
+	 * @param beanType the bean type
+	 * @param propertyName property to validate
+	 * @param value property value to validate
+	 * @param sink the sink receiving the constraint violations
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 *
+	 * @return the number of constraint violations pushed to the sink
+	 *
+	 * @throws IllegalArgumentException if {@code beanType}, sink or any of the groups is {@code null} or if
+	 * {@code propertyName} is {@code null}, empty or not a valid object property
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see Validator#validateValue(Class, String, Object, Class[])
+	 */
+	<T> int validateValue(Class<T> beanType, String propertyName, Object value, ConstraintViolationSink<T> sink, Class<?>... groups);
+}
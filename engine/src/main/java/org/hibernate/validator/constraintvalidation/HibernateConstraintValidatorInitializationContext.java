@@ -6,10 +6,14 @@
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import jakarta.validation.ClockProvider;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.spi.regex.CompiledRegex;
+import org.hibernate.validator.spi.regex.RegexEngine;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorNotFoundException;
@@ -56,4 +60,25 @@ public interface HibernateConstraintValidatorInitializationContext {
 	 */
 	@Incubating
 	Duration getTemporalValidationTolerance();
+
+	/**
+	 * Returns the given regular expression compiled by the {@link RegexEngine} passed at bootstrap.
+	 * <p>
+	 * The compiled regular expressions are cached by the validator factory, so that the constraint validators sharing
+	 * a regular expression also share its compiled form.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the flags of the regular expression, as defined by {@link Pattern}
+	 *
+	 * @return the compiled regular expression, never {@code null}
+	 *
+	 * @throws PatternSyntaxException if the regular expression is not valid
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	default CompiledRegex getCompiledRegex(String regexp, int flags) {
+		Pattern pattern = Pattern.compile( regexp, flags );
+		return input -> pattern.matcher( input ).matches();
+	}
 }
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Optional contract of a {@link jakarta.validation.ConstraintValidator} of {@code Integer} values, allowing the elements
+ * of an {@code int[]} to be validated without boxing them.
+ * <p>
+ * When the elements of an {@code int[]} are validated, e.g. for a constraint declared with the
+ * {@link jakarta.validation.valueextraction.Unwrapping.Unwrap} payload, the array is scanned with {@link #isValid(int)}
+ * and only the rejected elements go through the regular validation, which builds the constraint violations. Thus,
+ * {@link #isValid(int)} must return the same result as
+ * {@link jakarta.validation.ConstraintValidator#isValid(Object, jakarta.validation.ConstraintValidatorContext)} for
+ * the same value and must not have any side effect.
+ *
+ * @since 9.1
+ */
+@Incubating
+public interface IntConstraintValidator {
+
+	/**
+	 * @param value the value to validate
+	 * @return {@code false} if {@code value} does not pass the constraint
+	 */
+	boolean isValid(int value);
+}
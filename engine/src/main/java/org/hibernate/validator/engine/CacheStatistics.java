@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.engine;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Statistics of one of the caches of a validator factory, captured when they were requested.
+ * <p>
+ * The counters are maintained without any locking, so they might be slightly inconsistent with each other while the
+ * cache is being used.
+ *
+ * @see ValidatorFactoryStatistics
+ * @since 9.1
+ */
+@Incubating
+public interface CacheStatistics {
+
+	/**
+	 * @return the name of the cache, one of the {@code *_CACHE} constants of {@link ValidatorFactoryStatistics}
+	 */
+	String getName();
+
+	/**
+	 * @return the number of entries in the cache
+	 */
+	long getSize();
+
+	/**
+	 * @return the number of lookups which found the entry in the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of lookups which did not find the entry in the cache and had to compute it
+	 */
+	long getMissCount();
+
+	/**
+	 * Returns the number of entries which have been removed from the cache: either evicted to bound the size of the
+	 * cache or, for the caches holding soft or weak references, reclaimed by the garbage collector.
+	 * <p>
+	 * A steadily growing number of evictions for the bean metadata usually means that classes are reloaded, e.g. by
+	 * redeployments, or that the cache is too small for the workload.
+	 *
+	 * @return the number of entries removed from the cache
+	 */
+	long getEvictionCount();
+}
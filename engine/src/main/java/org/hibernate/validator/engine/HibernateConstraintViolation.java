@@ -6,6 +6,7 @@
 
 import jakarta.validation.ConstraintViolation;
 
+import org.hibernate.validator.Incubating;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 
 /**
@@ -23,4 +24,16 @@
 	 * if the given type has been set.
 	 */
 	<C> C getDynamicPayload(Class<C> type);
+
+	/**
+	 * @return {@code true} if the validation call which reported this constraint violation stopped because the
+	 * maximum number of constraint violations was reached, i.e. if other constraint violations might not have been
+	 * reported, {@code false} otherwise
+	 * @see org.hibernate.validator.HibernateValidatorConfiguration#maxConstraintViolations(int)
+	 * @since 9.1
+	 */
+	@Incubating
+	default boolean isResultTruncated() {
+		return false;
+	}
 }
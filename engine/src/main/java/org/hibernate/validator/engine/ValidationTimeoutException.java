@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.engine;
+
+import java.io.Serial;
+import java.util.Collections;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Exception raised when a validation call does not complete within the configured validation timeout.
+ * <p>
+ * The constraint violations found before the timeout elapsed are available through
+ * {@link #getConstraintViolations()}: they are a partial result, other constraints might be violated too.
+ *
+ * @see org.hibernate.validator.HibernateValidatorConfiguration#validationTimeout(java.time.Duration)
+ * @since 9.1
+ */
+@Incubating
+public class ValidationTimeoutException extends ValidationException {
+
+	@Serial
+	private static final long serialVersionUID = -2714405738651282392L;
+
+	private final transient Set<ConstraintViolation<?>> constraintViolations;
+
+	public ValidationTimeoutException(String message, Set<? extends ConstraintViolation<?>> constraintViolations) {
+		super( message );
+		this.constraintViolations = constraintViolations == null ? Collections.emptySet() : Collections.unmodifiableSet( constraintViolations );
+	}
+
+	/**
+	 * @return the constraint violations found before the timeout elapsed, never {@code null}. Empty if the violations
+	 * were reported to a {@link org.hibernate.validator.ConstraintViolationSink} while validating.
+	 */
+	public Set<ConstraintViolation<?>> getConstraintViolations() {
+		return constraintViolations == null ? Collections.emptySet() : constraintViolations;
+	}
+}
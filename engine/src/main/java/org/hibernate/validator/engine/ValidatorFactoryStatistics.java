@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.engine;
+
+import java.util.List;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.spi.instrumentation.LatencyHistogram;
+
+/**
+ * Statistics of a validator factory: the usage of its caches and the time spent building the bean metadata.
+ * <p>
+ * This is a live view: each call returns the current values. The statistics are always collected, as they only rely
+ * on counters which are cheap to maintain. They can also be exposed through JMX, see
+ * {@link org.hibernate.validator.HibernateValidatorConfiguration#enableStatisticsMBean(boolean)}.
+ *
+ * @see org.hibernate.validator.HibernateValidatorFactory#getStatistics()
+ * @since 9.1
+ */
+@Incubating
+public interface ValidatorFactoryStatistics {
+
+	/**
+	 * The cache of the bean metadata, keyed by bean class.
+	 */
+	String BEAN_METADATA_CACHE = "beanMetaData";
+
+	/**
+	 * The cache of the initialized constraint validators.
+	 */
+	String CONSTRAINT_VALIDATOR_CACHE = "constraintValidators";
+
+	/**
+	 * The cache of the value extractors resolved for the runtime types of the validated containers.
+	 */
+	String VALUE_EXTRACTOR_CACHE = "valueExtractors";
+
+	/**
+	 * The cache of the compiled message templates of the message interpolator, only available for the message
+	 * interpolators of Hibernate Validator with message caching enabled.
+	 */
+	String MESSAGE_TEMPLATE_CACHE = "messageTemplates";
+
+	/**
+	 * The cache of the compiled validation plans, only available when the compiled validation plans are enabled.
+	 */
+	String VALIDATION_PLAN_CACHE = "validationPlans";
+
+	/**
+	 * The cache of the regular expressions compiled for the {@code @Pattern} and {@code @Email} constraints.
+	 */
+	String COMPILED_REGEX_CACHE = "compiledRegexes";
+
+	/**
+	 * @return the statistics of all the caches of the validator factory
+	 */
+	List<CacheStatistics> getCacheStatistics();
+
+	/**
+	 * @param cacheName the name of the cache, one of the {@code *_CACHE} constants
+	 * @return the statistics of the given cache, {@code null} if the validator factory does not use this cache
+	 */
+	CacheStatistics getCacheStatistics(String cacheName);
+
+	/**
+	 * @return a snapshot of the durations of the bean metadata builds, {@link LatencyHistogram#getCount()} being the
+	 * number of bean classes whose metadata has been built
+	 */
+	LatencyHistogram getBeanMetaDataBuildLatencies();
+}
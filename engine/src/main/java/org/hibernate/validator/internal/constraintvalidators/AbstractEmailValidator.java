@@ -4,11 +4,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.lang.annotation.Annotation;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -34,16 +30,17 @@
 
 	private static final int MAX_LOCAL_PART_LENGTH = 64;
 
-	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
-	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
 	/**
-	 * Regular expression for the local part of an email address (everything before '@')
+	 * The ASCII characters allowed in an unquoted part of the local part, the non-ASCII characters of the
+	 * Basic Multilingual Plane being allowed.
 	 */
-	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
-			"(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
-					"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*",
-			CASE_INSENSITIVE
-	);
+	private static final boolean[] ASCII_LOCAL_PART_ATOM_CHARS = asciiChars( "!#$%&'*+/=?^_`{|}~-" );
+
+	/**
+	 * The ASCII characters allowed in a quoted part of the local part, apart from the escaped {@code \} and {@code "},
+	 * the non-ASCII characters of the Basic Multilingual Plane being allowed.
+	 */
+	private static final boolean[] ASCII_LOCAL_PART_INSIDE_QUOTES_ATOM_CHARS = asciiChars( "!#$%&'*.(),<>[]:; @+/=?^_`{|}~-" );
 
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
@@ -61,21 +58,91 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return false;
 		}
 
-		String localPart = stringValue.substring( 0, splitPosition );
-		String domainPart = stringValue.substring( splitPosition + 1 );
-
-		if ( !isValidEmailLocalPart( localPart ) ) {
+		if ( !isValidEmailLocalPart( stringValue, splitPosition ) ) {
 			return false;
 		}
 
-		return DomainNameUtil.isValidEmailDomainAddress( domainPart );
+		return DomainNameUtil.isValidEmailDomainAddress( stringValue, splitPosition + 1, stringValue.length() );
 	}
 
-	private boolean isValidEmailLocalPart(String localPart) {
-		if ( localPart.length() > MAX_LOCAL_PART_LENGTH ) {
+	/**
+	 * Checks the local part of an email address, i.e. the characters preceding the given end. The local part is made
+	 * of parts separated by dots, each part being either a sequence of letters, digits, characters
+	 * {@code !#$%&'*+/=?^_`{|}~-} and non-ASCII characters, or a quoted string which might additionally contain
+	 * characters {@code .(),<>[]:;@} and spaces, as well as the escaped {@code \} and {@code "}.
+	 */
+	private static boolean isValidEmailLocalPart(String value, int end) {
+		if ( end > MAX_LOCAL_PART_LENGTH ) {
 			return false;
 		}
-		Matcher matcher = LOCAL_PART_PATTERN.matcher( localPart );
-		return matcher.matches();
+
+		int i = 0;
+		while ( true ) {
+			if ( i == end ) {
+				return false;
+			}
+
+			int partStart = i;
+			if ( value.charAt( i ) == '"' ) {
+				i++;
+				partStart = i;
+				while ( i < end && value.charAt( i ) != '"' ) {
+					char c = value.charAt( i );
+					if ( c == '\\' ) {
+						if ( i + 1 == end || ( value.charAt( i + 1 ) != '\\' && value.charAt( i + 1 ) != '"' ) ) {
+							return false;
+						}
+						i += 2;
+					}
+					else if ( isAllowed( value, i, end, ASCII_LOCAL_PART_INSIDE_QUOTES_ATOM_CHARS ) ) {
+						i++;
+					}
+					else {
+						return false;
+					}
+				}
+				if ( i == end || i == partStart ) {
+					return false;
+				}
+				// the closing quote
+				i++;
+			}
+			else {
+				while ( i < end && isAllowed( value, i, end, ASCII_LOCAL_PART_ATOM_CHARS ) ) {
+					i++;
+				}
+				if ( i == partStart ) {
+					return false;
+				}
+			}
+
+			if ( i == end ) {
+				return true;
+			}
+			if ( value.charAt( i ) != '.' ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	private static boolean isAllowed(String value, int index, int end, boolean[] allowedAsciiChars) {
+		char c = value.charAt( index );
+		return c < 128 ? allowedAsciiChars[c] : !DomainNameUtil.isSupplementaryCharacter( value, index, end );
+	}
+
+	private static boolean[] asciiChars(String otherChars) {
+		boolean[] chars = new boolean[128];
+		for ( char c = 'a'; c <= 'z'; c++ ) {
+			chars[c] = true;
+			chars[Character.toUpperCase( c )] = true;
+		}
+		for ( char c = '0'; c <= '9'; c++ ) {
+			chars[c] = true;
+		}
+		for ( char c : otherChars.toCharArray() ) {
+			chars[c] = true;
+		}
+		return chars;
 	}
 }
@@ -5,27 +5,39 @@
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.regex.Matcher;
 import java.util.regex.PatternSyntaxException;
 
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.constraintvalidators.AbstractEmailValidator;
+import org.hibernate.validator.internal.engine.regex.DefaultRegexEngine;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.regex.CompiledRegex;
 
 /**
  * Checks that a given character sequence (e.g. string) is a well-formed email address.
  *
  * @author Guillaume Smet
  */
-public class EmailValidator extends AbstractEmailValidator<Email> {
+public class EmailValidator extends AbstractEmailValidator<Email> implements HibernateConstraintValidator<Email, CharSequence> {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private java.util.regex.Pattern pattern;
+	private HibernateConstraintValidatorInitializationContext initializationContext;
+
+	private CompiledRegex compiledRegex;
+
+	@Override
+	public void initialize(ConstraintDescriptor<Email> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		// the regular expression is compiled in initialize(Email), which is always called afterwards
+		this.initializationContext = initializationContext;
+	}
 
 	@Override
 	public void initialize(Email emailAnnotation) {
@@ -40,7 +52,9 @@ public void initialize(Email emailAnnotation) {
 		// we only apply the regexp if there is one to apply
 		if ( !".*".equals( emailAnnotation.regexp() ) || emailAnnotation.flags().length > 0 ) {
 			try {
-				pattern = java.util.regex.Pattern.compile( emailAnnotation.regexp(), intFlag );
+				compiledRegex = initializationContext != null
+						? initializationContext.getCompiledRegex( emailAnnotation.regexp(), intFlag )
+						: DefaultRegexEngine.INSTANCE.compile( emailAnnotation.regexp(), intFlag );
 			}
 			catch (PatternSyntaxException e) {
 				throw LOG.getInvalidRegularExpressionException( e );
@@ -55,11 +69,10 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 		}
 
 		boolean isValid = super.isValid( value, context );
-		if ( pattern == null || !isValid ) {
+		if ( compiledRegex == null || !isValid ) {
 			return isValid;
 		}
 
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		return compiledRegex.matches( value );
 	}
 }
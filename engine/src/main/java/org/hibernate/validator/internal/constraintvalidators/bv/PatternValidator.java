@@ -5,28 +5,39 @@
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.regex.Matcher;
 import java.util.regex.PatternSyntaxException;
 
-import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
+import org.hibernate.validator.internal.engine.regex.DefaultRegexEngine;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.regex.CompiledRegex;
 
 /**
  * @author Hardy Ferentschik
  */
-public class PatternValidator implements ConstraintValidator<Pattern, CharSequence> {
+public class PatternValidator implements HibernateConstraintValidator<Pattern, CharSequence> {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private java.util.regex.Pattern pattern;
+	private HibernateConstraintValidatorInitializationContext initializationContext;
+
+	private CompiledRegex compiledRegex;
 	private String escapedRegexp;
 
+	@Override
+	public void initialize(ConstraintDescriptor<Pattern> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		// the regular expression is compiled in initialize(Pattern), which is always called afterwards
+		this.initializationContext = initializationContext;
+	}
+
 	@Override
 	public void initialize(Pattern parameters) {
 		Pattern.Flag[] flags = parameters.flags();
@@ -36,7 +47,9 @@ public void initialize(Pattern parameters) {
 		}
 
 		try {
-			pattern = java.util.regex.Pattern.compile( parameters.regexp(), intFlag );
+			compiledRegex = initializationContext != null
+					? initializationContext.getCompiledRegex( parameters.regexp(), intFlag )
+					: DefaultRegexEngine.INSTANCE.compile( parameters.regexp(), intFlag );
 		}
 		catch (PatternSyntaxException e) {
 			throw LOG.getInvalidRegularExpressionException( e );
@@ -55,7 +68,6 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).addMessageParameter( "regexp", escapedRegexp );
 		}
 
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		return compiledRegex.matches( value );
 	}
 }
@@ -19,11 +19,15 @@ private InfinityNumberComparatorHelper() {
 	}
 
 	public static OptionalInt infinityCheck(Double number, OptionalInt treatNanAs) {
+		return infinityCheck( number.doubleValue(), treatNanAs );
+	}
+
+	public static OptionalInt infinityCheck(double number, OptionalInt treatNanAs) {
 		OptionalInt result = FINITE_VALUE;
 		if ( number == Double.NEGATIVE_INFINITY ) {
 			result = LESS_THAN;
 		}
-		else if ( number.isNaN() ) {
+		else if ( Double.isNaN( number ) ) {
 			result = treatNanAs;
 		}
 		else if ( number == Double.POSITIVE_INFINITY ) {
@@ -4,6 +4,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.constraintvalidation.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -12,10 +13,15 @@
  *
  * @author Marko Bekhta
  */
-public class MaxValidatorForDouble extends AbstractMaxValidator<Double> {
+public class MaxValidatorForDouble extends AbstractMaxValidator<Double> implements DoubleConstraintValidator {
 
 	@Override
 	protected int compare(Double number) {
 		return NumberComparatorHelper.compare( number, maxValue, InfinityNumberComparatorHelper.GREATER_THAN );
 	}
+
+	@Override
+	public boolean isValid(double value) {
+		return NumberComparatorHelper.compare( value, maxValue, InfinityNumberComparatorHelper.GREATER_THAN ) <= 0;
+	}
 }
@@ -4,16 +4,23 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.constraintvalidation.IntConstraintValidator;
+
 /**
  * Check that the number being validated is less than or equal to the maximum
  * value specified.
  *
  * @author Marko Bekhta
  */
-public class MaxValidatorForInteger extends AbstractMaxValidator<Integer> {
+public class MaxValidatorForInteger extends AbstractMaxValidator<Integer> implements IntConstraintValidator {
 
 	@Override
 	protected int compare(Integer number) {
 		return NumberComparatorHelper.compare( number.longValue(), maxValue );
 	}
+
+	@Override
+	public boolean isValid(int value) {
+		return NumberComparatorHelper.compare( value, maxValue ) <= 0;
+	}
 }
@@ -4,16 +4,23 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.constraintvalidation.LongConstraintValidator;
+
 /**
  * Check that the number being validated is less than or equal to the maximum
  * value specified.
  *
  * @author Marko Bekhta
  */
-public class MaxValidatorForLong extends AbstractMaxValidator<Long> {
+public class MaxValidatorForLong extends AbstractMaxValidator<Long> implements LongConstraintValidator {
 
 	@Override
 	protected int compare(Long number) {
 		return NumberComparatorHelper.compare( number, maxValue );
 	}
+
+	@Override
+	public boolean isValid(long value) {
+		return NumberComparatorHelper.compare( value, maxValue ) <= 0;
+	}
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.constraintvalidation.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -12,10 +13,15 @@
  *
  * @author Marko Bekhta
  */
-public class MinValidatorForDouble extends AbstractMinValidator<Double> {
+public class MinValidatorForDouble extends AbstractMinValidator<Double> implements DoubleConstraintValidator {
 
 	@Override
 	protected int compare(Double number) {
 		return NumberComparatorHelper.compare( number, minValue, InfinityNumberComparatorHelper.LESS_THAN );
 	}
+
+	@Override
+	public boolean isValid(double value) {
+		return NumberComparatorHelper.compare( value, minValue, InfinityNumberComparatorHelper.LESS_THAN ) >= 0;
+	}
 }
@@ -4,16 +4,23 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound;
 
+import org.hibernate.validator.constraintvalidation.IntConstraintValidator;
+
 /**
  * Check that the number being validated is greater than or equal to the minimum
  * value specified.
  *
  * @author Marko Bekhta
  */
-public class MinValidatorForInteger extends AbstractMinValidator<Integer> {
+public class MinValidatorForInteger extends AbstractMinValidator<Integer> implements IntConstraintValidator {
 
 	@Override
 	protected int compare(Integer number) {
 		return NumberComparatorHelper.compare( number.longValue(), minValue );
 	}
+
+	@Override
+	public boolean isValid(int value) {
+		return NumberComparatorHelper.compare( value, minValue ) >= 0;
+	}
 }
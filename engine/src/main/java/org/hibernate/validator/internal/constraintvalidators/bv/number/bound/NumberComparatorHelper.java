@@ -30,6 +30,10 @@ public static int compare(Long number, long value) {
 		return number.compareTo( value );
 	}
 
+	public static int compare(long number, long value) {
+		return Long.compare( number, value );
+	}
+
 	public static int compare(Number number, long value, OptionalInt treatNanAs) {
 		// In case of comparing numbers we need to check for special cases:
 		// 1. Floating point numbers should consider nan/infinity as values hence they should
@@ -60,6 +64,10 @@ public static int compare(Number number, long value, OptionalInt treatNanAs) {
 	}
 
 	public static int compare(Double number, long value, OptionalInt treatNanAs) {
+		return compare( number.doubleValue(), value, treatNanAs );
+	}
+
+	public static int compare(double number, long value, OptionalInt treatNanAs) {
 		OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck( number, treatNanAs );
 		if ( infinity.isPresent() ) {
 			return infinity.getAsInt();
@@ -8,6 +8,7 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.NegativeOrZero;
 
+import org.hibernate.validator.constraintvalidation.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -18,7 +19,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class NegativeOrZeroValidatorForDouble implements ConstraintValidator<NegativeOrZero, Double> {
+public class NegativeOrZeroValidatorForDouble implements ConstraintValidator<NegativeOrZero, Double>, DoubleConstraintValidator {
 
 	@Override
 	public boolean isValid(Double value, ConstraintValidatorContext context) {
@@ -27,6 +28,11 @@ public boolean isValid(Double value, ConstraintValidatorContext context) {
 			return true;
 		}
 
+		return isValid( value.doubleValue() );
+	}
+
+	@Override
+	public boolean isValid(double value) {
 		return NumberSignHelper.signum( value, InfinityNumberComparatorHelper.GREATER_THAN ) <= 0;
 	}
 }
@@ -8,6 +8,8 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.NegativeOrZero;
 
+import org.hibernate.validator.constraintvalidation.LongConstraintValidator;
+
 /**
  * Check that the number being validated is negative or zero.
  *
@@ -16,7 +18,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class NegativeOrZeroValidatorForLong implements ConstraintValidator<NegativeOrZero, Long> {
+public class NegativeOrZeroValidatorForLong implements ConstraintValidator<NegativeOrZero, Long>, LongConstraintValidator {
 
 	@Override
 	public boolean isValid(Long value, ConstraintValidatorContext context) {
@@ -25,6 +27,11 @@ public boolean isValid(Long value, ConstraintValidatorContext context) {
 			return true;
 		}
 
+		return isValid( value.longValue() );
+	}
+
+	@Override
+	public boolean isValid(long value) {
 		return NumberSignHelper.signum( value ) <= 0;
 	}
 }
@@ -8,6 +8,8 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Negative;
 
+import org.hibernate.validator.constraintvalidation.IntConstraintValidator;
+
 /**
  * Check that the number being validated is negative.
  *
@@ -16,7 +18,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class NegativeValidatorForInteger implements ConstraintValidator<Negative, Integer> {
+public class NegativeValidatorForInteger implements ConstraintValidator<Negative, Integer>, IntConstraintValidator {
 
 	@Override
 	public boolean isValid(Integer value, ConstraintValidatorContext context) {
@@ -25,6 +27,11 @@ public boolean isValid(Integer value, ConstraintValidatorContext context) {
 			return true;
 		}
 
+		return isValid( value.intValue() );
+	}
+
+	@Override
+	public boolean isValid(int value) {
 		return NumberSignHelper.signum( value ) < 0;
 	}
 }
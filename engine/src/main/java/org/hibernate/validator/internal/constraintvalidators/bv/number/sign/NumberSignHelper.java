@@ -26,10 +26,18 @@ static int signum(Long number) {
 		return Long.signum( number );
 	}
 
+	static int signum(long number) {
+		return Long.signum( number );
+	}
+
 	static int signum(Integer number) {
 		return Integer.signum( number );
 	}
 
+	static int signum(int number) {
+		return Integer.signum( number );
+	}
+
 	static int signum(Short number) {
 		return number.compareTo( SHORT_ZERO );
 	}
@@ -59,10 +67,14 @@ static int signum(Float number, OptionalInt treatNanAs) {
 	}
 
 	static int signum(Double number, OptionalInt treatNanAs) {
+		return signum( number.doubleValue(), treatNanAs );
+	}
+
+	static int signum(double number, OptionalInt treatNanAs) {
 		OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck( number, treatNanAs );
 		if ( infinity.isPresent() ) {
 			return infinity.getAsInt();
 		}
-		return number.compareTo( 0D );
+		return Double.compare( number, 0D );
 	}
 }
@@ -8,6 +8,7 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.PositiveOrZero;
 
+import org.hibernate.validator.constraintvalidation.DoubleConstraintValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.InfinityNumberComparatorHelper;
 
 /**
@@ -18,7 +19,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class PositiveOrZeroValidatorForDouble implements ConstraintValidator<PositiveOrZero, Double> {
+public class PositiveOrZeroValidatorForDouble implements ConstraintValidator<PositiveOrZero, Double>, DoubleConstraintValidator {
 
 	@Override
 	public boolean isValid(Double value, ConstraintValidatorContext context) {
@@ -27,6 +28,11 @@ public boolean isValid(Double value, ConstraintValidatorContext context) {
 			return true;
 		}
 
+		return isValid( value.doubleValue() );
+	}
+
+	@Override
+	public boolean isValid(double value) {
 		return NumberSignHelper.signum( value, InfinityNumberComparatorHelper.LESS_THAN ) >= 0;
 	}
 }
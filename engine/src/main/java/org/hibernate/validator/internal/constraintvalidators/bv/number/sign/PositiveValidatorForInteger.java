@@ -8,6 +8,8 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Positive;
 
+import org.hibernate.validator.constraintvalidation.IntConstraintValidator;
+
 /**
  * Check that the number being validated positive.
  *
@@ -16,7 +18,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class PositiveValidatorForInteger implements ConstraintValidator<Positive, Integer> {
+public class PositiveValidatorForInteger implements ConstraintValidator<Positive, Integer>, IntConstraintValidator {
 
 	@Override
 	public boolean isValid(Integer value, ConstraintValidatorContext context) {
@@ -25,6 +27,11 @@ public boolean isValid(Integer value, ConstraintValidatorContext context) {
 			return true;
 		}
 
+		return isValid( value.intValue() );
+	}
+
+	@Override
+	public boolean isValid(int value) {
 		return NumberSignHelper.signum( value ) > 0;
 	}
 }
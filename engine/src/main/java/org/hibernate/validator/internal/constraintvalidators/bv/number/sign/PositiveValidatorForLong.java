@@ -8,6 +8,8 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Positive;
 
+import org.hibernate.validator.constraintvalidation.LongConstraintValidator;
+
 /**
  * Check that the number being validated positive.
  *
@@ -16,7 +18,7 @@
  * @author Guillaume Smet
  * @author Marko Bekhta
  */
-public class PositiveValidatorForLong implements ConstraintValidator<Positive, Long> {
+public class PositiveValidatorForLong implements ConstraintValidator<Positive, Long>, LongConstraintValidator {
 
 	@Override
 	public boolean isValid(Long value, ConstraintValidatorContext context) {
@@ -25,6 +27,11 @@ public boolean isValid(Long value, ConstraintValidatorContext context) {
 			return true;
 		}
 
+		return isValid( value.longValue() );
+	}
+
+	@Override
+	public boolean isValid(long value) {
 		return NumberSignHelper.signum( value ) > 0;
 	}
 }
@@ -18,6 +18,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import jakarta.validation.BootstrapConfiguration;
@@ -57,9 +58,11 @@
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
+import org.hibernate.validator.spi.regex.RegexEngine;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -116,10 +119,19 @@
 	private final Set<DefaultConstraintMapping> programmaticMappings = newHashSet();
 	private boolean failFast;
 	private boolean failFastOnPropertyViolation;
+	private boolean compiledValidationPlansEnabled;
+	private boolean lazyMessageInterpolation;
+	private boolean statisticsMBeanEnabled;
+	private int maxConstraintViolations;
+	private Duration validationTimeout = Duration.ZERO;
+	private ValidationListener validationListener;
+	private int parallelCascadedValidationThreshold;
+	private Executor parallelCascadedValidationExecutor;
 	private ClassLoader externalClassLoader;
 	private final MethodValidationConfiguration.Builder methodValidationConfigurationBuilder = new MethodValidationConfiguration.Builder();
 	private boolean traversableResolverResultCacheEnabled = true;
 	private ScriptEvaluatorFactory scriptEvaluatorFactory;
+	private RegexEngine regexEngine;
 	private Duration temporalValidationTolerance;
 	private Object constraintValidatorPayload;
 	private GetterPropertySelectionStrategy getterPropertySelectionStrategy;
@@ -300,6 +312,70 @@ public T failFastOnPropertyViolation(boolean failFastOnPropertyViolation) {
 		return thisAsT();
 	}
 
+	@Override
+	public T enableCompiledValidationPlans(boolean enabled) {
+		this.compiledValidationPlansEnabled = enabled;
+		return thisAsT();
+	}
+
+	@Override
+	public T lazyMessageInterpolation(boolean enabled) {
+		this.lazyMessageInterpolation = enabled;
+		return thisAsT();
+	}
+
+	@Override
+	public T enableStatisticsMBean(boolean enabled) {
+		this.statisticsMBeanEnabled = enabled;
+		return thisAsT();
+	}
+
+	@Override
+	public T maxConstraintViolations(int maxConstraintViolations) {
+		if ( maxConstraintViolations < 0 ) {
+			throw LOG.getMaxConstraintViolationsCannotBeNegativeException( maxConstraintViolations );
+		}
+		this.maxConstraintViolations = maxConstraintViolations;
+		return thisAsT();
+	}
+
+	@Override
+	public T validationTimeout(Duration validationTimeout) {
+		Contracts.assertNotNull( validationTimeout, MESSAGES.parameterMustNotBeNull( "validationTimeout" ) );
+		if ( validationTimeout.isNegative() ) {
+			throw LOG.getValidationTimeoutCannotBeNegativeException( validationTimeout );
+		}
+		this.validationTimeout = validationTimeout;
+		return thisAsT();
+	}
+
+	@Override
+	public T validationListener(ValidationListener validationListener) {
+		this.validationListener = validationListener;
+		return thisAsT();
+	}
+
+	@Override
+	public T parallelCascadedValidationThreshold(int threshold) {
+		if ( threshold < 0 ) {
+			throw LOG.getParallelCascadedValidationThresholdCannotBeNegativeException( threshold );
+		}
+		this.parallelCascadedValidationThreshold = threshold;
+		return thisAsT();
+	}
+
+	@Override
+	public T parallelCascadedValidationExecutor(Executor executor) {
+		this.parallelCascadedValidationExecutor = executor;
+		return thisAsT();
+	}
+
+	@Override
+	public T regexEngine(RegexEngine regexEngine) {
+		this.regexEngine = regexEngine;
+		return thisAsT();
+	}
+
 	@Override
 	public T allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		this.methodValidationConfigurationBuilder.allowOverridingMethodAlterParameterConstraint( allow );
@@ -498,6 +574,42 @@ public final boolean getFailFastOnPropertyViolation() {
 		return this.failFastOnPropertyViolation;
 	}
 
+	public final boolean isCompiledValidationPlansEnabled() {
+		return this.compiledValidationPlansEnabled;
+	}
+
+	public final boolean isLazyMessageInterpolation() {
+		return this.lazyMessageInterpolation;
+	}
+
+	public final boolean isStatisticsMBeanEnabled() {
+		return this.statisticsMBeanEnabled;
+	}
+
+	public final int getMaxConstraintViolations() {
+		return this.maxConstraintViolations;
+	}
+
+	public final Duration getValidationTimeout() {
+		return this.validationTimeout;
+	}
+
+	public final ValidationListener getValidationListener() {
+		return this.validationListener;
+	}
+
+	public final int getParallelCascadedValidationThreshold() {
+		return this.parallelCascadedValidationThreshold;
+	}
+
+	public final Executor getParallelCascadedValidationExecutor() {
+		return this.parallelCascadedValidationExecutor;
+	}
+
+	public RegexEngine getRegexEngine() {
+		return regexEngine;
+	}
+
 	@Override
 	public final ConstraintValidatorFactory getConstraintValidatorFactory() {
 		return validationBootstrapParameters.getConstraintValidatorFactory();
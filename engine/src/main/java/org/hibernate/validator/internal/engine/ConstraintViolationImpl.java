@@ -4,10 +4,13 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Objects;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -28,7 +31,12 @@
 	@Serial
 	private static final long serialVersionUID = -4970067626703103139L;
 
-	private final String interpolatedMessage;
+	private String interpolatedMessage;
+	/**
+	 * Set when the message is interpolated lazily, on the first call to {@link #getMessage()}.
+	 */
+	private final transient DeferredMessageInterpolation deferredMessageInterpolation;
+	private final boolean lazilyInterpolated;
 	private final T rootBean;
 	private final Object value;
 	private final Path propertyPath;
@@ -41,24 +49,31 @@
 	private final Object[] executableParameters;
 	private final Object executableReturnValue;
 	private final Object dynamicPayload;
+	/**
+	 * Set when the validation call is limited to a maximum number of constraint violations.
+	 */
+	private final ResultTruncation resultTruncation;
 	private final int hashCode;
 
 	public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplate,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			DeferredMessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
 			Object value,
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
-			Object dynamicPayload) {
+			Object dynamicPayload,
+			ResultTruncation resultTruncation) {
 		return new ConstraintViolationImpl<>(
 				messageTemplate,
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -67,7 +82,8 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 				constraintDescriptor,
 				null,
 				null,
-				dynamicPayload
+				dynamicPayload,
+				resultTruncation
 		);
 	}
 
@@ -75,6 +91,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			DeferredMessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -82,12 +99,14 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			Object[] executableParameters,
-			Object dynamicPayload) {
+			Object dynamicPayload,
+			ResultTruncation resultTruncation) {
 		return new ConstraintViolationImpl<>(
 				messageTemplate,
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -96,7 +115,8 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 				constraintDescriptor,
 				executableParameters,
 				null,
-				dynamicPayload
+				dynamicPayload,
+				resultTruncation
 		);
 	}
 
@@ -104,6 +124,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			DeferredMessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -111,12 +132,14 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			Object executableReturnValue,
-			Object dynamicPayload) {
+			Object dynamicPayload,
+			ResultTruncation resultTruncation) {
 		return new ConstraintViolationImpl<>(
 				messageTemplate,
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -125,7 +148,8 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 				constraintDescriptor,
 				null,
 				executableReturnValue,
-				dynamicPayload
+				dynamicPayload,
+				resultTruncation
 		);
 	}
 
@@ -133,6 +157,7 @@ private ConstraintViolationImpl(String messageTemplate,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			DeferredMessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -141,11 +166,14 @@ private ConstraintViolationImpl(String messageTemplate,
 			ConstraintDescriptor<?> constraintDescriptor,
 			Object[] executableParameters,
 			Object executableReturnValue,
-			Object dynamicPayload) {
+			Object dynamicPayload,
+			ResultTruncation resultTruncation) {
 		this.messageTemplate = messageTemplate;
 		this.messageParameters = messageParameters;
 		this.expressionVariables = expressionVariables;
 		this.interpolatedMessage = interpolatedMessage;
+		this.deferredMessageInterpolation = deferredMessageInterpolation;
+		this.lazilyInterpolated = deferredMessageInterpolation != null;
 		this.rootBean = rootBean;
 		this.value = value;
 		this.propertyPath = propertyPath;
@@ -155,13 +183,20 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.executableParameters = executableParameters;
 		this.executableReturnValue = executableReturnValue;
 		this.dynamicPayload = dynamicPayload;
+		this.resultTruncation = resultTruncation;
 		// pre-calculate hash code, the class is immutable and hashCode is needed often
 		this.hashCode = createHashCode();
 	}
 
 	@Override
 	public final String getMessage() {
-		return interpolatedMessage;
+		String message = interpolatedMessage;
+		if ( message == null && deferredMessageInterpolation != null ) {
+			// the interpolation is idempotent so we don't need to synchronize here
+			message = deferredMessageInterpolation.interpolate();
+			interpolatedMessage = message;
+		}
+		return message;
 	}
 
 	@Override
@@ -245,12 +280,21 @@ public <C> C getDynamicPayload(Class<C> type) {
 		}
 	}
 
+	@Override
+	public boolean isResultTruncated() {
+		return resultTruncation != null && resultTruncation.isTruncated();
+	}
+
 	/**
 	 * IMPORTANT - some behaviour of Validator depends on the correct implementation of this equals method! (HF)
 	 * <p>
 	 * {@code messageParameters}, {@code expressionVariables} and {@code dynamicPayload} are not taken into account for
 	 * equality. These variables solely enrich the actual Constraint Violation with additional information e.g how we
 	 * actually got to this CV.
+	 * <p>
+	 * When the message is interpolated lazily, the interpolated message is not taken into account either, as it is not
+	 * available yet: {@code messageParameters} and {@code expressionVariables}, from which the message is interpolated,
+	 * are compared instead. A lazily interpolated violation is never equal to an eagerly interpolated one.
 	 *
 	 * @return true if the two ConstraintViolation's are considered equals; false otherwise
 	 */
@@ -265,7 +309,18 @@ public boolean equals(Object o) {
 
 		ConstraintViolationImpl<?> that = (ConstraintViolationImpl<?>) o;
 
-		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
+		if ( lazilyInterpolated != that.lazilyInterpolated ) {
+			return false;
+		}
+		if ( lazilyInterpolated ) {
+			if ( !Objects.equals( messageParameters, that.messageParameters ) ) {
+				return false;
+			}
+			if ( !Objects.equals( expressionVariables, that.expressionVariables ) ) {
+				return false;
+			}
+		}
+		else if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
 			return false;
 		}
 		if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
@@ -298,7 +353,7 @@ public int hashCode() {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ConstraintViolationImpl" );
-		sb.append( "{interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( "{interpolatedMessage='" ).append( getMessage() ).append( '\'' );
 		sb.append( ", propertyPath=" ).append( propertyPath );
 		sb.append( ", rootBeanClass=" ).append( rootBeanClass );
 		sb.append( ", messageTemplate='" ).append( messageTemplate ).append( '\'' );
@@ -306,11 +361,25 @@ public String toString() {
 		return sb.toString();
 	}
 
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the deferred interpolation is not serializable, make sure the message is interpolated beforehand
+		getMessage();
+		out.defaultWriteObject();
+	}
+
 	/**
 	 * @see #equals(Object) on which fields are taken into account
 	 */
 	private int createHashCode() {
-		int result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
+		int result;
+		if ( lazilyInterpolated ) {
+			result = Objects.hashCode( messageParameters );
+			result = 31 * result + Objects.hashCode( expressionVariables );
+		}
+		else {
+			result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
+		}
 		result = 31 * result + ( propertyPath != null ? propertyPath.hashCode() : 0 );
 		result = 31 * result + System.identityHashCode( rootBean );
 		result = 31 * result + System.identityHashCode( leafBeanInstance );
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.lang.invoke.MethodHandles;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
+
+/**
+ * Captures what is needed to interpolate the message of a constraint violation so that the interpolation can be
+ * deferred until the message is requested.
+ */
+public final class DeferredMessageInterpolation {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final MessageInterpolator messageInterpolator;
+	private final String messageTemplate;
+	private final MessageInterpolatorContext context;
+	private final ValidationListener validationListener;
+
+	public DeferredMessageInterpolation(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolatorContext context,
+			ValidationListener validationListener) {
+		this.messageInterpolator = messageInterpolator;
+		this.messageTemplate = messageTemplate;
+		this.context = context;
+		this.validationListener = validationListener;
+	}
+
+	public String interpolate() {
+		return interpolate( messageInterpolator, messageTemplate, context, validationListener );
+	}
+
+	public static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolatorContext context,
+			ValidationListener validationListener) {
+		if ( validationListener == null ) {
+			return interpolate( messageInterpolator, messageTemplate, context );
+		}
+
+		long start = System.nanoTime();
+		try {
+			return interpolate( messageInterpolator, messageTemplate, context );
+		}
+		finally {
+			validationListener.messageInterpolated( messageTemplate, System.nanoTime() - start );
+		}
+	}
+
+	private static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolatorContext context) {
+		try {
+			return messageInterpolator.interpolate(
+					messageTemplate,
+					context
+			);
+		}
+		catch (ValidationException ve) {
+			throw ve;
+		}
+		catch (Exception e) {
+			throw LOG.getExceptionOccurredDuringMessageInterpolationException( e );
+		}
+	}
+}
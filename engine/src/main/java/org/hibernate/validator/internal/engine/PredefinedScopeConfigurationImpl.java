@@ -4,6 +4,9 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.Set;
 
@@ -12,7 +15,9 @@
 import jakarta.validation.spi.ValidationProvider;
 
 import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
+import org.hibernate.validator.internal.metadata.BeanMetaDataSnapshot;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.Contracts;
 
 /**
  * @author Guillaume Smet
@@ -26,6 +31,10 @@ public class PredefinedScopeConfigurationImpl extends AbstractConfigurationImpl<
 
 	private boolean includeBeansAndConstraintsDefinedOnlyInXml = true;
 
+	private BeanMetaDataSnapshot beanMetaDataSnapshot;
+
+	private boolean parallelBeanMetaDataInitialization = false;
+
 	public PredefinedScopeConfigurationImpl(BootstrapState state) {
 		super( state );
 	}
@@ -64,6 +73,28 @@ public PredefinedScopeHibernateValidatorConfiguration includeBeansAndConstraints
 		return thisAsT();
 	}
 
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration beanMetaDataSnapshot(InputStream snapshot) {
+		Contracts.assertNotNull( snapshot, MESSAGES.inputStreamCannotBeNull() );
+
+		this.beanMetaDataSnapshot = BeanMetaDataSnapshot.read( snapshot );
+		return thisAsT();
+	}
+
+	public BeanMetaDataSnapshot getBeanMetaDataSnapshot() {
+		return beanMetaDataSnapshot;
+	}
+
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration parallelBeanMetaDataInitialization(boolean enabled) {
+		this.parallelBeanMetaDataInitialization = enabled;
+		return thisAsT();
+	}
+
+	public boolean isParallelBeanMetaDataInitialization() {
+		return parallelBeanMetaDataInitialization;
+	}
+
 	@Override
 	protected boolean preloadResourceBundles() {
 		return true;
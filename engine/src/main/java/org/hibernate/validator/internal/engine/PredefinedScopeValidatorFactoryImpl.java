@@ -8,6 +8,7 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowOverridingMethodAlterParameterConstraint;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataClassNormalizer;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineCompiledValidationPlansEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintExpressionLanguageFeatureLevel;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
@@ -15,15 +16,25 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyMessageInterpolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineMaxConstraintViolations;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationThreshold;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineRegexEngine;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineStatisticsMBeanEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationListener;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationTimeout;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
+import java.io.OutputStream;
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
 import java.util.Collections;
@@ -43,11 +54,14 @@
 
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
 import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.PredefinedScopeConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.statistics.ValidatorFactoryStatisticsImpl;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlanCache;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.PredefinedScopeBeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
@@ -100,6 +114,13 @@ public class PredefinedScopeValidatorFactoryImpl implements PredefinedScopeHiber
 
 	private final ValidationOrderGenerator validationOrderGenerator;
 
+	/**
+	 * Cache of the compiled validation plans, {@code null} if the compiled validation plans are disabled.
+	 */
+	private final ValidationPlanCache validationPlanCache;
+
+	private final ValidatorFactoryStatisticsImpl statistics;
+
 	public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState) {
 		Contracts.assertTrue( configurationState instanceof PredefinedScopeConfigurationImpl, "Only PredefinedScopeConfigurationImpl is supported." );
 
@@ -131,7 +152,14 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
 				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
-				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties )
+				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
+				determineLazyMessageInterpolation( hibernateSpecificConfig, properties ),
+				determineMaxConstraintViolations( hibernateSpecificConfig, properties ),
+				determineValidationTimeout( hibernateSpecificConfig, properties ),
+				determineValidationListener( hibernateSpecificConfig ),
+				determineParallelCascadedValidationThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationExecutor( hibernateSpecificConfig ),
+				determineRegexEngine( configurationState, properties, externalClassLoader )
 		);
 
 		this.constraintValidatorManager = new PredefinedScopeConstraintValidatorManagerImpl(
@@ -140,6 +168,7 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 		);
 
 		this.validationOrderGenerator = new ValidationOrderGenerator();
+		this.validationPlanCache = determineCompiledValidationPlansEnabled( hibernateSpecificConfig, properties ) ? new ValidationPlanCache() : null;
 
 		this.getterPropertySelectionStrategy = ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader );
 		this.propertyNodeNameProvider = ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader );
@@ -154,7 +183,8 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				constraintValidatorManager, typeResolutionHelper, valueExtractorManager );
 
 		ExecutableHelper executableHelper = new ExecutableHelper( typeResolutionHelper );
-		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( getterPropertySelectionStrategy, propertyNodeNameProvider );
+		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( getterPropertySelectionStrategy, propertyNodeNameProvider,
+				ValidatorFactoryConfigurationHelper.determineServiceLoadedBeanPropertyAccessorProviders( externalClassLoader ) );
 
 		// first we want to register any validators coming from a service loader. Since they are just loaded and there's
 		// no control over them (include/exclude the ones that already exists from any other sources etc.)
@@ -211,14 +241,31 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				buildMetaDataProviders( constraintCreationContext, xmlMetaDataProvider, constraintMappings ),
 				methodValidationConfiguration,
 				determineBeanMetaDataClassNormalizer( hibernateSpecificConfig ),
-				beanClassesToInitialize
+				beanClassesToInitialize,
+				hibernateSpecificConfig.getBeanMetaDataSnapshot(),
+				hibernateSpecificConfig.isParallelBeanMetaDataInitialization(),
+				validatorFactoryScopedContext.getValidationListener()
 		);
 
+		this.statistics = new ValidatorFactoryStatisticsImpl( Collections.singleton( beanMetaDataManager ), constraintCreationContext,
+				validatorFactoryScopedContext.getMessageInterpolator(), validationPlanCache,
+				validatorFactoryScopedContext.getCompiledRegexCache() );
+		if ( determineStatisticsMBeanEnabled( hibernateSpecificConfig, properties ) ) {
+			statistics.registerMBean( this );
+		}
+
 		if ( LOG.isDebugEnabled() ) {
 			logValidatorFactoryScopedConfiguration( validatorFactoryScopedContext );
 		}
 	}
 
+	@Override
+	public void writeBeanMetaDataSnapshot(OutputStream outputStream) {
+		Contracts.assertNotNull( outputStream, MESSAGES.parameterMustNotBeNull( "outputStream" ) );
+
+		beanMetaDataManager.writeSnapshot( outputStream );
+	}
+
 	@Override
 	public Validator getValidator() {
 		return createValidator( validatorFactoryScopedContext );
@@ -273,6 +320,11 @@ public PropertyNodeNameProvider getPropertyNodeNameProvider() {
 		return propertyNodeNameProvider;
 	}
 
+	@Override
+	public ValidatorFactoryStatistics getStatistics() {
+		return statistics;
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -301,7 +353,14 @@ public void close() {
 		constraintValidatorManager.clear();
 		beanMetaDataManager.clear();
 		validatorFactoryScopedContext.getScriptEvaluatorFactory().clear();
+		validatorFactoryScopedContext.getCompiledRegexCache().clear();
 		valueExtractorManager.clear();
+
+		if ( validationPlanCache != null ) {
+			validationPlanCache.clear();
+		}
+
+		statistics.unregisterMBean();
 	}
 
 	public ValidatorFactoryScopedContext getValidatorFactoryScopedContext() {
@@ -315,7 +374,8 @@ Validator createValidator(ValidatorFactoryScopedContext validatorFactoryScopedCo
 				valueExtractorManager,
 				constraintValidatorManager,
 				validationOrderGenerator,
-				validatorFactoryScopedContext
+				validatorFactoryScopedContext,
+				validationPlanCache
 		);
 	}
 
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Shared by the constraint violations of a validation call limited to a maximum number of constraint violations, to
+ * let them know whether the validation stopped because this maximum was reached.
+ * <p>
+ * The validation call marks the result as truncated before returning, so the violations always see the final state.
+ */
+public final class ResultTruncation implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 2390528710472858301L;
+
+	private volatile boolean truncated;
+
+	public void markTruncated() {
+		truncated = true;
+	}
+
+	public boolean isTruncated() {
+		return truncated;
+	}
+}
@@ -152,6 +152,30 @@ public HibernateValidatorContext showValidatedValuesInTraceLogs(boolean enabled)
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext lazyMessageInterpolation(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setLazyMessageInterpolation( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext maxConstraintViolations(int maxConstraintViolations) {
+		validatorFactoryScopedContextBuilder.setMaxConstraintViolations( maxConstraintViolations );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext validationTimeout(Duration validationTimeout) {
+		validatorFactoryScopedContextBuilder.setValidationTimeout( validationTimeout );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext parallelCascadedValidationThreshold(int threshold) {
+		validatorFactoryScopedContextBuilder.setParallelCascadedValidationThreshold( threshold );
+		return this;
+	}
+
 	@Override
 	public Validator getValidator() {
 		return validatorFactory.createValidator(
@@ -11,9 +11,12 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import jakarta.validation.spi.ConfigurationState;
 
@@ -22,6 +25,7 @@
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintdefinition.ConstraintDefinitionContribution;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.internal.engine.regex.DefaultRegexEngine;
 import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
 import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
@@ -30,6 +34,7 @@
 import org.hibernate.validator.internal.util.StringHelper;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.internal.util.actions.GetClassLoader;
+import org.hibernate.validator.internal.util.actions.GetInstancesFromServiceLoader;
 import org.hibernate.validator.internal.util.actions.LoadClass;
 import org.hibernate.validator.internal.util.actions.NewInstance;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -37,9 +42,12 @@
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
+import org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
+import org.hibernate.validator.spi.regex.RegexEngine;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
 final class ValidatorFactoryConfigurationHelper {
@@ -166,6 +174,96 @@ static boolean determineTraversableResolverResultCacheEnabled(AbstractConfigurat
 		);
 	}
 
+	static boolean determineCompiledValidationPlansEnabled(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.ENABLE_COMPILED_VALIDATION_PLANS,
+				configuration != null ? configuration.isCompiledValidationPlansEnabled() : false
+		);
+	}
+
+	static boolean determineLazyMessageInterpolation(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.LAZY_MESSAGE_INTERPOLATION,
+				configuration != null ? configuration.isLazyMessageInterpolation() : false
+		);
+	}
+
+	static boolean determineStatisticsMBeanEnabled(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.ENABLE_STATISTICS_MBEAN,
+				configuration != null ? configuration.isStatisticsMBeanEnabled() : false
+		);
+	}
+
+	static int determineMaxConstraintViolations(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		int maxConstraintViolations = configuration != null ? configuration.getMaxConstraintViolations() : 0;
+
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.MAX_CONSTRAINT_VIOLATIONS );
+		if ( propertyStringValue != null ) {
+			try {
+				maxConstraintViolations = Integer.parseInt( propertyStringValue.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseMaxConstraintViolationsException( propertyStringValue, e );
+			}
+			if ( maxConstraintViolations < 0 ) {
+				throw LOG.getMaxConstraintViolationsCannotBeNegativeException( maxConstraintViolations );
+			}
+		}
+
+		return maxConstraintViolations;
+	}
+
+	static Duration determineValidationTimeout(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		Duration validationTimeout = configuration != null ? configuration.getValidationTimeout() : Duration.ZERO;
+
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.VALIDATION_TIMEOUT );
+		if ( propertyStringValue != null ) {
+			try {
+				validationTimeout = Duration.ofMillis( Long.parseLong( propertyStringValue.trim() ) );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseValidationTimeoutException( propertyStringValue, e );
+			}
+			if ( validationTimeout.isNegative() ) {
+				throw LOG.getValidationTimeoutCannotBeNegativeException( validationTimeout );
+			}
+		}
+
+		return validationTimeout;
+	}
+
+	static ValidationListener determineValidationListener(AbstractConfigurationImpl<?> configuration) {
+		return configuration != null ? configuration.getValidationListener() : null;
+	}
+
+	static int determineParallelCascadedValidationThreshold(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		int threshold = configuration != null ? configuration.getParallelCascadedValidationThreshold() : 0;
+
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD );
+		if ( propertyStringValue != null ) {
+			try {
+				threshold = Integer.parseInt( propertyStringValue.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseParallelCascadedValidationThresholdException( propertyStringValue, e );
+			}
+			if ( threshold < 0 ) {
+				throw LOG.getParallelCascadedValidationThresholdCannotBeNegativeException( threshold );
+			}
+		}
+
+		return threshold;
+	}
+
+	static Executor determineParallelCascadedValidationExecutor(AbstractConfigurationImpl<?> configuration) {
+		Executor executor = configuration != null ? configuration.getParallelCascadedValidationExecutor() : null;
+		return executor != null ? executor : ForkJoinPool.commonPool();
+	}
+
 	static boolean determineFailFast(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
 		// check whether fail fast is programmatically enabled
 		boolean tmpFailFast = configuration != null ? configuration.getFailFast() : false;
@@ -228,6 +326,34 @@ static ScriptEvaluatorFactory determineScriptEvaluatorFactory(ConfigurationState
 		return new DefaultScriptEvaluatorFactory( externalClassLoader );
 	}
 
+	static RegexEngine determineRegexEngine(ConfigurationState configurationState, Map<String, String> properties,
+			ClassLoader externalClassLoader) {
+		if ( configurationState instanceof AbstractConfigurationImpl ) {
+			AbstractConfigurationImpl<?> hibernateSpecificConfig = (AbstractConfigurationImpl<?>) configurationState;
+			if ( hibernateSpecificConfig.getRegexEngine() != null ) {
+				LOG.usingRegexEngine( hibernateSpecificConfig.getRegexEngine().getClass() );
+				return hibernateSpecificConfig.getRegexEngine();
+			}
+		}
+
+		String regexEngineFqcn = properties.get( HibernateValidatorConfiguration.REGEX_ENGINE_CLASSNAME );
+		if ( regexEngineFqcn != null ) {
+			try {
+				@SuppressWarnings("unchecked")
+				Class<? extends RegexEngine> clazz = (Class<? extends RegexEngine>) LoadClass.action( regexEngineFqcn, externalClassLoader );
+				RegexEngine regexEngine = NewInstance.action( clazz, "regex engine class" );
+				LOG.usingRegexEngine( clazz );
+
+				return regexEngine;
+			}
+			catch (Exception e) {
+				throw LOG.getUnableToInstantiateRegexEngineClassException( regexEngineFqcn, e );
+			}
+		}
+
+		return DefaultRegexEngine.INSTANCE;
+	}
+
 	static Duration determineTemporalValidationTolerance(ConfigurationState configurationState, Map<String, String> properties) {
 		if ( configurationState instanceof AbstractConfigurationImpl ) {
 			AbstractConfigurationImpl<?> hibernateSpecificConfig = (AbstractConfigurationImpl<?>) configurationState;
@@ -333,6 +459,23 @@ static GetterPropertySelectionStrategy determineGetterPropertySelectionStrategy(
 		return new DefaultGetterPropertySelectionStrategy();
 	}
 
+	static Map<Class<?>, BeanPropertyAccessorProvider> determineServiceLoadedBeanPropertyAccessorProviders(ClassLoader externalClassLoader) {
+		List<BeanPropertyAccessorProvider> providers = GetInstancesFromServiceLoader.action(
+				externalClassLoader != null ? externalClassLoader : GetClassLoader.fromContext(),
+				BeanPropertyAccessorProvider.class
+		);
+		if ( providers.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		Map<Class<?>, BeanPropertyAccessorProvider> providersByBeanClass = new HashMap<>();
+		for ( BeanPropertyAccessorProvider provider : providers ) {
+			LOG.usingBeanPropertyAccessorProvider( provider.getBeanClass(), provider.getClass() );
+			providersByBeanClass.put( provider.getBeanClass(), provider );
+		}
+		return Collections.unmodifiableMap( providersByBeanClass );
+	}
+
 	static BeanMetaDataClassNormalizer determineBeanMetaDataClassNormalizer(AbstractConfigurationImpl<?> hibernateSpecificConfig) {
 		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getBeanMetaDataClassNormalizer() != null ) {
 			return hibernateSpecificConfig.getBeanMetaDataClassNormalizer();
@@ -441,6 +584,7 @@ static void logValidatorFactoryScopedConfiguration(ValidatorFactoryScopedContext
 		LOG.logValidatorFactoryScopedConfiguration( context.getParameterNameProvider().getClass(), "parameter name provider" );
 		LOG.logValidatorFactoryScopedConfiguration( context.getClockProvider().getClass(), "clock provider" );
 		LOG.logValidatorFactoryScopedConfiguration( context.getScriptEvaluatorFactory().getClass(), "script evaluator factory" );
+		LOG.logValidatorFactoryScopedConfiguration( context.getCompiledRegexCache().getRegexEngine().getClass(), "regex engine" );
 	}
 
 	/**
@@ -8,6 +8,7 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowOverridingMethodAlterParameterConstraint;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataClassNormalizer;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineCompiledValidationPlansEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintExpressionLanguageFeatureLevel;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
@@ -15,10 +16,18 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyMessageInterpolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineMaxConstraintViolations;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadedValidationThreshold;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineRegexEngine;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineStatisticsMBeanEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationListener;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationTimeout;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
@@ -44,10 +53,13 @@
 
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.statistics.ValidatorFactoryStatisticsImpl;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlanCache;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
@@ -133,6 +145,13 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 
 	private final ValidationOrderGenerator validationOrderGenerator;
 
+	/**
+	 * Cache of the compiled validation plans, {@code null} if the compiled validation plans are disabled.
+	 */
+	private final ValidationPlanCache validationPlanCache;
+
+	private final ValidatorFactoryStatisticsImpl statistics;
+
 	public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		ClassLoader externalClassLoader = determineExternalClassLoader( configurationState );
 
@@ -165,7 +184,14 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
 				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
-				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties )
+				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
+				determineLazyMessageInterpolation( hibernateSpecificConfig, properties ),
+				determineMaxConstraintViolations( hibernateSpecificConfig, properties ),
+				determineValidationTimeout( hibernateSpecificConfig, properties ),
+				determineValidationListener( hibernateSpecificConfig ),
+				determineParallelCascadedValidationThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadedValidationExecutor( hibernateSpecificConfig ),
+				determineRegexEngine( configurationState, properties, externalClassLoader )
 		);
 
 		ConstraintValidatorManager constraintValidatorManager = new ConstraintValidatorManagerImpl(
@@ -174,6 +200,7 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		);
 
 		this.validationOrderGenerator = new ValidationOrderGenerator();
+		this.validationPlanCache = determineCompiledValidationPlansEnabled( hibernateSpecificConfig, properties ) ? new ValidationPlanCache() : null;
 
 		ValueExtractorManager valueExtractorManager = new ValueExtractorManager( configurationState.getValueExtractors() );
 		ConstraintHelper constraintHelper = ConstraintHelper.forAllBuiltinConstraints();
@@ -183,7 +210,8 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 
 		this.executableHelper = new ExecutableHelper( typeResolutionHelper );
 		this.javaBeanHelper = new JavaBeanHelper( ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ),
-				ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader ) );
+				ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader ),
+				ValidatorFactoryConfigurationHelper.determineServiceLoadedBeanPropertyAccessorProviders( externalClassLoader ) );
 		this.beanMetadataClassNormalizer = determineBeanMetaDataClassNormalizer( hibernateSpecificConfig );
 
 		// first we want to register any validators coming from a service loader. Since they are just loaded and there's
@@ -226,6 +254,13 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 			this.xmlMetaDataProvider = null;
 		}
 
+		this.statistics = new ValidatorFactoryStatisticsImpl( beanMetaDataManagers.values(), constraintCreationContext,
+				validatorFactoryScopedContext.getMessageInterpolator(), validationPlanCache,
+				validatorFactoryScopedContext.getCompiledRegexCache() );
+		if ( determineStatisticsMBeanEnabled( hibernateSpecificConfig, properties ) ) {
+			statistics.registerMBean( this );
+		}
+
 		if ( LOG.isDebugEnabled() ) {
 			logValidatorFactoryScopedConfiguration( validatorFactoryScopedContext );
 		}
@@ -290,6 +325,11 @@ public PropertyNodeNameProvider getPropertyNodeNameProvider() {
 		return javaBeanHelper.getPropertyNodeNameProvider();
 	}
 
+	@Override
+	public ValidatorFactoryStatistics getStatistics() {
+		return statistics;
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -328,7 +368,14 @@ public void close() {
 			beanMetaDataManager.clear();
 		}
 		validatorFactoryScopedContext.getScriptEvaluatorFactory().clear();
+		validatorFactoryScopedContext.getCompiledRegexCache().clear();
 		constraintCreationContext.getValueExtractorManager().clear();
+
+		if ( validationPlanCache != null ) {
+			validationPlanCache.clear();
+		}
+
+		statistics.unregisterMBean();
 	}
 
 	public ValidatorFactoryScopedContext getValidatorFactoryScopedContext() {
@@ -349,7 +396,8 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 						beanMetadataClassNormalizer,
 						validationOrderGenerator,
 						buildMetaDataProviders(),
-						methodValidationConfiguration
+						methodValidationConfiguration,
+						validatorFactoryScopedContext.getValidationListener()
 				)
 		);
 
@@ -359,7 +407,8 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 				constraintCreationContext.getValueExtractorManager(),
 				constraintCreationContext.getConstraintValidatorManager(),
 				validationOrderGenerator,
-				validatorFactoryScopedContext
+				validatorFactoryScopedContext,
+				validationPlanCache
 		);
 	}
 
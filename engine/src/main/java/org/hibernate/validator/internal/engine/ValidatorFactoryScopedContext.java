@@ -4,7 +4,11 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.MessageInterpolator;
@@ -13,12 +17,20 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
+import org.hibernate.validator.internal.engine.regex.CompiledRegexCache;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
+import org.hibernate.validator.spi.regex.RegexEngine;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
 public class ValidatorFactoryScopedContext {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
 	/**
 	 * The default message interpolator for this factory.
 	 */
@@ -51,6 +63,12 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final ScriptEvaluatorFactory scriptEvaluatorFactory;
 
+	/**
+	 * The regular expressions compiled for the {@code @Pattern} and {@code @Email} constraints, shared by all the
+	 * contexts of the factory.
+	 */
+	private final CompiledRegexCache compiledRegexCache;
+
 	/**
 	 * Hibernate Validator specific flag to abort validation on first constraint violation.
 	 */
@@ -92,6 +110,38 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to interpolate the constraint violation messages lazily.
+	 */
+	private final boolean lazyMessageInterpolation;
+
+	/**
+	 * Hibernate Validator specific maximum number of constraint violations reported by a validation call, {@code 0}
+	 * meaning no limit.
+	 */
+	private final int maxConstraintViolations;
+
+	/**
+	 * Hibernate Validator specific maximum duration of a validation call, {@link Duration#ZERO} meaning no timeout.
+	 */
+	private final Duration validationTimeout;
+
+	/**
+	 * Hibernate Validator specific listener receiving the events of the validation engine, {@code null} if none.
+	 */
+	private final ValidationListener validationListener;
+
+	/**
+	 * Hibernate Validator specific minimum number of elements of a cascaded container for its elements to be validated
+	 * in parallel, {@code 0} meaning the parallel validation is disabled.
+	 */
+	private final int parallelCascadedValidationThreshold;
+
+	/**
+	 * Hibernate Validator specific executor validating the chunks of the containers validated in parallel.
+	 */
+	private final Executor parallelCascadedValidationExecutor;
+
 	ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			TraversableResolver traversableResolver,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -104,12 +154,45 @@ public class ValidatorFactoryScopedContext {
 			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
-			boolean showValidatedValuesInTraceLogs) {
+			boolean showValidatedValuesInTraceLogs,
+			boolean lazyMessageInterpolation,
+			int maxConstraintViolations,
+			Duration validationTimeout,
+			ValidationListener validationListener,
+			int parallelCascadedValidationThreshold,
+			Executor parallelCascadedValidationExecutor,
+			RegexEngine regexEngine) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
 				failFastOnPropertyViolation, traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
-				customViolationExpressionLanguageFeatureLevel,
+				customViolationExpressionLanguageFeatureLevel, lazyMessageInterpolation, maxConstraintViolations, validationTimeout, validationListener,
+				parallelCascadedValidationThreshold, parallelCascadedValidationExecutor, new CompiledRegexCache( regexEngine ) );
+	}
+
+	private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
+			TraversableResolver traversableResolver,
+			ExecutableParameterNameProvider parameterNameProvider,
+			ClockProvider clockProvider,
+			Duration temporalValidationTolerance,
+			ScriptEvaluatorFactory scriptEvaluatorFactory,
+			boolean failFast,
+			boolean failFastOnPropertyViolation,
+			boolean traversableResolverResultCacheEnabled,
+			boolean showValidatedValuesInTraceLogs, Object constraintValidatorPayload,
+			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
+			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
+			boolean lazyMessageInterpolation,
+			int maxConstraintViolations,
+			Duration validationTimeout,
+			ValidationListener validationListener,
+			int parallelCascadedValidationThreshold,
+			Executor parallelCascadedValidationExecutor,
+			CompiledRegexCache compiledRegexCache) {
+		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
+				failFastOnPropertyViolation, traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
+				customViolationExpressionLanguageFeatureLevel, lazyMessageInterpolation, maxConstraintViolations, validationTimeout, validationListener,
+				parallelCascadedValidationThreshold, parallelCascadedValidationExecutor, compiledRegexCache,
 				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
-						temporalValidationTolerance ) );
+						temporalValidationTolerance, compiledRegexCache ) );
 	}
 
 	private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
@@ -124,6 +207,13 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			boolean showValidatedValuesInTraceLogs, Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
+			boolean lazyMessageInterpolation,
+			int maxConstraintViolations,
+			Duration validationTimeout,
+			ValidationListener validationListener,
+			int parallelCascadedValidationThreshold,
+			Executor parallelCascadedValidationExecutor,
+			CompiledRegexCache compiledRegexCache,
 			HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext) {
 		this.messageInterpolator = messageInterpolator;
 		this.traversableResolver = traversableResolver;
@@ -131,6 +221,7 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 		this.clockProvider = clockProvider;
 		this.temporalValidationTolerance = temporalValidationTolerance;
 		this.scriptEvaluatorFactory = scriptEvaluatorFactory;
+		this.compiledRegexCache = compiledRegexCache;
 		this.failFast = failFast;
 		this.failFastOnPropertyViolation = failFastOnPropertyViolation;
 		this.traversableResolverResultCacheEnabled = traversableResolverResultCacheEnabled;
@@ -138,6 +229,12 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 		this.constraintExpressionLanguageFeatureLevel = constraintExpressionLanguageFeatureLevel;
 		this.customViolationExpressionLanguageFeatureLevel = customViolationExpressionLanguageFeatureLevel;
 		this.showValidatedValuesInTraceLogs = showValidatedValuesInTraceLogs;
+		this.lazyMessageInterpolation = lazyMessageInterpolation;
+		this.maxConstraintViolations = maxConstraintViolations;
+		this.validationTimeout = validationTimeout;
+		this.validationListener = validationListener;
+		this.parallelCascadedValidationThreshold = parallelCascadedValidationThreshold;
+		this.parallelCascadedValidationExecutor = parallelCascadedValidationExecutor;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 	}
 
@@ -165,6 +262,10 @@ public ScriptEvaluatorFactory getScriptEvaluatorFactory() {
 		return this.scriptEvaluatorFactory;
 	}
 
+	public CompiledRegexCache getCompiledRegexCache() {
+		return this.compiledRegexCache;
+	}
+
 	public boolean isFailFast() {
 		return this.failFast;
 	}
@@ -197,6 +298,30 @@ public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
 
+	public boolean isLazyMessageInterpolation() {
+		return lazyMessageInterpolation;
+	}
+
+	public int getMaxConstraintViolations() {
+		return maxConstraintViolations;
+	}
+
+	public Duration getValidationTimeout() {
+		return validationTimeout;
+	}
+
+	public ValidationListener getValidationListener() {
+		return validationListener;
+	}
+
+	public int getParallelCascadedValidationThreshold() {
+		return parallelCascadedValidationThreshold;
+	}
+
+	public Executor getParallelCascadedValidationExecutor() {
+		return parallelCascadedValidationExecutor;
+	}
+
 	static class Builder {
 		private final ValidatorFactoryScopedContext defaultContext;
 
@@ -214,6 +339,12 @@ static class Builder {
 		private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 
 		private boolean showValidatedValuesInTraceLogs;
+		private boolean lazyMessageInterpolation;
+		private int maxConstraintViolations;
+		private Duration validationTimeout;
+		private ValidationListener validationListener;
+		private int parallelCascadedValidationThreshold;
+		private Executor parallelCascadedValidationExecutor;
 		private HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext;
 
 		Builder(ValidatorFactoryScopedContext defaultContext) {
@@ -233,6 +364,12 @@ static class Builder {
 			this.constraintExpressionLanguageFeatureLevel = defaultContext.constraintExpressionLanguageFeatureLevel;
 			this.customViolationExpressionLanguageFeatureLevel = defaultContext.customViolationExpressionLanguageFeatureLevel;
 			this.showValidatedValuesInTraceLogs = defaultContext.showValidatedValuesInTraceLogs;
+			this.lazyMessageInterpolation = defaultContext.lazyMessageInterpolation;
+			this.maxConstraintViolations = defaultContext.maxConstraintViolations;
+			this.validationTimeout = defaultContext.validationTimeout;
+			this.validationListener = defaultContext.validationListener;
+			this.parallelCascadedValidationThreshold = defaultContext.parallelCascadedValidationThreshold;
+			this.parallelCascadedValidationExecutor = defaultContext.parallelCascadedValidationExecutor;
 			this.constraintValidatorInitializationContext = defaultContext.constraintValidatorInitializationContext;
 		}
 
@@ -330,6 +467,36 @@ public ValidatorFactoryScopedContext.Builder setShowValidatedValuesInTraceLogs(
 			return this;
 		}
 
+		public ValidatorFactoryScopedContext.Builder setLazyMessageInterpolation(boolean lazyMessageInterpolation) {
+			this.lazyMessageInterpolation = lazyMessageInterpolation;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setMaxConstraintViolations(int maxConstraintViolations) {
+			if ( maxConstraintViolations < 0 ) {
+				throw LOG.getMaxConstraintViolationsCannotBeNegativeException( maxConstraintViolations );
+			}
+			this.maxConstraintViolations = maxConstraintViolations;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setValidationTimeout(Duration validationTimeout) {
+			Contracts.assertNotNull( validationTimeout, MESSAGES.parameterMustNotBeNull( "validationTimeout" ) );
+			if ( validationTimeout.isNegative() ) {
+				throw LOG.getValidationTimeoutCannotBeNegativeException( validationTimeout );
+			}
+			this.validationTimeout = validationTimeout;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setParallelCascadedValidationThreshold(int parallelCascadedValidationThreshold) {
+			if ( parallelCascadedValidationThreshold < 0 ) {
+				throw LOG.getParallelCascadedValidationThresholdCannotBeNegativeException( parallelCascadedValidationThreshold );
+			}
+			this.parallelCascadedValidationThreshold = parallelCascadedValidationThreshold;
+			return this;
+		}
+
 		public ValidatorFactoryScopedContext build() {
 			return new ValidatorFactoryScopedContext(
 					messageInterpolator,
@@ -344,6 +511,13 @@ public ValidatorFactoryScopedContext build() {
 					showValidatedValuesInTraceLogs, constraintValidatorPayload,
 					constraintExpressionLanguageFeatureLevel,
 					customViolationExpressionLanguageFeatureLevel,
+					lazyMessageInterpolation,
+					maxConstraintViolations,
+					validationTimeout,
+					validationListener,
+					parallelCascadedValidationThreshold,
+					parallelCascadedValidationExecutor,
+					defaultContext.compiledRegexCache,
 					HibernateConstraintValidatorInitializationContextImpl.of(
 							constraintValidatorInitializationContext,
 							scriptEvaluatorFactory,
@@ -10,6 +10,7 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,6 +20,13 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
@@ -31,6 +39,10 @@
 import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.BatchValidator;
+import org.hibernate.validator.ConstraintViolationSink;
+import org.hibernate.validator.StreamingValidator;
+import org.hibernate.validator.engine.ValidationTimeoutException;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.groups.Group;
@@ -45,6 +57,9 @@
 import org.hibernate.validator.internal.engine.validationcontext.ExecutableValidationContext;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContextBuilder;
 import org.hibernate.validator.internal.engine.validationcontext.ValidatorScopedContext;
+import org.hibernate.validator.internal.engine.validationplan.BeanValidationPlan;
+import org.hibernate.validator.internal.engine.validationplan.GroupValidationPlan;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlanCache;
 import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContexts;
@@ -69,6 +84,7 @@
 import org.hibernate.validator.internal.util.TypeHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
 
 /**
  * The main Bean Validation class. This is the core processing class of Hibernate Validator.
@@ -79,7 +95,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  * @author Guillaume Smet
  */
-public class ValidatorImpl implements Validator, ExecutableValidator {
+public class ValidatorImpl implements Validator, ExecutableValidator, BatchValidator, StreamingValidator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -88,6 +104,17 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private static final Collection<Class<?>> DEFAULT_GROUPS = Collections.<Class<?>>singletonList( Default.class );
 
+	/**
+	 * The number of beans validated by each task of a batch validation spread across an executor.
+	 */
+	private static final int BATCH_CHUNK_SIZE = 256;
+
+	/**
+	 * The number of chunks per available processor the elements of a container validated in parallel are split into,
+	 * more than one so that the chunks with expensive elements do not leave the other processors idle.
+	 */
+	private static final int PARALLEL_CASCADED_VALIDATION_CHUNKS_PER_PROCESSOR = 4;
+
 	/**
 	 * Used to resolve the group execution order for a validate call.
 	 */
@@ -104,6 +131,17 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final TraversableResolver traversableResolver;
 
+	/**
+	 * Whether {@link #traversableResolver} considers everything as reachable and cascadable.
+	 */
+	private final boolean traverseAll;
+
+	/**
+	 * The validation context builder shared by all the validation calls, {@code null} if the traversable resolver is
+	 * wrapped per validation call, in which case a new builder is created for each call.
+	 */
+	private final ValidationContextBuilder sharedValidationContextBuilder;
+
 	/**
 	 * Used to get access to the bean meta data. Used to avoid to parsing the constraint configuration for each call
 	 * of a given entity.
@@ -128,12 +166,23 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 
+	/**
+	 * Cache of the compiled validation plans, {@code null} if the compiled validation plans are disabled.
+	 */
+	private final ValidationPlanCache validationPlanCache;
+
+	/**
+	 * The listener receiving the events of the validation engine, {@code null} if none.
+	 */
+	private final ValidationListener validationListener;
+
 	public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 			BeanMetaDataManager beanMetaDataManager,
 			ValueExtractorManager valueExtractorManager,
 			ConstraintValidatorManager constraintValidatorManager,
 			ValidationOrderGenerator validationOrderGenerator,
-			ValidatorFactoryScopedContext validatorFactoryScopedContext) {
+			ValidatorFactoryScopedContext validatorFactoryScopedContext,
+			ValidationPlanCache validationPlanCache) {
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.beanMetaDataManager = beanMetaDataManager;
 		this.valueExtractorManager = valueExtractorManager;
@@ -142,6 +191,12 @@ public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 		this.validatorScopedContext = new ValidatorScopedContext( validatorFactoryScopedContext );
 		this.traversableResolver = validatorFactoryScopedContext.getTraversableResolver();
 		this.constraintValidatorInitializationContext = validatorFactoryScopedContext.getConstraintValidatorInitializationContext();
+		this.validationPlanCache = validationPlanCache;
+		this.validationListener = validatorScopedContext.getValidationListener();
+
+		this.traverseAll = TraversableResolvers.isTraverseAll( traversableResolver );
+		this.sharedValidationContextBuilder = TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver,
+				validatorScopedContext.isTraversableResolverResultCacheEnabled() ) == traversableResolver ? createValidationContextBuilder( traversableResolver ) : null;
 	}
 
 	@Override
@@ -157,9 +212,83 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 			return Collections.emptySet();
 		}
 
-		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( rootBeanClass, rootBeanMetaData, object );
+		return validate( object, rootBeanClass, rootBeanMetaData, determineGroupValidationOrder( groups ) );
+	}
+
+	@Override
+	public <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		sanityCheckGroups( groups );
+
+		Map<Integer, Set<ConstraintViolation<T>>> violationsByIndex = new TreeMap<>();
+		validateBatch( objects, 0, determineGroupValidationOrder( groups ), violationsByIndex );
+
+		return violationsByIndex;
+	}
+
+	@Override
+	public <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Stream<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+
+		// the stream is only read from so viewing it as a stream of T is safe
+		@SuppressWarnings("unchecked")
+		Stream<T> stream = (Stream<T>) objects;
+		Iterable<T> iterable = stream::iterator;
+		return validateAll( iterable, groups );
+	}
+
+	@Override
+	public <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Executor executor, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+		sanityCheckGroups( groups );
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+
+		List<CompletableFuture<Map<Integer, Set<ConstraintViolation<T>>>>> chunkResults = new ArrayList<>();
+		List<T> chunk = new ArrayList<>( BATCH_CHUNK_SIZE );
+		int chunkFirstIndex = 0;
+		Iterator<? extends T> objectIterator = objects.iterator();
+		while ( objectIterator.hasNext() ) {
+			chunk.add( objectIterator.next() );
+
+			if ( chunk.size() == BATCH_CHUNK_SIZE || !objectIterator.hasNext() ) {
+				List<T> currentChunk = chunk;
+				int currentChunkFirstIndex = chunkFirstIndex;
+				chunkResults.add( CompletableFuture.supplyAsync( () -> {
+					Map<Integer, Set<ConstraintViolation<T>>> chunkViolationsByIndex = new HashMap<>();
+					validateBatch( currentChunk, currentChunkFirstIndex, validationOrder, chunkViolationsByIndex );
+					return chunkViolationsByIndex;
+				}, executor ) );
+
+				chunkFirstIndex += chunk.size();
+				chunk = new ArrayList<>( BATCH_CHUNK_SIZE );
+			}
+		}
+
+		// the chunks are merged in order so that the first failure of the batch is the one reported
+		Map<Integer, Set<ConstraintViolation<T>>> violationsByIndex = new TreeMap<>();
+		for ( CompletableFuture<Map<Integer, Set<ConstraintViolation<T>>>> chunkResult : chunkResults ) {
+			try {
+				violationsByIndex.putAll( chunkResult.join() );
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof RuntimeException ) {
+					throw (RuntimeException) e.getCause();
+				}
+				if ( e.getCause() instanceof Error ) {
+					throw (Error) e.getCause();
+				}
+				throw e;
+			}
+		}
+
+		return violationsByIndex;
+	}
+
+	private <T> Set<ConstraintViolation<T>> validate(T object, Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, ValidationOrder validationOrder) {
+		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( rootBeanClass, rootBeanMetaData, object );
+
 		BeanValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForBean(
 				validatorScopedContext.getParameterNameProvider(),
 				object,
@@ -167,11 +296,103 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 				ModifiablePath.createRootPath()
 		);
 
-		return validateInContext( validationContext, valueContext, validationOrder );
+		long start = fireValidationStarted( rootBeanClass );
+		try {
+			return validateInContext( validationContext, valueContext, validationOrder );
+		}
+		finally {
+			fireValidationEnded( validationContext, start );
+		}
+	}
+
+	/**
+	 * Validates the given beans, the metadata being only looked up again when the type of the beans changes.
+	 *
+	 * @param objects the beans to validate
+	 * @param firstIndex the index of the first bean in the batch
+	 * @param validationOrder the group order, resolved once for the whole batch
+	 * @param violationsByIndex the map to which the violations of the invalid beans are added
+	 */
+	private <T> void validateBatch(Iterable<? extends T> objects, int firstIndex, ValidationOrder validationOrder,
+			Map<Integer, Set<ConstraintViolation<T>>> violationsByIndex) {
+		Class<T> currentBeanClass = null;
+		BeanMetaData<T> currentBeanMetaData = null;
+
+		int index = firstIndex;
+		for ( T object : objects ) {
+			Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+
+			if ( object.getClass() != currentBeanClass ) {
+				@SuppressWarnings("unchecked")
+				Class<T> beanClass = (Class<T>) object.getClass();
+				currentBeanClass = beanClass;
+				currentBeanMetaData = beanMetaDataManager.getBeanMetaData( beanClass );
+			}
+
+			if ( currentBeanMetaData.hasConstraints() ) {
+				Set<ConstraintViolation<T>> violations = validate( object, currentBeanClass, currentBeanMetaData, validationOrder );
+				if ( !violations.isEmpty() ) {
+					violationsByIndex.put( index, violations );
+				}
+			}
+
+			index++;
+		}
+	}
+
+	@Override
+	public <T> int validate(T object, ConstraintViolationSink<T> sink, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertNotNull( sink, MESSAGES.parameterMustNotBeNull( "sink" ) );
+		sanityCheckGroups( groups );
+
+		@SuppressWarnings("unchecked")
+		Class<T> rootBeanClass = (Class<T>) object.getClass();
+		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+
+		if ( !rootBeanMetaData.hasConstraints() ) {
+			return 0;
+		}
+
+		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( rootBeanClass, rootBeanMetaData, object );
+		validationContext.reportConstraintViolationsTo( sink );
+
+		BeanValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForBean(
+				validatorScopedContext.getParameterNameProvider(),
+				object,
+				validationContext.getRootBeanMetaData(),
+				ModifiablePath.createRootPath()
+		);
+
+		long start = fireValidationStarted( rootBeanClass );
+		try {
+			validateInContext( validationContext, valueContext, determineGroupValidationOrder( groups ) );
+		}
+		finally {
+			fireValidationEnded( validationContext, start );
+		}
+
+		return validationContext.getNumberOfFailingConstraints();
 	}
 
 	@Override
 	public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+		BaseBeanValidationContext<T> validationContext = doValidateProperty( object, propertyName, null, groups );
+		return validationContext != null ? validationContext.getFailingConstraints() : Collections.emptySet();
+	}
+
+	@Override
+	public <T> int validateProperty(T object, String propertyName, ConstraintViolationSink<T> sink, Class<?>... groups) {
+		Contracts.assertNotNull( sink, MESSAGES.parameterMustNotBeNull( "sink" ) );
+
+		BaseBeanValidationContext<T> validationContext = doValidateProperty( object, propertyName, sink, groups );
+		return validationContext != null ? validationContext.getNumberOfFailingConstraints() : 0;
+	}
+
+	/**
+	 * @return the context of the validation or {@code null} if the bean is not constrained
+	 */
+	private <T> BaseBeanValidationContext<T> doValidateProperty(T object, String propertyName, ConstraintViolationSink<T> sink, Class<?>[] groups) {
 		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
 		sanityCheckPropertyPath( propertyName );
 		sanityCheckGroups( groups );
@@ -181,12 +402,15 @@ public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String p
 		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
 
 		if ( !rootBeanMetaData.hasConstraints() ) {
-			return Collections.emptySet();
+			return null;
 		}
 
 		ModifiablePath propertyPath = ModifiablePath.createPathFromString( propertyName );
 		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidateProperty( rootBeanClass, rootBeanMetaData, object,
 				propertyPath );
+		if ( sink != null ) {
+			validationContext.reportConstraintViolationsTo( sink );
+		}
 
 		BeanValueContext<?, Object> valueContext = getValueContextForPropertyValidation( validationContext, propertyPath );
 
@@ -196,11 +420,36 @@ public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String p
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
-		return validateInContext( validationContext, valueContext, validationOrder );
+		long start = fireValidationStarted( rootBeanClass );
+		try {
+			validateInContext( validationContext, valueContext, validationOrder );
+		}
+		finally {
+			fireValidationEnded( validationContext, start );
+		}
+
+		return validationContext;
 	}
 
 	@Override
 	public final <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+		BaseBeanValidationContext<T> validationContext = doValidateValue( beanType, propertyName, value, null, groups );
+		return validationContext != null ? validationContext.getFailingConstraints() : Collections.emptySet();
+	}
+
+	@Override
+	public <T> int validateValue(Class<T> beanType, String propertyName, Object value, ConstraintViolationSink<T> sink, Class<?>... groups) {
+		Contracts.assertNotNull( sink, MESSAGES.parameterMustNotBeNull( "sink" ) );
+
+		BaseBeanValidationContext<T> validationContext = doValidateValue( beanType, propertyName, value, sink, groups );
+		return validationContext != null ? validationContext.getNumberOfFailingConstraints() : 0;
+	}
+
+	/**
+	 * @return the context of the validation or {@code null} if the bean type is not constrained
+	 */
+	private <T> BaseBeanValidationContext<T> doValidateValue(Class<T> beanType, String propertyName, Object value, ConstraintViolationSink<T> sink,
+			Class<?>[] groups) {
 		Contracts.assertNotNull( beanType, MESSAGES.beanTypeCannotBeNull() );
 		sanityCheckPropertyPath( propertyName );
 		sanityCheckGroups( groups );
@@ -208,20 +457,31 @@ public final <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, St
 		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( beanType );
 
 		if ( !rootBeanMetaData.hasConstraints() ) {
-			return Collections.emptySet();
+			return null;
 		}
 
 		ModifiablePath propertyPath = ModifiablePath.createPathFromString( propertyName );
 		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidateValue( beanType, rootBeanMetaData, propertyPath );
+		if ( sink != null ) {
+			validationContext.reportConstraintViolationsTo( sink );
+		}
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
-		return validateValueInContext(
-				validationContext,
-				value,
-				propertyPath,
-				validationOrder
-		);
+		long start = fireValidationStarted( beanType );
+		try {
+			validateValueInContext(
+					validationContext,
+					value,
+					propertyPath,
+					validationOrder
+			);
+		}
+		finally {
+			fireValidationEnded( validationContext, start );
+		}
+
+		return validationContext;
 	}
 
 	@Override
@@ -278,7 +538,13 @@ private <T> Set<ConstraintViolation<T>> validateParameters(T object, Executable
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
-		validateParametersInContext( validationContext, parameterValues, validationOrder );
+		long start = fireValidationStarted( rootBeanClass );
+		try {
+			validateParametersInContext( validationContext, parameterValues, validationOrder );
+		}
+		finally {
+			fireValidationEnded( validationContext, start );
+		}
 
 		return validationContext.getFailingConstraints();
 	}
@@ -304,7 +570,13 @@ private <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Executable
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
-		validateReturnValueInContext( validationContext, object, returnValue, validationOrder );
+		long start = fireValidationStarted( rootBeanClass );
+		try {
+			validateReturnValueInContext( validationContext, object, returnValue, validationOrder );
+		}
+		finally {
+			fireValidationEnded( validationContext, start );
+		}
 
 		return validationContext.getFailingConstraints();
 	}
@@ -319,7 +591,8 @@ public final <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types; intentionally not exposing the
 		//fact that ExecutableValidator is implemented by this class as well as this
 		//might change
-		if ( type.isAssignableFrom( Validator.class ) ) {
+		if ( type.isAssignableFrom( Validator.class ) || type.isAssignableFrom( BatchValidator.class )
+				|| type.isAssignableFrom( StreamingValidator.class ) ) {
 			return type.cast( this );
 		}
 
@@ -332,11 +605,21 @@ public ExecutableValidator forExecutables() {
 	}
 
 	private ValidationContextBuilder getValidationContextBuilder() {
+		if ( sharedValidationContextBuilder != null ) {
+			return sharedValidationContextBuilder;
+		}
+
+		return createValidationContextBuilder(
+				TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() )
+		);
+	}
+
+	private ValidationContextBuilder createValidationContextBuilder(TraversableResolver traversableResolver) {
 		return new ValidationContextBuilder(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
-				TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() ),
+				traversableResolver,
 				constraintValidatorInitializationContext
 		);
 	}
@@ -389,13 +672,15 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 			validationOrder.assertDefaultGroupSequenceIsExpandable( beanMetaData.getDefaultGroupSequence( valueContext.getCurrentBean() ) );
 		}
 
+		BeanValidationPlan beanValidationPlan = validationPlanCache != null ? validationPlanCache.getBeanValidationPlan( beanMetaData, beanMetaDataManager ) : null;
+
 		// process first single groups. For these we can optimise object traversal by first running all validations on the current bean
 		// before traversing the object.
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
 			valueContext.setCurrentGroup( group.getDefiningClass() );
-			validateConstraintsForCurrentGroup( validationContext, valueContext );
+			validateConstraintsForCurrentGroup( validationContext, valueContext, beanValidationPlan );
 			if ( shouldFailFast( validationContext ) ) {
 				return validationContext.getFailingConstraints();
 			}
@@ -404,7 +689,7 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
 			valueContext.setCurrentGroup( group.getDefiningClass() );
-			validateCascadedConstraints( validationContext, valueContext );
+			validateCascadedConstraints( validationContext, valueContext, beanValidationPlan );
 			if ( shouldFailFast( validationContext ) ) {
 				return validationContext.getFailingConstraints();
 			}
@@ -415,22 +700,22 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
 
-					validateConstraintsForCurrentGroup( validationContext, valueContext );
+					validateConstraintsForCurrentGroup( validationContext, valueContext, beanValidationPlan );
 					if ( shouldFailFast( validationContext ) ) {
 						return validationContext.getFailingConstraints();
 					}
 
-					validateCascadedConstraints( validationContext, valueContext );
+					validateCascadedConstraints( validationContext, valueContext, beanValidationPlan );
 					if ( shouldFailFast( validationContext ) ) {
 						return validationContext.getFailingConstraints();
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
@@ -438,6 +723,44 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 		return validationContext.getFailingConstraints();
 	}
 
+	private void validateConstraintsForCurrentGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> valueContext,
+			BeanValidationPlan beanValidationPlan) {
+		GroupValidationPlan groupValidationPlan = beanValidationPlan != null ? beanValidationPlan.getGroupValidationPlan( valueContext.getCurrentGroup() ) : null;
+		if ( groupValidationPlan != null ) {
+			validateConstraintsForGroupValidationPlan( validationContext, valueContext, groupValidationPlan );
+		}
+		else {
+			validateConstraintsForCurrentGroup( validationContext, valueContext );
+		}
+	}
+
+	/**
+	 * Validates the constraints of the current bean for the current group using a compiled plan. This is equivalent to
+	 * {@link #validateConstraintsForCurrentGroup(BaseBeanValidationContext, BeanValueContext)} except that the metadata
+	 * of the class hierarchy has already been resolved and filtered for the current group.
+	 */
+	private void validateConstraintsForGroupValidationPlan(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> valueContext,
+			GroupValidationPlan groupValidationPlan) {
+		Object bean = valueContext.getCurrentBean();
+
+		for ( GroupValidationPlan.Step step : groupValidationPlan.getSteps() ) {
+			if ( validationContext.isFailFastOnPropertyViolationModeEnabled() ) {
+				if ( validateMetaConstraints( validationContext, valueContext, bean, step.getPropertyMetaConstraints() ) ) {
+					validateMetaConstraints( validationContext, valueContext, bean, step.getClassMetaConstraints() );
+				}
+			}
+			else {
+				validateMetaConstraints( validationContext, valueContext, bean, step.getAllMetaConstraints() );
+			}
+
+			if ( shouldFailFast( validationContext ) ) {
+				break;
+			}
+		}
+
+		validationContext.markCurrentBeanAsProcessed( valueContext );
+	}
+
 	private void validateConstraintsForCurrentGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> valueContext) {
 		// we are not validating the default group there is nothing special to consider. If we are validating the default
 		// group sequence we have to consider that a class in the hierarchy could redefine the default group sequence.
@@ -451,7 +774,8 @@ private void validateConstraintsForCurrentGroup(BaseBeanValidationContext<?> val
 
 	private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<U, Object> valueContext) {
 		final BeanMetaData<U> beanMetaData = valueContext.getCurrentBeanMetaData();
-		final Map<Class<?>, Class<?>> validatedInterfaces = new HashMap<>();
+		// an interface implemented more than once can only be met if the hierarchy contains more than the bean class and Object
+		final Map<Class<?>, Class<?>> validatedInterfaces = beanMetaData.getClassHierarchy().size() > 2 ? new HashMap<>() : null;
 
 		// evaluating the constraints of a bean per class in hierarchy, this is necessary to detect potential default group re-definitions
 		for ( Class<? super U> clazz : beanMetaData.getClassHierarchy() ) {
@@ -532,7 +856,7 @@ private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanVali
 			// HV-466, an interface implemented more than one time in the hierarchy has to be validated only one
 			// time. An interface can define more than one constraint, we have to check the class we are validating.
 			final Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
-			if ( declaringClass.isInterface() ) {
+			if ( validatedInterfaces != null && declaringClass.isInterface() ) {
 				Class<?> validatedForClass = validatedInterfaces.get( declaringClass );
 				if ( validatedForClass != null && !validatedForClass.equals( clazz ) ) {
 					continue;
@@ -575,8 +899,23 @@ private boolean validateMetaConstraints(BaseBeanValidationContext<?> validationC
 		return validationSuccessful;
 	}
 
+	private boolean validateMetaConstraints(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Object parent,
+			MetaConstraint<?>[] constraints) {
+		boolean validationSuccessful = true;
+		for ( MetaConstraint<?> metaConstraint : constraints ) {
+			validationSuccessful = validateMetaConstraint( validationContext, valueContext, parent, metaConstraint ) && validationSuccessful;
+			if ( shouldFailFast( validationContext ) ) {
+				break;
+			}
+		}
+		return validationSuccessful;
+	}
+
 	private boolean validateMetaConstraint(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Object parent, MetaConstraint<?> metaConstraint) {
-		BeanValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
+		validationContext.checkValidationTimeout();
+
+		ModifiablePath originalPropertyPath = valueContext.getPropertyPath();
+		Object originalValue = valueContext.getCurrentValidatedValue();
 		valueContext.appendNode( metaConstraint.getLocation() );
 		boolean success = true;
 
@@ -586,13 +925,23 @@ private boolean validateMetaConstraint(BaseBeanValidationContext<?> validationCo
 				valueContext.setCurrentValidatedValue( valueContext.getValue( parent, metaConstraint.getLocation() ) );
 			}
 
-			success = metaConstraint.validateConstraint( validationContext, valueContext );
+			if ( validationListener == null ) {
+				success = metaConstraint.validateConstraint( validationContext, valueContext );
+			}
+			else {
+				long start = System.nanoTime();
+				success = metaConstraint.validateConstraint( validationContext, valueContext );
+				validationListener.constraintEvaluated( metaConstraint.getLocation().getDeclaringClass(), metaConstraint.getDescriptor(), success,
+						System.nanoTime() - start );
+			}
 
-			validationContext.markConstraintProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint );
+			if ( !metaConstraint.isDefinedForOneGroupOnly() ) {
+				validationContext.markConstraintProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), metaConstraint );
+			}
 		}
 
 		// reset the value context to the state before this call
-		valueContext.resetValueState( originalValueState );
+		valueContext.resetValueState( originalPropertyPath, originalValue );
 
 		return success;
 	}
@@ -609,36 +958,57 @@ private void validateCascadedConstraints(BaseBeanValidationContext<?> validation
 		BeanValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
 
 		for ( Cascadable cascadable : validatable.getCascadables() ) {
-			valueContext.appendNode( cascadable );
+			validateCascadable( validationContext, valueContext, cascadable, originalValueState );
+		}
+	}
 
-			if ( isCascadeRequired( validationContext, valueContext.getCurrentBean(), valueContext.getPropertyPath(),
-					cascadable.getConstraintLocationKind() ) ) {
-				Object value = getCascadableValue( validationContext, valueContext.getCurrentBean(), cascadable );
-				CascadingMetaData cascadingMetaData = cascadable.getCascadingMetaData();
+	private void validateCascadedConstraints(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext,
+			BeanValidationPlan beanValidationPlan) {
+		if ( beanValidationPlan == null ) {
+			validateCascadedConstraints( validationContext, valueContext );
+			return;
+		}
 
-				if ( value != null ) {
-					CascadingMetaData effectiveCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, value.getClass() );
+		BeanValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
 
-					// validate cascading on the annotated object
-					if ( effectiveCascadingMetaData.isCascading() ) {
-						validateCascadedAnnotatedObjectForCurrentGroup( value, validationContext, valueContext, effectiveCascadingMetaData );
-					}
+		for ( Cascadable cascadable : beanValidationPlan.getCascadables() ) {
+			validateCascadable( validationContext, valueContext, cascadable, originalValueState );
+		}
+	}
 
-					if ( effectiveCascadingMetaData.isContainer() ) {
-						ContainerCascadingMetaData containerCascadingMetaData = effectiveCascadingMetaData.as( ContainerCascadingMetaData.class );
+	private void validateCascadable(BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext, Cascadable cascadable,
+			BeanValueContext.ValueState<Object> originalValueState) {
+		validationContext.checkValidationTimeout();
 
-						if ( containerCascadingMetaData.hasContainerElementsMarkedForCascading() ) {
-							// validate cascading on the container elements
-							validateCascadedContainerElementsForCurrentGroup( value, validationContext, valueContext,
-									containerCascadingMetaData.getContainerElementTypesCascadingMetaData() );
-						}
+		valueContext.appendNode( cascadable );
+
+		if ( isCascadeRequired( validationContext, valueContext.getCurrentBean(), valueContext.getPropertyPath(),
+				cascadable.getConstraintLocationKind() ) ) {
+			Object value = getCascadableValue( validationContext, valueContext.getCurrentBean(), cascadable );
+			CascadingMetaData cascadingMetaData = cascadable.getCascadingMetaData();
+
+			if ( value != null ) {
+				CascadingMetaData effectiveCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, value.getClass() );
+
+				// validate cascading on the annotated object
+				if ( effectiveCascadingMetaData.isCascading() ) {
+					validateCascadedAnnotatedObjectForCurrentGroup( value, validationContext, valueContext, effectiveCascadingMetaData );
+				}
+
+				if ( effectiveCascadingMetaData.isContainer() ) {
+					ContainerCascadingMetaData containerCascadingMetaData = effectiveCascadingMetaData.as( ContainerCascadingMetaData.class );
+
+					if ( containerCascadingMetaData.hasContainerElementsMarkedForCascading() ) {
+						// validate cascading on the container elements
+						validateCascadedContainerElementsForCurrentGroup( value, validationContext, valueContext,
+								containerCascadingMetaData.getContainerElementTypesCascadingMetaData() );
 					}
 				}
 			}
-
-			// reset the value context
-			valueContext.resetValueState( originalValueState );
 		}
+
+		// reset the value context
+		valueContext.resetValueState( originalValueState );
 	}
 
 	private void validateCascadedAnnotatedObjectForCurrentGroup(Object value, BaseBeanValidationContext<?> validationContext, ValueContext<?, Object> valueContext,
@@ -660,7 +1030,7 @@ private void validateCascadedAnnotatedObjectForCurrentGroup(Object value, BaseBe
 
 		BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, value );
 
-		validateInContext( validationContext, cascadedValueContext, validationOrder );
+		validateCascadedBeanInContext( validationContext, cascadedValueContext, validationOrder );
 	}
 
 	private void validateCascadedContainerElementsForCurrentGroup(Object value, BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
@@ -670,22 +1040,187 @@ private void validateCascadedContainerElementsForCurrentGroup(Object value, Base
 				continue;
 			}
 
-			ValueExtractorDescriptor extractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
-					cascadingMetaData.getEnclosingType(),
-					cascadingMetaData.getTypeParameter(),
-					value.getClass(),
-					cascadingMetaData.getValueExtractorCandidates()
-			);
+			ValueExtractorDescriptor extractor = cascadingMetaData.getValueExtractor( valueExtractorManager, value.getClass() );
 
 			if ( extractor == null ) {
 				throw LOG.getNoValueExtractorFoundForTypeException( cascadingMetaData.getEnclosingType(), cascadingMetaData.getTypeParameter(), value.getClass() );
 			}
 
+			if ( isValidatedInParallel( validationContext, value ) ) {
+				validateCascadedContainerElementsInParallel( value, extractor, validationContext, valueContext, cascadingMetaData );
+				continue;
+			}
+
 			CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
 			ValueExtractorHelper.extractValues( extractor, value, receiver );
 		}
 	}
 
+	private boolean isValidatedInParallel(BaseBeanValidationContext<?> validationContext, Object container) {
+		int threshold = validatorScopedContext.getParallelCascadedValidationThreshold();
+		// the containers nested in the elements of a container validated in parallel are validated sequentially, so that
+		// the chunks never wait for each other
+		return threshold > 0 && !validationContext.isForked() && getContainerSize( container ) >= threshold;
+	}
+
+	private static int getContainerSize(Object container) {
+		if ( container instanceof Collection ) {
+			return ( (Collection<?>) container ).size();
+		}
+		if ( container instanceof Map ) {
+			return ( (Map<?, ?>) container ).size();
+		}
+		if ( container instanceof Object[] ) {
+			return ( (Object[]) container ).length;
+		}
+		return -1;
+	}
+
+	/**
+	 * Validates the elements of a large container in chunks validated concurrently, each chunk having its own forked
+	 * validation context. The first chunk is validated in the current thread.
+	 * <p>
+	 * The forked contexts are merged back in the order of the elements, so that the fail fast mode, the maximum number
+	 * of constraint violations and the constraint violation sinks behave as for a sequential validation: a chunk only
+	 * stops early when the chunks after it would not be merged anyway.
+	 */
+	private <T> void validateCascadedContainerElementsInParallel(Object value, ValueExtractorDescriptor extractor, BaseBeanValidationContext<T> validationContext,
+			ValueContext<?, ?> valueContext, ContainerCascadingMetaData cascadingMetaData) {
+		ContainerElementCollector collector = new ContainerElementCollector( getContainerSize( value ) );
+		ValueExtractorHelper.extractValues( extractor, value, collector );
+		List<Consumer<ValueExtractor.ValueReceiver>> elements = collector.elements;
+
+		int chunkCount = Math.min( elements.size(), PARALLEL_CASCADED_VALIDATION_CHUNKS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors() );
+		if ( chunkCount == 0 ) {
+			return;
+		}
+
+		// each chunk has its own copy of the value context and its own caching wrapper of the traversable resolver
+		List<BaseBeanValidationContext<T>> forkedContexts = new ArrayList<>( chunkCount );
+		List<ValueContext<?, ?>> chunkValueContexts = new ArrayList<>( chunkCount );
+		for ( int i = 0; i < chunkCount; i++ ) {
+			forkedContexts.add( validationContext.fork( TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver,
+					validatorScopedContext.isTraversableResolverResultCacheEnabled() ) ) );
+			chunkValueContexts.add( valueContext.copy() );
+		}
+
+		AtomicInteger lastMergedChunk = new AtomicInteger( chunkCount - 1 );
+		List<CompletableFuture<Void>> chunkResults = new ArrayList<>( chunkCount );
+		for ( int i = 1; i < chunkCount; i++ ) {
+			int chunkIndex = i;
+			chunkResults.add( CompletableFuture.runAsync( () -> validateContainerElementChunk(
+					elements.subList( chunkIndex * elements.size() / chunkCount, ( chunkIndex + 1 ) * elements.size() / chunkCount ),
+					chunkIndex, lastMergedChunk, forkedContexts.get( chunkIndex ), chunkValueContexts.get( chunkIndex ), cascadingMetaData
+			), validatorScopedContext.getParallelCascadedValidationExecutor() ) );
+		}
+
+		Throwable[] failures = new Throwable[chunkCount];
+		try {
+			validateContainerElementChunk( elements.subList( 0, elements.size() / chunkCount ), 0, lastMergedChunk, forkedContexts.get( 0 ),
+					chunkValueContexts.get( 0 ), cascadingMetaData );
+		}
+		catch (RuntimeException | Error e) {
+			failures[0] = e;
+		}
+
+		// the validation context must not be used before all the chunks are completed
+		for ( int i = 1; i < chunkCount; i++ ) {
+			try {
+				chunkResults.get( i - 1 ).join();
+			}
+			catch (CompletionException e) {
+				failures[i] = e.getCause();
+			}
+		}
+
+		for ( int i = 0; i < chunkCount; i++ ) {
+			if ( shouldFailFast( validationContext ) ) {
+				// a sequential validation would have stopped before this chunk
+				return;
+			}
+
+			Throwable failure = failures[i];
+			if ( failure instanceof ValidationTimeoutException ) {
+				// the exception reports the constraint violations found so far by the whole validation call
+				validationContext.join( forkedContexts.get( i ) );
+				validationContext.checkValidationTimeout();
+			}
+			if ( failure instanceof RuntimeException ) {
+				throw (RuntimeException) failure;
+			}
+			if ( failure instanceof Error ) {
+				throw (Error) failure;
+			}
+
+			validationContext.join( forkedContexts.get( i ) );
+		}
+	}
+
+	private void validateContainerElementChunk(List<Consumer<ValueExtractor.ValueReceiver>> chunk, int chunkIndex, AtomicInteger lastMergedChunk,
+			BaseBeanValidationContext<?> forkedContext, ValueContext<?, ?> chunkValueContext, ContainerCascadingMetaData cascadingMetaData) {
+		CascadingValueReceiver receiver = new CascadingValueReceiver( forkedContext, chunkValueContext, cascadingMetaData );
+		try {
+			for ( Consumer<ValueExtractor.ValueReceiver> element : chunk ) {
+				if ( chunkIndex > lastMergedChunk.get() ) {
+					// a previous chunk stopped the validation
+					return;
+				}
+
+				element.accept( receiver );
+
+				if ( shouldFailFast( forkedContext ) ) {
+					lastMergedChunk.accumulateAndGet( chunkIndex, Math::min );
+					return;
+				}
+			}
+		}
+		catch (RuntimeException | Error e) {
+			lastMergedChunk.accumulateAndGet( chunkIndex, Math::min );
+			throw e;
+		}
+	}
+
+	/**
+	 * Collects the non-null elements of a container, with what is needed to build their path, so that they can be
+	 * passed later on to a {@link CascadingValueReceiver}, possibly in another thread.
+	 */
+	private static class ContainerElementCollector implements ValueExtractor.ValueReceiver {
+
+		private final List<Consumer<ValueExtractor.ValueReceiver>> elements;
+
+		private ContainerElementCollector(int expectedSize) {
+			this.elements = new ArrayList<>( expectedSize );
+		}
+
+		@Override
+		public void value(String nodeName, Object value) {
+			if ( value != null ) {
+				elements.add( receiver -> receiver.value( nodeName, value ) );
+			}
+		}
+
+		@Override
+		public void iterableValue(String nodeName, Object value) {
+			if ( value != null ) {
+				elements.add( receiver -> receiver.iterableValue( nodeName, value ) );
+			}
+		}
+
+		@Override
+		public void indexedValue(String nodeName, int index, Object value) {
+			if ( value != null ) {
+				elements.add( receiver -> receiver.indexedValue( nodeName, index, value ) );
+			}
+		}
+
+		@Override
+		public void keyedValue(String nodeName, Object key, Object value) {
+			if ( value != null ) {
+				elements.add( receiver -> receiver.keyedValue( nodeName, key, value ) );
+			}
+		}
+	}
+
 	private class CascadingValueReceiver implements ValueExtractor.ValueReceiver {
 
 		private final BaseBeanValidationContext<?> validationContext;
@@ -722,6 +1257,8 @@ public void keyedValue(String nodeName, Object key, Object value) {
 		}
 
 		private void doValidate(Object value, String nodeName) {
+			validationContext.checkValidationTimeout();
+
 			// We need to convert the group before checking if the bean was processed or not
 			// as group defines the processed status.
 			Class<?> originalGroup = valueContext.getCurrentGroup();
@@ -746,7 +1283,7 @@ private void doValidate(Object value, String nodeName) {
 
 			// Cascade validation
 			if ( cascadingMetaData.isCascading() ) {
-				validateInContext( validationContext, cascadedValueContext, validationOrder );
+				validateCascadedBeanInContext( validationContext, cascadedValueContext, validationOrder );
 			}
 
 			// Cascade validation to container elements if we are dealing with a container element
@@ -780,7 +1317,7 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
@@ -791,7 +1328,7 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 						return;
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
@@ -839,7 +1376,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(BaseBeanValidatio
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfConstraintViolationsBefore = validationContext.getFailingConstraints().size();
+				int numberOfConstraintViolationsBefore = validationContext.getNumberOfFailingConstraints();
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
 					validateConstraintsForCurrentGroup( validationContext, valueContext );
@@ -847,7 +1384,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(BaseBeanValidatio
 						return validationContext.getFailingConstraints();
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfConstraintViolationsBefore ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfConstraintViolationsBefore ) {
 					break;
 				}
 			}
@@ -920,7 +1457,7 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					validateParametersForGroup( validationContext, executableMetaData, parameterValues, group );
@@ -936,7 +1473,7 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 					}
 				}
 
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
@@ -957,7 +1494,7 @@ private <T> void validateParametersForGroup(ExecutableValidationContext<T> valid
 
 			while ( defaultGroupSequence.hasNext() ) {
 				Sequence sequence = defaultGroupSequence.next();
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( GroupWithInheritance expandedGroup : sequence ) {
 					for ( Group defaultGroupSequenceElement : expandedGroup ) {
@@ -969,7 +1506,7 @@ private <T> void validateParametersForGroup(ExecutableValidationContext<T> valid
 					}
 
 					//stop processing after first group with errors occurred
-					if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+					if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 						return;
 					}
 				}
@@ -1097,7 +1634,7 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfFailingConstraintsBeforeGroup = validationContext.getFailingConstraints().size();
+				int numberOfFailingConstraintsBeforeGroup = validationContext.getNumberOfFailingConstraints();
 				for ( Group group : groupOfGroups ) {
 					validateReturnValueForGroup( validationContext, executableMetaData, bean, value, group );
 					if ( shouldFailFast( validationContext ) ) {
@@ -1114,7 +1651,7 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 					}
 				}
 
-				if ( validationContext.getFailingConstraints().size() > numberOfFailingConstraintsBeforeGroup ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfFailingConstraintsBeforeGroup ) {
 					break;
 				}
 			}
@@ -1137,7 +1674,7 @@ private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> valida
 
 			while ( defaultGroupSequence.hasNext() ) {
 				Sequence sequence = defaultGroupSequence.next();
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( GroupWithInheritance expandedGroup : sequence ) {
 					for ( Group defaultGroupSequenceElement : expandedGroup ) {
@@ -1149,7 +1686,7 @@ private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> valida
 					}
 
 					//stop processing after first group with errors occurred
-					if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+					if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 						return;
 					}
 				}
@@ -1311,7 +1848,9 @@ private boolean isValidationRequired(BaseBeanValidationContext<?> validationCont
 		if ( !validationContext.appliesTo( metaConstraint ) ) {
 			return false;
 		}
-		if ( validationContext.hasMetaConstraintBeenProcessed(
+		// the property path is only created when actually needed so we avoid requesting it for the constraints
+		// defined for one group only as they can't have been processed already
+		if ( !metaConstraint.isDefinedForOneGroupOnly() && validationContext.hasMetaConstraintBeenProcessed(
 				valueContext.getCurrentBean(),
 				valueContext.getPropertyPath(),
 				metaConstraint
@@ -1322,6 +1861,9 @@ private boolean isValidationRequired(BaseBeanValidationContext<?> validationCont
 		if ( !metaConstraint.getGroupList().contains( valueContext.getCurrentGroup() ) ) {
 			return false;
 		}
+		if ( traverseAll ) {
+			return true;
+		}
 		return isReachable(
 				validationContext,
 				valueContext.getCurrentBean(),
@@ -1332,7 +1874,7 @@ private boolean isValidationRequired(BaseBeanValidationContext<?> validationCont
 
 	private boolean isReachable(BaseBeanValidationContext<?> validationContext, Object traversableObject, ModifiablePath path,
 			ConstraintLocationKind constraintLocationKind) {
-		if ( needToCallTraversableResolver( path, constraintLocationKind ) ) {
+		if ( traverseAll || needToCallTraversableResolver( path, constraintLocationKind ) ) {
 			return true;
 		}
 
@@ -1364,7 +1906,7 @@ private boolean needToCallTraversableResolver(ModifiablePath path, ConstraintLoc
 
 	private boolean isCascadeRequired(BaseBeanValidationContext<?> validationContext, Object traversableObject, ModifiablePath path,
 			ConstraintLocationKind constraintLocationKind) {
-		if ( needToCallTraversableResolver( path, constraintLocationKind ) ) {
+		if ( traverseAll || needToCallTraversableResolver( path, constraintLocationKind ) ) {
 			return true;
 		}
 
@@ -1404,8 +1946,43 @@ private boolean isReturnValueValidation(ModifiablePath path) {
 		return path.getLeafNode().getKind() == ElementKind.RETURN_VALUE;
 	}
 
+	private void validateCascadedBeanInContext(BaseBeanValidationContext<?> validationContext, BeanValueContext<?, Object> cascadedValueContext,
+			ValidationOrder validationOrder) {
+		if ( validationListener == null ) {
+			validateInContext( validationContext, cascadedValueContext, validationOrder );
+			return;
+		}
+
+		Class<?> cascadedBeanClass = cascadedValueContext.getCurrentBeanMetaData().getBeanClass();
+		validationListener.cascadeEntered( cascadedBeanClass );
+		long start = System.nanoTime();
+		try {
+			validateInContext( validationContext, cascadedValueContext, validationOrder );
+		}
+		finally {
+			validationListener.cascadeExited( cascadedBeanClass, System.nanoTime() - start );
+		}
+	}
+
+	private long fireValidationStarted(Class<?> rootBeanClass) {
+		if ( validationListener == null ) {
+			return 0L;
+		}
+
+		validationListener.validationStarted( rootBeanClass );
+		return System.nanoTime();
+	}
+
+	private void fireValidationEnded(BaseBeanValidationContext<?> validationContext, long start) {
+		if ( validationListener != null ) {
+			validationListener.validationEnded( validationContext.getRootBeanClass(), validationContext.getNumberOfFailingConstraints(),
+					System.nanoTime() - start );
+		}
+	}
+
 	private boolean shouldFailFast(BaseBeanValidationContext<?> validationContext) {
-		return validationContext.isFailFastModeEnabled() && !validationContext.getFailingConstraints().isEmpty();
+		return validationContext.isValidationCancelled()
+				|| validationContext.isFailFastModeEnabled() && validationContext.getNumberOfFailingConstraints() > 0;
 	}
 
 	private PropertyMetaData getBeanPropertyMetaData(BeanMetaData<?> beanMetaData, Path.Node propertyNode) {
@@ -107,7 +107,7 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 
 			// create a constraint validator context
 			ConstraintValidatorContextImpl constraintValidatorContext = validationContext.createConstraintValidatorContextFor(
-					descriptor, valueContext.getPropertyPath()
+					descriptor, valueContext
 			);
 
 			// validate
@@ -185,7 +185,7 @@ private void prepareFinalConstraintViolations(ValidationContext<?> validationCon
 			if ( localConstraintValidatorContext == null ) {
 				violatedConstraintValidatorContexts.add(
 						validationContext.createConstraintValidatorContextFor(
-								descriptor, valueContext.getPropertyPath()
+								descriptor, valueContext
 						)
 				);
 			}
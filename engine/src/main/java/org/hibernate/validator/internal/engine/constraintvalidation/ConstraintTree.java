@@ -100,7 +100,32 @@ private ValidationException getExceptionForNullValidator(Type validatedValueType
 		}
 	}
 
+	/**
+	 * Returns the initialized constraint validator to use to validate the elements of a container in bulk.
+	 *
+	 * @return the constraint validator or {@code null} if the elements have to be validated one by one, which is always
+	 * the case for composing constraints
+	 * @see org.hibernate.validator.internal.engine.valueextraction.BulkValueExtractor
+	 */
+	public ConstraintValidator<A, ?> getConstraintValidatorForBulkValidation(ValidationContext<?> validationContext) {
+		return null;
+	}
+
 	protected final ConstraintValidator<A, ?> getInitializedConstraintValidator(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+		ConstraintValidator<A, ?> validator = resolveInitializedConstraintValidator( validationContext );
+
+		if ( validator == null ) {
+			throw getExceptionForNullValidator( validatedValueType, valueContext.getPropertyPath().asString() );
+		}
+
+		return validator;
+	}
+
+	/**
+	 * @return the initialized constraint validator or {@code null} if there is no constraint validator for the
+	 * validated value type
+	 */
+	protected final ConstraintValidator<A, ?> resolveInitializedConstraintValidator(ValidationContext<?> validationContext) {
 		ConstraintValidator<A, ?> validator;
 
 		if ( validationContext.getConstraintValidatorManager().isPredefinedScope() ) {
@@ -141,10 +166,6 @@ private ValidationException getExceptionForNullValidator(Type validatedValueType
 			}
 		}
 
-		if ( validator == null ) {
-			throw getExceptionForNullValidator( validatedValueType, valueContext.getPropertyPath().asString() );
-		}
-
 		return validator;
 	}
 
@@ -29,6 +29,7 @@
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintViolationBuilder;
 import org.hibernate.validator.internal.engine.path.ModifiablePath;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -49,8 +50,9 @@ public class ConstraintValidatorContextImpl implements HibernateConstraintValida
 	private final ClockProvider clockProvider;
 	private final ExpressionLanguageFeatureLevel defaultConstraintExpressionLanguageFeatureLevel;
 	private final ExpressionLanguageFeatureLevel defaultCustomViolationExpressionLanguageFeatureLevel;
-	private final ModifiablePath basePath;
-	private final ConstraintDescriptor<?> constraintDescriptor;
+	private ModifiablePath basePath;
+	private ValueContext<?, ?> valueContext;
+	private ConstraintDescriptor<?> constraintDescriptor;
 	private List<ConstraintViolationCreationContext> constraintViolationCreationContexts;
 	private boolean defaultDisabled;
 	private Object dynamicPayload;
@@ -71,6 +73,37 @@ public ConstraintValidatorContextImpl(
 		this.constraintValidatorPayload = constraintValidatorPayload;
 	}
 
+	/**
+	 * Creates a context whose base path is only resolved from the given value context when a violation is reported,
+	 * thus avoiding to create the path when the constraint is satisfied.
+	 */
+	public ConstraintValidatorContextImpl(
+			ClockProvider clockProvider,
+			ValueContext<?, ?> valueContext,
+			ConstraintDescriptor<?> constraintDescriptor,
+			Object constraintValidatorPayload,
+			ExpressionLanguageFeatureLevel defaultConstraintExpressionLanguageFeatureLevel,
+			ExpressionLanguageFeatureLevel defaultCustomViolationExpressionLanguageFeatureLevel) {
+		this( clockProvider, (ModifiablePath) null, constraintDescriptor, constraintValidatorPayload, defaultConstraintExpressionLanguageFeatureLevel,
+				defaultCustomViolationExpressionLanguageFeatureLevel );
+		this.valueContext = valueContext;
+	}
+
+	/**
+	 * Prepares this context for the validation of another constraint. Must only be called once the context is not
+	 * referenced anymore, i.e. after the previous constraint has been successfully validated.
+	 */
+	public final void reset(ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext) {
+		this.constraintDescriptor = constraintDescriptor;
+		this.valueContext = valueContext;
+		this.basePath = null;
+		this.messageParameters = null;
+		this.expressionVariables = null;
+		this.constraintViolationCreationContexts = null;
+		this.defaultDisabled = false;
+		this.dynamicPayload = null;
+	}
+
 	@Override
 	public final void disableDefaultConstraintViolation() {
 		defaultDisabled = true;
@@ -169,7 +202,14 @@ public final List<ConstraintViolationCreationContext> getConstraintViolationCrea
 	}
 
 	protected final ModifiablePath getCopyOfBasePath() {
-		return ModifiablePath.createCopy( basePath );
+		return ModifiablePath.createCopy( getBasePath() );
+	}
+
+	private ModifiablePath getBasePath() {
+		if ( basePath == null ) {
+			basePath = valueContext.getPropertyPath();
+		}
+		return basePath;
 	}
 
 	private ConstraintViolationCreationContext getDefaultConstraintViolationCreationContext() {
@@ -177,7 +217,7 @@ private ConstraintViolationCreationContext getDefaultConstraintViolationCreation
 				getDefaultConstraintMessageTemplate(),
 				defaultConstraintExpressionLanguageFeatureLevel,
 				false,
-				basePath,
+				getBasePath(),
 				messageParameters != null ? new HashMap<>( messageParameters ) : Collections.emptyMap(),
 				expressionVariables != null ? new HashMap<>( expressionVariables ) : Collections.emptyMap(),
 				dynamicPayload
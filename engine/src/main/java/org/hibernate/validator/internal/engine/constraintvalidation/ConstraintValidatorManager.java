@@ -11,6 +11,7 @@
 import jakarta.validation.ConstraintValidatorFactory;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.CacheStatistics;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 
 /**
@@ -38,6 +39,12 @@ public interface ConstraintValidatorManager {
 
 	void clear();
 
+	/**
+	 * @return the current statistics of the constraint validator cache, {@code null} if the constraint validators
+	 * are not cached by this manager
+	 */
+	CacheStatistics getCacheStatistics();
+
 	ConstraintValidatorFactory getDefaultConstraintValidatorFactory();
 
 	HibernateConstraintValidatorInitializationContext getDefaultConstraintValidatorInitializationContext();
@@ -18,6 +18,9 @@
 import jakarta.validation.constraints.Null;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
+import org.hibernate.validator.internal.engine.statistics.CacheCounters;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
@@ -68,6 +71,8 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	 */
 	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
 
+	private final CacheCounters cacheCounters = new CacheCounters();
+
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
 	 *
@@ -112,10 +117,12 @@ public boolean isPredefinedScope() {
 		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) constraintValidatorCache.get( key );
 
 		if ( constraintValidator == null ) {
+			cacheCounters.recordMiss();
 			constraintValidator = createAndInitializeValidator( validatedValueType, descriptor, constraintValidatorFactory, initializationContext );
 			constraintValidator = cacheValidator( key, constraintValidator );
 		}
 		else {
+			cacheCounters.recordHit();
 			LOG.tracef( "Constraint validator %s found in cache.", constraintValidator );
 		}
 
@@ -143,8 +150,12 @@ public boolean isPredefinedScope() {
 		@SuppressWarnings("unchecked")
 		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) constraintValidatorCache.putIfAbsent( key,
 				constraintValidator != null ? constraintValidator : DUMMY_CONSTRAINT_VALIDATOR );
+		if ( cached != null ) {
+			return cached;
+		}
 
-		return cached != null ? cached : constraintValidator;
+		cacheCounters.recordInsertion();
+		return constraintValidator;
 	}
 
 	private void clearEntries(ConstraintValidatorFactory constraintValidatorFactory, HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
@@ -168,6 +179,11 @@ public void clear() {
 		constraintValidatorCache.clear();
 	}
 
+	@Override
+	public CacheStatistics getCacheStatistics() {
+		return cacheCounters.toCacheStatistics( ValidatorFactoryStatistics.CONSTRAINT_VALIDATOR_CACHE, constraintValidatorCache.size() );
+	}
+
 	public int numberOfCachedConstraintValidatorInstances() {
 		return constraintValidatorCache.size();
 	}
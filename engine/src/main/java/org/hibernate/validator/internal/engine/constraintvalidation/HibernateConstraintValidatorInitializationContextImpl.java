@@ -9,6 +9,8 @@
 import jakarta.validation.ClockProvider;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.regex.CompiledRegexCache;
+import org.hibernate.validator.spi.regex.CompiledRegex;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -23,13 +25,16 @@ public class HibernateConstraintValidatorInitializationContextImpl implements Hi
 
 	private final Duration temporalValidationTolerance;
 
+	private final CompiledRegexCache compiledRegexCache;
+
 	private final int hashCode;
 
 	public HibernateConstraintValidatorInitializationContextImpl(ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider,
-			Duration temporalValidationTolerance) {
+			Duration temporalValidationTolerance, CompiledRegexCache compiledRegexCache) {
 		this.scriptEvaluatorFactory = scriptEvaluatorFactory;
 		this.clockProvider = clockProvider;
 		this.temporalValidationTolerance = temporalValidationTolerance;
+		this.compiledRegexCache = compiledRegexCache;
 		this.hashCode = createHashCode();
 	}
 
@@ -41,7 +46,8 @@ public static HibernateConstraintValidatorInitializationContextImpl of(Hibernate
 			return defaultContext;
 		}
 
-		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance );
+		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance,
+				defaultContext.compiledRegexCache );
 	}
 
 	@Override
@@ -59,6 +65,11 @@ public Duration getTemporalValidationTolerance() {
 		return temporalValidationTolerance;
 	}
 
+	@Override
+	public CompiledRegex getCompiledRegex(String regexp, int flags) {
+		return compiledRegexCache.getCompiledRegex( regexp, flags );
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -79,6 +90,9 @@ public boolean equals(Object o) {
 		if ( !temporalValidationTolerance.equals( hibernateConstraintValidatorInitializationContextImpl.temporalValidationTolerance ) ) {
 			return false;
 		}
+		if ( compiledRegexCache != hibernateConstraintValidatorInitializationContextImpl.compiledRegexCache ) {
+			return false;
+		}
 		return true;
 	}
 
@@ -91,6 +105,7 @@ private int createHashCode() {
 		int result = System.identityHashCode( scriptEvaluatorFactory );
 		result = 31 * result + System.identityHashCode( clockProvider );
 		result = 31 * result + temporalValidationTolerance.hashCode();
+		result = 31 * result + System.identityHashCode( compiledRegexCache );
 		return result;
 	}
 }
@@ -11,6 +11,7 @@
 import jakarta.validation.ConstraintValidatorFactory;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.CacheStatistics;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.util.Contracts;
 
@@ -66,4 +67,10 @@ public boolean isPredefinedScope() {
 	@Override
 	public void clear() {
 	}
+
+	@Override
+	public CacheStatistics getCacheStatistics() {
+		// the constraint validators are created once per constraint when the bean metadata is built
+		return null;
+	}
 }
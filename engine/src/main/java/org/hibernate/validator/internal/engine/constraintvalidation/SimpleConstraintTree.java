@@ -35,6 +35,11 @@ public SimpleConstraintTree(ConstraintValidatorManager constraintValidatorManage
 		super( constraintValidatorManager, descriptor, validatedValueType );
 	}
 
+	@Override
+	public ConstraintValidator<B, ?> getConstraintValidatorForBulkValidation(ValidationContext<?> validationContext) {
+		return resolveInitializedConstraintValidator( validationContext );
+	}
+
 	@Override
 	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
 		ConstraintValidatorContextImpl constraintValidatorContext = doValidateConstraints( validationContext, valueContext );
@@ -84,10 +89,15 @@ private ConstraintValidatorContextImpl doValidateConstraints(
 
 		// create a constraint validator context
 		ConstraintValidatorContextImpl constraintValidatorContext = validationContext.createConstraintValidatorContextFor(
-				descriptor, valueContext.getPropertyPath()
+				descriptor, valueContext
 		);
 
 		// validate
-		return validateSingleConstraint( valueContext, constraintValidatorContext, validator );
+		ConstraintValidatorContextImpl violatedConstraintValidatorContext = validateSingleConstraint( valueContext, constraintValidatorContext, validator );
+		if ( violatedConstraintValidatorContext == null ) {
+			// the context is not referenced anymore so it can be reused for the next constraint
+			validationContext.releaseConstraintValidatorContext( constraintValidatorContext );
+		}
+		return violatedConstraintValidatorContext;
 	}
 }
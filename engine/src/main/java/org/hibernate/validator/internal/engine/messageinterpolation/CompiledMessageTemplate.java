@@ -0,0 +1,340 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.BEGIN_TERM;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.EL_DESIGNATOR;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.END_TERM;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.ESCAPE_CHARACTER;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * A message template resolved from the resource bundles for a given locale and parsed once into literal segments,
+ * message parameter slots and Expression Language slots.
+ * <p>
+ * The message parameters are replaced first, then the Expression Language expressions are evaluated on the result.
+ * As the values of the message parameters might contain meta characters or might be part of an Expression Language
+ * expression, the template can only be interpolated in a single pass if the values of the replaced message parameters
+ * do not change the structure of the message. Otherwise, the message resulting from the replacement of the message
+ * parameters needs to be parsed again for the Expression Language expressions.
+ */
+public final class CompiledMessageTemplate {
+
+	private static final int LITERAL = -1;
+	private static final int EL_EXPRESSION = -2;
+
+	private final String resolvedMessage;
+
+	/**
+	 * The message parameter terms, in order of appearance.
+	 */
+	@Immutable
+	private final String[] parameterTerms;
+
+	/**
+	 * The segments used when only the message parameters are interpolated.
+	 */
+	@Immutable
+	private final String[] parameterSegments;
+
+	/**
+	 * For each parameter segment, the index of the message parameter or {@link #LITERAL}.
+	 */
+	@Immutable
+	private final int[] parameterSlots;
+
+	/**
+	 * The segments used when both the message parameters and the Expression Language expressions are interpolated,
+	 * {@code null} if the Expression Language expressions cannot be determined statically.
+	 */
+	@Immutable
+	private final String[] segments;
+
+	/**
+	 * For each segment, the index of the message parameter, {@link #LITERAL} or {@link #EL_EXPRESSION}.
+	 */
+	@Immutable
+	private final int[] slots;
+
+	/**
+	 * For each message parameter, whether it is part of an Expression Language expression.
+	 */
+	@Immutable
+	private final boolean[] parameterInElExpression;
+
+	private final boolean containsElDesignator;
+
+	private CompiledMessageTemplate(String resolvedMessage, String[] parameterTerms, String[] parameterSegments, int[] parameterSlots,
+			String[] segments, int[] slots, boolean[] parameterInElExpression) {
+		this.resolvedMessage = resolvedMessage;
+		this.parameterTerms = parameterTerms;
+		this.parameterSegments = parameterSegments;
+		this.parameterSlots = parameterSlots;
+		this.segments = segments;
+		this.slots = slots;
+		this.parameterInElExpression = parameterInElExpression;
+		this.containsElDesignator = resolvedMessage.indexOf( EL_DESIGNATOR ) >= 0;
+	}
+
+	/**
+	 * Parses the given message, already resolved from the resource bundles.
+	 *
+	 * @param resolvedMessage the resolved message
+	 * @return the compiled template
+	 * @throws MessageDescriptorFormatException if the message parameters cannot be parsed
+	 */
+	public static CompiledMessageTemplate compile(String resolvedMessage) throws MessageDescriptorFormatException {
+		if ( resolvedMessage.indexOf( BEGIN_TERM ) < 0 ) {
+			String[] literal = new String[] { resolvedMessage };
+			int[] literalSlot = new int[] { LITERAL };
+			return new CompiledMessageTemplate( resolvedMessage, new String[0], literal, literalSlot, literal, literalSlot, new boolean[0] );
+		}
+
+		List<Token> parameterTokens = new TokenCollector( resolvedMessage, InterpolationTermType.PARAMETER ).getTokenList();
+
+		String[] parameterSegments = new String[parameterTokens.size()];
+		int[] parameterSlots = new int[parameterTokens.size()];
+		int[] parameterStarts = new int[parameterTokens.size()];
+		int parameterCount = 0;
+		int position = 0;
+		for ( int i = 0; i < parameterTokens.size(); i++ ) {
+			Token token = parameterTokens.get( i );
+			parameterSegments[i] = token.getTokenValue();
+			if ( token.isParameter() ) {
+				parameterStarts[parameterCount] = position;
+				parameterSlots[i] = parameterCount++;
+			}
+			else {
+				parameterSlots[i] = LITERAL;
+			}
+			// the tokens of the message parameters are not altered, so we can rely on their length
+			position += parameterSegments[i].length();
+		}
+
+		String[] parameterTerms = new String[parameterCount];
+		for ( int i = 0; i < parameterSegments.length; i++ ) {
+			if ( parameterSlots[i] != LITERAL ) {
+				parameterTerms[parameterSlots[i]] = parameterSegments[i];
+			}
+		}
+
+		boolean[] parameterInElExpression = new boolean[parameterCount];
+		String[] segments = null;
+		int[] slots = null;
+		if ( resolvedMessage.indexOf( EL_DESIGNATOR ) < 0 ) {
+			// without EL designator, there are no Expression Language expressions
+			segments = parameterSegments;
+			slots = parameterSlots;
+		}
+		else {
+			try {
+				List<Token> elTokens = new TokenCollector( resolvedMessage, InterpolationTermType.EL ).getTokenList();
+				segments = new String[elTokens.size()];
+				slots = new int[elTokens.size()];
+				if ( !mergeElTokens( resolvedMessage, elTokens, parameterTerms, parameterStarts, segments, slots, parameterInElExpression ) ) {
+					segments = null;
+					slots = null;
+				}
+			}
+			catch (MessageDescriptorFormatException e) {
+				// the message will be parsed again when interpolating it, reporting the error
+				segments = null;
+				slots = null;
+			}
+		}
+
+		return new CompiledMessageTemplate( resolvedMessage, parameterTerms, parameterSegments, parameterSlots, segments, slots, parameterInElExpression );
+	}
+
+	public String getResolvedMessage() {
+		return resolvedMessage;
+	}
+
+	/**
+	 * @return whether the resolved message contains interpolation terms, i.e. if the message parameters and the
+	 * Expression Language expressions need to be interpolated
+	 */
+	public boolean hasInterpolationTerms() {
+		return resolvedMessage.indexOf( BEGIN_TERM ) >= 0;
+	}
+
+	/**
+	 * Resolves the values of the message parameters.
+	 *
+	 * @param termInterpolator interpolates the given term
+	 * @return the values of the message parameters, in order of appearance
+	 */
+	public String[] interpolateParameters(UnaryOperator<String> termInterpolator) {
+		if ( parameterTerms.length == 0 ) {
+			return parameterTerms;
+		}
+
+		String[] parameterValues = new String[parameterTerms.length];
+		for ( int i = 0; i < parameterTerms.length; i++ ) {
+			parameterValues[i] = termInterpolator.apply( parameterTerms[i] );
+		}
+		return parameterValues;
+	}
+
+	/**
+	 * Appends the message with the message parameters replaced by the given values.
+	 *
+	 * @param messageBuilder the builder to append the message to
+	 * @param parameterValues the values of the message parameters
+	 */
+	public void appendWithParameters(StringBuilder messageBuilder, String[] parameterValues) {
+		for ( int i = 0; i < parameterSegments.length; i++ ) {
+			int slot = parameterSlots[i];
+			messageBuilder.append( slot == LITERAL ? parameterSegments[i] : parameterValues[slot] );
+		}
+	}
+
+	/**
+	 * @param parameterValues the values of the message parameters
+	 * @return whether the Expression Language expressions need to be evaluated once the message parameters have been
+	 * replaced by the given values
+	 */
+	public boolean mayContainElExpressions(String[] parameterValues) {
+		if ( containsElDesignator ) {
+			return true;
+		}
+		for ( int i = 0; i < parameterValues.length; i++ ) {
+			if ( isReplaced( i, parameterValues ) && containsMetaCharacters( parameterValues[i] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param parameterValues the values of the message parameters
+	 * @return whether the message can be interpolated in a single pass with the given values for the message
+	 * parameters, i.e. if the values do not change the Expression Language expressions of the message
+	 */
+	public boolean canAppendInSinglePass(String[] parameterValues) {
+		if ( segments == null ) {
+			return false;
+		}
+		for ( int i = 0; i < parameterValues.length; i++ ) {
+			if ( isReplaced( i, parameterValues ) && ( parameterInElExpression[i] || containsMetaCharacters( parameterValues[i] ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Appends the message with the message parameters replaced by the given values and the Expression Language
+	 * expressions evaluated, in a single pass.
+	 * <p>
+	 * Must only be called if {@link #canAppendInSinglePass(String[])} returns {@code true} for the given values.
+	 *
+	 * @param messageBuilder the builder to append the message to
+	 * @param parameterValues the values of the message parameters
+	 * @param termInterpolator interpolates the given Expression Language expression
+	 */
+	public void append(StringBuilder messageBuilder, String[] parameterValues, UnaryOperator<String> termInterpolator) {
+		for ( int i = 0; i < segments.length; i++ ) {
+			int slot = slots[i];
+			if ( slot == LITERAL ) {
+				messageBuilder.append( segments[i] );
+			}
+			else if ( slot == EL_EXPRESSION ) {
+				messageBuilder.append( termInterpolator.apply( segments[i] ) );
+			}
+			else {
+				messageBuilder.append( parameterValues[slot] );
+			}
+		}
+	}
+
+	private boolean isReplaced(int parameterIndex, String[] parameterValues) {
+		return !parameterTerms[parameterIndex].equals( parameterValues[parameterIndex] );
+	}
+
+	private static boolean containsMetaCharacters(String value) {
+		if ( value == null ) {
+			return false;
+		}
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c == BEGIN_TERM || c == END_TERM || c == EL_DESIGNATOR || c == ESCAPE_CHARACTER ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Merges the tokens of the Expression Language expressions with the message parameters. A message parameter is
+	 * either a token of its own or is part of an Expression Language expression.
+	 *
+	 * @return {@code false} if the tokens cannot be merged
+	 */
+	private static boolean mergeElTokens(String resolvedMessage, List<Token> elTokens, String[] parameterTerms, int[] parameterStarts,
+			String[] segments, int[] slots, boolean[] parameterInElExpression) {
+		int position = 0;
+		int parameterIndex = 0;
+		for ( int i = 0; i < elTokens.size(); i++ ) {
+			Token token = elTokens.get( i );
+			int end;
+			if ( token.isParameter() ) {
+				// the value of the token might have been unescaped so we look for its end in the message
+				end = findElExpressionEnd( resolvedMessage, position );
+				if ( end < 0 ) {
+					return false;
+				}
+				while ( parameterIndex < parameterTerms.length && parameterStarts[parameterIndex] < end ) {
+					if ( parameterStarts[parameterIndex] < position ) {
+						return false;
+					}
+					parameterInElExpression[parameterIndex++] = true;
+				}
+				segments[i] = token.getTokenValue();
+				slots[i] = EL_EXPRESSION;
+			}
+			else {
+				end = position + token.getTokenValue().length();
+				segments[i] = token.getTokenValue();
+				slots[i] = LITERAL;
+				if ( parameterIndex < parameterTerms.length && parameterStarts[parameterIndex] < end ) {
+					if ( parameterStarts[parameterIndex] != position || !parameterTerms[parameterIndex].equals( segments[i] ) ) {
+						return false;
+					}
+					slots[i] = parameterIndex++;
+				}
+			}
+			position = end;
+		}
+		return position == resolvedMessage.length() && parameterIndex == parameterTerms.length;
+	}
+
+	private static int findElExpressionEnd(String message, int start) {
+		if ( start + 1 >= message.length() || message.charAt( start ) != EL_DESIGNATOR || message.charAt( start + 1 ) != BEGIN_TERM ) {
+			return -1;
+		}
+		int i = start + 2;
+		while ( i < message.length() ) {
+			char c = message.charAt( i );
+			if ( c == ESCAPE_CHARACTER ) {
+				// skip the escaped character
+				i += 2;
+				continue;
+			}
+			if ( c == END_TERM ) {
+				return i + 1;
+			}
+			i++;
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+
+/**
+ * Key of the cache of the parsed EL expressions.
+ */
+public class ElExpressionKey {
+	private final String expression;
+	private final ExpressionLanguageFeatureLevel featureLevel;
+	private final int hashCode;
+
+	public ElExpressionKey(String expression, ExpressionLanguageFeatureLevel featureLevel) {
+		this.expression = expression;
+		this.featureLevel = featureLevel;
+		this.hashCode = buildHashCode();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		ElExpressionKey that = (ElExpressionKey) o;
+
+		if ( !expression.equals( that.expression ) ) {
+			return false;
+		}
+		if ( featureLevel != that.featureLevel ) {
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	private int buildHashCode() {
+		int result = expression.hashCode();
+		result = 31 * result + featureLevel.hashCode();
+		return result;
+	}
+}
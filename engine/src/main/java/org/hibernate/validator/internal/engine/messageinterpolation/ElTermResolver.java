@@ -6,7 +6,6 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
-import java.util.Map;
 
 import jakarta.el.ELContext;
 import jakarta.el.ELException;
@@ -18,11 +17,13 @@
 
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanMethodsELContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanPropertiesElContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.BoundVariables;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.DisabledFeatureELException;
-import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.VariablesELContext;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
 
 /**
@@ -36,11 +37,6 @@ public class ElTermResolver implements TermResolver {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	/**
-	 * Name under which the currently validate value is bound to the EL context.
-	 */
-	private static final String VALIDATED_VALUE_NAME = "validatedValue";
-
 	/**
 	 * The locale for which to interpolate the expression.
 	 */
@@ -51,6 +47,16 @@ public class ElTermResolver implements TermResolver {
 	 */
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * Cache of the parsed expressions, might be {@code null}.
+	 */
+	private final BoundedConcurrentCache<ElExpressionKey, ValueExpression> valueExpressions;
+
+	/**
+	 * Cache of the expressions parsed by the built-in evaluator, might be {@code null}.
+	 */
+	private final BoundedConcurrentCache<String, SimpleExpression> simpleExpressions;
+
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
@@ -58,18 +64,56 @@ public class ElTermResolver implements TermResolver {
 	 * @param expressionFactory the expression factory.
 	 */
 	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory) {
+		this( locale, expressionFactory, null, null );
+	}
+
+	/**
+	 * Construct the resolver.
+	 * @param locale the locale.
+	 * @param expressionFactory the expression factory.
+	 * @param valueExpressions the cache of the expressions parsed by the expression factory, {@code null} to parse the
+	 * expression on each call.
+	 * @param simpleExpressions the cache of the expressions parsed by the built-in evaluator, {@code null} to parse the
+	 * expression on each call.
+	 */
+	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory,
+			BoundedConcurrentCache<ElExpressionKey, ValueExpression> valueExpressions,
+			BoundedConcurrentCache<String, SimpleExpression> simpleExpressions) {
 		this.locale = locale;
 		this.expressionFactory = expressionFactory;
+		this.valueExpressions = valueExpressions;
+		this.simpleExpressions = simpleExpressions;
 	}
 
 	@Override
 	public String interpolate(MessageInterpolator.Context context, String expression) {
+		ExpressionLanguageFeatureLevel featureLevel = getExpressionLanguageFeatureLevel( context );
+		BoundVariables variables = bindContextValues( context );
+
+		// the built-in evaluator only supports variables and formatter calls, which are allowed by all the feature
+		// levels enabling Expression Language
+		if ( featureLevel != ExpressionLanguageFeatureLevel.NONE && featureLevel != ExpressionLanguageFeatureLevel.DEFAULT ) {
+			SimpleExpression simpleExpression = getSimpleExpression( expression );
+			// the expression and the values are checked before the evaluation starts: once started, the evaluation is
+			// never retried with Expression Language, so that the user code is not invoked twice
+			if ( simpleExpression.isEvaluable( variables ) ) {
+				try {
+					return simpleExpression.evaluate( variables );
+				}
+				catch (Exception e) {
+					LOG.evaluatingExpressionLanguageExpressionCausedException( expression, e );
+					return expression;
+				}
+			}
+		}
+
 		String resolvedExpression = expression;
 
-		ELContext elContext = getElContext( context );
+		ELContext elContext = getElContext( featureLevel );
 
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, elContext );
+			elContext.putContext( BoundVariables.class, variables );
+			ValueExpression valueExpression = getValueExpression( expression, featureLevel, elContext );
 			resolvedExpression = (String) valueExpression.getValue( elContext );
 		}
 		catch (DisabledFeatureELException dfee) {
@@ -91,12 +135,15 @@ public String interpolate(MessageInterpolator.Context context, String expression
 		return resolvedExpression;
 	}
 
-	private ELContext getElContext(MessageInterpolator.Context context) {
+	private static ExpressionLanguageFeatureLevel getExpressionLanguageFeatureLevel(MessageInterpolator.Context context) {
 		if ( !( context instanceof HibernateMessageInterpolatorContext ) ) {
-			return new VariablesELContext( expressionFactory );
+			return ExpressionLanguageFeatureLevel.VARIABLES;
 		}
+		return ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel();
+	}
 
-		switch ( ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() ) {
+	private ELContext getElContext(ExpressionLanguageFeatureLevel featureLevel) {
+		switch ( featureLevel ) {
 			case NONE:
 				throw LOG.expressionsNotResolvedWhenExpressionLanguageFeaturesDisabled();
 			case VARIABLES:
@@ -110,35 +157,34 @@ private ELContext getElContext(MessageInterpolator.Context context) {
 		}
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, ELContext elContext) {
-		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
+	private BoundVariables bindContextValues(MessageInterpolator.Context messageInterpolatorContext) {
+		// the validated value, a formatter instantiated with proper locale, the parameters provided by the annotation
+		// values and the expression variables explicitly added to the context are resolved when evaluating the
+		// expression so that the parsed expression does not depend on them
+		return new BoundVariables(
 				messageInterpolatorContext.getValidatedValue(),
-				Object.class
+				locale,
+				messageInterpolatorContext.getConstraintDescriptor().getAttributes(),
+				messageInterpolatorContext instanceof HibernateMessageInterpolatorContext
+						? ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables()
+						: null
 		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
-
-		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
-				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
+	}
 
-		// map the parameters provided by the annotation values and the parameters + expression variables explicitly
-		// added to the context
-		addVariablesToElContext( elContext, messageInterpolatorContext.getConstraintDescriptor().getAttributes() );
-		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
-			addVariablesToElContext( elContext, ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables() );
+	private SimpleExpression getSimpleExpression(String expression) {
+		if ( simpleExpressions == null ) {
+			return SimpleExpression.parse( expression );
 		}
-
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
+		return simpleExpressions.get( expression, SimpleExpression::parse );
 	}
 
-	private void addVariablesToElContext(ELContext elContext, Map<String, Object> variables) {
-		for ( Map.Entry<String, Object> entry : variables.entrySet() ) {
-			ValueExpression valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
+	private ValueExpression getValueExpression(String expression, ExpressionLanguageFeatureLevel featureLevel, ELContext elContext) {
+		if ( valueExpressions == null ) {
+			return expressionFactory.createValueExpression( elContext, expression, String.class );
 		}
+		return valueExpressions.get(
+				new ElExpressionKey( expression, featureLevel ),
+				key -> expressionFactory.createValueExpression( elContext, expression, String.class )
+		);
 	}
 }
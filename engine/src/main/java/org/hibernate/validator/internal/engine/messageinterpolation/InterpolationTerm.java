@@ -7,8 +7,11 @@
 import java.util.Locale;
 
 import jakarta.el.ExpressionFactory;
+import jakarta.el.ValueExpression;
 import jakarta.validation.MessageInterpolator;
 
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+
 /**
  * Helper class dealing with the interpolation of a single message parameter or expression extracted from a message
  * descriptor.
@@ -43,10 +46,24 @@ public class InterpolationTerm {
 	 * @param expressionFactory the expression factory to use if the expression uses EL.
 	 */
 	public InterpolationTerm(String expression, Locale locale, ExpressionFactory expressionFactory) {
+		this( expression, locale, expressionFactory, null, null );
+	}
+
+	/**
+	 * Create an interpolation term for an expression.
+	 * @param expression the expression.
+	 * @param locale the locale.
+	 * @param expressionFactory the expression factory to use if the expression uses EL.
+	 * @param valueExpressions the cache of the parsed EL expressions, might be {@code null}.
+	 * @param simpleExpressions the cache of the expressions parsed by the built-in evaluator, might be {@code null}.
+	 */
+	public InterpolationTerm(String expression, Locale locale, ExpressionFactory expressionFactory,
+			BoundedConcurrentCache<ElExpressionKey, ValueExpression> valueExpressions,
+			BoundedConcurrentCache<String, SimpleExpression> simpleExpressions) {
 		this.expression = expression;
 		if ( isElExpression( expression ) ) {
 			this.type = InterpolationTermType.EL;
-			this.resolver = new ElTermResolver( locale, expressionFactory );
+			this.resolver = new ElTermResolver( locale, expressionFactory, valueExpressions, simpleExpressions );
 		}
 		else {
 			this.type = InterpolationTermType.PARAMETER;
@@ -0,0 +1,917 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.el.BoundVariables;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
+
+/**
+ * An expression of a message evaluated without going through Expression Language.
+ * <p>
+ * Only the subset of Expression Language used by most message templates is supported: literals, variables, the
+ * {@code formatter.format(...)} calls, the {@code +=} string concatenation, the comparison, logical and {@code empty}
+ * operators and the ternary operator. The coercion rules of Expression Language are only implemented for
+ * {@code null}, booleans, strings, integral numbers and floating point numbers.
+ * <p>
+ * When an expression is out of this subset, {@link #parse(String)} returns {@link #NOT_SUPPORTED}. When the values
+ * bound to an expression are out of this subset, {@link #isEvaluable(BoundVariables)} returns {@code false}. In both
+ * cases, the expression has to be evaluated by Expression Language. The values are checked before the evaluation
+ * starts, without invoking any user code, so that an expression is never partially evaluated before being handed
+ * over to Expression Language.
+ *
+ * @see ElTermResolver
+ */
+public abstract class SimpleExpression {
+
+	/**
+	 * The expression returned for the expressions which are not supported.
+	 */
+	public static final SimpleExpression NOT_SUPPORTED = new SimpleExpression() {
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			return NOT_EVALUABLE;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			throw notChecked();
+		}
+	};
+
+	/*
+	 * The kinds of values an expression might evaluate to, as a bit set. They are computed from the values bound to
+	 * the expression before evaluating it, to detect the evaluations requiring the coercion rules of Expression
+	 * Language.
+	 */
+	private static final int NOT_EVALUABLE = 0;
+	private static final int NULL = 1;
+	private static final int BOOLEAN = 1 << 1;
+	private static final int STRING = 1 << 2;
+	private static final int INTEGRAL = 1 << 3;
+	private static final int FLOATING_POINT = 1 << 4;
+	/**
+	 * The other numbers, the characters and the enums, subject to the coercion rules of Expression Language.
+	 */
+	private static final int OTHER_COERCIBLE = 1 << 5;
+	private static final int OTHER = 1 << 6;
+
+	private static final int NUMBER = INTEGRAL | FLOATING_POINT;
+	private static final int BOOLEAN_COERCIBLE = NULL | BOOLEAN | STRING;
+
+	private static final String FORMAT = "format";
+
+	private SimpleExpression() {
+	}
+
+	/**
+	 * Parses an expression of the form {@code ${...}}.
+	 *
+	 * @param expression the expression, including the {@code ${} and {@code }} delimiters
+	 * @return the parsed expression or {@link #NOT_SUPPORTED} if the expression is out of the supported subset
+	 */
+	public static SimpleExpression parse(String expression) {
+		if ( !expression.startsWith( "${" ) || !expression.endsWith( "}" ) ) {
+			return NOT_SUPPORTED;
+		}
+
+		try {
+			return new Parser( expression.substring( 2, expression.length() - 1 ) ).parse();
+		}
+		catch (NotEvaluableException e) {
+			return NOT_SUPPORTED;
+		}
+	}
+
+	/**
+	 * Checks that the expression can be evaluated with the given variables, without evaluating it.
+	 *
+	 * @param variables the variables available to the expression
+	 * @return {@code true} if the expression can be evaluated with the given variables, {@code false} if it has to be
+	 * evaluated by Expression Language
+	 */
+	public boolean isEvaluable(BoundVariables variables) {
+		return getKinds( variables ) != NOT_EVALUABLE;
+	}
+
+	/**
+	 * Evaluates the expression and coerces the result to a {@code String}.
+	 * <p>
+	 * Must only be called if {@link #isEvaluable(BoundVariables)} returned {@code true} for the same variables. The
+	 * exceptions thrown by the user code invoked during the evaluation, e.g. by a {@code toString()} method, are
+	 * propagated.
+	 *
+	 * @param variables the variables available to the expression
+	 * @return the result of the evaluation
+	 */
+	public String evaluate(BoundVariables variables) {
+		return coerceToString( getValue( variables ) );
+	}
+
+	/**
+	 * @param variables the variables available to the expression
+	 * @return the kinds of values the expression might evaluate to, {@link #NOT_EVALUABLE} if the expression has to
+	 * be evaluated by Expression Language
+	 */
+	abstract int getKinds(BoundVariables variables);
+
+	abstract Object getValue(BoundVariables variables);
+
+	private static int kindOf(Object value) {
+		if ( value == null ) {
+			return NULL;
+		}
+		if ( value instanceof Boolean ) {
+			return BOOLEAN;
+		}
+		if ( value instanceof String ) {
+			return STRING;
+		}
+		if ( isIntegral( value ) ) {
+			return INTEGRAL;
+		}
+		if ( isFloatingPoint( value ) ) {
+			return FLOATING_POINT;
+		}
+		if ( isCoercible( value ) ) {
+			return OTHER_COERCIBLE;
+		}
+		return OTHER;
+	}
+
+	private static boolean isBooleanCoercible(int kinds) {
+		return kinds != NOT_EVALUABLE && ( kinds & ~BOOLEAN_COERCIBLE ) == 0;
+	}
+
+	/**
+	 * @return {@code true} if any pair of values of the given kinds can be compared for equality without the
+	 * coercion rules of Expression Language, see {@link #areEqual(Object, Object)}
+	 */
+	private static boolean areEqualityComparable(int leftKinds, int rightKinds) {
+		for ( int left = 1; left <= OTHER; left <<= 1 ) {
+			if ( ( leftKinds & left ) == 0 ) {
+				continue;
+			}
+			for ( int right = 1; right <= OTHER; right <<= 1 ) {
+				if ( ( rightKinds & right ) == 0 ) {
+					continue;
+				}
+				if ( left == NULL || right == NULL ) {
+					continue;
+				}
+				if ( ( left & NUMBER ) != 0 && ( right & NUMBER ) != 0 ) {
+					continue;
+				}
+				if ( left == right && left != OTHER_COERCIBLE ) {
+					continue;
+				}
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return {@code true} if any pair of values of the given kinds can be ordered without the coercion rules of
+	 * Expression Language, see {@link #compare(Object, Object)}
+	 */
+	private static boolean areOrderable(int leftKinds, int rightKinds) {
+		int left = leftKinds & ~NULL;
+		int right = rightKinds & ~NULL;
+		if ( left == 0 || right == 0 ) {
+			return true;
+		}
+		return ( ( left & ~NUMBER ) == 0 && ( right & ~NUMBER ) == 0 )
+				|| ( left == STRING && right == STRING );
+	}
+
+	private static IllegalStateException notChecked() {
+		return new IllegalStateException( "The expression must be checked with isEvaluable() before being evaluated." );
+	}
+
+	private static String coerceToString(Object value) {
+		if ( value == null ) {
+			return "";
+		}
+		if ( value instanceof String ) {
+			return (String) value;
+		}
+		if ( value instanceof Enum ) {
+			return ( (Enum<?>) value ).name();
+		}
+		return value.toString();
+	}
+
+	private static boolean coerceToBoolean(Object value) {
+		if ( value == null ) {
+			return false;
+		}
+		if ( value instanceof Boolean ) {
+			return (Boolean) value;
+		}
+		if ( value instanceof String ) {
+			return Boolean.parseBoolean( (String) value );
+		}
+		throw notChecked();
+	}
+
+	private static boolean isIntegral(Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+	}
+
+	private static boolean isFloatingPoint(Object value) {
+		return value instanceof Double || value instanceof Float;
+	}
+
+	private static boolean isCoercible(Object value) {
+		return value instanceof Number || value instanceof String || value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum;
+	}
+
+	private static boolean areEqual(Object left, Object right) {
+		if ( left == right ) {
+			return true;
+		}
+		if ( left == null || right == null ) {
+			return false;
+		}
+		if ( isIntegral( left ) && isIntegral( right ) ) {
+			return ( (Number) left ).longValue() == ( (Number) right ).longValue();
+		}
+		if ( ( isIntegral( left ) || isFloatingPoint( left ) ) && ( isIntegral( right ) || isFloatingPoint( right ) ) ) {
+			return ( (Number) left ).doubleValue() == ( (Number) right ).doubleValue();
+		}
+		if ( ( left instanceof Boolean && right instanceof Boolean ) || ( left instanceof String && right instanceof String ) ) {
+			return left.equals( right );
+		}
+		if ( isCoercible( left ) || isCoercible( right ) ) {
+			// the Expression Language coercion rules apply
+			throw notChecked();
+		}
+		return left.equals( right );
+	}
+
+	private static int compare(Object left, Object right) {
+		if ( isIntegral( left ) && isIntegral( right ) ) {
+			return Long.compare( ( (Number) left ).longValue(), ( (Number) right ).longValue() );
+		}
+		if ( ( isIntegral( left ) || isFloatingPoint( left ) ) && ( isIntegral( right ) || isFloatingPoint( right ) ) ) {
+			return Double.compare( ( (Number) left ).doubleValue(), ( (Number) right ).doubleValue() );
+		}
+		if ( left instanceof String && right instanceof String ) {
+			return ( (String) left ).compareTo( (String) right );
+		}
+		throw notChecked();
+	}
+
+	private static boolean isEmpty(Object value) {
+		if ( value == null ) {
+			return true;
+		}
+		if ( value instanceof String ) {
+			return ( (String) value ).isEmpty();
+		}
+		if ( value instanceof Collection ) {
+			return ( (Collection<?>) value ).isEmpty();
+		}
+		if ( value instanceof Map ) {
+			return ( (Map<?, ?>) value ).isEmpty();
+		}
+		if ( value.getClass().isArray() ) {
+			return Array.getLength( value ) == 0;
+		}
+		return false;
+	}
+
+	/**
+	 * Thrown by the parser when an expression has to be evaluated by Expression Language.
+	 * <p>
+	 * A single instance without stack trace is used as this exception is part of the normal control flow.
+	 */
+	private static final class NotEvaluableException extends RuntimeException {
+
+		private static final NotEvaluableException INSTANCE = new NotEvaluableException();
+
+		private NotEvaluableException() {
+			super( null, null, false, false );
+		}
+	}
+
+	private static final class Literal extends SimpleExpression {
+
+		private final Object value;
+
+		private Literal(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			return kindOf( value );
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			return value;
+		}
+	}
+
+	private static final class Variable extends SimpleExpression {
+
+		private final String name;
+
+		private Variable(String name) {
+			this.name = name;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			if ( !variables.isDefined( name ) ) {
+				// let Expression Language report the unknown property
+				return NOT_EVALUABLE;
+			}
+			return kindOf( variables.getValue( name ) );
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			return variables.getValue( name );
+		}
+	}
+
+	private static final class FormatCall extends SimpleExpression {
+
+		private final String target;
+
+		private final SimpleExpression[] arguments;
+
+		private FormatCall(String target, SimpleExpression[] arguments) {
+			this.target = target;
+			this.arguments = arguments;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			Object formatter = variables.isDefined( target ) ? variables.getValue( target ) : null;
+			if ( !( formatter instanceof FormatterWrapper ) ) {
+				return NOT_EVALUABLE;
+			}
+
+			if ( arguments[0].getKinds( variables ) != STRING ) {
+				return NOT_EVALUABLE;
+			}
+			for ( int i = 1; i < arguments.length; i++ ) {
+				if ( arguments[i].getKinds( variables ) == NOT_EVALUABLE ) {
+					return NOT_EVALUABLE;
+				}
+			}
+			return STRING;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			FormatterWrapper formatter = (FormatterWrapper) variables.getValue( target );
+			String format = (String) arguments[0].getValue( variables );
+
+			Object[] formattingParameters = new Object[arguments.length - 1];
+			for ( int i = 1; i < arguments.length; i++ ) {
+				formattingParameters[i - 1] = arguments[i].getValue( variables );
+			}
+
+			return formatter.format( format, formattingParameters );
+		}
+	}
+
+	private static final class Not extends SimpleExpression {
+
+		private final SimpleExpression operand;
+
+		private Not(SimpleExpression operand) {
+			this.operand = operand;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			return isBooleanCoercible( operand.getKinds( variables ) ) ? BOOLEAN : NOT_EVALUABLE;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			return !coerceToBoolean( operand.getValue( variables ) );
+		}
+	}
+
+	private static final class Empty extends SimpleExpression {
+
+		private final SimpleExpression operand;
+
+		private Empty(SimpleExpression operand) {
+			this.operand = operand;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			return operand.getKinds( variables ) != NOT_EVALUABLE ? BOOLEAN : NOT_EVALUABLE;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			return isEmpty( operand.getValue( variables ) );
+		}
+	}
+
+	private static final class Concatenation extends SimpleExpression {
+
+		private final SimpleExpression[] operands;
+
+		private Concatenation(SimpleExpression[] operands) {
+			this.operands = operands;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			for ( SimpleExpression operand : operands ) {
+				if ( operand.getKinds( variables ) == NOT_EVALUABLE ) {
+					return NOT_EVALUABLE;
+				}
+			}
+			return STRING;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			StringBuilder sb = new StringBuilder();
+			for ( SimpleExpression operand : operands ) {
+				sb.append( coerceToString( operand.getValue( variables ) ) );
+			}
+			return sb.toString();
+		}
+	}
+
+	private static final class And extends SimpleExpression {
+
+		private final SimpleExpression left;
+
+		private final SimpleExpression right;
+
+		private And(SimpleExpression left, SimpleExpression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			return isBooleanCoercible( left.getKinds( variables ) ) && isBooleanCoercible( right.getKinds( variables ) )
+					? BOOLEAN
+					: NOT_EVALUABLE;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			return coerceToBoolean( left.getValue( variables ) ) && coerceToBoolean( right.getValue( variables ) );
+		}
+	}
+
+	private static final class Or extends SimpleExpression {
+
+		private final SimpleExpression left;
+
+		private final SimpleExpression right;
+
+		private Or(SimpleExpression left, SimpleExpression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			return isBooleanCoercible( left.getKinds( variables ) ) && isBooleanCoercible( right.getKinds( variables ) )
+					? BOOLEAN
+					: NOT_EVALUABLE;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			return coerceToBoolean( left.getValue( variables ) ) || coerceToBoolean( right.getValue( variables ) );
+		}
+	}
+
+	private static final class Comparison extends SimpleExpression {
+
+		private final Operator operator;
+
+		private final SimpleExpression left;
+
+		private final SimpleExpression right;
+
+		private Comparison(Operator operator, SimpleExpression left, SimpleExpression right) {
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			int leftKinds = left.getKinds( variables );
+			int rightKinds = right.getKinds( variables );
+			if ( leftKinds == NOT_EVALUABLE || rightKinds == NOT_EVALUABLE ) {
+				return NOT_EVALUABLE;
+			}
+
+			boolean comparable = operator == Operator.EQ || operator == Operator.NE
+					? areEqualityComparable( leftKinds, rightKinds )
+					: areOrderable( leftKinds, rightKinds );
+			return comparable ? BOOLEAN : NOT_EVALUABLE;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			Object leftValue = left.getValue( variables );
+			Object rightValue = right.getValue( variables );
+
+			switch ( operator ) {
+				case EQ:
+					return areEqual( leftValue, rightValue );
+				case NE:
+					return !areEqual( leftValue, rightValue );
+				default:
+					break;
+			}
+
+			if ( leftValue == rightValue ) {
+				return operator == Operator.LE || operator == Operator.GE;
+			}
+			if ( leftValue == null || rightValue == null ) {
+				return false;
+			}
+
+			int comparison = compare( leftValue, rightValue );
+			switch ( operator ) {
+				case LT:
+					return comparison < 0;
+				case GT:
+					return comparison > 0;
+				case LE:
+					return comparison <= 0;
+				case GE:
+					return comparison >= 0;
+				default:
+					throw new IllegalStateException( "Unknown operator " + operator );
+			}
+		}
+	}
+
+	private static final class Conditional extends SimpleExpression {
+
+		private final SimpleExpression condition;
+
+		private final SimpleExpression whenTrue;
+
+		private final SimpleExpression whenFalse;
+
+		private Conditional(SimpleExpression condition, SimpleExpression whenTrue, SimpleExpression whenFalse) {
+			this.condition = condition;
+			this.whenTrue = whenTrue;
+			this.whenFalse = whenFalse;
+		}
+
+		@Override
+		int getKinds(BoundVariables variables) {
+			if ( !isBooleanCoercible( condition.getKinds( variables ) ) ) {
+				return NOT_EVALUABLE;
+			}
+
+			// both branches are checked, as the condition is not evaluated at this point
+			int whenTrueKinds = whenTrue.getKinds( variables );
+			int whenFalseKinds = whenFalse.getKinds( variables );
+			if ( whenTrueKinds == NOT_EVALUABLE || whenFalseKinds == NOT_EVALUABLE ) {
+				return NOT_EVALUABLE;
+			}
+			return whenTrueKinds | whenFalseKinds;
+		}
+
+		@Override
+		Object getValue(BoundVariables variables) {
+			return coerceToBoolean( condition.getValue( variables ) ) ? whenTrue.getValue( variables ) : whenFalse.getValue( variables );
+		}
+	}
+
+	private enum Operator {
+		EQ,
+		NE,
+		LT,
+		GT,
+		LE,
+		GE
+	}
+
+	/**
+	 * A recursive descent parser following the precedence of the Expression Language operators, from the lowest to
+	 * the highest: {@code ?:}, {@code ||}, {@code &&}, {@code == !=}, {@code < > <= >=}, {@code +=}, the unary
+	 * operators and the primary expressions.
+	 * <p>
+	 * The parser throws a {@link NotEvaluableException} as soon as it encounters a construct it does not support.
+	 */
+	private static final class Parser {
+
+		private final String expression;
+
+		private int position;
+
+		private Parser(String expression) {
+			this.expression = expression;
+		}
+
+		private SimpleExpression parse() {
+			SimpleExpression result = parseConditional();
+			skipWhitespaces();
+			if ( position != expression.length() ) {
+				throw NotEvaluableException.INSTANCE;
+			}
+			return result;
+		}
+
+		private SimpleExpression parseConditional() {
+			SimpleExpression condition = parseOr();
+			if ( !consume( "?" ) ) {
+				return condition;
+			}
+			SimpleExpression whenTrue = parseConditional();
+			if ( !consume( ":" ) ) {
+				throw NotEvaluableException.INSTANCE;
+			}
+			SimpleExpression whenFalse = parseConditional();
+			return new Conditional( condition, whenTrue, whenFalse );
+		}
+
+		private SimpleExpression parseOr() {
+			SimpleExpression result = parseAnd();
+			while ( consume( "||" ) || consumeKeyword( "or" ) ) {
+				result = new Or( result, parseAnd() );
+			}
+			return result;
+		}
+
+		private SimpleExpression parseAnd() {
+			SimpleExpression result = parseEquality();
+			while ( consume( "&&" ) || consumeKeyword( "and" ) ) {
+				result = new And( result, parseEquality() );
+			}
+			return result;
+		}
+
+		private SimpleExpression parseEquality() {
+			SimpleExpression result = parseRelational();
+			while ( true ) {
+				if ( consume( "==" ) || consumeKeyword( "eq" ) ) {
+					result = new Comparison( Operator.EQ, result, parseRelational() );
+				}
+				else if ( consume( "!=" ) || consumeKeyword( "ne" ) ) {
+					result = new Comparison( Operator.NE, result, parseRelational() );
+				}
+				else {
+					return result;
+				}
+			}
+		}
+
+		private SimpleExpression parseRelational() {
+			SimpleExpression result = parseConcatenation();
+			while ( true ) {
+				if ( consume( "<=" ) || consumeKeyword( "le" ) ) {
+					result = new Comparison( Operator.LE, result, parseConcatenation() );
+				}
+				else if ( consume( ">=" ) || consumeKeyword( "ge" ) ) {
+					result = new Comparison( Operator.GE, result, parseConcatenation() );
+				}
+				else if ( consume( "<" ) || consumeKeyword( "lt" ) ) {
+					result = new Comparison( Operator.LT, result, parseConcatenation() );
+				}
+				else if ( consume( ">" ) || consumeKeyword( "gt" ) ) {
+					result = new Comparison( Operator.GT, result, parseConcatenation() );
+				}
+				else {
+					return result;
+				}
+			}
+		}
+
+		private SimpleExpression parseConcatenation() {
+			SimpleExpression first = parseUnary();
+			if ( !consume( "+=" ) ) {
+				return first;
+			}
+			List<SimpleExpression> operands = new ArrayList<>();
+			operands.add( first );
+			do {
+				operands.add( parseUnary() );
+			}
+			while ( consume( "+=" ) );
+			return new Concatenation( operands.toArray( new SimpleExpression[0] ) );
+		}
+
+		private SimpleExpression parseUnary() {
+			skipWhitespaces();
+			if ( peek() == '!' && peek( 1 ) != '=' ) {
+				position++;
+				return new Not( parseUnary() );
+			}
+			if ( consumeKeyword( "not" ) ) {
+				return new Not( parseUnary() );
+			}
+			if ( consumeKeyword( "empty" ) ) {
+				return new Empty( parseUnary() );
+			}
+			return parsePrimary();
+		}
+
+		private SimpleExpression parsePrimary() {
+			skipWhitespaces();
+			char c = peek();
+			if ( c == '(' ) {
+				position++;
+				SimpleExpression result = parseConditional();
+				if ( !consume( ")" ) ) {
+					throw NotEvaluableException.INSTANCE;
+				}
+				return result;
+			}
+			if ( c == '\'' || c == '"' ) {
+				return new Literal( parseString( c ) );
+			}
+			if ( isDigit( c ) ) {
+				return new Literal( parseNumber() );
+			}
+			if ( Character.isJavaIdentifierStart( c ) ) {
+				return parseIdentifier();
+			}
+			throw NotEvaluableException.INSTANCE;
+		}
+
+		private SimpleExpression parseIdentifier() {
+			String identifier = readIdentifier();
+			switch ( identifier ) {
+				case "true":
+					return new Literal( Boolean.TRUE );
+				case "false":
+					return new Literal( Boolean.FALSE );
+				case "null":
+					return new Literal( null );
+				case "and":
+				case "or":
+				case "not":
+				case "eq":
+				case "ne":
+				case "lt":
+				case "gt":
+				case "le":
+				case "ge":
+				case "empty":
+				case "div":
+				case "mod":
+				case "instanceof":
+					throw NotEvaluableException.INSTANCE;
+				default:
+					break;
+			}
+
+			skipWhitespaces();
+			char c = peek();
+			if ( c == '[' || c == '(' || c == ':' ) {
+				// property access, function calls and lambdas are not supported
+				throw NotEvaluableException.INSTANCE;
+			}
+			if ( c != '.' ) {
+				return new Variable( identifier );
+			}
+
+			// only the formatter calls are supported
+			position++;
+			skipWhitespaces();
+			if ( !RootResolver.FORMATTER.equals( identifier ) || !Character.isJavaIdentifierStart( peek() ) || !FORMAT.equals( readIdentifier() ) ) {
+				throw NotEvaluableException.INSTANCE;
+			}
+			if ( !consume( "(" ) ) {
+				throw NotEvaluableException.INSTANCE;
+			}
+			List<SimpleExpression> arguments = new ArrayList<>();
+			if ( !consume( ")" ) ) {
+				do {
+					arguments.add( parseConditional() );
+				}
+				while ( consume( "," ) );
+				if ( !consume( ")" ) ) {
+					throw NotEvaluableException.INSTANCE;
+				}
+			}
+			if ( arguments.isEmpty() ) {
+				throw NotEvaluableException.INSTANCE;
+			}
+			skipWhitespaces();
+			if ( peek() == '.' || peek() == '[' ) {
+				throw NotEvaluableException.INSTANCE;
+			}
+			return new FormatCall( identifier, arguments.toArray( new SimpleExpression[0] ) );
+		}
+
+		private String readIdentifier() {
+			int start = position;
+			position++;
+			while ( position < expression.length() && Character.isJavaIdentifierPart( expression.charAt( position ) ) ) {
+				position++;
+			}
+			return expression.substring( start, position );
+		}
+
+		private String parseString(char quote) {
+			StringBuilder sb = new StringBuilder();
+			position++;
+			while ( position < expression.length() ) {
+				char c = expression.charAt( position++ );
+				if ( c == quote ) {
+					return sb.toString();
+				}
+				if ( c == '\\' ) {
+					if ( position == expression.length() ) {
+						throw NotEvaluableException.INSTANCE;
+					}
+					char escaped = expression.charAt( position++ );
+					if ( escaped != '\\' && escaped != '\'' && escaped != '"' ) {
+						throw NotEvaluableException.INSTANCE;
+					}
+					sb.append( escaped );
+				}
+				else {
+					sb.append( c );
+				}
+			}
+			// unterminated string
+			throw NotEvaluableException.INSTANCE;
+		}
+
+		private Object parseNumber() {
+			int start = position;
+			while ( isDigit( peek() ) ) {
+				position++;
+			}
+			char c = peek();
+			if ( position < expression.length() && ( c == '.' || Character.isJavaIdentifierPart( c ) ) ) {
+				// floating point literals are rare in messages, leave them to Expression Language
+				throw NotEvaluableException.INSTANCE;
+			}
+			try {
+				return Long.valueOf( expression.substring( start, position ) );
+			}
+			catch (NumberFormatException e) {
+				throw NotEvaluableException.INSTANCE;
+			}
+		}
+
+		private boolean consume(String token) {
+			skipWhitespaces();
+			if ( !expression.startsWith( token, position ) ) {
+				return false;
+			}
+			position += token.length();
+			return true;
+		}
+
+		private boolean consumeKeyword(String keyword) {
+			skipWhitespaces();
+			int end = position + keyword.length();
+			if ( !expression.startsWith( keyword, position )
+					|| ( end < expression.length() && Character.isJavaIdentifierPart( expression.charAt( end ) ) ) ) {
+				return false;
+			}
+			position = end;
+			return true;
+		}
+
+		private void skipWhitespaces() {
+			while ( position < expression.length() && Character.isWhitespace( expression.charAt( position ) ) ) {
+				position++;
+			}
+		}
+
+		private char peek() {
+			return peek( 0 );
+		}
+
+		private char peek(int offset) {
+			int index = position + offset;
+			return index < expression.length() ? expression.charAt( index ) : 0;
+		}
+
+		private static boolean isDigit(char c) {
+			return c >= '0' && c <= '9';
+		}
+	}
+}
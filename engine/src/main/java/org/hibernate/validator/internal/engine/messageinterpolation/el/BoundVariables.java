@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+
+/**
+ * The variables available to an EL expression of a message: the validated value, the formatter, the attributes of the
+ * constraint and the expression variables added to the context.
+ * <p>
+ * The variables are resolved by the {@link VariablesResolver} at evaluation time instead of being registered in the
+ * {@link jakarta.el.VariableMapper} of the context, as the variable mapper is captured by the expression when it is
+ * parsed. This allows to parse an expression once and evaluate it with different variables.
+ * <p>
+ * When a variable is defined several times, the expression variables take precedence over the attributes of the
+ * constraint, which take precedence over the formatter and the validated value.
+ */
+public class BoundVariables {
+
+	/**
+	 * Name under which the currently validated value is bound.
+	 */
+	public static final String VALIDATED_VALUE = "validatedValue";
+
+	private final Object validatedValue;
+
+	private final Locale locale;
+
+	private final Map<String, Object> constraintAttributes;
+
+	private final Map<String, Object> expressionVariables;
+
+	private FormatterWrapper formatter;
+
+	public BoundVariables(Object validatedValue, Locale locale, Map<String, Object> constraintAttributes, Map<String, Object> expressionVariables) {
+		this.validatedValue = validatedValue;
+		this.locale = locale;
+		this.constraintAttributes = constraintAttributes;
+		this.expressionVariables = expressionVariables != null ? expressionVariables : Collections.emptyMap();
+	}
+
+	public boolean isDefined(String name) {
+		return expressionVariables.containsKey( name )
+				|| constraintAttributes.containsKey( name )
+				|| RootResolver.FORMATTER.equals( name )
+				|| VALIDATED_VALUE.equals( name );
+	}
+
+	/**
+	 * @param name the name of the variable
+	 * @return the value of the variable, {@code null} if the variable is not defined or if its value is {@code null}
+	 */
+	public Object getValue(String name) {
+		if ( expressionVariables.containsKey( name ) ) {
+			return expressionVariables.get( name );
+		}
+		if ( constraintAttributes.containsKey( name ) ) {
+			return constraintAttributes.get( name );
+		}
+		if ( RootResolver.FORMATTER.equals( name ) ) {
+			return getFormatter();
+		}
+		if ( VALIDATED_VALUE.equals( name ) ) {
+			return validatedValue;
+		}
+		return null;
+	}
+
+	private FormatterWrapper getFormatter() {
+		// the formatter is instantiated with the proper locale, only if the expression uses it
+		if ( formatter == null ) {
+			formatter = new FormatterWrapper( locale );
+		}
+		return formatter;
+	}
+}
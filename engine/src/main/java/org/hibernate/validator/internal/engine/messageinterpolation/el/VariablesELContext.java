@@ -22,6 +22,7 @@ public class VariablesELContext extends StandardELContext {
 
 	static {
 		CompositeELResolver resolver = new CompositeELResolver();
+		resolver.add( new VariablesResolver() );
 		resolver.add( new RootResolver() );
 		resolver.add( new ArrayELResolver( true ) );
 		resolver.add( new ListELResolver( true ) );
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.PropertyNotWritableException;
+
+/**
+ * Resolves the top level identifiers of an expression from the {@link BoundVariables} registered in the context.
+ */
+public class VariablesResolver extends ELResolver {
+
+	@Override
+	public Object getValue(ELContext context, Object base, Object property) {
+		BoundVariables variables = getVariables( context, base, property );
+		if ( variables == null ) {
+			return null;
+		}
+
+		context.setPropertyResolved( base, property );
+		return variables.getValue( (String) property );
+	}
+
+	@Override
+	public Class<?> getType(ELContext context, Object base, Object property) {
+		if ( getVariables( context, base, property ) != null ) {
+			// the variables are read only
+			context.setPropertyResolved( base, property );
+		}
+		return null;
+	}
+
+	@Override
+	public void setValue(ELContext context, Object base, Object property, Object value) {
+		if ( getVariables( context, base, property ) != null ) {
+			throw new PropertyNotWritableException();
+		}
+	}
+
+	@Override
+	public boolean isReadOnly(ELContext context, Object base, Object property) {
+		if ( getVariables( context, base, property ) != null ) {
+			context.setPropertyResolved( base, property );
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public Class<?> getCommonPropertyType(ELContext context, Object base) {
+		return null;
+	}
+
+	private static BoundVariables getVariables(ELContext context, Object base, Object property) {
+		if ( base != null || !( property instanceof String ) ) {
+			return null;
+		}
+
+		BoundVariables variables = (BoundVariables) context.getContext( BoundVariables.class );
+		if ( variables == null || !variables.isDefined( (String) property ) ) {
+			return null;
+		}
+		return variables;
+	}
+}
@@ -10,22 +10,27 @@
 
 import jakarta.validation.Path;
 
+/**
+ * An immutable {@link Path} referencing the leaf node of a {@link ModifiablePath}.
+ * <p>
+ * As the nodes only reference their parent, the materialized paths of the violations of a given bean share their
+ * common prefix nodes: materializing a path does not copy the nodes, the array of the nodes is only built when the
+ * path is iterated.
+ */
 final class MaterializedPath implements Path, Serializable {
 
 	@Serial
 	private static final long serialVersionUID = -8906501301223202169L;
 
 	private final NodeImpl leafNode;
-	private final NodeImpl[] nodes;
 
 	MaterializedPath(ModifiablePath path) {
 		this.leafNode = path.getLeafNode();
-		this.nodes = NodeImpl.constructPath( this.leafNode );
 	}
 
 	@Override
 	public Iterator<Node> iterator() {
-		return new NodeImpl.NodeIterator( nodes );
+		return new NodeImpl.NodeIterator( NodeImpl.constructPath( leafNode ) );
 	}
 
 	@Override
@@ -39,7 +44,7 @@ public boolean equals(Object o) {
 
 	@Override
 	public int hashCode() {
-		return leafNode.hashCode();
+		return leafNode.pathHashCode();
 	}
 
 	@Override
@@ -302,7 +302,7 @@ private int buildHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result
-				+ ( ( currentLeafNode == null ) ? 0 : currentLeafNode.hashCode() );
+				+ ( ( currentLeafNode == null ) ? 0 : currentLeafNode.pathHashCode() );
 		return result;
 	}
 
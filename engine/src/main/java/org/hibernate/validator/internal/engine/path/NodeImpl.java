@@ -84,8 +84,9 @@
 	private final Integer typeArgumentIndex;
 
 	private int hashCode = -1;
+	private int pathHashCode = -1;
 	private String asString;
-	private NodeImpl[] nodes;
+	private volatile NodeImpl[] nodes;
 
 	private NodeImpl(
 			String name, NodeImpl parent, boolean isIterable, Integer index, Object key, ElementKind kind, Class<?>[] parameterTypes,
@@ -490,6 +491,22 @@ public int hashCode() {
 		return hashCode;
 	}
 
+	/**
+	 * Returns the hash code of the whole path ending with this node.
+	 * <p>
+	 * The hash code is built incrementally from the hash code of the path of the parent node and cached, so that
+	 * the paths sharing a prefix only compute the hash code of the prefix once.
+	 *
+	 * @return the hash code of the path ending with this node
+	 */
+	public int pathHashCode() {
+		if ( pathHashCode == -1 ) {
+			pathHashCode = ( parent == null ? 0 : 31 * parent.pathHashCode() ) + hashCode();
+		}
+
+		return pathHashCode;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
@@ -584,9 +601,16 @@ boolean samePath(NodeImpl other) {
 		if ( this.size != other.size ) {
 			return false;
 		}
+		if ( pathHashCode != -1 && other.pathHashCode != -1 && pathHashCode != other.pathHashCode ) {
+			return false;
+		}
 		NodeImpl curr = this;
 		NodeImpl otherCurr = other;
 		while ( curr != null && otherCurr != null ) {
+			if ( curr == otherCurr ) {
+				// the paths share the remaining prefix
+				return true;
+			}
 			if ( !curr.sameNode( otherCurr ) ) {
 				return false;
 			}
@@ -602,21 +626,27 @@ public boolean isRootPath() {
 	}
 
 	static NodeImpl[] constructPath(NodeImpl leaf) {
+		// the parent of a node never changes, so the nodes of the path are computed at most once per leaf node
+		NodeImpl[] nodes = leaf.nodes;
+		if ( nodes != null ) {
+			return nodes;
+		}
+
 		if ( leaf.parent == null ) {
-			if ( leaf.nodes == null ) {
-				leaf.nodes = new NodeImpl[] { leaf };
-			}
+			nodes = new NodeImpl[] { leaf };
 		}
 		else {
-			leaf.nodes = new NodeImpl[leaf.size - 1];
+			nodes = new NodeImpl[leaf.size - 1];
 			NodeImpl curr = leaf;
 			while ( curr.parent != null ) {
-				leaf.nodes[curr.size - 2] = curr;
+				nodes[curr.size - 2] = curr;
 				curr = curr.parent;
 			}
 		}
 
-		return leaf.nodes;
+		// the violations might be shared between threads: only publish the array once it is complete
+		leaf.nodes = nodes;
+		return nodes;
 	}
 
 	boolean isSubPathOf(NodeImpl other) {
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.regex;
+
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+import org.hibernate.validator.spi.regex.CompiledRegex;
+import org.hibernate.validator.spi.regex.RegexEngine;
+
+/**
+ * Caches the regular expressions compiled by the {@link RegexEngine} of a validator factory, so that the constraint
+ * validators of the constraints sharing a regular expression, typically {@code @Pattern} constraints only differing
+ * by their groups or their message, share the compiled regular expression.
+ * <p>
+ * The cache is bounded to protect against regular expressions built dynamically, e.g. through the programmatic API.
+ */
+public class CompiledRegexCache {
+
+	private final RegexEngine regexEngine;
+
+	private final BoundedConcurrentCache<RegexKey, CompiledRegex> compiledRegexes = new BoundedConcurrentCache<>();
+
+	public CompiledRegexCache(RegexEngine regexEngine) {
+		this.regexEngine = regexEngine;
+	}
+
+	public RegexEngine getRegexEngine() {
+		return regexEngine;
+	}
+
+	/**
+	 * @param regexp the regular expression
+	 * @param flags the flags of the regular expression
+	 * @return the compiled regular expression
+	 * @throws java.util.regex.PatternSyntaxException if the regular expression cannot be compiled, in which case
+	 * nothing is cached
+	 */
+	public CompiledRegex getCompiledRegex(String regexp, int flags) {
+		return compiledRegexes.get( new RegexKey( regexp, flags ), key -> regexEngine.compile( key.regexp, key.flags ) );
+	}
+
+	public CacheStatistics getCacheStatistics() {
+		return compiledRegexes.toCacheStatistics( ValidatorFactoryStatistics.COMPILED_REGEX_CACHE );
+	}
+
+	public void clear() {
+		compiledRegexes.clear();
+	}
+
+	private static final class RegexKey {
+
+		private final String regexp;
+
+		private final int flags;
+
+		private final int hashCode;
+
+		private RegexKey(String regexp, int flags) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.hashCode = 31 * regexp.hashCode() + flags;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			RegexKey other = (RegexKey) o;
+			return flags == other.flags && regexp.equals( other.regexp );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
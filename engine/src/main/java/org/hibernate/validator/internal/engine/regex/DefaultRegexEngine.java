@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.regex;
+
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.spi.regex.CompiledRegex;
+import org.hibernate.validator.spi.regex.RegexEngine;
+
+/**
+ * The default {@link RegexEngine}, relying on {@link Pattern}.
+ */
+public class DefaultRegexEngine implements RegexEngine {
+
+	public static final DefaultRegexEngine INSTANCE = new DefaultRegexEngine();
+
+	private DefaultRegexEngine() {
+	}
+
+	@Override
+	public CompiledRegex compile(String regexp, int flags) {
+		return new CompiledPattern( Pattern.compile( regexp, flags ) );
+	}
+
+	private static class CompiledPattern implements CompiledRegex {
+
+		private final Pattern pattern;
+
+		private CompiledPattern(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		public boolean matches(CharSequence input) {
+			return pattern.matcher( input ).matches();
+		}
+
+		@Override
+		public String toString() {
+			return pattern.toString();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Classes related to the compilation and the caching of the regular expressions of the constraints.
+ */
+package org.hibernate.validator.internal.engine.regex;
@@ -127,7 +127,7 @@ public static TraversableResolver getDefault() {
 	public static TraversableResolver wrapWithCachingForSingleValidation(TraversableResolver traversableResolver,
 			boolean traversableResolverResultCacheEnabled) {
 
-		if ( TraverseAllTraversableResolver.class.equals( traversableResolver.getClass() ) || !traversableResolverResultCacheEnabled ) {
+		if ( isTraverseAll( traversableResolver ) || !traversableResolverResultCacheEnabled ) {
 			return traversableResolver;
 		}
 		else if ( JPA_AWARE_TRAVERSABLE_RESOLVER_CLASS_NAME.equals( traversableResolver.getClass().getName() ) ) {
@@ -138,6 +138,14 @@ else if ( JPA_AWARE_TRAVERSABLE_RESOLVER_CLASS_NAME.equals( traversableResolver.
 		}
 	}
 
+	/**
+	 * @return {@code true} if the given resolver is our default resolver considering everything as reachable and
+	 * cascadable, in which case calling it can be skipped altogether
+	 */
+	public static boolean isTraverseAll(TraversableResolver traversableResolver) {
+		return TraverseAllTraversableResolver.class.equals( traversableResolver.getClass() );
+	}
+
 	private static TraversableResolver getTraverseAllTraversableResolver() {
 		return new TraverseAllTraversableResolver();
 	}
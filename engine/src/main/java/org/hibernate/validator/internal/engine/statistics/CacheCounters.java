@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.engine.CacheStatistics;
+
+/**
+ * Thread-safe hit, miss and insertion counters of a cache.
+ * <p>
+ * The evictions are not tracked as such: they are derived from the number of insertions and the current size of the
+ * cache, which also accounts for the entries reclaimed by the garbage collector in the caches holding soft or weak
+ * references.
+ */
+public final class CacheCounters {
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder insertionCount = new LongAdder();
+
+	public void recordHit() {
+		hitCount.increment();
+	}
+
+	public void recordMiss() {
+		missCount.increment();
+	}
+
+	public void recordInsertion() {
+		insertionCount.increment();
+	}
+
+	/**
+	 * @param name the name of the cache
+	 * @param size the current size of the cache
+	 * @return the current statistics of the cache
+	 */
+	public CacheStatistics toCacheStatistics(String name, long size) {
+		return new CacheStatisticsImpl( name, size, hitCount.sum(), missCount.sum(), Math.max( 0L, insertionCount.sum() - size ) );
+	}
+}
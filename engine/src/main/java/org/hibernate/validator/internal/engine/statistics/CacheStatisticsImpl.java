@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.statistics;
+
+import java.util.Collection;
+
+import org.hibernate.validator.engine.CacheStatistics;
+
+/**
+ * Immutable snapshot of the statistics of a cache.
+ */
+public final class CacheStatisticsImpl implements CacheStatistics {
+
+	private final String name;
+	private final long size;
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+	public CacheStatisticsImpl(String name, long size, long hitCount, long missCount, long evictionCount) {
+		this.name = name;
+		this.size = size;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * Sums the statistics of several caches playing the same role, e.g. the bean metadata caches of the bean metadata
+	 * managers of a validator factory.
+	 */
+	public static CacheStatistics sum(String name, Collection<CacheStatistics> cacheStatistics) {
+		long size = 0;
+		long hitCount = 0;
+		long missCount = 0;
+		long evictionCount = 0;
+		for ( CacheStatistics statistics : cacheStatistics ) {
+			size += statistics.getSize();
+			hitCount += statistics.getHitCount();
+			missCount += statistics.getMissCount();
+			evictionCount += statistics.getEvictionCount();
+		}
+		return new CacheStatisticsImpl( name, size, hitCount, missCount, evictionCount );
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getSize() {
+		return size;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStatistics{name=" + name + ", size=" + size + ", hitCount=" + hitCount + ", missCount=" + missCount
+				+ ", evictionCount=" + evictionCount + "}";
+	}
+}
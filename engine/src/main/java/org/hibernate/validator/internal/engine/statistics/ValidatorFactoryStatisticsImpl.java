@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.statistics;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.engine.regex.CompiledRegexCache;
+import org.hibernate.validator.internal.engine.validationplan.ValidationPlanCache;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.messageinterpolation.AbstractMessageInterpolator;
+import org.hibernate.validator.spi.instrumentation.LatencyHistogram;
+
+/**
+ * Live view of the statistics of a validator factory, the values being collected from the components of the factory
+ * each time they are requested: collecting the statistics has no cost until they are actually requested.
+ * <p>
+ * Also takes care of the registration of the statistics as an MXBean.
+ */
+public class ValidatorFactoryStatisticsImpl implements ValidatorFactoryStatisticsMXBean {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final String OBJECT_NAME_PREFIX = "org.hibernate.validator:type=ValidatorFactoryStatistics,factory=";
+
+	/**
+	 * A live view of the bean metadata managers of the validator factory, which might create new ones over time.
+	 */
+	private final Collection<? extends BeanMetaDataManager> beanMetaDataManagers;
+
+	private final ConstraintCreationContext constraintCreationContext;
+
+	private final MessageInterpolator messageInterpolator;
+
+	/**
+	 * The cache of the compiled validation plans, {@code null} if the compiled validation plans are disabled.
+	 */
+	private final ValidationPlanCache validationPlanCache;
+
+	private final CompiledRegexCache compiledRegexCache;
+
+	/**
+	 * The name under which the statistics have been registered, {@code null} if they are not registered.
+	 */
+	private volatile ObjectName objectName;
+
+	public ValidatorFactoryStatisticsImpl(Collection<? extends BeanMetaDataManager> beanMetaDataManagers,
+			ConstraintCreationContext constraintCreationContext,
+			MessageInterpolator messageInterpolator,
+			ValidationPlanCache validationPlanCache,
+			CompiledRegexCache compiledRegexCache) {
+		this.beanMetaDataManagers = beanMetaDataManagers;
+		this.constraintCreationContext = constraintCreationContext;
+		this.messageInterpolator = messageInterpolator;
+		this.validationPlanCache = validationPlanCache;
+		this.compiledRegexCache = compiledRegexCache;
+	}
+
+	@Override
+	public List<CacheStatistics> getCacheStatistics() {
+		List<CacheStatistics> beanMetaDataCacheStatistics = new ArrayList<>();
+		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers ) {
+			beanMetaDataCacheStatistics.add( beanMetaDataManager.getCacheStatistics() );
+		}
+
+		List<CacheStatistics> cacheStatistics = new ArrayList<>( 6 );
+		cacheStatistics.add( CacheStatisticsImpl.sum( BEAN_METADATA_CACHE, beanMetaDataCacheStatistics ) );
+		addIfAvailable( cacheStatistics, constraintCreationContext.getConstraintValidatorManager().getCacheStatistics() );
+		cacheStatistics.add( constraintCreationContext.getValueExtractorManager().getResolver().getCacheStatistics() );
+		if ( messageInterpolator instanceof AbstractMessageInterpolator ) {
+			addIfAvailable( cacheStatistics, ( (AbstractMessageInterpolator) messageInterpolator ).getMessageTemplateCacheStatistics() );
+		}
+		if ( validationPlanCache != null ) {
+			cacheStatistics.add( validationPlanCache.getCacheStatistics() );
+		}
+		cacheStatistics.add( compiledRegexCache.getCacheStatistics() );
+		return cacheStatistics;
+	}
+
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		for ( CacheStatistics cacheStatistics : getCacheStatistics() ) {
+			if ( cacheStatistics.getName().equals( cacheName ) ) {
+				return cacheStatistics;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public LatencyHistogram getBeanMetaDataBuildLatencies() {
+		LatencyHistogram beanMetaDataBuildLatencies = new LatencyHistogram();
+		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers ) {
+			beanMetaDataBuildLatencies.add( beanMetaDataManager.getBeanMetaDataBuildLatencies() );
+		}
+		return beanMetaDataBuildLatencies;
+	}
+
+	/**
+	 * Registers the statistics in the platform MBean server. A failure is logged but does not prevent the validator
+	 * factory from being used.
+	 *
+	 * @param validatorFactory the validator factory the statistics belong to, used to build a unique name
+	 */
+	public void registerMBean(Object validatorFactory) {
+		String name = OBJECT_NAME_PREFIX + Integer.toHexString( System.identityHashCode( validatorFactory ) );
+		try {
+			ObjectName candidateObjectName = new ObjectName( name );
+			ManagementFactory.getPlatformMBeanServer().registerMBean( this, candidateObjectName );
+			this.objectName = candidateObjectName;
+		}
+		catch (JMException | RuntimeException e) {
+			LOG.unableToRegisterStatisticsMBean( name, e );
+		}
+	}
+
+	/**
+	 * Unregisters the statistics from the platform MBean server if they have been registered.
+	 */
+	public void unregisterMBean() {
+		ObjectName registeredObjectName = this.objectName;
+		if ( registeredObjectName == null ) {
+			return;
+		}
+
+		this.objectName = null;
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean( registeredObjectName );
+		}
+		catch (JMException | RuntimeException e) {
+			LOG.unableToUnregisterStatisticsMBean( registeredObjectName.toString(), e );
+		}
+	}
+
+	/**
+	 * @return the name under which the statistics have been registered, {@code null} if they are not registered
+	 */
+	public ObjectName getObjectName() {
+		return objectName;
+	}
+
+	private static void addIfAvailable(List<CacheStatistics> cacheStatistics, CacheStatistics candidate) {
+		if ( candidate != null ) {
+			cacheStatistics.add( candidate );
+		}
+	}
+}
@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.statistics;
+
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
+
+/**
+ * The management interface of the validator factory statistics: the statistics are exposed as is, the caches and the
+ * histogram being mapped to open data by the MXBean framework.
+ */
+public interface ValidatorFactoryStatisticsMXBean extends ValidatorFactoryStatistics {
+}
@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Collection of the validator factory statistics and their exposure through JMX.
+ */
+package org.hibernate.validator.internal.engine.statistics;
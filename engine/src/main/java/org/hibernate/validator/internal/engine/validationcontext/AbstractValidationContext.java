@@ -5,9 +5,13 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -15,17 +19,18 @@
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
 import jakarta.validation.TraversableResolver;
-import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.ConstraintViolationSink;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.DeferredMessageInterpolation;
 import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.ResultTruncation;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.path.ModifiablePath;
-import org.hibernate.validator.internal.engine.path.NodeImpl;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
@@ -98,28 +103,68 @@
 	private final boolean disableAlreadyValidatedBeanTracking;
 
 	/**
-	 * The set of already processed meta constraints per bean - path ({@link BeanPathMetaConstraintProcessedUnit}).
+	 * Keeps track of the already processed beans and of the already processed meta constraints per bean - path.
 	 */
 	@Lazy
-	private Set<BeanPathMetaConstraintProcessedUnit> processedPathUnits;
+	private ProcessedBeanTracker processedBeanTracker;
 
 	/**
-	 * The set of already processed groups per bean ({@link BeanGroupProcessedUnit}).
+	 * Contains all failing constraints so far.
 	 */
 	@Lazy
-	private Set<BeanGroupProcessedUnit> processedGroupUnits;
+	private Set<ConstraintViolation<T>> failingConstraintViolations;
 
 	/**
-	 * Maps an object to a list of paths (represented by leaf nodes) in which it has been validated. The objects are the bean instances.
+	 * The sink receiving the constraint violations, if they are not collected in {@link #failingConstraintViolations}.
 	 */
-	@Lazy
-	private Map<Object, Set<NodeImpl>> processedPathsPerBean;
+	private ConstraintViolationSink<T> constraintViolationSink;
 
 	/**
-	 * Contains all failing constraints so far.
+	 * The number of constraint violations found so far.
 	 */
-	@Lazy
-	private Set<ConstraintViolation<T>> failingConstraintViolations;
+	private int numberOfFailingConstraints;
+
+	/**
+	 * Whether the sink asked for the validation to stop.
+	 */
+	private boolean validationCancelled;
+
+	/**
+	 * The maximum number of constraint violations reported by this validation call, {@code 0} meaning no limit.
+	 */
+	private final int maxConstraintViolations;
+
+	/**
+	 * Shared by the constraint violations to know whether the validation stopped because the maximum number of
+	 * constraint violations was reached. Only set if there is such a maximum.
+	 */
+	private final ResultTruncation resultTruncation;
+
+	/**
+	 * The maximum duration of this validation call in nanoseconds, {@code 0} meaning no timeout.
+	 */
+	private final long validationTimeoutNanos;
+
+	/**
+	 * The {@link System#nanoTime()} at which this validation call started, only relevant if there is a timeout.
+	 */
+	private final long validationStartNanos;
+
+	/**
+	 * Whether this context has been forked from another context to validate a part of the object graph concurrently.
+	 */
+	private final boolean forked;
+
+	/**
+	 * The constraint violations found by a forked context, in the order they have been found, to be merged into the
+	 * context it has been forked from; {@code null} if this context is not forked.
+	 */
+	private final Collection<ConstraintViolation<T>> forkedConstraintViolations;
+
+	/**
+	 * A constraint validator context which is not referenced anymore and can be reused for the next constraint.
+	 */
+	private ConstraintValidatorContextImpl releasedConstraintValidatorContext;
 
 	protected AbstractValidationContext(
 			ConstraintValidatorManager constraintValidatorManager,
@@ -143,6 +188,56 @@ protected AbstractValidationContext(
 		this.rootBeanMetaData = rootBeanMetaData;
 
 		this.disableAlreadyValidatedBeanTracking = disableAlreadyValidatedBeanTracking;
+
+		this.maxConstraintViolations = validatorScopedContext.getMaxConstraintViolations();
+		this.resultTruncation = maxConstraintViolations > 0 ? new ResultTruncation() : null;
+
+		this.validationTimeoutNanos = validatorScopedContext.getValidationTimeoutNanos();
+		this.validationStartNanos = validationTimeoutNanos > 0 ? System.nanoTime() : 0L;
+
+		this.forked = false;
+		this.forkedConstraintViolations = null;
+	}
+
+	/**
+	 * Creates a context forked from the given one, see {@link #fork(TraversableResolver)}.
+	 */
+	protected AbstractValidationContext(AbstractValidationContext<T> parent, TraversableResolver traversableResolver) {
+		this.constraintValidatorManager = parent.constraintValidatorManager;
+		this.validatorScopedContext = parent.validatorScopedContext;
+		this.constraintValidatorFactory = parent.constraintValidatorFactory;
+		this.traversableResolver = traversableResolver;
+		this.constraintValidatorInitializationContext = parent.constraintValidatorInitializationContext;
+
+		this.rootBean = parent.rootBean;
+		this.rootBeanClass = parent.rootBeanClass;
+		this.rootBeanMetaData = parent.rootBeanMetaData;
+
+		this.disableAlreadyValidatedBeanTracking = parent.disableAlreadyValidatedBeanTracking;
+		if ( parent.processedBeanTracker != null ) {
+			this.processedBeanTracker = new ProcessedBeanTracker( parent.processedBeanTracker );
+		}
+
+		// the violations found before the fork count for the maximum number of constraint violations, the truncation is
+		// only reported when the forked context is merged back as its violations might be discarded
+		this.maxConstraintViolations = parent.maxConstraintViolations;
+		this.resultTruncation = parent.resultTruncation;
+		this.numberOfFailingConstraints = parent.numberOfFailingConstraints;
+
+		this.validationTimeoutNanos = parent.validationTimeoutNanos;
+		this.validationStartNanos = parent.validationStartNanos;
+
+		this.forked = true;
+		if ( parent.constraintViolationSink != null ) {
+			// the violations are pushed to the sink of the parent, in order, when the forked context is merged back
+			List<ConstraintViolation<T>> constraintViolations = new ArrayList<>();
+			this.constraintViolationSink = constraintViolations::add;
+			this.forkedConstraintViolations = constraintViolations;
+		}
+		else {
+			this.failingConstraintViolations = new LinkedHashSet<>();
+			this.forkedConstraintViolations = failingConstraintViolations;
+		}
 	}
 
 	@Override
@@ -201,13 +296,7 @@ public boolean isBeanAlreadyValidated(Object value, Class<?> group, ModifiablePa
 			return false;
 		}
 
-		boolean alreadyValidated = isAlreadyValidatedForCurrentGroup( value, group );
-
-		if ( alreadyValidated ) {
-			alreadyValidated = isAlreadyValidatedForPath( value, path.getLeafNode() );
-		}
-
-		return alreadyValidated;
+		return processedBeanTracker != null && processedBeanTracker.isProcessed( value, group, path.getLeafNode() );
 	}
 
 	@Override
@@ -216,8 +305,9 @@ public void markCurrentBeanAsProcessed(ValueContext<?, ?> valueContext) {
 			return;
 		}
 
-		markCurrentBeanAsProcessedForCurrentGroup( valueContext.getCurrentBean(), valueContext.getCurrentGroup() );
-		markCurrentBeanAsProcessedForCurrentPath( valueContext.getCurrentBean(), valueContext.getPropertyPath() );
+		// HV-1031 The path object is mutated as we traverse the object tree, hence we use the node which is not (for the most part):
+		getInitializedProcessedBeanTracker().markProcessed( valueContext.getCurrentBean(), valueContext.getCurrentGroup(),
+				valueContext.getPropertyPath().getLeafNode() );
 	}
 
 	@Override
@@ -229,41 +319,148 @@ public Set<ConstraintViolation<T>> getFailingConstraints() {
 		return failingConstraintViolations;
 	}
 
+	@Override
+	public void reportConstraintViolationsTo(ConstraintViolationSink<T> constraintViolationSink) {
+		this.constraintViolationSink = constraintViolationSink;
+	}
+
+	@Override
+	public int getNumberOfFailingConstraints() {
+		return numberOfFailingConstraints;
+	}
+
+	@Override
+	public boolean isValidationCancelled() {
+		return validationCancelled;
+	}
+
+	@Override
+	public boolean isForked() {
+		return forked;
+	}
+
+	@Override
+	public void join(BaseBeanValidationContext<T> forkedContext) {
+		AbstractValidationContext<T> forkedValidationContext = (AbstractValidationContext<T>) forkedContext;
+
+		if ( forkedValidationContext.processedBeanTracker != null ) {
+			getInitializedProcessedBeanTracker().merge( forkedValidationContext.processedBeanTracker );
+		}
+
+		for ( ConstraintViolation<T> constraintViolation : forkedValidationContext.forkedConstraintViolations ) {
+			if ( validationCancelled ) {
+				return;
+			}
+			if ( maxConstraintViolations > 0 && numberOfFailingConstraints >= maxConstraintViolations ) {
+				resultTruncation.markTruncated();
+				validationCancelled = true;
+				return;
+			}
+			addConstraintViolation( constraintViolation );
+		}
+
+		// the forked context only cancels the validation when it reaches the maximum number of constraint violations
+		if ( forkedValidationContext.validationCancelled && !validationCancelled ) {
+			resultTruncation.markTruncated();
+			validationCancelled = true;
+		}
+	}
+
+	@Override
+	public void checkValidationTimeout() {
+		if ( validationTimeoutNanos > 0 && System.nanoTime() - validationStartNanos > validationTimeoutNanos ) {
+			throw LOG.getValidationTimeoutException( rootBeanClass, Duration.ofNanos( validationTimeoutNanos ), getFailingConstraints() );
+		}
+	}
+
 	@Override
 	public void addConstraintFailure(
 			ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext,
 			ConstraintDescriptor<?> descriptor
 	) {
+		if ( validationCancelled ) {
+			return;
+		}
+		if ( maxConstraintViolations > 0 && numberOfFailingConstraints >= maxConstraintViolations ) {
+			// the limit is reached and there is at least one more violation: drop it and stop the validation
+			if ( !forked ) {
+				resultTruncation.markTruncated();
+			}
+			validationCancelled = true;
+			return;
+		}
+
 		String messageTemplate = constraintViolationCreationContext.getMessage();
-		String interpolatedMessage = interpolate(
+		String interpolatedMessage;
+		DeferredMessageInterpolation deferredMessageInterpolation;
+		Path path;
+		if ( validatorScopedContext.isLazyMessageInterpolation() ) {
+			// the path is captured by the interpolation context, so it needs to be materialized first
+			path = constraintViolationCreationContext.getPath().materialize();
+			interpolatedMessage = null;
+			deferredMessageInterpolation = new DeferredMessageInterpolation(
+					validatorScopedContext.getMessageInterpolator(),
+					messageTemplate,
+					createMessageInterpolatorContext(
+							constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
+							constraintViolationCreationContext.isCustomViolation(),
+							valueContext.getCurrentValidatedValue(),
+							descriptor,
+							path,
+							constraintViolationCreationContext.getMessageParameters(),
+							constraintViolationCreationContext.getExpressionVariables()
+					),
+					validatorScopedContext.getValidationListener()
+			);
+		}
+		else {
+			interpolatedMessage = interpolate(
+					messageTemplate,
+					constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
+					constraintViolationCreationContext.isCustomViolation(),
+					valueContext.getCurrentValidatedValue(),
+					descriptor,
+					constraintViolationCreationContext.getPath(),
+					constraintViolationCreationContext.getMessageParameters(),
+					constraintViolationCreationContext.getExpressionVariables()
+			);
+			deferredMessageInterpolation = null;
+			// at this point we make a copy of the path to avoid side effects
+			path = constraintViolationCreationContext.getPath().materialize();
+		}
+
+		ConstraintViolation<T> constraintViolation = createConstraintViolation(
 				messageTemplate,
-				constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
-				constraintViolationCreationContext.isCustomViolation(),
-				valueContext.getCurrentValidatedValue(),
+				interpolatedMessage,
+				deferredMessageInterpolation,
+				path,
 				descriptor,
-				constraintViolationCreationContext.getPath(),
-				constraintViolationCreationContext.getMessageParameters(),
-				constraintViolationCreationContext.getExpressionVariables()
-		);
-		// at this point we make a copy of the path to avoid side effects
-		Path path = constraintViolationCreationContext.getPath().materialize();
-
-		getInitializedFailingConstraintViolations().add(
-				createConstraintViolation(
-						messageTemplate,
-						interpolatedMessage,
-						path,
-						descriptor,
-						valueContext,
-						constraintViolationCreationContext
-				)
+				valueContext,
+				constraintViolationCreationContext
 		);
+
+		addConstraintViolation( constraintViolation );
+	}
+
+	private void addConstraintViolation(ConstraintViolation<T> constraintViolation) {
+		if ( constraintViolationSink != null ) {
+			numberOfFailingConstraints++;
+			validationCancelled = !constraintViolationSink.accept( constraintViolation );
+		}
+		else if ( getInitializedFailingConstraintViolations().add( constraintViolation ) ) {
+			numberOfFailingConstraints++;
+		}
+	}
+
+	protected ResultTruncation getResultTruncation() {
+		return resultTruncation;
 	}
 
 	protected abstract ConstraintViolation<T> createConstraintViolation(
 			String messageTemplate,
 			String interpolatedMessage,
+			DeferredMessageInterpolation deferredMessageInterpolation,
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext,
@@ -277,7 +474,8 @@ public boolean hasMetaConstraintBeenProcessed(Object bean, ModifiablePath path,
 			return false;
 		}
 
-		return getInitializedProcessedPathUnits().contains( new BeanPathMetaConstraintProcessedUnit( bean, path, metaConstraint ) );
+		// the leaf represents the entire path
+		return processedBeanTracker != null && processedBeanTracker.isConstraintProcessed( bean, path.getLeafNode(), metaConstraint );
 	}
 
 	@Override
@@ -288,14 +486,21 @@ public void markConstraintProcessed(Object bean, ModifiablePath path, MetaConstr
 			return;
 		}
 
-		getInitializedProcessedPathUnits().add( new BeanPathMetaConstraintProcessedUnit( bean, path, metaConstraint ) );
+		getInitializedProcessedBeanTracker().markConstraintProcessed( bean, path.getLeafNode(), metaConstraint );
 	}
 
 	@Override
-	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, ModifiablePath path) {
+	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, ValueContext<?, ?> valueContext) {
+		ConstraintValidatorContextImpl constraintValidatorContext = releasedConstraintValidatorContext;
+		if ( constraintValidatorContext != null ) {
+			releasedConstraintValidatorContext = null;
+			constraintValidatorContext.reset( constraintDescriptor, valueContext );
+			return constraintValidatorContext;
+		}
+
 		return new ConstraintValidatorContextImpl(
 				validatorScopedContext.getClockProvider(),
-				path,
+				valueContext,
 				constraintDescriptor,
 				validatorScopedContext.getConstraintValidatorPayload(),
 				validatorScopedContext.getConstraintExpressionLanguageFeatureLevel(),
@@ -303,6 +508,14 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 		);
 	}
 
+	@Override
+	public void releaseConstraintValidatorContext(ConstraintValidatorContextImpl constraintValidatorContext) {
+		// subclasses carry additional state and are not reused
+		if ( constraintValidatorContext.getClass() == ConstraintValidatorContextImpl.class ) {
+			releasedConstraintValidatorContext = constraintValidatorContext;
+		}
+	}
+
 	@Override
 	public abstract String toString();
 
@@ -315,7 +528,29 @@ private String interpolate(
 			Path path,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables) {
-		MessageInterpolatorContext context = new MessageInterpolatorContext(
+		MessageInterpolatorContext context = createMessageInterpolatorContext(
+				expressionLanguageFeatureLevel,
+				customViolation,
+				validatedValue,
+				descriptor,
+				path,
+				messageParameters,
+				expressionVariables
+		);
+
+		return DeferredMessageInterpolation.interpolate( validatorScopedContext.getMessageInterpolator(), messageTemplate, context,
+				validatorScopedContext.getValidationListener() );
+	}
+
+	private MessageInterpolatorContext createMessageInterpolatorContext(
+			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
+			boolean customViolation,
+			Object validatedValue,
+			ConstraintDescriptor<?> descriptor,
+			Path path,
+			Map<String, Object> messageParameters,
+			Map<String, Object> expressionVariables) {
+		return new MessageInterpolatorContext(
 				descriptor,
 				validatedValue,
 				getRootBeanClass(),
@@ -325,83 +560,13 @@ private String interpolate(
 				expressionLanguageFeatureLevel,
 				customViolation
 		);
-
-		try {
-			return validatorScopedContext.getMessageInterpolator().interpolate(
-					messageTemplate,
-					context
-			);
-		}
-		catch (ValidationException ve) {
-			throw ve;
-		}
-		catch (Exception e) {
-			throw LOG.getExceptionOccurredDuringMessageInterpolationException( e );
-		}
 	}
 
-	private boolean isAlreadyValidatedForPath(Object value, NodeImpl path) {
-		Set<NodeImpl> pathSet = getInitializedProcessedPathsPerBean().get( value );
-		if ( pathSet == null ) {
-			return false;
-		}
-
-		if ( path.isRootPath() ) {
-			return true;
+	private ProcessedBeanTracker getInitializedProcessedBeanTracker() {
+		if ( processedBeanTracker == null ) {
+			processedBeanTracker = new ProcessedBeanTracker();
 		}
-
-		// Since this isAlreadyValidatedForPath(..) is only applicable for an object that is about to be cascaded into,
-		// it means that the new path we are testing cannot be a root path; also since we are cascading into inner
-		// objects, i.e. going further from the object tree root, it means that the new path cannot be shorter than
-		// the ones we've already encountered.
-		for ( NodeImpl p : pathSet ) {
-			if ( p.isSubPathOrContains( path ) ) {
-				return true;
-			}
-		}
-		return false;
-	}
-
-	private boolean isAlreadyValidatedForCurrentGroup(Object value, Class<?> group) {
-		return getInitializedProcessedGroupUnits().contains( new BeanGroupProcessedUnit( value, group ) );
-	}
-
-	private void markCurrentBeanAsProcessedForCurrentPath(Object bean, ModifiablePath path) {
-		Map<Object, Set<NodeImpl>> processedPathsPerBean = getInitializedProcessedPathsPerBean();
-
-		Set<NodeImpl> processedPaths = processedPathsPerBean.get( bean );
-		if ( processedPaths == null ) {
-			processedPaths = new HashSet<>();
-			processedPathsPerBean.put( bean, processedPaths );
-		}
-
-		// HV-1031 The path object is mutated as we traverse the object tree, hence we use the node which is not (for the most part):
-		processedPaths.add( path.getLeafNode() );
-	}
-
-	private void markCurrentBeanAsProcessedForCurrentGroup(Object bean, Class<?> group) {
-		getInitializedProcessedGroupUnits().add( new BeanGroupProcessedUnit( bean, group ) );
-	}
-
-	private Set<BeanPathMetaConstraintProcessedUnit> getInitializedProcessedPathUnits() {
-		if ( processedPathUnits == null ) {
-			processedPathUnits = new HashSet<>();
-		}
-		return processedPathUnits;
-	}
-
-	private Set<BeanGroupProcessedUnit> getInitializedProcessedGroupUnits() {
-		if ( processedGroupUnits == null ) {
-			processedGroupUnits = new HashSet<>();
-		}
-		return processedGroupUnits;
-	}
-
-	private Map<Object, Set<NodeImpl>> getInitializedProcessedPathsPerBean() {
-		if ( processedPathsPerBean == null ) {
-			processedPathsPerBean = new IdentityHashMap<>();
-		}
-		return processedPathsPerBean;
+		return processedBeanTracker;
 	}
 
 	private Set<ConstraintViolation<T>> getInitializedFailingConstraintViolations() {
@@ -410,100 +575,4 @@ private Set<ConstraintViolation<T>> getInitializedFailingConstraintViolations()
 		}
 		return failingConstraintViolations;
 	}
-
-	private static final class BeanPathMetaConstraintProcessedUnit {
-
-		// these fields are final but we don't mark them as final as an optimization
-		private Object bean;
-		private NodeImpl pathLeaf;
-		private MetaConstraint<?> metaConstraint;
-		private int hashCode;
-
-		BeanPathMetaConstraintProcessedUnit(Object bean, ModifiablePath path, MetaConstraint<?> metaConstraint) {
-			this.bean = bean;
-			this.pathLeaf = path.getLeafNode(); // because the leaf represent the entire path.
-			this.metaConstraint = metaConstraint;
-			this.hashCode = createHashCode();
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			// null check intentionally left out
-			if ( this == o ) {
-				return true;
-			}
-
-			// No need to check if the class matches because of how this class is used in the set.
-			BeanPathMetaConstraintProcessedUnit that = (BeanPathMetaConstraintProcessedUnit) o;
-
-			if ( bean != that.bean ) { // instance equality
-				return false;
-			}
-			if ( metaConstraint != that.metaConstraint ) {
-				return false;
-			}
-			if ( !pathLeaf.equals( that.pathLeaf ) ) {
-				return false;
-			}
-
-			return true;
-		}
-
-		@Override
-		public int hashCode() {
-			return hashCode;
-		}
-
-		private int createHashCode() {
-			int result = System.identityHashCode( bean );
-			result = 31 * result + pathLeaf.hashCode();
-			result = 31 * result + System.identityHashCode( metaConstraint );
-			return result;
-		}
-	}
-
-	private static final class BeanGroupProcessedUnit {
-
-		// these fields are final but we don't mark them as final as an optimization
-		private Object bean;
-		private Class<?> group;
-		private int hashCode;
-
-		BeanGroupProcessedUnit(Object bean, Class<?> group) {
-			this.bean = bean;
-			this.group = group;
-			this.hashCode = createHashCode();
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			// null check intentionally left out
-			if ( this == o ) {
-				return true;
-			}
-
-			// No need to check if the class matches because of how this class is used in the set.
-			BeanGroupProcessedUnit that = (BeanGroupProcessedUnit) o;
-
-			if ( bean != that.bean ) { // instance equality
-				return false;
-			}
-			if ( !group.equals( that.group ) ) {
-				return false;
-			}
-
-			return true;
-		}
-
-		@Override
-		public int hashCode() {
-			return hashCode;
-		}
-
-		private int createHashCode() {
-			int result = System.identityHashCode( bean );
-			result = 31 * result + group.hashCode();
-			return result;
-		}
-	}
 }
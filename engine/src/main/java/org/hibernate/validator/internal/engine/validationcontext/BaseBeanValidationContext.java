@@ -52,4 +52,29 @@
 	default boolean appliesTo(MetaConstraint<?> metaConstraint) {
 		return true;
 	}
+
+	/**
+	 * Creates a context validating a part of the object graph, e.g. some elements of a large container, concurrently
+	 * with the other parts. The forked context sees the beans already processed by this context, but collects its own
+	 * constraint violations and processed beans: this context must not be used until the forked context is merged back
+	 * with {@link #join(BaseBeanValidationContext)} or discarded.
+	 *
+	 * @param traversableResolver the traversable resolver of the forked context, as the one of this context might cache
+	 * the results in a structure which is not thread-safe
+	 * @return the forked context
+	 */
+	BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver);
+
+	/**
+	 * Merges back the constraint violations and the processed beans of a context forked from this one, as if they had
+	 * been found by this context.
+	 *
+	 * @param forkedContext a context created by {@link #fork(TraversableResolver)}
+	 */
+	void join(BaseBeanValidationContext<T> forkedContext);
+
+	/**
+	 * @return {@code true} if this context has been created by {@link #fork(TraversableResolver)}
+	 */
+	boolean isForked();
 }
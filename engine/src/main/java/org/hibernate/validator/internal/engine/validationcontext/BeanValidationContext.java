@@ -12,6 +12,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.DeferredMessageInterpolation;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
@@ -39,13 +40,22 @@ rootBean, rootBeanClass, rootBeanMetaData, buildDisableAlreadyValidatedBeanTrack
 		);
 	}
 
+	private BeanValidationContext(BeanValidationContext<T> parent, TraversableResolver traversableResolver) {
+		super( parent, traversableResolver );
+	}
+
+	@Override
+	public BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		return new BeanValidationContext<>( this, traversableResolver );
+	}
+
 	private static boolean buildDisableAlreadyValidatedBeanTracking(BeanMetaData<?> rootBeanMetaData) {
 		return !rootBeanMetaData.hasCascadables();
 	}
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath,
+			String messageTemplate, String interpolatedMessage, DeferredMessageInterpolation deferredMessageInterpolation, Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forBeanValidation(
@@ -53,13 +63,15 @@ protected ConstraintViolation<T> createConstraintViolation(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				localContext.getCurrentBean(),
 				localContext.getCurrentValidatedValue(),
 				propertyPath,
 				constraintDescriptor,
-				constraintViolationCreationContext.getDynamicPayload()
+				constraintViolationCreationContext.getDynamicPayload(),
+				getResultTruncation()
 		);
 	}
 
@@ -17,11 +17,11 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.DeferredMessageInterpolation;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.CrossParameterConstraintValidatorContextImpl;
-import org.hibernate.validator.internal.engine.path.ModifiablePath;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
@@ -73,6 +73,18 @@
 		this.executableParameters = executableParameters;
 	}
 
+	private ParameterExecutableValidationContext(ParameterExecutableValidationContext<T> parent, TraversableResolver traversableResolver) {
+		super( parent, traversableResolver );
+		this.executable = parent.executable;
+		this.executableMetaData = parent.executableMetaData;
+		this.executableParameters = parent.executableParameters;
+	}
+
+	@Override
+	public BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		return new ParameterExecutableValidationContext<>( this, traversableResolver );
+	}
+
 	@Override
 	public Executable getExecutable() {
 		return executable;
@@ -93,12 +105,12 @@ private static boolean buildDisableAlreadyValidatedBeanTracking(Optional<Executa
 	}
 
 	@Override
-	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, ModifiablePath path) {
+	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, ValueContext<?, ?> valueContext) {
 		if ( ConstraintType.CROSS_PARAMETER.equals( constraintDescriptor.getConstraintType() ) ) {
 			return new CrossParameterConstraintValidatorContextImpl(
 					getParameterNames(),
 					validatorScopedContext.getClockProvider(),
-					path,
+					valueContext.getPropertyPath(),
 					constraintDescriptor,
 					validatorScopedContext.getConstraintValidatorPayload(),
 					validatorScopedContext.getConstraintExpressionLanguageFeatureLevel(),
@@ -106,25 +118,19 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 			);
 		}
 
-		return new ConstraintValidatorContextImpl(
-				validatorScopedContext.getClockProvider(),
-				path,
-				constraintDescriptor,
-				validatorScopedContext.getConstraintValidatorPayload(),
-				validatorScopedContext.getConstraintExpressionLanguageFeatureLevel(),
-				validatorScopedContext.getCustomViolationExpressionLanguageFeatureLevel()
-		);
+		return super.createConstraintValidatorContextFor( constraintDescriptor, valueContext );
 	}
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
+			String messageTemplate, String interpolatedMessage, DeferredMessageInterpolation deferredMessageInterpolation, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forParameterValidation(
 				messageTemplate,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				valueContext.getCurrentBean(),
@@ -132,7 +138,8 @@ protected ConstraintViolation<T> createConstraintViolation(
 				propertyPath,
 				constraintDescriptor,
 				executableParameters,
-				constraintViolationCreationContext.getDynamicPayload()
+				constraintViolationCreationContext.getDynamicPayload(),
+				getResultTruncation()
 		);
 	}
 
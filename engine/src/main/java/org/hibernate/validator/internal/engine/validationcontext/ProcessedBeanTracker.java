@@ -0,0 +1,421 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.util.Arrays;
+
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+
+/**
+ * Keeps track of the beans already processed during a validation call, to avoid infinite loops when validating cyclic
+ * object graphs and to avoid reporting twice the violations of a constraint defined for several groups.
+ * <p>
+ * The beans are stored in an open addressing table using linear probing and compared by identity. The groups are
+ * mapped to ids, so that the groups for which a bean has been validated can be kept in a bit set. The state of a bean
+ * is only allocated once, when the bean is processed for the first time: contrary to a set of composite keys, looking
+ * up a bean does not allocate anything. The paths and the processed constraints of a bean are also stored in open
+ * addressing tables, hashed with the cached hash code of the whole path.
+ * <p>
+ * The tracker of a forked validation context is layered on top of the tracker of its parent, which is only read until
+ * the marks of the forked context are merged back into it.
+ * <p>
+ * Not thread-safe, as the validation context it belongs to.
+ */
+final class ProcessedBeanTracker {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final int INITIAL_GROUP_CAPACITY = 4;
+
+	private Object[] beans = new Object[INITIAL_CAPACITY];
+
+	private BeanState[] states = new BeanState[INITIAL_CAPACITY];
+
+	private int size;
+
+	/**
+	 * The groups encountered so far, the index of a group being its id.
+	 */
+	private Class<?>[] groups = new Class<?>[INITIAL_GROUP_CAPACITY];
+
+	private int groupCount;
+
+	/**
+	 * The tracker of the validation context this one has been forked from, {@code null} if not forked.
+	 */
+	private final ProcessedBeanTracker parent;
+
+	ProcessedBeanTracker() {
+		this( null );
+	}
+
+	ProcessedBeanTracker(ProcessedBeanTracker parent) {
+		this.parent = parent;
+	}
+
+	boolean isProcessed(Object bean, Class<?> group, NodeImpl path) {
+		if ( parent != null ) {
+			// the groups and the paths are tracked independently: the bean might have been processed for the group in
+			// the parent and in the given path in this tracker, or the opposite
+			return isProcessedForGroup( bean, group ) && isProcessedForPath( bean, path );
+		}
+
+		BeanState state = getState( bean );
+		if ( state == null ) {
+			return false;
+		}
+
+		int groupId = getGroupId( group );
+		if ( groupId < 0 || !state.isProcessedForGroup( groupId ) ) {
+			return false;
+		}
+
+		return state.isProcessedForPath( path );
+	}
+
+	void markProcessed(Object bean, Class<?> group, NodeImpl path) {
+		BeanState state = getOrCreateState( bean );
+		state.markProcessedForGroup( getOrCreateGroupId( group ) );
+		state.markProcessedForPath( path );
+	}
+
+	boolean isConstraintProcessed(Object bean, NodeImpl path, MetaConstraint<?> metaConstraint) {
+		BeanState state = getState( bean );
+		if ( state != null && state.isConstraintProcessed( path, metaConstraint ) ) {
+			return true;
+		}
+		return parent != null && parent.isConstraintProcessed( bean, path, metaConstraint );
+	}
+
+	void markConstraintProcessed(Object bean, NodeImpl path, MetaConstraint<?> metaConstraint) {
+		getOrCreateState( bean ).markConstraintProcessed( path, metaConstraint );
+	}
+
+	/**
+	 * Adds the marks of a tracker layered on top of this one, once the forked validation context it belongs to has
+	 * completed.
+	 *
+	 * @param forked the tracker of the forked validation context
+	 */
+	void merge(ProcessedBeanTracker forked) {
+		for ( int i = 0; i < forked.beans.length; i++ ) {
+			Object bean = forked.beans[i];
+			if ( bean == null ) {
+				continue;
+			}
+
+			BeanState forkedState = forked.states[i];
+			BeanState state = getOrCreateState( bean );
+			for ( int groupId = 0; groupId < forked.groupCount; groupId++ ) {
+				if ( forkedState.isProcessedForGroup( groupId ) ) {
+					state.markProcessedForGroup( getOrCreateGroupId( forked.groups[groupId] ) );
+				}
+			}
+			for ( NodeImpl path : forkedState.paths ) {
+				if ( path != null ) {
+					state.markProcessedForPath( path );
+				}
+			}
+			for ( int j = 0; j < forkedState.constraints.length; j++ ) {
+				if ( forkedState.constraints[j] != null ) {
+					state.markConstraintProcessed( forkedState.constraintPaths[j], forkedState.constraints[j] );
+				}
+			}
+		}
+	}
+
+	private boolean isProcessedForGroup(Object bean, Class<?> group) {
+		BeanState state = getState( bean );
+		if ( state != null ) {
+			int groupId = getGroupId( group );
+			if ( groupId >= 0 && state.isProcessedForGroup( groupId ) ) {
+				return true;
+			}
+		}
+		return parent != null && parent.isProcessedForGroup( bean, group );
+	}
+
+	private boolean isProcessedForPath(Object bean, NodeImpl path) {
+		BeanState state = getState( bean );
+		if ( state != null && state.isProcessedForPath( path ) ) {
+			return true;
+		}
+		return parent != null && parent.isProcessedForPath( bean, path );
+	}
+
+	private BeanState getState(Object bean) {
+		int mask = beans.length - 1;
+		int index = hash( bean ) & mask;
+		Object current;
+		while ( ( current = beans[index] ) != null ) {
+			if ( current == bean ) {
+				return states[index];
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return null;
+	}
+
+	private BeanState getOrCreateState(Object bean) {
+		int mask = beans.length - 1;
+		int index = hash( bean ) & mask;
+		Object current;
+		while ( ( current = beans[index] ) != null ) {
+			if ( current == bean ) {
+				return states[index];
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		BeanState state = new BeanState();
+		beans[index] = bean;
+		states[index] = state;
+		size++;
+
+		// we keep the load factor under 0.5 so that the probing sequences stay short
+		if ( size * 2 > beans.length ) {
+			resize();
+		}
+
+		return state;
+	}
+
+	private void resize() {
+		Object[] oldBeans = beans;
+		BeanState[] oldStates = states;
+
+		beans = new Object[oldBeans.length * 2];
+		states = new BeanState[oldStates.length * 2];
+
+		int mask = beans.length - 1;
+		for ( int i = 0; i < oldBeans.length; i++ ) {
+			Object bean = oldBeans[i];
+			if ( bean == null ) {
+				continue;
+			}
+			int index = hash( bean ) & mask;
+			while ( beans[index] != null ) {
+				index = ( index + 1 ) & mask;
+			}
+			beans[index] = bean;
+			states[index] = oldStates[i];
+		}
+	}
+
+	private int getGroupId(Class<?> group) {
+		// there are only a handful of groups per validation call, a linear search is the cheapest option
+		for ( int i = 0; i < groupCount; i++ ) {
+			if ( groups[i] == group ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int getOrCreateGroupId(Class<?> group) {
+		int groupId = getGroupId( group );
+		if ( groupId >= 0 ) {
+			return groupId;
+		}
+
+		if ( groupCount == groups.length ) {
+			groups = Arrays.copyOf( groups, groupCount * 2 );
+		}
+		groups[groupCount] = group;
+		return groupCount++;
+	}
+
+	private static int hash(Object bean) {
+		return spread( System.identityHashCode( bean ) );
+	}
+
+	private static int spread(int hash) {
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private static final class BeanState {
+
+		private static final int INITIAL_TABLE_CAPACITY = 4;
+
+		private static final NodeImpl[] NO_PATHS = new NodeImpl[0];
+
+		private static final MetaConstraint<?>[] NO_CONSTRAINTS = new MetaConstraint<?>[0];
+
+		/**
+		 * The ids of the groups the bean has been validated for.
+		 */
+		private long groups;
+
+		/**
+		 * The ids of the groups the bean has been validated for, when there are more than 64 groups.
+		 */
+		private long[] additionalGroups;
+
+		/**
+		 * The paths (represented by leaf nodes) in which the bean has been validated, as an open addressing table.
+		 */
+		private NodeImpl[] paths = NO_PATHS;
+
+		private int pathCount;
+
+		/**
+		 * The processed meta constraints and the paths (represented by leaf nodes) they have been processed in, as an
+		 * open addressing table keyed by both; only the constraints defined for more than one group are tracked.
+		 */
+		private MetaConstraint<?>[] constraints = NO_CONSTRAINTS;
+
+		private NodeImpl[] constraintPaths = NO_PATHS;
+
+		private int constraintCount;
+
+		private boolean isProcessedForGroup(int groupId) {
+			if ( groupId < Long.SIZE ) {
+				return ( groups & ( 1L << groupId ) ) != 0;
+			}
+			int index = groupId / Long.SIZE - 1;
+			return additionalGroups != null && index < additionalGroups.length
+					&& ( additionalGroups[index] & ( 1L << groupId ) ) != 0;
+		}
+
+		private void markProcessedForGroup(int groupId) {
+			if ( groupId < Long.SIZE ) {
+				groups |= 1L << groupId;
+				return;
+			}
+			int index = groupId / Long.SIZE - 1;
+			if ( additionalGroups == null ) {
+				additionalGroups = new long[index + 1];
+			}
+			else if ( index >= additionalGroups.length ) {
+				additionalGroups = Arrays.copyOf( additionalGroups, index + 1 );
+			}
+			additionalGroups[index] |= 1L << groupId;
+		}
+
+		private boolean isProcessedForPath(NodeImpl path) {
+			if ( pathCount == 0 ) {
+				return false;
+			}
+
+			if ( path.isRootPath() ) {
+				return true;
+			}
+
+			// Since this check is only applicable for an object that is about to be cascaded into, it means that the
+			// new path we are testing cannot be a root path; also since we are cascading into inner objects, i.e. going
+			// further from the object tree root, it means that the new path cannot be shorter than the ones we've
+			// already encountered.
+			for ( NodeImpl processedPath : paths ) {
+				if ( processedPath != null && processedPath.isSubPathOrContains( path ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void markProcessedForPath(NodeImpl path) {
+			if ( paths.length == 0 ) {
+				paths = new NodeImpl[INITIAL_TABLE_CAPACITY];
+			}
+
+			int mask = paths.length - 1;
+			int index = spread( path.pathHashCode() ) & mask;
+			NodeImpl current;
+			while ( ( current = paths[index] ) != null ) {
+				if ( current == path || current.equals( path ) ) {
+					return;
+				}
+				index = ( index + 1 ) & mask;
+			}
+
+			paths[index] = path;
+			pathCount++;
+
+			if ( pathCount * 2 > paths.length ) {
+				NodeImpl[] oldPaths = paths;
+				paths = new NodeImpl[oldPaths.length * 2];
+				mask = paths.length - 1;
+				for ( NodeImpl oldPath : oldPaths ) {
+					if ( oldPath == null ) {
+						continue;
+					}
+					index = spread( oldPath.pathHashCode() ) & mask;
+					while ( paths[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					paths[index] = oldPath;
+				}
+			}
+		}
+
+		private boolean isConstraintProcessed(NodeImpl path, MetaConstraint<?> metaConstraint) {
+			if ( constraintCount == 0 ) {
+				return false;
+			}
+
+			int mask = constraints.length - 1;
+			int index = constraintHash( path, metaConstraint ) & mask;
+			MetaConstraint<?> current;
+			while ( ( current = constraints[index] ) != null ) {
+				if ( current == metaConstraint ) {
+					NodeImpl processedPath = constraintPaths[index];
+					if ( processedPath == path || processedPath.equals( path ) ) {
+						return true;
+					}
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return false;
+		}
+
+		private void markConstraintProcessed(NodeImpl path, MetaConstraint<?> metaConstraint) {
+			if ( constraints.length == 0 ) {
+				constraints = new MetaConstraint<?>[INITIAL_TABLE_CAPACITY];
+				constraintPaths = new NodeImpl[INITIAL_TABLE_CAPACITY];
+			}
+
+			int mask = constraints.length - 1;
+			int index = constraintHash( path, metaConstraint ) & mask;
+			MetaConstraint<?> current;
+			while ( ( current = constraints[index] ) != null ) {
+				if ( current == metaConstraint ) {
+					NodeImpl processedPath = constraintPaths[index];
+					if ( processedPath == path || processedPath.equals( path ) ) {
+						return;
+					}
+				}
+				index = ( index + 1 ) & mask;
+			}
+
+			constraints[index] = metaConstraint;
+			constraintPaths[index] = path;
+			constraintCount++;
+
+			if ( constraintCount * 2 > constraints.length ) {
+				MetaConstraint<?>[] oldConstraints = constraints;
+				NodeImpl[] oldConstraintPaths = constraintPaths;
+				constraints = new MetaConstraint<?>[oldConstraints.length * 2];
+				constraintPaths = new NodeImpl[oldConstraintPaths.length * 2];
+				mask = constraints.length - 1;
+				for ( int i = 0; i < oldConstraints.length; i++ ) {
+					if ( oldConstraints[i] == null ) {
+						continue;
+					}
+					index = constraintHash( oldConstraintPaths[i], oldConstraints[i] ) & mask;
+					while ( constraints[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					constraints[index] = oldConstraints[i];
+					constraintPaths[index] = oldConstraintPaths[i];
+				}
+			}
+		}
+
+		private static int constraintHash(NodeImpl path, MetaConstraint<?> metaConstraint) {
+			return spread( 31 * System.identityHashCode( metaConstraint ) + path.pathHashCode() );
+		}
+	}
+}
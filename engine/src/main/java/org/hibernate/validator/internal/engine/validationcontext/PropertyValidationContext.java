@@ -15,6 +15,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.DeferredMessageInterpolation;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
@@ -55,6 +56,16 @@ rootBean, rootBeanClass, rootBeanMetaData, buildDisableAlreadyValidatedBeanTrack
 		this.validatedProperty = validatedProperty;
 	}
 
+	private PropertyValidationContext(PropertyValidationContext<T> parent, TraversableResolver traversableResolver) {
+		super( parent, traversableResolver );
+		this.validatedProperty = parent.validatedProperty;
+	}
+
+	@Override
+	public BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		return new PropertyValidationContext<>( this, traversableResolver );
+	}
+
 	private static boolean buildDisableAlreadyValidatedBeanTracking(BeanMetaData<?> rootBeanMetaData) {
 		return !rootBeanMetaData.hasCascadables();
 	}
@@ -78,7 +89,7 @@ private String getPropertyName(ConstraintLocation location) {
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath,
+			String messageTemplate, String interpolatedMessage, DeferredMessageInterpolation deferredMessageInterpolation, Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forBeanValidation(
@@ -86,13 +97,15 @@ protected ConstraintViolation<T> createConstraintViolation(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				localContext.getCurrentBean(),
 				localContext.getCurrentValidatedValue(),
 				propertyPath,
 				constraintDescriptor,
-				constraintViolationCreationContext.getDynamicPayload()
+				constraintViolationCreationContext.getDynamicPayload(),
+				getResultTruncation()
 		);
 	}
 
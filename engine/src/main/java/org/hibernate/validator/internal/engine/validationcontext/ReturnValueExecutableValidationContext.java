@@ -15,6 +15,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.DeferredMessageInterpolation;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
@@ -66,6 +67,18 @@
 		this.executableReturnValue = executableReturnValue;
 	}
 
+	private ReturnValueExecutableValidationContext(ReturnValueExecutableValidationContext<T> parent, TraversableResolver traversableResolver) {
+		super( parent, traversableResolver );
+		this.executable = parent.executable;
+		this.executableMetaData = parent.executableMetaData;
+		this.executableReturnValue = parent.executableReturnValue;
+	}
+
+	@Override
+	public BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		return new ReturnValueExecutableValidationContext<>( this, traversableResolver );
+	}
+
 	@Override
 	public Executable getExecutable() {
 		return executable;
@@ -86,13 +99,14 @@ private static boolean buildDisableAlreadyValidatedBeanTracking(Optional<Executa
 	}
 
 	@Override
-	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor,
+	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, DeferredMessageInterpolation deferredMessageInterpolation, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext, ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forReturnValueValidation(
 				messageTemplate,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				valueContext.getCurrentBean(),
@@ -100,7 +114,8 @@ protected ConstraintViolation<T> createConstraintViolation(String messageTemplat
 				propertyPath,
 				constraintDescriptor,
 				executableReturnValue,
-				constraintViolationCreationContext.getDynamicPayload()
+				constraintViolationCreationContext.getDynamicPayload(),
+				getResultTruncation()
 		);
 	}
 
@@ -12,12 +12,12 @@
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.ConstraintViolationSink;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
-import org.hibernate.validator.internal.engine.path.ModifiablePath;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 
@@ -56,5 +56,38 @@ void addConstraintFailure(
 
 	Set<ConstraintViolation<T>> getFailingConstraints();
 
-	ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, ModifiablePath path);
+	/**
+	 * Pushes the constraint violations to the given sink as soon as they are created instead of collecting them.
+	 *
+	 * @param constraintViolationSink the sink receiving the constraint violations
+	 */
+	void reportConstraintViolationsTo(ConstraintViolationSink<T> constraintViolationSink);
+
+	/**
+	 * @return the number of constraint violations found so far, be they collected or pushed to a sink
+	 */
+	int getNumberOfFailingConstraints();
+
+	/**
+	 * @return {@code true} if the sink receiving the constraint violations asked for the validation to stop or if the
+	 * maximum number of constraint violations was exceeded
+	 */
+	boolean isValidationCancelled();
+
+	/**
+	 * Aborts the validation if the validation timeout has elapsed since the creation of this context.
+	 *
+	 * @throws org.hibernate.validator.engine.ValidationTimeoutException if the validation timeout has elapsed
+	 */
+	void checkValidationTimeout();
+
+	ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, ValueContext<?, ?> valueContext);
+
+	/**
+	 * Gives back a constraint validator context which is not referenced anymore so that it can be reused for the next
+	 * constraint of this validation.
+	 *
+	 * @param constraintValidatorContext the released context
+	 */
+	void releaseConstraintValidatorContext(ConstraintValidatorContextImpl constraintValidatorContext);
 }
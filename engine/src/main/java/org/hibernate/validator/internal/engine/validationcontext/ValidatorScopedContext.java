@@ -5,6 +5,7 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.MessageInterpolator;
@@ -13,6 +14,7 @@
 import org.hibernate.validator.internal.engine.ValidatorFactoryScopedContext;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
 /**
@@ -82,6 +84,38 @@ public class ValidatorScopedContext {
 
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to interpolate the constraint violation messages lazily.
+	 */
+	private final boolean lazyMessageInterpolation;
+
+	/**
+	 * Hibernate Validator specific maximum number of constraint violations reported by a validation call, {@code 0}
+	 * meaning no limit.
+	 */
+	private final int maxConstraintViolations;
+
+	/**
+	 * Hibernate Validator specific maximum duration of a validation call in nanoseconds, {@code 0} meaning no timeout.
+	 */
+	private final long validationTimeoutNanos;
+
+	/**
+	 * Hibernate Validator specific minimum number of elements of a cascaded container for its elements to be validated
+	 * in parallel, {@code 0} meaning the parallel validation is disabled.
+	 */
+	private final int parallelCascadedValidationThreshold;
+
+	/**
+	 * Hibernate Validator specific executor validating the chunks of the containers validated in parallel.
+	 */
+	private final Executor parallelCascadedValidationExecutor;
+
+	/**
+	 * Hibernate Validator specific listener receiving the events of the validation engine, {@code null} if none.
+	 */
+	private final ValidationListener validationListener;
+
 	public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScopedContext) {
 		this.messageInterpolator = validatorFactoryScopedContext.getMessageInterpolator();
 		this.parameterNameProvider = validatorFactoryScopedContext.getParameterNameProvider();
@@ -95,6 +129,12 @@ public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScop
 		this.constraintExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getConstraintExpressionLanguageFeatureLevel();
 		this.customViolationExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getCustomViolationExpressionLanguageFeatureLevel();
 		this.showValidatedValuesInTraceLogs = validatorFactoryScopedContext.isShowValidatedValuesInTraceLogs();
+		this.lazyMessageInterpolation = validatorFactoryScopedContext.isLazyMessageInterpolation();
+		this.maxConstraintViolations = validatorFactoryScopedContext.getMaxConstraintViolations();
+		this.validationTimeoutNanos = validatorFactoryScopedContext.getValidationTimeout().toNanos();
+		this.parallelCascadedValidationThreshold = validatorFactoryScopedContext.getParallelCascadedValidationThreshold();
+		this.parallelCascadedValidationExecutor = validatorFactoryScopedContext.getParallelCascadedValidationExecutor();
+		this.validationListener = validatorFactoryScopedContext.getValidationListener();
 	}
 
 	public MessageInterpolator getMessageInterpolator() {
@@ -144,4 +184,28 @@ public ExpressionLanguageFeatureLevel getCustomViolationExpressionLanguageFeatur
 	public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
+
+	public boolean isLazyMessageInterpolation() {
+		return lazyMessageInterpolation;
+	}
+
+	public int getMaxConstraintViolations() {
+		return maxConstraintViolations;
+	}
+
+	public long getValidationTimeoutNanos() {
+		return validationTimeoutNanos;
+	}
+
+	public ValidationListener getValidationListener() {
+		return validationListener;
+	}
+
+	public int getParallelCascadedValidationThreshold() {
+		return parallelCascadedValidationThreshold;
+	}
+
+	public Executor getParallelCascadedValidationExecutor() {
+		return parallelCascadedValidationExecutor;
+	}
 }
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationplan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.internal.engine.groups.Group;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.facets.Cascadable;
+
+/**
+ * The compiled validation plans of a given bean type.
+ * <p>
+ * The plan of the default group is compiled eagerly as it is by far the most used one, the plans of the other groups
+ * are compiled on first use.
+ * <p>
+ * Note that this class does not keep a reference to the {@link BeanMetaData} it has been compiled from so that it can
+ * be weakly cached by the bean metadata.
+ */
+public final class BeanValidationPlan {
+
+	private final Cascadable[] cascadables;
+
+	/**
+	 * The plan of the default group or {@code null} if the default group cannot be validated with a compiled plan.
+	 */
+	private final GroupValidationPlan defaultGroupValidationPlan;
+
+	private final Set<MetaConstraint<?>> propertyMetaConstraints;
+
+	private final Set<MetaConstraint<?>> classMetaConstraints;
+
+	private final Set<MetaConstraint<?>> allMetaConstraints;
+
+	private final ConcurrentMap<Class<?>, GroupValidationPlan> groupValidationPlans = new ConcurrentHashMap<>();
+
+	private BeanValidationPlan(Cascadable[] cascadables, GroupValidationPlan defaultGroupValidationPlan, Set<MetaConstraint<?>> propertyMetaConstraints,
+			Set<MetaConstraint<?>> classMetaConstraints, Set<MetaConstraint<?>> allMetaConstraints) {
+		this.cascadables = cascadables;
+		this.defaultGroupValidationPlan = defaultGroupValidationPlan;
+		this.propertyMetaConstraints = propertyMetaConstraints;
+		this.classMetaConstraints = classMetaConstraints;
+		this.allMetaConstraints = allMetaConstraints;
+	}
+
+	static BeanValidationPlan compile(BeanMetaData<?> beanMetaData, BeanMetaDataManager beanMetaDataManager) {
+		List<Cascadable> cascadables = new ArrayList<>();
+		for ( Cascadable cascadable : beanMetaData.getCascadables() ) {
+			cascadables.add( cascadable );
+		}
+
+		return new BeanValidationPlan(
+				cascadables.toArray( new Cascadable[0] ),
+				compileDefaultGroupValidationPlan( beanMetaData, beanMetaDataManager ),
+				beanMetaData.getPropertyMetaConstraints(),
+				beanMetaData.getClassMetaConstraints(),
+				beanMetaData.getAllMetaConstraints()
+		);
+	}
+
+	/**
+	 * The cascadables of the bean, in the iteration order of the metadata. The returned array must not be modified.
+	 */
+	public Cascadable[] getCascadables() {
+		return cascadables;
+	}
+
+	/**
+	 * Returns the plan to use to validate the constraints of the bean for the given group.
+	 *
+	 * @param group the group being validated
+	 * @return the compiled plan or {@code null} if the constraints have to be validated by walking the metadata
+	 */
+	public GroupValidationPlan getGroupValidationPlan(Class<?> group) {
+		if ( group == Default.class ) {
+			return defaultGroupValidationPlan;
+		}
+		if ( Group.isDefaultGroup( group ) ) {
+			// a Default group loaded by another class loader, we don't bother compiling a plan for it
+			return null;
+		}
+
+		GroupValidationPlan groupValidationPlan = groupValidationPlans.get( group );
+		if ( groupValidationPlan == null ) {
+			groupValidationPlan = new GroupValidationPlan( new GroupValidationPlan.Step[] {
+					new GroupValidationPlan.Step( propertyMetaConstraints, classMetaConstraints, allMetaConstraints, group )
+			} );
+			GroupValidationPlan previous = groupValidationPlans.putIfAbsent( group, groupValidationPlan );
+			if ( previous != null ) {
+				groupValidationPlan = previous;
+			}
+		}
+		return groupValidationPlan;
+	}
+
+	/**
+	 * Compiles the plan of the default group: one step per class of the hierarchy.
+	 * <p>
+	 * Returns {@code null} when the plan would not be strictly equivalent to walking the metadata, i.e. when a class
+	 * of the hierarchy redefines the default group sequence or when constraints hosted by an interface are reachable
+	 * from several classes of the hierarchy (see HV-466).
+	 */
+	private static <U> GroupValidationPlan compileDefaultGroupValidationPlan(BeanMetaData<U> beanMetaData, BeanMetaDataManager beanMetaDataManager) {
+		List<GroupValidationPlan.Step> steps = new ArrayList<>();
+		Map<Class<?>, Class<?>> interfaceHostingClasses = new HashMap<>();
+
+		for ( Class<? super U> clazz : beanMetaData.getClassHierarchy() ) {
+			BeanMetaData<? super U> hostingBeanMetaData = beanMetaDataManager.getBeanMetaData( clazz );
+
+			if ( hostingBeanMetaData.isDefaultGroupSequenceRedefined() ) {
+				return null;
+			}
+
+			for ( MetaConstraint<?> metaConstraint : hostingBeanMetaData.getAllDirectMetaConstraints() ) {
+				Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
+				if ( declaringClass.isInterface() ) {
+					Class<?> hostingClass = interfaceHostingClasses.putIfAbsent( declaringClass, clazz );
+					if ( hostingClass != null && !hostingClass.equals( clazz ) ) {
+						return null;
+					}
+				}
+			}
+
+			GroupValidationPlan.Step step = new GroupValidationPlan.Step(
+					hostingBeanMetaData.getDirectPropertyMetaConstraints(),
+					hostingBeanMetaData.getDirectClassMetaConstraints(),
+					hostingBeanMetaData.getAllDirectMetaConstraints(),
+					Default.class
+			);
+			if ( !step.isEmpty() ) {
+				steps.add( step );
+			}
+		}
+
+		return new GroupValidationPlan( steps.toArray( new GroupValidationPlan.Step[0] ) );
+	}
+}
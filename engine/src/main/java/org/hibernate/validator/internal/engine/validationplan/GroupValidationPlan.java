@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationplan;
+
+import java.util.Collection;
+
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+
+/**
+ * The immutable, flattened list of the meta constraints to evaluate when validating a bean for a single group.
+ * <p>
+ * The plan is made of one or more steps: when validating the default group, there is one step per class of the bean
+ * hierarchy, in the order of {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData#getClassHierarchy()};
+ * for any other group, there is a single step. Each step only contains the meta constraints defined for the group.
+ * <p>
+ * The arrays exposed by this class are shared and must not be modified.
+ */
+public final class GroupValidationPlan {
+
+	private static final MetaConstraint<?>[] EMPTY_META_CONSTRAINTS = new MetaConstraint<?>[0];
+
+	private final Step[] steps;
+
+	GroupValidationPlan(Step[] steps) {
+		this.steps = steps;
+	}
+
+	public Step[] getSteps() {
+		return steps;
+	}
+
+	@Override
+	public String toString() {
+		return "GroupValidationPlan [steps=" + steps.length + "]";
+	}
+
+	/**
+	 * The meta constraints of a single step of a {@link GroupValidationPlan}.
+	 */
+	public static final class Step {
+
+		private final MetaConstraint<?>[] propertyMetaConstraints;
+
+		private final MetaConstraint<?>[] classMetaConstraints;
+
+		private final MetaConstraint<?>[] allMetaConstraints;
+
+		Step(Collection<MetaConstraint<?>> propertyMetaConstraints, Collection<MetaConstraint<?>> classMetaConstraints,
+				Collection<MetaConstraint<?>> allMetaConstraints, Class<?> group) {
+			this.propertyMetaConstraints = filter( propertyMetaConstraints, group );
+			this.classMetaConstraints = filter( classMetaConstraints, group );
+			this.allMetaConstraints = filter( allMetaConstraints, group );
+		}
+
+		public MetaConstraint<?>[] getPropertyMetaConstraints() {
+			return propertyMetaConstraints;
+		}
+
+		public MetaConstraint<?>[] getClassMetaConstraints() {
+			return classMetaConstraints;
+		}
+
+		public MetaConstraint<?>[] getAllMetaConstraints() {
+			return allMetaConstraints;
+		}
+
+		boolean isEmpty() {
+			return allMetaConstraints.length == 0;
+		}
+
+		/**
+		 * Keeps the meta constraints defined for the given group, preserving the iteration order of the metadata.
+		 */
+		private static MetaConstraint<?>[] filter(Collection<MetaConstraint<?>> metaConstraints, Class<?> group) {
+			int count = 0;
+			MetaConstraint<?>[] filtered = new MetaConstraint<?>[metaConstraints.size()];
+			for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+				if ( metaConstraint.getGroupList().contains( group ) ) {
+					filtered[count++] = metaConstraint;
+				}
+			}
+
+			if ( count == 0 ) {
+				return EMPTY_META_CONSTRAINTS;
+			}
+			if ( count < filtered.length ) {
+				MetaConstraint<?>[] trimmed = new MetaConstraint<?>[count];
+				System.arraycopy( filtered, 0, trimmed, 0, count );
+				return trimmed;
+			}
+			return filtered;
+		}
+	}
+}
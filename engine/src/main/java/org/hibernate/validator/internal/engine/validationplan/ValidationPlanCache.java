@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationplan;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.util.EnumSet;
+
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
+import org.hibernate.validator.internal.engine.statistics.CacheCounters;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+
+/**
+ * Factory scoped cache of the {@link BeanValidationPlan}s.
+ * <p>
+ * Plans are keyed by the identity of the {@link BeanMetaData} they have been compiled from: the bean metadata
+ * managers are free to evict their metadata, in which case the corresponding plans are evicted too.
+ */
+public class ValidationPlanCache {
+
+	/**
+	 * The default initial capacity for this cache.
+	 */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	/**
+	 * The default load factor for this cache.
+	 */
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The default concurrency level for this cache.
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<BeanMetaData<?>, BeanValidationPlan> beanValidationPlans = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	private final CacheCounters cacheCounters = new CacheCounters();
+
+	/**
+	 * Returns the plan of the given bean, compiling it if needed.
+	 *
+	 * @param beanMetaData the metadata of the bean
+	 * @param beanMetaDataManager the manager the metadata originates from, used to retrieve the metadata of the
+	 * classes of the hierarchy
+	 * @return the plan of the bean, never {@code null}
+	 */
+	public BeanValidationPlan getBeanValidationPlan(BeanMetaData<?> beanMetaData, BeanMetaDataManager beanMetaDataManager) {
+		BeanValidationPlan beanValidationPlan = beanValidationPlans.get( beanMetaData );
+		if ( beanValidationPlan != null ) {
+			cacheCounters.recordHit();
+			return beanValidationPlan;
+		}
+
+		cacheCounters.recordMiss();
+		beanValidationPlan = BeanValidationPlan.compile( beanMetaData, beanMetaDataManager );
+		BeanValidationPlan previous = beanValidationPlans.putIfAbsent( beanMetaData, beanValidationPlan );
+		if ( previous != null ) {
+			return previous;
+		}
+
+		cacheCounters.recordInsertion();
+		return beanValidationPlan;
+	}
+
+	/**
+	 * @return the current statistics of the cache
+	 */
+	public CacheStatistics getCacheStatistics() {
+		return cacheCounters.toCacheStatistics( ValidatorFactoryStatistics.VALIDATION_PLAN_CACHE, beanValidationPlans.size() );
+	}
+
+	public int numberOfCachedBeanValidationPlans() {
+		return beanValidationPlans.size();
+	}
+
+	public void clear() {
+		beanValidationPlans.clear();
+	}
+}
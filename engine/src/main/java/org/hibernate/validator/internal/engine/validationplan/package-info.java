@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Compiled, immutable validation plans flattening the bean metadata needed to validate a bean for a given group.
+ */
+package org.hibernate.validator.internal.engine.validationplan;
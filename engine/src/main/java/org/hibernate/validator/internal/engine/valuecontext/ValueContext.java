@@ -39,6 +39,17 @@
 	 */
 	private ModifiablePath propertyPath;
 
+	/**
+	 * The location whose node still needs to be appended to {@link #propertyPath}: the node is only created when the
+	 * path is actually needed, which is usually not the case when the constraint is satisfied.
+	 */
+	private ConstraintLocation pendingLocation;
+
+	/**
+	 * Whether the current value has been set since {@link #pendingLocation} was recorded and should be set on its node.
+	 */
+	private boolean pendingLocationValueSet;
+
 	/**
 	 * The current group we are validating.
 	 */
@@ -63,7 +74,21 @@
 		this.propertyPath = propertyPath;
 	}
 
+	/**
+	 * Creates a copy of this value context with its own property path, so that the copy can be used in another thread
+	 * while this value context is not modified.
+	 */
+	public final ValueContext<T, V> copy() {
+		ValueContext<T, V> copy = new ValueContext<>( parameterNameProvider, currentBean, currentValidatable,
+				ModifiablePath.createCopy( getPropertyPath() ) );
+		copy.currentGroup = currentGroup;
+		copy.currentValue = currentValue;
+		copy.constraintLocationKind = constraintLocationKind;
+		return copy;
+	}
+
 	public final ModifiablePath getPropertyPath() {
+		appendPendingNode();
 		return propertyPath;
 	}
 
@@ -87,18 +112,20 @@ public final Object getCurrentValidatedValue() {
 	}
 
 	public final void appendNode(Cascadable node) {
+		appendPendingNode();
 		ModifiablePath newPath = ModifiablePath.createCopy( propertyPath );
 		node.appendTo( newPath );
 		propertyPath = newPath;
 	}
 
 	public final void appendNode(ConstraintLocation location) {
-		ModifiablePath newPath = ModifiablePath.createCopy( propertyPath );
-		location.appendTo( parameterNameProvider, newPath );
-		propertyPath = newPath;
+		appendPendingNode();
+		pendingLocation = location;
+		pendingLocationValueSet = false;
 	}
 
 	public final void appendTypeParameterNode(String nodeName) {
+		appendPendingNode();
 		if ( propertyPath.needToAddContainerElementNode( nodeName ) ) {
 			ModifiablePath newPath = ModifiablePath.createCopy( propertyPath );
 			newPath.addContainerElementNode( nodeName );
@@ -107,14 +134,17 @@ public final void appendTypeParameterNode(String nodeName) {
 	}
 
 	public final void markCurrentPropertyAsIterable() {
+		appendPendingNode();
 		propertyPath.makeLeafNodeIterable();
 	}
 
 	public final void markCurrentPropertyAsIterableAndSetKey(Object key) {
+		appendPendingNode();
 		propertyPath.makeLeafNodeIterableAndSetMapKey( key );
 	}
 
 	public final void markCurrentPropertyAsIterableAndSetIndex(Integer index) {
+		appendPendingNode();
 		propertyPath.makeLeafNodeIterableAndSetIndex( index );
 	}
 
@@ -134,6 +164,7 @@ public final void setTypeParameter(Class<?> containerClass, Integer typeParamete
 			return;
 		}
 
+		appendPendingNode();
 		propertyPath.setLeafNodeTypeParameter( containerClass, typeParameterIndex );
 	}
 
@@ -142,7 +173,12 @@ public final void setCurrentGroup(Class<?> currentGroup) {
 	}
 
 	public final void setCurrentValidatedValue(V currentValue) {
-		propertyPath.setLeafNodeValueIfRequired( currentValue );
+		if ( pendingLocation != null ) {
+			pendingLocationValueSet = true;
+		}
+		else {
+			propertyPath.setLeafNodeValueIfRequired( currentValue );
+		}
 		this.currentValue = currentValue;
 	}
 
@@ -159,12 +195,35 @@ public final void setConstraintLocationKind(ConstraintLocationKind constraintLoc
 	}
 
 	public final ValueState<V> getCurrentValueState() {
-		return new ValueState<V>( propertyPath, currentValue );
+		return new ValueState<V>( getPropertyPath(), currentValue );
 	}
 
 	public final void resetValueState(ValueState<V> valueState) {
-		this.propertyPath = valueState.getPropertyPath();
-		this.currentValue = valueState.getCurrentValue();
+		resetValueState( valueState.getPropertyPath(), valueState.getCurrentValue() );
+	}
+
+	/**
+	 * Resets the value context to a state previously obtained from {@link #getPropertyPath()} and
+	 * {@link #getCurrentValidatedValue()}, without requiring a {@link ValueState} to be created.
+	 */
+	public final void resetValueState(ModifiablePath propertyPath, V currentValue) {
+		this.propertyPath = propertyPath;
+		this.currentValue = currentValue;
+		this.pendingLocation = null;
+	}
+
+	private void appendPendingNode() {
+		if ( pendingLocation == null ) {
+			return;
+		}
+
+		ModifiablePath newPath = ModifiablePath.createCopy( propertyPath );
+		pendingLocation.appendTo( parameterNameProvider, newPath );
+		if ( pendingLocationValueSet ) {
+			newPath.setLeafNodeValueIfRequired( currentValue );
+		}
+		propertyPath = newPath;
+		pendingLocation = null;
 	}
 
 	@Override
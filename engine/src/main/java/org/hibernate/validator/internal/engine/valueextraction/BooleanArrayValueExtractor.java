@@ -14,7 +14,7 @@
 class BooleanArrayValueExtractor implements ValueExtractor<boolean @ExtractedValue []> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new BooleanArrayValueExtractor(), boolean[].class,
-			new ArrayElement( boolean[].class ), false, Optional.empty() );
+			new ArrayElement( boolean[].class ), false, Optional.of( Boolean.class ) );
 
 	private BooleanArrayValueExtractor() {
 	}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.valueextraction;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+/**
+ * Implemented by the value extractors able to validate all the elements of a container at once, typically the value
+ * extractors of the primitive arrays: the elements are scanned with the constraint validator without boxing them and
+ * without building a path node for each of them.
+ * <p>
+ * Only the elements rejected by the constraint validator are passed to the {@link ValueExtractor.ValueReceiver}, as
+ * {@link ValueExtractor#extractValues(Object, ValueExtractor.ValueReceiver)} would do, so that they are validated
+ * the regular way to build the constraint violations.
+ *
+ * @param <T> the type of the container
+ */
+public interface BulkValueExtractor<T> {
+
+	/**
+	 * Passes the elements of the container rejected by the constraint validator to the receiver.
+	 *
+	 * @param originalValue the container
+	 * @param constraintValidator the constraint validator of the elements
+	 * @param receiver the receiver of the rejected elements
+	 * @return {@code false} if the constraint validator does not support the validation in bulk, in which case nothing
+	 * has been passed to the receiver
+	 */
+	boolean extractRejectedValues(T originalValue, ConstraintValidator<?, ?> constraintValidator, ValueExtractor.ValueReceiver receiver);
+}
@@ -14,7 +14,7 @@
 class ByteArrayValueExtractor implements ValueExtractor<byte @ExtractedValue []> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new ByteArrayValueExtractor(), byte[].class,
-			new ArrayElement( byte[].class ), false, Optional.empty() );
+			new ArrayElement( byte[].class ), false, Optional.of( Byte.class ) );
 
 	private ByteArrayValueExtractor() {
 	}
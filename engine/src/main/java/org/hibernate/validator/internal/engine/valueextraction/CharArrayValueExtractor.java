@@ -14,7 +14,7 @@
 class CharArrayValueExtractor implements ValueExtractor<char @ExtractedValue []> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new CharArrayValueExtractor(), char[].class,
-			new ArrayElement( char[].class ), false, Optional.empty() );
+			new ArrayElement( char[].class ), false, Optional.of( Character.class ) );
 
 	private CharArrayValueExtractor() {
 	}
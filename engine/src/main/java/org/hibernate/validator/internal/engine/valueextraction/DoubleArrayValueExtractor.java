@@ -6,15 +6,17 @@
 
 import java.util.Optional;
 
+import jakarta.validation.ConstraintValidator;
 import jakarta.validation.valueextraction.ExtractedValue;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.constraintvalidation.DoubleConstraintValidator;
 import org.hibernate.validator.internal.engine.path.NodeImpl;
 
-class DoubleArrayValueExtractor implements ValueExtractor<double @ExtractedValue []> {
+class DoubleArrayValueExtractor implements ValueExtractor<double @ExtractedValue []>, BulkValueExtractor<double[]> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new DoubleArrayValueExtractor(), double[].class,
-			new ArrayElement( double[].class ), false, Optional.empty() );
+			new ArrayElement( double[].class ), false, Optional.of( Double.class ) );
 
 	private DoubleArrayValueExtractor() {
 	}
@@ -25,4 +27,19 @@ public void extractValues(double[] originalValue, ValueReceiver receiver) {
 			receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, i, originalValue[i] );
 		}
 	}
+
+	@Override
+	public boolean extractRejectedValues(double[] originalValue, ConstraintValidator<?, ?> constraintValidator, ValueReceiver receiver) {
+		if ( !( constraintValidator instanceof DoubleConstraintValidator ) ) {
+			return false;
+		}
+
+		DoubleConstraintValidator doubleConstraintValidator = (DoubleConstraintValidator) constraintValidator;
+		for ( int i = 0; i < originalValue.length; i++ ) {
+			if ( !doubleConstraintValidator.isValid( originalValue[i] ) ) {
+				receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, i, originalValue[i] );
+			}
+		}
+		return true;
+	}
 }
@@ -14,7 +14,7 @@
 class FloatArrayValueExtractor implements ValueExtractor<float @ExtractedValue []> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new FloatArrayValueExtractor(), float[].class,
-			new ArrayElement( float[].class ), false, Optional.empty() );
+			new ArrayElement( float[].class ), false, Optional.of( Float.class ) );
 
 	private FloatArrayValueExtractor() {
 	}
@@ -6,15 +6,17 @@
 
 import java.util.Optional;
 
+import jakarta.validation.ConstraintValidator;
 import jakarta.validation.valueextraction.ExtractedValue;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.constraintvalidation.IntConstraintValidator;
 import org.hibernate.validator.internal.engine.path.NodeImpl;
 
-class IntArrayValueExtractor implements ValueExtractor<int @ExtractedValue []> {
+class IntArrayValueExtractor implements ValueExtractor<int @ExtractedValue []>, BulkValueExtractor<int[]> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new IntArrayValueExtractor(), int[].class,
-			new ArrayElement( int[].class ), false, Optional.empty() );
+			new ArrayElement( int[].class ), false, Optional.of( Integer.class ) );
 
 	private IntArrayValueExtractor() {
 	}
@@ -25,4 +27,19 @@ public void extractValues(int[] originalValue, ValueReceiver receiver) {
 			receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, i, originalValue[i] );
 		}
 	}
+
+	@Override
+	public boolean extractRejectedValues(int[] originalValue, ConstraintValidator<?, ?> constraintValidator, ValueReceiver receiver) {
+		if ( !( constraintValidator instanceof IntConstraintValidator ) ) {
+			return false;
+		}
+
+		IntConstraintValidator intConstraintValidator = (IntConstraintValidator) constraintValidator;
+		for ( int i = 0; i < originalValue.length; i++ ) {
+			if ( !intConstraintValidator.isValid( originalValue[i] ) ) {
+				receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, i, originalValue[i] );
+			}
+		}
+		return true;
+	}
 }
@@ -6,15 +6,17 @@
 
 import java.util.Optional;
 
+import jakarta.validation.ConstraintValidator;
 import jakarta.validation.valueextraction.ExtractedValue;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.constraintvalidation.LongConstraintValidator;
 import org.hibernate.validator.internal.engine.path.NodeImpl;
 
-class LongArrayValueExtractor implements ValueExtractor<long @ExtractedValue []> {
+class LongArrayValueExtractor implements ValueExtractor<long @ExtractedValue []>, BulkValueExtractor<long[]> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new LongArrayValueExtractor(), long[].class,
-			new ArrayElement( long[].class ), false, Optional.empty() );
+			new ArrayElement( long[].class ), false, Optional.of( Long.class ) );
 
 	private LongArrayValueExtractor() {
 	}
@@ -25,4 +27,19 @@ public void extractValues(long[] originalValue, ValueReceiver receiver) {
 			receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, i, originalValue[i] );
 		}
 	}
+
+	@Override
+	public boolean extractRejectedValues(long[] originalValue, ConstraintValidator<?, ?> constraintValidator, ValueReceiver receiver) {
+		if ( !( constraintValidator instanceof LongConstraintValidator ) ) {
+			return false;
+		}
+
+		LongConstraintValidator longConstraintValidator = (LongConstraintValidator) constraintValidator;
+		for ( int i = 0; i < originalValue.length; i++ ) {
+			if ( !longConstraintValidator.isValid( originalValue[i] ) ) {
+				receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, i, originalValue[i] );
+			}
+		}
+		return true;
+	}
 }
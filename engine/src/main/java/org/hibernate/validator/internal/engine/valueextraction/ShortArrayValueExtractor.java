@@ -14,7 +14,7 @@
 class ShortArrayValueExtractor implements ValueExtractor<short @ExtractedValue []> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new ShortArrayValueExtractor(), short[].class,
-			new ArrayElement( short[].class ), false, Optional.empty() );
+			new ArrayElement( short[].class ), false, Optional.of( Short.class ) );
 
 	private ShortArrayValueExtractor() {
 	}
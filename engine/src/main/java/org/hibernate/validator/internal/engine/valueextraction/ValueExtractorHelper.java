@@ -8,6 +8,7 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ValidationException;
 import jakarta.validation.valueextraction.ValueExtractor;
 
@@ -46,4 +47,31 @@ public static void extractValues(ValueExtractorDescriptor valueExtractorDescript
 			throw LOG.getErrorWhileExtractingValuesInValueExtractorException( valueExtractor.getClass(), e );
 		}
 	}
+
+	/**
+	 * @return {@code true} if the value extractor of the given descriptor supports the validation of the container
+	 * elements in bulk
+	 * @see BulkValueExtractor
+	 */
+	public static boolean isBulkValueExtractor(ValueExtractorDescriptor valueExtractorDescriptor) {
+		return valueExtractorDescriptor.getValueExtractor() instanceof BulkValueExtractor;
+	}
+
+	/**
+	 * @see BulkValueExtractor#extractRejectedValues(Object, ConstraintValidator, ValueExtractor.ValueReceiver)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static boolean extractRejectedValues(ValueExtractorDescriptor valueExtractorDescriptor, Object containerValue,
+			ConstraintValidator<?, ?> constraintValidator, ValueExtractor.ValueReceiver valueReceiver) {
+		ValueExtractor valueExtractor = valueExtractorDescriptor.getValueExtractor();
+		try {
+			return ( (BulkValueExtractor) valueExtractor ).extractRejectedValues( containerValue, constraintValidator, valueReceiver );
+		}
+		catch (ValidationException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw LOG.getErrorWhileExtractingValuesInValueExtractorException( valueExtractor.getClass(), e );
+		}
+	}
 }
@@ -20,6 +20,9 @@
 import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
+import org.hibernate.validator.internal.engine.statistics.CacheCounters;
 import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaDataBuilder;
 import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.PotentiallyContainerCascadingMetaData;
@@ -54,6 +57,8 @@ public class ValueExtractorResolver {
 
 	private final Set<Class<?>> nonContainerTypes = Collections.newSetFromMap( new ConcurrentHashMap<>() );
 
+	private final CacheCounters cacheCounters = new CacheCounters();
+
 	ValueExtractorResolver(Set<ValueExtractorDescriptor> valueExtractors) {
 		this.registeredValueExtractors = CollectionHelper.toImmutableSet( valueExtractors );
 	}
@@ -196,6 +201,15 @@ public Set<ValueExtractorDescriptor> getPotentialValueExtractorCandidatesForCasc
 				.collect( Collectors.collectingAndThen( Collectors.toSet(), CollectionHelper::toImmutableSet ) );
 	}
 
+	/**
+	 * @return the current statistics of the caches of the value extractors resolved for runtime types, including the
+	 * types known not to be containers
+	 */
+	public CacheStatistics getCacheStatistics() {
+		return cacheCounters.toCacheStatistics( ValidatorFactoryStatistics.VALUE_EXTRACTOR_CACHE,
+				(long) nonContainerTypes.size() + possibleValueExtractorsByRuntimeType.size() + possibleValueExtractorsByRuntimeTypeAndTypeParameter.size() );
+	}
+
 	public void clear() {
 		nonContainerTypes.clear();
 		possibleValueExtractorsByRuntimeType.clear();
@@ -295,15 +309,19 @@ else if ( TypeHelper.isAssignable( descriptor.getContainerType(), candidate.getC
 	 */
 	private Set<ValueExtractorDescriptor> getRuntimeCompliantValueExtractors(Class<?> runtimeType, Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors) {
 		if ( nonContainerTypes.contains( runtimeType ) ) {
+			cacheCounters.recordHit();
 			return Collections.emptySet();
 		}
 
 		Set<ValueExtractorDescriptor> valueExtractorDescriptors = possibleValueExtractorsByRuntimeType.get( runtimeType );
 
 		if ( valueExtractorDescriptors != null ) {
+			cacheCounters.recordHit();
 			return valueExtractorDescriptors;
 		}
 
+		cacheCounters.recordMiss();
+
 		Set<ValueExtractorDescriptor> possibleValueExtractors = potentialValueExtractorDescriptors
 				.stream()
 				.filter( e -> TypeHelper.isAssignable( e.getContainerType(), runtimeType ) )
@@ -312,19 +330,27 @@ private Set<ValueExtractorDescriptor> getRuntimeCompliantValueExtractors(Class<?
 		valueExtractorDescriptors = getMaximallySpecificValueExtractors( possibleValueExtractors );
 
 		if ( valueExtractorDescriptors.isEmpty() ) {
-			nonContainerTypes.add( runtimeType );
+			if ( nonContainerTypes.add( runtimeType ) ) {
+				cacheCounters.recordInsertion();
+			}
 			return Collections.emptySet();
 		}
 
 		Set<ValueExtractorDescriptor> valueExtractorDescriptorsToCache = CollectionHelper.toImmutableSet( valueExtractorDescriptors );
 		Set<ValueExtractorDescriptor> cachedValueExtractorDescriptors = possibleValueExtractorsByRuntimeType.putIfAbsent( runtimeType,
 				valueExtractorDescriptorsToCache );
-		return cachedValueExtractorDescriptors != null ? cachedValueExtractorDescriptors : valueExtractorDescriptorsToCache;
+		if ( cachedValueExtractorDescriptors != null ) {
+			return cachedValueExtractorDescriptors;
+		}
+
+		cacheCounters.recordInsertion();
+		return valueExtractorDescriptorsToCache;
 	}
 
 	private Set<ValueExtractorDescriptor> getRuntimeAndContainerElementCompliantValueExtractorsFromPossibleCandidates(Type declaredType,
 			TypeVariable<?> typeParameter, Class<?> runtimeType, Collection<ValueExtractorDescriptor> valueExtractorCandidates) {
 		if ( nonContainerTypes.contains( runtimeType ) ) {
+			cacheCounters.recordHit();
 			return Collections.emptySet();
 		}
 
@@ -333,9 +359,12 @@ private Set<ValueExtractorDescriptor> getRuntimeAndContainerElementCompliantValu
 		Set<ValueExtractorDescriptor> valueExtractorDescriptors = possibleValueExtractorsByRuntimeTypeAndTypeParameter.get( cacheKey );
 
 		if ( valueExtractorDescriptors != null ) {
+			cacheCounters.recordHit();
 			return valueExtractorDescriptors;
 		}
 
+		cacheCounters.recordMiss();
+
 		boolean isInternal = TypeVariables.isInternal( typeParameter );
 		Class<?> erasedDeclaredType = TypeHelper.getErasedReferenceType( declaredType );
 
@@ -348,14 +377,21 @@ private Set<ValueExtractorDescriptor> getRuntimeAndContainerElementCompliantValu
 		valueExtractorDescriptors = getMaximallySpecificValueExtractors( possibleValueExtractors );
 
 		if ( valueExtractorDescriptors.isEmpty() ) {
-			nonContainerTypes.add( runtimeType );
+			if ( nonContainerTypes.add( runtimeType ) ) {
+				cacheCounters.recordInsertion();
+			}
 			return Collections.emptySet();
 		}
 
 		Set<ValueExtractorDescriptor> valueExtractorDescriptorsToCache = CollectionHelper.toImmutableSet( valueExtractorDescriptors );
 		Set<ValueExtractorDescriptor> cachedValueExtractorDescriptors = possibleValueExtractorsByRuntimeTypeAndTypeParameter.putIfAbsent( cacheKey,
 				valueExtractorDescriptorsToCache );
-		return cachedValueExtractorDescriptors != null ? cachedValueExtractorDescriptors : valueExtractorDescriptorsToCache;
+		if ( cachedValueExtractorDescriptors != null ) {
+			return cachedValueExtractorDescriptors;
+		}
+
+		cacheCounters.recordInsertion();
+		return valueExtractorDescriptorsToCache;
 	}
 
 	private boolean checkValueExtractorTypeCompatibility(TypeVariable<?> typeParameter, boolean isInternal, Class<?> erasedDeclaredType,
@@ -4,7 +4,9 @@
  */
 package org.hibernate.validator.internal.metadata;
 
+import org.hibernate.validator.engine.CacheStatistics;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.spi.instrumentation.LatencyHistogram;
 
 /**
  * This manager is in charge of providing all constraint related meta data
@@ -16,5 +18,15 @@ public interface BeanMetaDataManager {
 
 	<T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass);
 
+	/**
+	 * @return the current statistics of the bean metadata cache
+	 */
+	CacheStatistics getCacheStatistics();
+
+	/**
+	 * @return the durations of the bean metadata builds performed by this manager
+	 */
+	LatencyHistogram getBeanMetaDataBuildLatencies();
+
 	void clear();
 }
@@ -13,9 +13,12 @@
 import java.util.EnumSet;
 import java.util.List;
 
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.statistics.CacheCounters;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataBuilder;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataImpl;
@@ -33,6 +36,8 @@
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.spi.instrumentation.LatencyHistogram;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
 
 /**
  * This manager is in charge of providing all constraint related meta data
@@ -102,6 +107,15 @@ public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
 	 */
 	private final MethodValidationConfiguration methodValidationConfiguration;
 
+	/**
+	 * Notified of the metadata builds, {@code null} if none.
+	 */
+	private final ValidationListener validationListener;
+
+	private final CacheCounters cacheCounters = new CacheCounters();
+
+	private final LatencyHistogram beanMetaDataBuildLatencies = new LatencyHistogram();
+
 	public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationContext,
 			ExecutableHelper executableHelper,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -110,6 +124,19 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 			ValidationOrderGenerator validationOrderGenerator,
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration) {
+		this( constraintCreationContext, executableHelper, parameterNameProvider, javaBeanHelper, beanMetaDataClassNormalizer, validationOrderGenerator,
+				optionalMetaDataProviders, methodValidationConfiguration, null );
+	}
+
+	public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationContext,
+			ExecutableHelper executableHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			JavaBeanHelper javaBeanHelper,
+			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
+			ValidationOrderGenerator validationOrderGenerator,
+			List<MetaDataProvider> optionalMetaDataProviders,
+			MethodValidationConfiguration methodValidationConfiguration,
+			ValidationListener validationListener) {
 		this.constraintCreationContext = constraintCreationContext;
 		this.executableHelper = executableHelper;
 		this.parameterNameProvider = parameterNameProvider;
@@ -117,6 +144,7 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 		this.validationOrderGenerator = validationOrderGenerator;
 
 		this.methodValidationConfiguration = methodValidationConfiguration;
+		this.validationListener = validationListener;
 
 		this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
 				DEFAULT_INITIAL_CAPACITY,
@@ -157,10 +185,12 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		BeanMetaData<? super T> beanMetaData = (BeanMetaData<? super T>) beanMetaDataCache.get( normalizedBeanClass );
 
 		if ( beanMetaData != null ) {
+			cacheCounters.recordHit();
 			return (BeanMetaData<T>) beanMetaData;
 		}
 
-		beanMetaData = createBeanMetaData( normalizedBeanClass );
+		cacheCounters.recordMiss();
+		beanMetaData = createTimedBeanMetaData( normalizedBeanClass );
 		BeanMetaData<? super T> previousBeanMetaData =
 				(BeanMetaData<? super T>) beanMetaDataCache.putIfAbsent( normalizedBeanClass, beanMetaData );
 
@@ -169,6 +199,7 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 			return (BeanMetaData<T>) previousBeanMetaData;
 		}
 
+		cacheCounters.recordInsertion();
 		return (BeanMetaData<T>) beanMetaData;
 	}
 
@@ -177,10 +208,33 @@ public void clear() {
 		beanMetaDataCache.clear();
 	}
 
+	@Override
+	public CacheStatistics getCacheStatistics() {
+		return cacheCounters.toCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE, beanMetaDataCache.size() );
+	}
+
+	@Override
+	public LatencyHistogram getBeanMetaDataBuildLatencies() {
+		return beanMetaDataBuildLatencies;
+	}
+
 	public int numberOfCachedBeanMetaDataInstances() {
 		return beanMetaDataCache.size();
 	}
 
+	private <T> BeanMetaDataImpl<T> createTimedBeanMetaData(Class<T> clazz) {
+		// building the metadata is expensive enough for the clock reads not to matter
+		long start = System.nanoTime();
+		BeanMetaDataImpl<T> beanMetaData = createBeanMetaData( clazz );
+		long durationNanos = System.nanoTime() - start;
+
+		beanMetaDataBuildLatencies.record( durationNanos );
+		if ( validationListener != null ) {
+			validationListener.beanMetaDataBuilt( clazz, durationNanos );
+		}
+		return beanMetaData;
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.hibernate.validator.internal.util.Version;
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A binary snapshot of the bean metadata computed for a predefined scope, allowing to skip the metadata creation of
+ * the classes known to be unconstrained when the factory is built again.
+ * <p>
+ * Each class of the snapshot is associated with a fingerprint of the bytecode of its whole hierarchy: if any class of
+ * the hierarchy changed, the fingerprints don't match and the metadata of the class is created as usual.
+ * <p>
+ * The snapshot is bound to the version of Hibernate Validator which created it.
+ */
+public class BeanMetaDataSnapshot {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int MAGIC_NUMBER = 0x4856534E;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int BUFFER_SIZE = 4096;
+
+	/**
+	 * The fingerprints of the unconstrained classes, by class name.
+	 */
+	private final Map<String, Long> unconstrainedClassFingerprints;
+
+	private BeanMetaDataSnapshot(Map<String, Long> unconstrainedClassFingerprints) {
+		this.unconstrainedClassFingerprints = unconstrainedClassFingerprints;
+	}
+
+	/**
+	 * Reads a snapshot previously written by {@link #write(OutputStream, Iterable)}.
+	 *
+	 * @param inputStream the stream to read the snapshot from; it is not closed by this method
+	 *
+	 * @return the snapshot or {@code null} if the snapshot could not be read or was created by another version
+	 */
+	public static BeanMetaDataSnapshot read(InputStream inputStream) {
+		try {
+			DataInputStream in = new DataInputStream( inputStream );
+			if ( in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION ) {
+				LOG.ignoringInvalidBeanMetaDataSnapshot();
+				return null;
+			}
+			if ( !Version.getVersionString().equals( in.readUTF() ) ) {
+				LOG.ignoringInvalidBeanMetaDataSnapshot();
+				return null;
+			}
+
+			int size = in.readInt();
+			Map<String, Long> unconstrainedClassFingerprints = new HashMap<>( size );
+			for ( int i = 0; i < size; i++ ) {
+				unconstrainedClassFingerprints.put( in.readUTF(), in.readLong() );
+			}
+			return new BeanMetaDataSnapshot( Collections.unmodifiableMap( unconstrainedClassFingerprints ) );
+		}
+		catch (IOException e) {
+			LOG.unableToReadBeanMetaDataSnapshot( e );
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a snapshot marking the given classes as unconstrained.
+	 *
+	 * @param outputStream the stream to write the snapshot to; it is not closed by this method
+	 * @param unconstrainedClasses the classes without any constraint metadata
+	 */
+	public static void write(OutputStream outputStream, Iterable<Class<?>> unconstrainedClasses) {
+		Map<String, Long> unconstrainedClassFingerprints = new HashMap<>();
+		for ( Class<?> unconstrainedClass : unconstrainedClasses ) {
+			long fingerprint = fingerprint( unconstrainedClass );
+			if ( fingerprint != -1L ) {
+				unconstrainedClassFingerprints.put( unconstrainedClass.getName(), fingerprint );
+			}
+		}
+
+		try {
+			DataOutputStream out = new DataOutputStream( outputStream );
+			out.writeInt( MAGIC_NUMBER );
+			out.writeInt( FORMAT_VERSION );
+			out.writeUTF( Version.getVersionString() );
+			out.writeInt( unconstrainedClassFingerprints.size() );
+			for ( Map.Entry<String, Long> entry : unconstrainedClassFingerprints.entrySet() ) {
+				out.writeUTF( entry.getKey() );
+				out.writeLong( entry.getValue() );
+			}
+			out.flush();
+		}
+		catch (IOException e) {
+			throw LOG.getUnableToWriteBeanMetaDataSnapshotException( e );
+		}
+	}
+
+	/**
+	 * @param beanClass the class of interest
+	 *
+	 * @return {@code true} if the snapshot marks the given class as unconstrained and the class did not change since the
+	 * snapshot was created, {@code false} otherwise
+	 */
+	public boolean isUnconstrained(Class<?> beanClass) {
+		Long fingerprint = unconstrainedClassFingerprints.get( beanClass.getName() );
+		return fingerprint != null && fingerprint == fingerprint( beanClass );
+	}
+
+	/**
+	 * Computes a checksum of the bytecode of the whole hierarchy of the given class.
+	 *
+	 * @return the fingerprint or -1 if the bytecode of one of the classes of the hierarchy is not available
+	 */
+	private static long fingerprint(Class<?> beanClass) {
+		CRC32 checksum = new CRC32();
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		for ( Class<?> hierarchyElement : ClassHierarchyHelper.getHierarchy( beanClass ) ) {
+			checksum.update( hierarchyElement.getName().getBytes( StandardCharsets.UTF_8 ) );
+
+			try ( InputStream bytecode = hierarchyElement.getResourceAsStream( "/" + hierarchyElement.getName().replace( '.', '/' ) + ".class" ) ) {
+				if ( bytecode == null ) {
+					return -1L;
+				}
+				int read;
+				while ( ( read = bytecode.read( buffer ) ) != -1 ) {
+					checksum.update( buffer, 0, read );
+				}
+			}
+			catch (IOException e) {
+				return -1L;
+			}
+		}
+
+		return checksum.getValue();
+	}
+}
@@ -6,16 +6,23 @@
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 
+import java.io.OutputStream;
 import java.lang.annotation.ElementType;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Executable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.metadata.ConstraintDescriptor;
@@ -26,10 +33,13 @@
 import jakarta.validation.metadata.PropertyDescriptor;
 import jakarta.validation.metadata.Scope;
 
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
 import org.hibernate.validator.internal.engine.groups.Sequence;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.statistics.CacheCounters;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataBuilder;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataImpl;
@@ -45,12 +55,20 @@
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.actions.GetClassLoader;
+import org.hibernate.validator.internal.util.actions.SetContextClassLoader;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.classhierarchy.Filters;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.spi.instrumentation.LatencyHistogram;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
 
 public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
 
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
 	private final BeanMetaDataClassNormalizer beanMetaDataClassNormalizer;
 
 	/**
@@ -58,6 +76,15 @@ public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
 	 */
 	private final ConcurrentMap<Class<?>, BeanMetaData<?>> beanMetaDataMap = new ConcurrentHashMap<>();
 
+	/**
+	 * The classes for which the metadata creation has been skipped as the snapshot marks them as unconstrained.
+	 */
+	private final Set<Class<?>> unconstrainedClassesFromSnapshot = ConcurrentHashMap.newKeySet();
+
+	private final CacheCounters cacheCounters = new CacheCounters();
+
+	private final LatencyHistogram beanMetaDataBuildLatencies = new LatencyHistogram();
+
 	public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCreationContext,
 			ExecutableHelper executableHelper,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -66,7 +93,10 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration,
 			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
-			Set<Class<?>> beanClassesToInitialize) {
+			Set<Class<?>> beanClassesToInitialize,
+			BeanMetaDataSnapshot beanMetaDataSnapshot,
+			boolean parallelInitialization,
+			ValidationListener validationListener) {
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders( optionalMetaDataProviders );
 		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
 				constraintCreationContext,
@@ -82,6 +112,11 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 		metaDataProviders.add( defaultProvider );
 		metaDataProviders.addAll( optionalMetaDataProviders );
 
+		// the snapshot only accounts for the annotation based metadata
+		BeanMetaDataSnapshot applicableSnapshot = optionalMetaDataProviders.isEmpty() ? beanMetaDataSnapshot : null;
+
+		// we collect the classes to initialize first, in a deterministic order
+		Set<Class<?>> classesToInitialize = new LinkedHashSet<>();
 		for ( Class<?> validatedClass : beanClassesToInitialize ) {
 			Class<?> normalizedValidatedClass = beanMetaDataClassNormalizer.normalize( validatedClass );
 
@@ -91,17 +126,39 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 
 			// note that the hierarchy also contains the initial class
 			for ( Class<?> hierarchyElement : classHierarchy ) {
-				if ( this.beanMetaDataMap.containsKey( hierarchyElement ) ) {
+				if ( classesToInitialize.contains( hierarchyElement ) || unconstrainedClassesFromSnapshot.contains( hierarchyElement ) ) {
 					continue;
 				}
 
-				this.beanMetaDataMap.put( hierarchyElement,
-						createBeanMetaData( constraintCreationContext, executableHelper, parameterNameProvider,
-								javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
-								metaDataProviders, hierarchyElement ) );
+				// unconstrained classes are handled as uninitialized ones, we don't need to create their metadata
+				if ( applicableSnapshot != null && applicableSnapshot.isUnconstrained( hierarchyElement ) ) {
+					unconstrainedClassesFromSnapshot.add( hierarchyElement );
+					continue;
+				}
+
+				classesToInitialize.add( hierarchyElement );
+			}
+		}
+
+		Function<Class<?>, BeanMetaData<?>> beanMetaDataCreator = beanClass -> createBeanMetaData( constraintCreationContext, executableHelper,
+				parameterNameProvider, javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
+				metaDataProviders, beanClass );
+
+		long start = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
+
+		if ( parallelInitialization ) {
+			initializeBeanMetaDataInParallel( classesToInitialize, beanMetaDataCreator, validationListener );
+		}
+		else {
+			for ( Class<?> classToInitialize : classesToInitialize ) {
+				this.beanMetaDataMap.put( classToInitialize, createTimedBeanMetaData( beanMetaDataCreator, classToInitialize, validationListener ) );
 			}
 		}
 
+		if ( LOG.isDebugEnabled() ) {
+			LOG.beanMetaDataOfClassesInitialized( classesToInitialize.size(), TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ), parallelInitialization );
+		}
+
 		this.beanMetaDataClassNormalizer = beanMetaDataClassNormalizer;
 	}
 
@@ -110,7 +167,11 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 	public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		Class<?> normalizedBeanClass = beanMetaDataClassNormalizer.normalize( beanClass );
 		BeanMetaData<T> beanMetaData = (BeanMetaData<T>) beanMetaDataMap.get( normalizedBeanClass );
-		if ( beanMetaData == null ) {
+		if ( beanMetaData != null ) {
+			cacheCounters.recordHit();
+		}
+		else {
+			cacheCounters.recordMiss();
 			// note that if at least one element of the hierarchy is constrained, the child classes should really be initialized
 			// otherwise they will be considered unconstrained.
 			beanMetaData = (BeanMetaData<T>) beanMetaDataMap.computeIfAbsent( normalizedBeanClass, UninitializedBeanMetaData::new );
@@ -118,9 +179,89 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		return beanMetaData;
 	}
 
+	@Override
+	public CacheStatistics getCacheStatistics() {
+		// the metadata is never evicted
+		return cacheCounters.toCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE, beanMetaDataMap.size() );
+	}
+
+	@Override
+	public LatencyHistogram getBeanMetaDataBuildLatencies() {
+		return beanMetaDataBuildLatencies;
+	}
+
 	@Override
 	public void clear() {
 		beanMetaDataMap.clear();
+		unconstrainedClassesFromSnapshot.clear();
+	}
+
+	/**
+	 * Writes a snapshot of the metadata of the initialized classes, which may be used to speed up the bootstrap of
+	 * another factory.
+	 *
+	 * @param outputStream the stream to write the snapshot to
+	 */
+	public void writeSnapshot(OutputStream outputStream) {
+		Set<Class<?>> unconstrainedClasses = new HashSet<>( unconstrainedClassesFromSnapshot );
+		for ( BeanMetaData<?> beanMetaData : beanMetaDataMap.values() ) {
+			if ( beanMetaData instanceof BeanMetaDataImpl && !beanMetaData.hasConstraints() && !beanMetaData.isDefaultGroupSequenceRedefined() ) {
+				unconstrainedClasses.add( beanMetaData.getBeanClass() );
+			}
+		}
+
+		BeanMetaDataSnapshot.write( outputStream, unconstrainedClasses );
+	}
+
+	/**
+	 * Creates the metadata of the given classes on the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>
+	 * The results are merged in the order of the given classes and, if the creation fails for some classes, the
+	 * exception of the first one is rethrown, so that the outcome does not depend on the scheduling of the tasks.
+	 */
+	private void initializeBeanMetaDataInParallel(Set<Class<?>> classesToInitialize, Function<Class<?>, BeanMetaData<?>> beanMetaDataCreator,
+			ValidationListener validationListener) {
+		ClassLoader contextClassLoader = GetClassLoader.fromContext();
+
+		List<BeanMetaDataInitializationResult> results = classesToInitialize.parallelStream()
+				.map( beanClass -> {
+					ClassLoader previousContextClassLoader = GetClassLoader.fromContext();
+					try {
+						if ( contextClassLoader != null ) {
+							SetContextClassLoader.action( contextClassLoader );
+						}
+						return new BeanMetaDataInitializationResult( beanClass, createTimedBeanMetaData( beanMetaDataCreator, beanClass, validationListener ), null );
+					}
+					catch (RuntimeException e) {
+						return new BeanMetaDataInitializationResult( beanClass, null, e );
+					}
+					finally {
+						if ( previousContextClassLoader != null ) {
+							SetContextClassLoader.action( previousContextClassLoader );
+						}
+					}
+				} )
+				.collect( Collectors.toList() );
+
+		for ( BeanMetaDataInitializationResult result : results ) {
+			if ( result.failure != null ) {
+				throw result.failure;
+			}
+			this.beanMetaDataMap.put( result.beanClass, result.beanMetaData );
+		}
+	}
+
+	private BeanMetaData<?> createTimedBeanMetaData(Function<Class<?>, BeanMetaData<?>> beanMetaDataCreator, Class<?> beanClass,
+			ValidationListener validationListener) {
+		long start = System.nanoTime();
+		BeanMetaData<?> beanMetaData = beanMetaDataCreator.apply( beanClass );
+		long durationNanos = System.nanoTime() - start;
+		beanMetaDataBuildLatencies.record( durationNanos );
+		if ( validationListener != null ) {
+			validationListener.beanMetaDataBuilt( beanClass, durationNanos );
+		}
+		LOG.beanMetaDataInitialized( beanClass, durationNanos / 1_000_000.0 );
+		return beanMetaData;
 	}
 
 	/**
@@ -188,6 +329,21 @@ private static <T> List<BeanConfiguration<? super T>> getBeanConfigurationForHie
 		return configurations;
 	}
 
+	private static class BeanMetaDataInitializationResult {
+
+		private final Class<?> beanClass;
+
+		private final BeanMetaData<?> beanMetaData;
+
+		private final RuntimeException failure;
+
+		private BeanMetaDataInitializationResult(Class<?> beanClass, BeanMetaData<?> beanMetaData, RuntimeException failure) {
+			this.beanClass = beanClass;
+			this.beanMetaData = beanMetaData;
+			this.failure = failure;
+		}
+	}
+
 	private static class UninitializedBeanMetaData<T> implements BeanMetaData<T> {
 
 		private final Class<T> beanClass;
@@ -88,6 +88,20 @@ public class ContainerCascadingMetaData implements CascadingMetaData {
 	 */
 	private final Set<ValueExtractorDescriptor> valueExtractorCandidates;
 
+	/**
+	 * The value extractor bound when building the metadata, {@code null} if it depends on the runtime type of the
+	 * container. This is the case when there is only one candidate, which is used whatever the runtime type is: it
+	 * covers the final types such as {@code Optional} or the arrays, and the types for which no value extractor is
+	 * registered for a subtype.
+	 */
+	private final ValueExtractorDescriptor boundValueExtractor;
+
+	/**
+	 * Monomorphic inline cache of the value extractor resolved for the first runtime type of the container, used when
+	 * the value extractor cannot be bound when building the metadata.
+	 */
+	private volatile RuntimeTypeValueExtractor runtimeTypeValueExtractor;
+
 	public static ContainerCascadingMetaData of(ValueExtractorManager valueExtractorManager, CascadingMetaDataBuilder cascadingMetaDataBuilder,
 			Object context) {
 		return new ContainerCascadingMetaData( valueExtractorManager, cascadingMetaDataBuilder );
@@ -134,6 +148,7 @@ private ContainerCascadingMetaData(ValueExtractorManager valueExtractorManager,
 				throw LOG.getNoValueExtractorFoundForTypeException( this.declaredContainerClass, this.declaredTypeParameter );
 			}
 		}
+		this.boundValueExtractor = bindValueExtractor( this.valueExtractorCandidates );
 	}
 
 	ContainerCascadingMetaData(Type enclosingType, List<ContainerCascadingMetaData> containerElementTypesCascadingMetaData,
@@ -148,6 +163,7 @@ private ContainerCascadingMetaData(ValueExtractorManager valueExtractorManager,
 		this.groupConversionHelper = groupConversionHelper;
 		this.hasContainerElementsMarkedForCascading = true;
 		this.valueExtractorCandidates = valueExtractorCandidates;
+		this.boundValueExtractor = bindValueExtractor( valueExtractorCandidates );
 	}
 
 	ContainerCascadingMetaData(Type enclosingType, TypeVariable<?> typeParameter, Class<?> declaredContainerClass, TypeVariable<?> declaredTypeParameter,
@@ -162,6 +178,7 @@ private ContainerCascadingMetaData(ValueExtractorManager valueExtractorManager,
 		this.groupConversionHelper = groupConversionHelper;
 		this.hasContainerElementsMarkedForCascading = false;
 		this.valueExtractorCandidates = Collections.emptySet();
+		this.boundValueExtractor = null;
 	}
 
 	@Override
@@ -237,6 +254,41 @@ public Set<ValueExtractorDescriptor> getValueExtractorCandidates() {
 		return valueExtractorCandidates;
 	}
 
+	/**
+	 * Returns the value extractor to use for a container of the given runtime type.
+	 * <p>
+	 * If the value extractor has been bound when building the metadata, it is returned directly. Otherwise, the value
+	 * extractor resolved for the first runtime type is cached so that, in the common case of a container always having
+	 * the same runtime type, the resolution is only done once.
+	 *
+	 * @return the value extractor or {@code null} if none is found for the given runtime type
+	 */
+	public ValueExtractorDescriptor getValueExtractor(ValueExtractorManager valueExtractorManager, Class<?> runtimeType) {
+		if ( boundValueExtractor != null ) {
+			return boundValueExtractor;
+		}
+
+		RuntimeTypeValueExtractor cachedValueExtractor = runtimeTypeValueExtractor;
+		if ( cachedValueExtractor != null && cachedValueExtractor.runtimeType == runtimeType ) {
+			return cachedValueExtractor.valueExtractor;
+		}
+
+		ValueExtractorDescriptor valueExtractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
+				enclosingType,
+				typeParameter,
+				runtimeType,
+				valueExtractorCandidates
+		);
+
+		// we only cache the first runtime type: for polymorphic containers, we don't want to replace the cached value
+		// extractor over and over
+		if ( cachedValueExtractor == null && valueExtractor != null ) {
+			runtimeTypeValueExtractor = new RuntimeTypeValueExtractor( runtimeType, valueExtractor );
+		}
+
+		return valueExtractor;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
@@ -250,4 +302,23 @@ public String toString() {
 		sb.append( "]" );
 		return sb.toString();
 	}
+
+	private static ValueExtractorDescriptor bindValueExtractor(Set<ValueExtractorDescriptor> valueExtractorCandidates) {
+		if ( valueExtractorCandidates.size() == 1 ) {
+			return valueExtractorCandidates.iterator().next();
+		}
+		return null;
+	}
+
+	private static class RuntimeTypeValueExtractor {
+
+		private final Class<?> runtimeType;
+
+		private final ValueExtractorDescriptor valueExtractor;
+
+		private RuntimeTypeValueExtractor(Class<?> runtimeType, ValueExtractorDescriptor valueExtractor) {
+			this.runtimeType = runtimeType;
+			this.valueExtractor = valueExtractor;
+		}
+	}
 }
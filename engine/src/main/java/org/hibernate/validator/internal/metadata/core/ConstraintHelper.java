@@ -1174,7 +1174,8 @@ private static class DynamicConstraintHelper extends ConstraintHelper {
 		private final Map<Class<? extends Annotation>, List<? extends ConstraintValidatorDescriptor<?>>> enabledBuiltinConstraints;
 
 		private DynamicConstraintHelper(Set<BuiltinConstraint> initialConstraints) {
-			this.enabledBuiltinConstraints = new HashMap<>( resolve( initialConstraints ) );
+			// the bean metadata might be initialized in parallel
+			this.enabledBuiltinConstraints = new ConcurrentHashMap<>( resolve( initialConstraints ) );
 		}
 
 		@SuppressWarnings("unchecked")
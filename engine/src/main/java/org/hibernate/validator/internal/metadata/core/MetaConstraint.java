@@ -11,6 +11,7 @@
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import jakarta.validation.ConstraintValidator;
 import jakarta.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
@@ -53,6 +54,12 @@
 	@Immutable
 	private final ValueExtractionPathNode valueExtractionPath;
 
+	/**
+	 * Indicates if the elements extracted to be validated can be validated in bulk: it is the case when the value is
+	 * extracted by a single {@link org.hibernate.validator.internal.engine.valueextraction.BulkValueExtractor}.
+	 */
+	private final boolean isBulkValidationCandidate;
+
 	private final int hashCode;
 
 	/**
@@ -73,6 +80,8 @@
 		this.constraintTree = ConstraintTree.of( constraintValidatorManager, constraintDescriptor, validatedValueType );
 		this.location = location;
 		this.valueExtractionPath = getValueExtractionPath( valueExtractionPath );
+		this.isBulkValidationCandidate = this.valueExtractionPath != null && !this.valueExtractionPath.hasNext()
+				&& ValueExtractorHelper.isBulkValueExtractor( this.valueExtractionPath.getValueExtractorDescriptor() );
 		this.hashCode = buildHashCode( constraintDescriptor, location );
 		this.isDefinedForOneGroupOnly = constraintDescriptor.getGroups().size() <= 1;
 	}
@@ -115,7 +124,9 @@ public boolean validateConstraint(ValidationContext<?> validationContext, ValueC
 			Object valueToValidate = valueContext.getCurrentValidatedValue();
 			if ( valueToValidate != null ) {
 				TypeParameterValueReceiver receiver = new TypeParameterValueReceiver( validationContext, valueContext, valueExtractionPath );
-				ValueExtractorHelper.extractValues( valueExtractionPath.getValueExtractorDescriptor(), valueToValidate, receiver );
+				if ( !extractRejectedValues( validationContext, valueToValidate, receiver ) ) {
+					ValueExtractorHelper.extractValues( valueExtractionPath.getValueExtractorDescriptor(), valueToValidate, receiver );
+				}
 				success = receiver.isSuccess();
 			}
 		}
@@ -126,6 +137,25 @@ public boolean validateConstraint(ValidationContext<?> validationContext, ValueC
 		return success;
 	}
 
+	/**
+	 * Validates the extracted elements in bulk if possible: only the elements rejected by the constraint validator are
+	 * passed to the receiver, to be validated the regular way and build the constraint violations.
+	 *
+	 * @return {@code false} if the elements have to be extracted and validated one by one
+	 */
+	private boolean extractRejectedValues(ValidationContext<?> validationContext, Object valueToValidate, TypeParameterValueReceiver receiver) {
+		if ( !isBulkValidationCandidate ) {
+			return false;
+		}
+
+		ConstraintValidator<A, ?> constraintValidator = constraintTree.getConstraintValidatorForBulkValidation( validationContext );
+		if ( constraintValidator == null ) {
+			return false;
+		}
+
+		return ValueExtractorHelper.extractRejectedValues( valueExtractionPath.getValueExtractorDescriptor(), valueToValidate, constraintValidator, receiver );
+	}
+
 	private boolean doValidateConstraint(ValidationContext<?> executionContext, ValueContext<?, ?> valueContext) {
 		valueContext.setConstraintLocationKind( getConstraintLocationKind() );
 
@@ -11,6 +11,7 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.function.Function;
 
 import org.hibernate.validator.engine.HibernateValidatorEnhancedBean;
 import org.hibernate.validator.internal.properties.PropertyAccessor;
@@ -27,8 +28,19 @@ public class JavaBeanField implements org.hibernate.validator.internal.propertie
 	private final Type typeForValidatorResolution;
 	private final Type type;
 
+	/**
+	 * Reflection-free accessor provided by a {@link org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider},
+	 * {@code null} if none is available.
+	 */
+	private final Function<Object, Object> providedAccessor;
+
 	public JavaBeanField(Field field, String resolvedPropertyName) {
+		this( field, resolvedPropertyName, null );
+	}
+
+	JavaBeanField(Field field, String resolvedPropertyName, Function<Object, Object> providedAccessor) {
 		this.field = field;
+		this.providedAccessor = providedAccessor;
 		this.type = ReflectionHelper.typeOf( field );
 		this.typeForValidatorResolution = ReflectionHelper.boxedType( this.type );
 		this.resolvedPropertyName = resolvedPropertyName;
@@ -94,8 +106,13 @@ public PropertyAccessor createAccessor() {
 		if ( isHibernateValidatorEnhancedBean( field.getDeclaringClass() ) ) {
 			return new EnhancedBeanFieldAccessor( field.getName() );
 		}
+		else if ( providedAccessor != null ) {
+			return PropertyAccessors.forFunction( field.getName(), providedAccessor );
+		}
 		else {
-			return new FieldAccessor( field );
+			Field accessibleField = getAccessible( field );
+			PropertyAccessor accessor = PropertyAccessors.forField( accessibleField );
+			return accessor != null ? accessor : new FieldAccessor( accessibleField );
 		}
 	}
 
@@ -151,8 +168,8 @@ private static class FieldAccessor implements PropertyAccessor {
 
 		private Field accessibleField;
 
-		private FieldAccessor(Field field) {
-			this.accessibleField = getAccessible( field );
+		private FieldAccessor(Field accessibleField) {
+			this.accessibleField = accessibleField;
 		}
 
 		@Override
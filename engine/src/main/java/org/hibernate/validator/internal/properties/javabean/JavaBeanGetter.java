@@ -7,6 +7,7 @@
 import static org.hibernate.validator.internal.util.TypeHelper.isHibernateValidatorEnhancedBean;
 
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import org.hibernate.validator.engine.HibernateValidatorEnhancedBean;
 import org.hibernate.validator.internal.metadata.raw.ConstrainedElement.ConstrainedElementKind;
@@ -33,11 +34,22 @@ public class JavaBeanGetter extends JavaBeanMethod implements Getter {
 	 */
 	private final Class<?> declaringClass;
 
+	/**
+	 * Reflection-free accessor provided by a {@link org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider},
+	 * {@code null} if none is available.
+	 */
+	private final Function<Object, Object> providedAccessor;
+
 	public JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName, String resolvedPropertyName) {
+		this( declaringClass, method, propertyName, resolvedPropertyName, null );
+	}
+
+	JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName, String resolvedPropertyName, Function<Object, Object> providedAccessor) {
 		super( method );
 		Contracts.assertNotNull( propertyName, "Property name cannot be null." );
 
 		this.declaringClass = declaringClass;
+		this.providedAccessor = providedAccessor;
 		this.propertyName = propertyName;
 		this.resolvedPropertyName = resolvedPropertyName;
 	}
@@ -84,10 +96,14 @@ public PropertyAccessor createAccessor() {
 		if ( isHibernateValidatorEnhancedBean( executable.getDeclaringClass() ) ) {
 			return new EnhancedBeanGetterAccessor( executable.getName() );
 		}
+		else if ( providedAccessor != null ) {
+			return PropertyAccessors.forFunction( executable.getName(), providedAccessor );
+		}
 		else {
-			return new GetterAccessor( executable );
+			Method accessibleGetter = getAccessible( executable );
+			PropertyAccessor accessor = PropertyAccessors.forGetter( accessibleGetter );
+			return accessor != null ? accessor : new GetterAccessor( accessibleGetter );
 		}
-
 	}
 
 	@Override
@@ -132,8 +148,8 @@ private static class GetterAccessor implements PropertyAccessor {
 
 		private Method accessibleGetter;
 
-		private GetterAccessor(Method getter) {
-			this.accessibleGetter = getAccessible( getter );
+		private GetterAccessor(Method accessibleGetter) {
+			this.accessibleGetter = accessibleGetter;
 		}
 
 		@Override
@@ -10,7 +10,10 @@
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.hibernate.validator.internal.properties.Constrainable;
 import org.hibernate.validator.internal.util.Contracts;
@@ -20,6 +23,7 @@
 import org.hibernate.validator.internal.util.actions.GetMethodFromGetterNameCandidates;
 import org.hibernate.validator.spi.nodenameprovider.JavaBeanProperty;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
+import org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider;
 import org.hibernate.validator.spi.properties.ConstrainableExecutable;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 
@@ -34,9 +38,20 @@ public class JavaBeanHelper {
 	private final GetterPropertySelectionStrategy getterPropertySelectionStrategy;
 	private final PropertyNodeNameProvider propertyNodeNameProvider;
 
+	/**
+	 * The reflection-free accessor providers, keyed by the bean class they give access to.
+	 */
+	private final Map<Class<?>, BeanPropertyAccessorProvider> beanPropertyAccessorProviders;
+
 	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy, PropertyNodeNameProvider propertyNodeNameProvider) {
+		this( getterPropertySelectionStrategy, propertyNodeNameProvider, Collections.emptyMap() );
+	}
+
+	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy, PropertyNodeNameProvider propertyNodeNameProvider,
+			Map<Class<?>, BeanPropertyAccessorProvider> beanPropertyAccessorProviders) {
 		this.getterPropertySelectionStrategy = getterPropertySelectionStrategy;
 		this.propertyNodeNameProvider = propertyNodeNameProvider;
+		this.beanPropertyAccessorProviders = beanPropertyAccessorProviders;
 	}
 
 	public GetterPropertySelectionStrategy getGetterPropertySelectionStrategy() {
@@ -77,7 +92,7 @@ private Optional<JavaBeanGetter> findGetter(Class<?> declaringClass, String prop
 		}
 		else {
 			return Optional.of( new JavaBeanGetter( declaringClass, getter, property, propertyNodeNameProvider.getName(
-					new JavaBeanPropertyImpl( declaringClass, property ) ) ) );
+					new JavaBeanPropertyImpl( declaringClass, property ) ), getProvidedGetterAccessor( getter ) ) );
 		}
 	}
 
@@ -119,14 +134,25 @@ public JavaBeanMethod executable(Class<?> declaringClass, Method method) {
 		Optional<String> correspondingProperty = getterPropertySelectionStrategy.getProperty( executable );
 		if ( correspondingProperty.isPresent() ) {
 			return new JavaBeanGetter( declaringClass, method, correspondingProperty.get(), propertyNodeNameProvider.getName(
-					new JavaBeanPropertyImpl( declaringClass, correspondingProperty.get() ) ) );
+					new JavaBeanPropertyImpl( declaringClass, correspondingProperty.get() ) ), getProvidedGetterAccessor( method ) );
 		}
 
 		return new JavaBeanMethod( method );
 	}
 
 	public JavaBeanField field(Field field) {
-		return new JavaBeanField( field, propertyNodeNameProvider.getName( new JavaBeanPropertyImpl( field.getDeclaringClass(), field.getName() ) ) );
+		return new JavaBeanField( field, propertyNodeNameProvider.getName( new JavaBeanPropertyImpl( field.getDeclaringClass(), field.getName() ) ),
+				getProvidedFieldAccessor( field ) );
+	}
+
+	private Function<Object, Object> getProvidedFieldAccessor(Field field) {
+		BeanPropertyAccessorProvider provider = beanPropertyAccessorProviders.get( field.getDeclaringClass() );
+		return provider != null ? provider.getFieldAccessor( field.getName() ) : null;
+	}
+
+	private Function<Object, Object> getProvidedGetterAccessor(Method getter) {
+		BeanPropertyAccessorProvider provider = beanPropertyAccessorProviders.get( getter.getDeclaringClass() );
+		return provider != null ? provider.getGetterAccessor( getter.getName() ) : null;
 	}
 
 	private static class JavaBeanConstrainableExecutable implements ConstrainableExecutable {
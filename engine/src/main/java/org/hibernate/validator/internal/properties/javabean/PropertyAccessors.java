@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.properties.javabean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Creates {@link PropertyAccessor}s that do not rely on core reflection to read property values.
+ * <p>
+ * Getters are accessed through a {@link Function} generated by the {@link LambdaMetafactory} when Hibernate Validator
+ * has full privilege access to the declaring class, fields and the other getters are accessed through a
+ * {@link MethodHandle}. The strategy is picked once, when the accessor is created during the metadata building.
+ * <p>
+ * Both factory methods return {@code null} if the member cannot be accessed this way, the callers are expected to
+ * fall back to reflection in this case.
+ */
+final class PropertyAccessors {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GENERIC_GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private PropertyAccessors() {
+	}
+
+	/**
+	 * @param accessibleField the field, on which {@code setAccessible( true )} has already been called
+	 */
+	static PropertyAccessor forField(Field accessibleField) {
+		try {
+			MethodHandle getter = LOOKUP.unreflectGetter( accessibleField ).asType( GENERIC_GETTER_TYPE );
+			return new MethodHandleAccessor( accessibleField.getName(), getter );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			LOG.debugf( e, "Unable to create a method handle to access field %s, falling back to reflection.", accessibleField );
+			return null;
+		}
+	}
+
+	/**
+	 * @param accessibleGetter the getter, on which {@code setAccessible( true )} has already been called
+	 */
+	static PropertyAccessor forGetter(Method accessibleGetter) {
+		PropertyAccessor lambdaAccessor = createLambdaAccessor( accessibleGetter );
+		if ( lambdaAccessor != null ) {
+			return lambdaAccessor;
+		}
+
+		try {
+			MethodHandle getter = LOOKUP.unreflect( accessibleGetter ).asType( GENERIC_GETTER_TYPE );
+			return new MethodHandleAccessor( accessibleGetter.getName(), getter );
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			LOG.debugf( e, "Unable to create a method handle to access getter %s, falling back to reflection.", accessibleGetter );
+			return null;
+		}
+	}
+
+	/**
+	 * @param memberName the name of the member accessed by the function
+	 * @param getter a function returning the value of the member, typically provided by a
+	 * {@link org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider}
+	 */
+	static PropertyAccessor forFunction(String memberName, Function<Object, Object> getter) {
+		return new FunctionAccessor( memberName, getter );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PropertyAccessor createLambdaAccessor(Method getter) {
+		Class<?> declaringClass = getter.getDeclaringClass();
+		if ( Modifier.isStatic( getter.getModifiers() ) || declaringClass.isHidden() ) {
+			return null;
+		}
+
+		try {
+			Lookup privateLookup = MethodHandles.privateLookupIn( declaringClass, LOOKUP );
+			// the lambda metafactory requires full privilege access, which we don't get across modules
+			if ( !privateLookup.hasFullPrivilegeAccess() ) {
+				return null;
+			}
+
+			MethodHandle target = privateLookup.unreflect( getter );
+			CallSite callSite = LambdaMetafactory.metafactory(
+					privateLookup,
+					"apply",
+					MethodType.methodType( Function.class ),
+					GENERIC_GETTER_TYPE,
+					target,
+					target.type().wrap().changeParameterType( 0, declaringClass )
+			);
+			return new FunctionAccessor( getter.getName(), (Function<Object, Object>) callSite.getTarget().invokeExact() );
+		}
+		catch (Throwable e) {
+			LOG.debugf( e, "Unable to generate a lambda to access getter %s.", getter );
+			return null;
+		}
+	}
+
+	private static class MethodHandleAccessor implements PropertyAccessor {
+
+		private final String memberName;
+
+		/**
+		 * The getter, adapted to the {@code (Object)Object} type so that it can be invoked with {@code invokeExact()}.
+		 */
+		private final MethodHandle getter;
+
+		private MethodHandleAccessor(String memberName, MethodHandle getter) {
+			this.memberName = memberName;
+			this.getter = getter;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			try {
+				return (Object) getter.invokeExact( bean );
+			}
+			catch (Throwable e) {
+				// keep the exceptions consistent with the ones raised when accessing the member via reflection
+				throw LOG.getUnableToAccessMemberException( memberName, new InvocationTargetException( e ) );
+			}
+		}
+	}
+
+	private static class FunctionAccessor implements PropertyAccessor {
+
+		private final String memberName;
+
+		private final Function<Object, Object> getter;
+
+		private FunctionAccessor(String memberName, Function<Object, Object> getter) {
+			this.memberName = memberName;
+			this.getter = getter;
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			try {
+				return getter.apply( bean );
+			}
+			catch (Throwable e) {
+				// keep the exceptions consistent with the ones raised when accessing the member via reflection
+				throw LOG.getUnableToAccessMemberException( memberName, new InvocationTargetException( e ) );
+			}
+		}
+	}
+}
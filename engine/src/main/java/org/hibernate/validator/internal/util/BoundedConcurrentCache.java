@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.internal.engine.statistics.CacheStatisticsImpl;
+
+/**
+ * Thread-safe cache holding a bounded number of entries.
+ * <p>
+ * When the cache is full, an entry is evicted to make room for the new one, following a second chance policy: each
+ * entry has a reference bit set when it is read, and the eviction skips the entries having their bit set, clearing it,
+ * until it finds an entry which has not been read since the last eviction scan. The entries used frequently thus
+ * survive a flow of keys built dynamically, for instance messages built by custom constraint validators.
+ * <p>
+ * The number of hits, misses and evictions is tracked to help sizing the cache.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class BoundedConcurrentCache<K, V> {
+
+	/**
+	 * The default maximum number of entries kept in the cache.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 2048;
+
+	private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	private final int maximumSize;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	public BoundedConcurrentCache() {
+		this( DEFAULT_MAXIMUM_SIZE );
+	}
+
+	public BoundedConcurrentCache(int maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Returns the value associated with the given key, computing it if needed.
+	 *
+	 * @param key the key
+	 * @param mappingFunction computes the value if it is not cached yet, must not return {@code null}
+	 * @return the cached value, never {@code null}
+	 */
+	public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+		Entry<V> entry = entries.get( key );
+		if ( entry != null ) {
+			hitCount.increment();
+			entry.markReferenced();
+			return entry.value;
+		}
+
+		missCount.increment();
+		V value = mappingFunction.apply( key );
+
+		if ( entries.size() >= maximumSize ) {
+			evictOne();
+		}
+		Entry<V> previous = entries.putIfAbsent( key, new Entry<>( value ) );
+		return previous != null ? previous.value : value;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * @param name the name of the cache
+	 * @return the current statistics of the cache
+	 */
+	public CacheStatistics toCacheStatistics(String name) {
+		return new CacheStatisticsImpl( name, size(), getHitCount(), getMissCount(), getEvictionCount() );
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	private void evictOne() {
+		// first pass: give a second chance to the entries read since the last scan, the second pass only happens if
+		// all the entries have been read, in which case the first entry not read again in the meantime is evicted
+		for ( int pass = 0; pass < 2; pass++ ) {
+			Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+			while ( iterator.hasNext() ) {
+				Map.Entry<K, Entry<V>> candidate = iterator.next();
+				if ( candidate.getValue().clearReferenced() ) {
+					continue;
+				}
+				if ( entries.remove( candidate.getKey(), candidate.getValue() ) ) {
+					evictionCount.increment();
+				}
+				return;
+			}
+		}
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		/**
+		 * Whether the entry has been read since the last eviction scan.
+		 */
+		private volatile boolean referenced;
+
+		private Entry(V value) {
+			this.value = value;
+		}
+
+		private void markReferenced() {
+			// avoid writing to the shared field on each read
+			if ( !referenced ) {
+				referenced = true;
+			}
+		}
+
+		/**
+		 * @return {@code true} if the entry had been read since the last eviction scan
+		 */
+		private boolean clearReferenced() {
+			if ( referenced ) {
+				referenced = false;
+				return true;
+			}
+			return false;
+		}
+	}
+}
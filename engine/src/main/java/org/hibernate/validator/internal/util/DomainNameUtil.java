@@ -4,13 +4,23 @@
  */
 package org.hibernate.validator.internal.util;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.net.IDN;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
+ * Checks the validity of domain names and IP address literals.
+ * <p>
+ * The syntax is checked in a single pass, without regular expressions. The accepted syntax is the following one, all
+ * the letters being case insensitive:
+ * <ul>
+ * <li>a domain name is made of labels separated by dots, a label being made of letters, digits, characters
+ * {@code !#$%&'*+/=?^_`{|}~}, non-ASCII characters of the Basic Multilingual Plane and dashes, the dashes being neither at the start nor at the end
+ * of the label;</li>
+ * <li>an IPv4 address literal of an email is made of 4 groups of 1 to 3 digits, separated by dots and wrapped in
+ * {@code []};</li>
+ * <li>an IPv6 address literal is wrapped in {@code []} and prefixed by {@code IPv6:} for emails, see
+ * {@link #isValidIpV6Address(String, int, int)} for the accepted addresses.</li>
+ * </ul>
+ *
  * @author Marko Bekhta
  * @author Guillaume Smet
  */
@@ -22,31 +32,38 @@ public final class DomainNameUtil {
 	 */
 	private static final int MAX_DOMAIN_PART_LENGTH = 255;
 
-	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
-	private static final String DOMAIN_LABEL = DOMAIN_CHARS_WITHOUT_DASH + "++(?:-++" + DOMAIN_CHARS_WITHOUT_DASH + "++)*+";
-	private static final String DOMAIN = DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*+";
-
-	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
-	//IP v6 regex taken from http://stackoverflow.com/questions/53497/regular-expression-that-matches-valid-ipv6-addresses
-	private static final String IP_V6_DOMAIN =
-			"(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
-
 	/**
-	 * Regular expression for the domain part of an URL
-	 * <p>
-	 * A host string must be a domain string, an IPv4 address string, or "[", followed by an IPv6 address string,
-	 * followed by "]".
+	 * The maximum length of a label, as verified by {@link IDN#toASCII(String)}.
 	 */
-	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final int MAX_LABEL_LENGTH = 63;
+
+	private static final int MAX_IP_V6_GROUPS = 8;
+
+	private static final int MAX_IP_V6_GROUP_LENGTH = 4;
+
+	private static final String EMAIL_IP_V6_PREFIX = "IPv6:";
+
+	private static final String LINK_LOCAL_IP_V6_PREFIX = "fe80:";
+
+	private static final String IP_V4_MAPPED_IP_V6_PREFIX = "ffff";
 
 	/**
-	 * Regular expression for the domain part of an email address (everything after '@')
+	 * The ASCII characters allowed in a label, apart from the dash.
 	 */
-	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final boolean[] ASCII_DOMAIN_CHARS = new boolean[128];
+
+	static {
+		for ( char c = 'a'; c <= 'z'; c++ ) {
+			ASCII_DOMAIN_CHARS[c] = true;
+			ASCII_DOMAIN_CHARS[Character.toUpperCase( c )] = true;
+		}
+		for ( char c = '0'; c <= '9'; c++ ) {
+			ASCII_DOMAIN_CHARS[c] = true;
+		}
+		for ( char c : "!#$%&'*+/=?^_`{|}~".toCharArray() ) {
+			ASCII_DOMAIN_CHARS[c] = true;
+		}
+	}
 
 	private DomainNameUtil() {
 	}
@@ -59,7 +76,20 @@ private DomainNameUtil() {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidEmailDomainAddress(String domain) {
-		return isValidDomainAddress( domain, EMAIL_DOMAIN_PATTERN );
+		return isValidEmailDomainAddress( domain, 0, domain.length() );
+	}
+
+	/**
+	 * Checks the validity of the domain name used in an email, the domain being the given region of a string, e.g.
+	 * the part of an email address following the {@code @}.
+	 *
+	 * @param value the string containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index following the last character of the domain
+	 * @return {@code true} if the region is a valid domain, {@code false} otherwise
+	 */
+	public static boolean isValidEmailDomainAddress(String value, int start, int end) {
+		return isValidDomainAddress( value, start, end, true );
 	}
 
 	/**
@@ -69,16 +99,49 @@ public static boolean isValidEmailDomainAddress(String domain) {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidDomainAddress(String domain) {
-		return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		return isValidDomainAddress( domain, 0, domain.length(), false );
 	}
 
-	private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+	private static boolean isValidDomainAddress(String value, int start, int end, boolean email) {
 		// if we have a trailing dot the domain part we have an invalid email address.
-		// the regular expression match would take care of this, but IDN.toASCII drops the trailing '.'
-		if ( domain.endsWith( "." ) ) {
+		// the syntax check would take care of this, but IDN.toASCII drops the trailing '.'
+		if ( start == end || value.charAt( end - 1 ) == '.' ) {
 			return false;
 		}
 
+		boolean valid;
+		if ( value.charAt( start ) == '[' ) {
+			valid = value.charAt( end - 1 ) == ']' && isValidAddressLiteral( value, start + 1, end - 1, email );
+		}
+		else {
+			valid = isValidDomainName( value, start, end );
+		}
+
+		return valid && hasValidLength( value, start, end );
+	}
+
+	/**
+	 * Checks the length of the domain and of its labels once converted to ASCII. The conversion only changes the
+	 * domains containing non-ASCII characters so we avoid it for the others.
+	 */
+	private static boolean hasValidLength(String value, int start, int end) {
+		int labelLength = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= 128 ) {
+				return hasValidAsciiLength( value.substring( start, end ) );
+			}
+			if ( c == '.' ) {
+				labelLength = 0;
+			}
+			else if ( ++labelLength > MAX_LABEL_LENGTH ) {
+				return false;
+			}
+		}
+		return end - start <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	private static boolean hasValidAsciiLength(String domain) {
 		String asciiString;
 		try {
 			asciiString = IDN.toASCII( domain );
@@ -87,12 +150,264 @@ private static boolean isValidDomainAddress(String domain, Pattern pattern) {
 			return false;
 		}
 
-		if ( asciiString.length() > MAX_DOMAIN_PART_LENGTH ) {
+		return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	private static boolean isValidDomainName(String value, int start, int end) {
+		boolean labelStart = true;
+		char previous = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				if ( labelStart || previous == '-' ) {
+					return false;
+				}
+				labelStart = true;
+			}
+			else if ( c == '-' ) {
+				if ( labelStart ) {
+					return false;
+				}
+			}
+			else if ( c < 128 ? !ASCII_DOMAIN_CHARS[c] : isSupplementaryCharacter( value, i, end ) ) {
+				return false;
+			}
+			else {
+				labelStart = false;
+			}
+			previous = c;
+		}
+		return !labelStart && previous != '-';
+	}
+
+	private static boolean isValidAddressLiteral(String value, int start, int end, boolean email) {
+		if ( !email ) {
+			return isValidIpV6Address( value, start, end );
+		}
+		if ( value.regionMatches( true, start, EMAIL_IP_V6_PREFIX, 0, EMAIL_IP_V6_PREFIX.length() ) ) {
+			return isValidIpV6Address( value, start + EMAIL_IP_V6_PREFIX.length(), end );
+		}
+		return isValidLenientIpV4Address( value, start, end );
+	}
+
+	/**
+	 * Checks an IPv4 address made of 4 groups of 1 to 3 digits, whatever their value.
+	 */
+	private static boolean isValidLenientIpV4Address(String value, int start, int end) {
+		int i = start;
+		for ( int group = 0; group < 4; group++ ) {
+			if ( group > 0 ) {
+				if ( i == end || value.charAt( i ) != '.' ) {
+					return false;
+				}
+				i++;
+			}
+			int groupStart = i;
+			while ( i < end && i - groupStart < 3 && isDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i == groupStart ) {
+				return false;
+			}
+		}
+		return i == end;
+	}
+
+	/**
+	 * Checks an IPv4 address made of 4 numbers between 0 and 255, a number of 3 digits not starting with 0.
+	 */
+	private static boolean isValidIpV4Address(String value, int start, int end) {
+		int i = start;
+		for ( int group = 0; group < 4; group++ ) {
+			if ( group > 0 ) {
+				if ( i == end || value.charAt( i ) != '.' ) {
+					return false;
+				}
+				i++;
+			}
+			int groupStart = i;
+			int number = 0;
+			while ( i < end && i - groupStart < 3 && isDigit( value.charAt( i ) ) ) {
+				number = number * 10 + value.charAt( i ) - '0';
+				i++;
+			}
+			int length = i - groupStart;
+			if ( length == 0 || ( length == 3 && ( number < 100 || number > 255 ) ) ) {
+				return false;
+			}
+		}
+		return i == end;
+	}
+
+	/**
+	 * Checks an IPv6 address, which is one of:
+	 * <ul>
+	 * <li>8 groups of 1 to 4 hexadecimal digits separated by colons;</li>
+	 * <li>at most 7 groups, with {@code ::} standing for the missing groups;</li>
+	 * <li>a link-local address {@code fe80:}, followed by at most 4 groups of 0 to 4 hexadecimal digits each preceded by
+	 * a colon, and by a zone index made of letters and digits introduced by {@code %};</li>
+	 * <li>{@code ::}, optionally followed by {@code ffff:} or {@code ffff:} and 1 to 4 zeros and a colon, followed by an
+	 * IPv4 address;</li>
+	 * <li>1 to 4 groups each followed by a colon, followed by a colon and an IPv4 address.</li>
+	 * </ul>
+	 */
+	private static boolean isValidIpV6Address(String value, int start, int end) {
+		int lastColon = -1;
+		boolean zoneIndex = false;
+		boolean ipV4 = false;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == ':' ) {
+				lastColon = i;
+			}
+			else if ( c == '%' ) {
+				zoneIndex = true;
+			}
+			else if ( c == '.' ) {
+				ipV4 = true;
+			}
+		}
+
+		if ( zoneIndex ) {
+			return isValidLinkLocalIpV6Address( value, start, end );
+		}
+		if ( ipV4 ) {
+			return lastColon >= 0
+					&& isValidIpV4Address( value, lastColon + 1, end )
+					&& isValidIpV4PrefixOfIpV6Address( value, start, lastColon + 1 );
+		}
+
+		int doubleColon = value.indexOf( "::", start );
+		if ( doubleColon < 0 || doubleColon + 1 >= end ) {
+			return countIpV6Groups( value, start, end ) == MAX_IP_V6_GROUPS;
+		}
+
+		int leftGroups = doubleColon == start ? 0 : countIpV6Groups( value, start, doubleColon );
+		int rightGroups = doubleColon + 2 == end ? 0 : countIpV6Groups( value, doubleColon + 2, end );
+		return leftGroups >= 0 && rightGroups >= 0 && leftGroups + rightGroups < MAX_IP_V6_GROUPS;
+	}
+
+	private static boolean isValidLinkLocalIpV6Address(String value, int start, int end) {
+		if ( !value.regionMatches( true, start, LINK_LOCAL_IP_V6_PREFIX, 0, LINK_LOCAL_IP_V6_PREFIX.length() ) ) {
+			return false;
+		}
+
+		int i = start + LINK_LOCAL_IP_V6_PREFIX.length();
+		for ( int group = 0; i < end && value.charAt( i ) == ':'; group++ ) {
+			if ( group == 4 ) {
+				return false;
+			}
+			i++;
+			int groupStart = i;
+			while ( i < end && i - groupStart < MAX_IP_V6_GROUP_LENGTH && isHexDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+		}
+
+		if ( i == end || value.charAt( i ) != '%' ) {
+			return false;
+		}
+		i++;
+		if ( i == end ) {
+			return false;
+		}
+		for ( ; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( !isDigit( c ) && !isAsciiLetter( c ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks the part of an IPv6 address preceding an embedded IPv4 address, including the last colon.
+	 */
+	private static boolean isValidIpV4PrefixOfIpV6Address(String value, int start, int end) {
+		if ( value.charAt( start ) == ':' ) {
+			// ::, ::ffff: or ::ffff:0000:
+			if ( end - start < 2 || value.charAt( start + 1 ) != ':' ) {
+				return false;
+			}
+			if ( end - start == 2 ) {
+				return true;
+			}
+			if ( end - start < 3 + IP_V4_MAPPED_IP_V6_PREFIX.length()
+					|| !value.regionMatches( true, start + 2, IP_V4_MAPPED_IP_V6_PREFIX, 0, IP_V4_MAPPED_IP_V6_PREFIX.length() ) ) {
+				return false;
+			}
+			int i = start + 2 + IP_V4_MAPPED_IP_V6_PREFIX.length();
+			if ( i == end - 1 ) {
+				return true;
+			}
+			if ( value.charAt( i ) != ':' ) {
+				return false;
+			}
+			i++;
+			int zeros = end - 1 - i;
+			if ( zeros < 1 || zeros > MAX_IP_V6_GROUP_LENGTH ) {
+				return false;
+			}
+			for ( ; i < end - 1; i++ ) {
+				if ( value.charAt( i ) != '0' ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// 1 to 4 groups each followed by a colon, then a colon
+		if ( end - start < 3 || value.charAt( end - 2 ) != ':' ) {
 			return false;
 		}
+		int groups = countIpV6Groups( value, start, end - 2 );
+		return groups >= 1 && groups <= 4;
+	}
+
+	/**
+	 * Counts the groups of 1 to 4 hexadecimal digits separated by colons of the given region.
+	 *
+	 * @return the number of groups or -1 if the region is not a sequence of groups separated by colons
+	 */
+	private static int countIpV6Groups(String value, int start, int end) {
+		int groups = 0;
+		int groupLength = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == ':' ) {
+				if ( groupLength == 0 ) {
+					return -1;
+				}
+				groups++;
+				groupLength = 0;
+			}
+			else if ( !isHexDigit( c ) || ++groupLength > MAX_IP_V6_GROUP_LENGTH ) {
+				return -1;
+			}
+		}
+		if ( groupLength == 0 ) {
+			return -1;
+		}
+		return groups + 1;
+	}
 
-		Matcher matcher = pattern.matcher( domain );
-		return matcher.matches();
+	/**
+	 * Whether the character at the given index starts a surrogate pair: the characters are allowed individually but
+	 * the supplementary characters are not.
+	 */
+	public static boolean isSupplementaryCharacter(String value, int index, int end) {
+		return Character.isHighSurrogate( value.charAt( index ) ) && index + 1 < end && Character.isLowSurrogate( value.charAt( index + 1 ) );
 	}
 
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isHexDigit(char c) {
+		return isDigit( c ) || ( c >= 'a' && c <= 'f' ) || ( c >= 'A' && c <= 'F' );
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' );
+	}
 }
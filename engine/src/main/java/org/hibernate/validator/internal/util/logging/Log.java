@@ -9,6 +9,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.invoke.MethodHandles.Lookup;
@@ -32,6 +33,7 @@
 import jakarta.validation.ConstraintTarget;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ElementKind;
 import jakarta.validation.GroupDefinitionException;
 import jakarta.validation.MessageInterpolator;
@@ -45,6 +47,7 @@
 import jakarta.validation.valueextraction.ValueExtractorDeclarationException;
 import jakarta.validation.valueextraction.ValueExtractorDefinitionException;
 
+import org.hibernate.validator.engine.ValidationTimeoutException;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
@@ -65,7 +68,9 @@
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
+import org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
+import org.hibernate.validator.spi.regex.RegexEngine;
 import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorNotFoundException;
@@ -76,6 +81,7 @@
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
+import org.jboss.logging.annotations.Param;
 
 /**
  * The Hibernate Validator logger interface for JBoss Logging.
@@ -946,4 +952,65 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 	@LogMessage(level = DEBUG)
 	@Message(id = 269, value = "Unable to enable secure XML feature processing when loading %1$s: %2$s")
 	void unableToEnableSecureFeatureProcessingSchemaXml(String fileName, String message);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 270, value = "Using %2$s as bean property accessor provider for %1$s.")
+	void usingBeanPropertyAccessorProvider(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass,
+			@FormatWith(ClassObjectFormatter.class) Class<? extends BeanPropertyAccessorProvider> providerClass);
+
+	@LogMessage(level = WARN)
+	@Message(id = 271, value = "Ignoring the bean metadata snapshot as it is invalid or has been created by another version of Hibernate Validator.")
+	void ignoringInvalidBeanMetaDataSnapshot();
+
+	@LogMessage(level = WARN)
+	@Message(id = 272, value = "Unable to read the bean metadata snapshot, the bean metadata will be created from the bean classes.")
+	void unableToReadBeanMetaDataSnapshot(@Cause IOException e);
+
+	@Message(id = 273, value = "Unable to write the bean metadata snapshot.")
+	ValidationException getUnableToWriteBeanMetaDataSnapshotException(@Cause IOException e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 274, value = "Bean metadata of %1$s initialized in %2$.3f ms.")
+	void beanMetaDataInitialized(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass, double durationInMillis);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 275, value = "Bean metadata of %1$d classes initialized in %2$d ms (parallel initialization: %3$b).")
+	void beanMetaDataOfClassesInitialized(int numberOfClasses, long durationInMillis, boolean parallelInitialization);
+
+	@Message(id = 276, value = "The maximum number of constraint violations must not be negative: %1$d.")
+	IllegalArgumentException getMaxConstraintViolationsCannotBeNegativeException(int maxConstraintViolations);
+
+	@Message(id = 277, value = "Unable to parse the maximum number of constraint violations %1$s.")
+	ValidationException getUnableToParseMaxConstraintViolationsException(String maxConstraintViolationsProperty, @Cause Exception e);
+
+	@Message(id = 278, value = "The validation timeout must not be negative: %1$s.")
+	IllegalArgumentException getValidationTimeoutCannotBeNegativeException(@FormatWith(DurationFormatter.class) Duration validationTimeout);
+
+	@Message(id = 279, value = "Unable to parse the validation timeout %1$s.")
+	ValidationException getUnableToParseValidationTimeoutException(String validationTimeoutProperty, @Cause Exception e);
+
+	@Message(id = 280, value = "The validation of %1$s did not complete within the validation timeout of %2$s.")
+	ValidationTimeoutException getValidationTimeoutException(@FormatWith(ClassObjectFormatter.class) Class<?> rootBeanClass,
+			@FormatWith(DurationFormatter.class) Duration validationTimeout, @Param Set<? extends ConstraintViolation<?>> constraintViolations);
+
+	@LogMessage(level = WARN)
+	@Message(id = 281, value = "Unable to register the validator factory statistics MBean %1$s.")
+	void unableToRegisterStatisticsMBean(String objectName, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 282, value = "Unable to unregister the validator factory statistics MBean %1$s.")
+	void unableToUnregisterStatisticsMBean(String objectName, @Cause Exception e);
+
+	@Message(id = 283, value = "The parallel cascaded validation threshold must not be negative: %1$d.")
+	IllegalArgumentException getParallelCascadedValidationThresholdCannotBeNegativeException(int threshold);
+
+	@Message(id = 284, value = "Unable to parse the parallel cascaded validation threshold %1$s.")
+	ValidationException getUnableToParseParallelCascadedValidationThresholdException(String thresholdProperty, @Cause Exception e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 285, value = "Using %s as regex engine.")
+	void usingRegexEngine(@FormatWith(ClassObjectFormatter.class) Class<? extends RegexEngine> regexEngineClass);
+
+	@Message(id = 286, value = "Unable to instantiate regex engine class %s.")
+	ValidationException getUnableToInstantiateRegexEngineClassException(String regexEngineClassName, @Cause Exception e);
 }
@@ -16,13 +16,15 @@
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.UnaryOperator;
 
 import jakarta.validation.MessageInterpolator;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
 import org.hibernate.validator.internal.engine.PredefinedScopeValidatorFactoryImpl;
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessageTemplate;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolverContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
@@ -31,11 +33,14 @@
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
 import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.resourceloading.AggregateResourceBundleLocator;
+import org.hibernate.validator.resourceloading.FlattenedResourceBundleLocator;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolverContext;
@@ -115,17 +120,14 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private final ResourceBundleLocator contributorResourceBundleLocator;
 
 	/**
-	 * Step 1-3 of message interpolation can be cached. We do this in this map.
+	 * Step 1 of message interpolation resolves the message from the resource bundles. The resolved message is then
+	 * parsed once for the message parameters and EL expressions of steps 2 and 3. We cache the result in this cache.
 	 */
-	private final ConcurrentReferenceHashMap<LocalizedMessage, String> resolvedMessages;
+	private final BoundedConcurrentCache<LocalizedMessage, CompiledMessageTemplate> compiledMessageTemplates;
 
 	/**
-	 * Step 4 of message interpolation replaces message parameters. The token list for message parameters is cached in this map.
-	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedParameterMessages;
-
-	/**
-	 * Step 5 of message interpolation replaces EL expressions. The token list for EL expressions is cached in this map.
+	 * When the values of the message parameters might alter the EL expressions, the message resulting from step 2 is
+	 * parsed again for step 3. The token list for EL expressions is cached in this map.
 	 */
 	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedELMessages;
 
@@ -134,10 +136,10 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	 */
 	private final boolean cachingEnabled;
 
-	private static final Pattern LEFT_BRACE = Pattern.compile( "\\{", Pattern.LITERAL );
-	private static final Pattern RIGHT_BRACE = Pattern.compile( "\\}", Pattern.LITERAL );
-	private static final Pattern SLASH = Pattern.compile( "\\\\", Pattern.LITERAL );
-	private static final Pattern DOLLAR = Pattern.compile( "\\$", Pattern.LITERAL );
+	private static final String ESCAPED_LEFT_BRACE = "\\{";
+	private static final String ESCAPED_RIGHT_BRACE = "\\}";
+	private static final String ESCAPED_SLASH = "\\\\";
+	private static final String ESCAPED_DOLLAR = "\\$";
 
 	/**
 	 * {@code MessageInterpolator} using the default resource bundle locators.
@@ -277,45 +279,31 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 		Set<Locale> allLocalesToInitialize = preloadResourceBundles ? allLocales : Collections.emptySet();
 
 		if ( userResourceBundleLocator == null ) {
-			this.userResourceBundleLocator = new PlatformResourceBundleLocator( USER_VALIDATION_MESSAGES,
-					allLocalesToInitialize );
+			this.userResourceBundleLocator = flattenIfPreloaded( new PlatformResourceBundleLocator( USER_VALIDATION_MESSAGES,
+					allLocalesToInitialize ), allLocalesToInitialize );
 		}
 		else {
-			this.userResourceBundleLocator = userResourceBundleLocator;
+			this.userResourceBundleLocator = flattenIfPreloaded( userResourceBundleLocator, allLocalesToInitialize );
 		}
 
 		if ( contributorResourceBundleLocator == null ) {
-			this.contributorResourceBundleLocator = new PlatformResourceBundleLocator(
+			this.contributorResourceBundleLocator = flattenIfPreloaded( new PlatformResourceBundleLocator(
 					CONTRIBUTOR_VALIDATION_MESSAGES,
 					allLocalesToInitialize,
 					null,
 					true
-			);
+			), allLocalesToInitialize );
 		}
 		else {
-			this.contributorResourceBundleLocator = contributorResourceBundleLocator;
+			this.contributorResourceBundleLocator = flattenIfPreloaded( contributorResourceBundleLocator, allLocalesToInitialize );
 		}
 
-		this.defaultResourceBundleLocator = new PlatformResourceBundleLocator( DEFAULT_VALIDATION_MESSAGES, allLocalesToInitialize );
+		this.defaultResourceBundleLocator = flattenIfPreloaded( new PlatformResourceBundleLocator( DEFAULT_VALIDATION_MESSAGES,
+				allLocalesToInitialize ), allLocalesToInitialize );
 
 		this.cachingEnabled = cacheMessages;
 		if ( cachingEnabled ) {
-			this.resolvedMessages = new ConcurrentReferenceHashMap<LocalizedMessage, String>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedParameterMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
+			this.compiledMessageTemplates = new BoundedConcurrentCache<>();
 			this.tokenizedELMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
 					DEFAULT_INITIAL_CAPACITY,
 					DEFAULT_LOAD_FACTOR,
@@ -326,8 +314,7 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 			);
 		}
 		else {
-			resolvedMessages = null;
-			tokenizedParameterMessages = null;
+			compiledMessageTemplates = null;
 			tokenizedELMessages = null;
 		}
 	}
@@ -346,6 +333,18 @@ public String interpolate(String message, Context context) {
 		return interpolatedMessage;
 	}
 
+	/**
+	 * Returns the statistics of the cache of the compiled message templates.
+	 *
+	 * @return the statistics of the cache, {@code null} if the caching of the messages is disabled
+	 *
+	 * @since 9.1
+	 */
+	@Incubating
+	public CacheStatistics getMessageTemplateCacheStatistics() {
+		return cachingEnabled ? compiledMessageTemplates.toCacheStatistics( ValidatorFactoryStatistics.MESSAGE_TEMPLATE_CACHE ) : null;
+	}
+
 	@Override
 	public String interpolate(String message, Context context, Locale locale) {
 		String interpolatedMessage = message;
@@ -358,6 +357,21 @@ public String interpolate(String message, Context context, Locale locale) {
 		return interpolatedMessage;
 	}
 
+	/**
+	 * When the resource bundles are preloaded, the bundles of our own locators are flattened so that looking up a
+	 * message key is a single map lookup. The other locators, including the subclasses of ours, are kept as is as their
+	 * bundles might be dynamic.
+	 */
+	private static ResourceBundleLocator flattenIfPreloaded(ResourceBundleLocator locator, Set<Locale> localesToInitialize) {
+		if ( localesToInitialize.isEmpty() ) {
+			return locator;
+		}
+		if ( locator.getClass() != PlatformResourceBundleLocator.class && locator.getClass() != AggregateResourceBundleLocator.class ) {
+			return locator;
+		}
+		return new FlattenedResourceBundleLocator( locator, localesToInitialize );
+	}
+
 	private Set<Locale> getAllLocales(Set<Locale> localesToInitialize, Locale defaultLocale) {
 		if ( localesToInitialize.contains( defaultLocale ) ) {
 			return localesToInitialize;
@@ -389,43 +403,57 @@ private String interpolateMessage(String message, Context context, Locale locale
 			return replaceEscapedLiterals( message );
 		}
 
-		String resolvedMessage = null;
-
-		// either retrieve message from cache, or if message is not yet there or caching is disabled,
-		// perform message resolution algorithm (step 1)
+		// either retrieve the compiled message from cache, or if message is not yet there or caching is disabled,
+		// perform message resolution algorithm (step 1) and compile the resolved message
+		CompiledMessageTemplate compiledMessage;
 		if ( cachingEnabled ) {
-			resolvedMessage = resolvedMessages.computeIfAbsent( new LocalizedMessage( message, locale ), lm -> resolveMessage( message, locale ) );
+			compiledMessage = compiledMessageTemplates.get( new LocalizedMessage( message, locale ), lm -> compileMessage( message, locale ) );
 		}
 		else {
-			resolvedMessage = resolveMessage( message, locale );
+			compiledMessage = compileMessage( message, locale );
 		}
 
 		// there's no need for steps 2-3 unless there's `{param}`/`${expr}` in the message
-		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
-			// resolve parameter expressions (step 2)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) ),
+		if ( !compiledMessage.hasInterpolationTerms() ) {
+			return replaceEscapedLiterals( compiledMessage.getResolvedMessage() );
+		}
+
+		UnaryOperator<String> termInterpolator = term -> interpolate( context, locale, term );
+
+		// resolve parameter expressions (step 2)
+		String[] parameterValues = compiledMessage.interpolateParameters( termInterpolator );
+
+		StringBuilder messageBuilder = new StringBuilder( compiledMessage.getResolvedMessage().length() + 16 );
+		// resolve EL expressions (step 3)
+		// in the standard Hibernate Validator execution flow, the context is always an instance of
+		// HibernateMessageInterpolatorContext
+		// but it can be a spec Context in the Jakarta Validation TCK.
+		if ( ( context instanceof HibernateMessageInterpolatorContext
+				&& ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() == ExpressionLanguageFeatureLevel.NONE )
+				|| !compiledMessage.mayContainElExpressions( parameterValues ) ) {
+			compiledMessage.appendWithParameters( messageBuilder, parameterValues );
+		}
+		else if ( compiledMessage.canAppendInSinglePass( parameterValues ) ) {
+			compiledMessage.append( messageBuilder, parameterValues, termInterpolator );
+		}
+		else {
+			// the values of the message parameters might alter the EL expressions, we need to parse the message again
+			compiledMessage.appendWithParameters( messageBuilder, parameterValues );
+			String parameterInterpolatedMessage = messageBuilder.toString();
+			messageBuilder.setLength( 0 );
+			messageBuilder.append( interpolateExpression(
+					new TokenIterator( getParameterTokens( parameterInterpolatedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
 					context,
 					locale
-			);
-
-			// resolve EL expressions (step 3)
-			// in the standard Hibernate Validator execution flow, the context is always an instance of
-			// HibernateMessageInterpolatorContext
-			// but it can be a spec Context in the Jakarta Validation TCK.
-			if ( !( context instanceof HibernateMessageInterpolatorContext )
-					|| ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE ) {
-				resolvedMessage = interpolateExpression(
-						new TokenIterator( getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
-						context,
-						locale );
-			}
+			) );
 		}
 
 		// last but not least we have to take care of escaped literals
-		resolvedMessage = replaceEscapedLiterals( resolvedMessage );
+		return replaceEscapedLiterals( messageBuilder.toString() );
+	}
 
-		return resolvedMessage;
+	private CompiledMessageTemplate compileMessage(String message, Locale locale) {
+		return CompiledMessageTemplate.compile( resolveMessage( message, locale ) );
 	}
 
 	private List<Token> getParameterTokens(String resolvedMessage, ConcurrentReferenceHashMap<String, List<Token>> cache, InterpolationTermType termType) {
@@ -488,10 +516,11 @@ private String resolveMessage(String message, Locale locale) {
 
 	private String replaceEscapedLiterals(String resolvedMessage) {
 		if ( resolvedMessage.indexOf( '\\' ) > -1 ) {
-			resolvedMessage = LEFT_BRACE.matcher( resolvedMessage ).replaceAll( "{" );
-			resolvedMessage = RIGHT_BRACE.matcher( resolvedMessage ).replaceAll( "}" );
-			resolvedMessage = SLASH.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "\\" ) );
-			resolvedMessage = DOLLAR.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "$" ) );
+			// the replacements are applied one after the other on purpose, don't merge them in a single pass
+			resolvedMessage = resolvedMessage.replace( ESCAPED_LEFT_BRACE, "{" );
+			resolvedMessage = resolvedMessage.replace( ESCAPED_RIGHT_BRACE, "}" );
+			resolvedMessage = resolvedMessage.replace( ESCAPED_SLASH, "\\" );
+			resolvedMessage = resolvedMessage.replace( ESCAPED_DOLLAR, "$" );
 		}
 		return resolvedMessage;
 	}
@@ -13,10 +13,14 @@
 
 import jakarta.el.ELManager;
 import jakarta.el.ExpressionFactory;
+import jakarta.el.ValueExpression;
 
 import org.hibernate.validator.Incubating;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.ElExpressionKey;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTerm;
+import org.hibernate.validator.internal.engine.messageinterpolation.SimpleExpression;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
 import org.hibernate.validator.internal.util.actions.GetClassLoader;
 import org.hibernate.validator.internal.util.actions.SetContextClassLoader;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -40,6 +44,18 @@ public class ResourceBundleMessageInterpolator extends AbstractMessageInterpolat
 
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * The EL expressions parsed by the expression factory. The parsed expressions do not depend on the resource bundles
+	 * so they are cached even if the caching of the messages is disabled.
+	 */
+	private final BoundedConcurrentCache<ElExpressionKey, ValueExpression> valueExpressions = new BoundedConcurrentCache<>();
+
+	/**
+	 * The expressions parsed by the built-in evaluator used for the most common expressions, instead of going through
+	 * Expression Language.
+	 */
+	private final BoundedConcurrentCache<String, SimpleExpression> simpleExpressions = new BoundedConcurrentCache<>();
+
 	public ResourceBundleMessageInterpolator() {
 		this( Collections.emptySet(), Locale.getDefault(), new DefaultLocaleResolver(), false );
 	}
@@ -153,7 +169,7 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 
 	@Override
 	protected String interpolate(Context context, Locale locale, String term) {
-		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory );
+		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory, valueExpressions, simpleExpressions );
 		return expression.interpolate( context );
 	}
 
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.resourceloading;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * A {@link ResourceBundle} holding a snapshot of the content of another bundle and of its parents in a single map.
+ * <p>
+ * The bundle has no parent so looking up a key is a single map lookup.
+ */
+class FlattenedResourceBundle extends ResourceBundle {
+
+	@Immutable
+	private final Map<String, Object> contents;
+
+	private final Locale locale;
+
+	FlattenedResourceBundle(ResourceBundle bundle) {
+		Map<String, Object> contents = new HashMap<>();
+		// keySet() contains the keys of the parents, getObject() returns the value of the most specific bundle
+		for ( String key : bundle.keySet() ) {
+			contents.put( key, bundle.getObject( key ) );
+		}
+		this.contents = CollectionHelper.toImmutableMap( contents );
+		this.locale = bundle.getLocale();
+	}
+
+	@Override
+	protected Object handleGetObject(String key) {
+		return contents.get( key );
+	}
+
+	@Override
+	protected Set<String> handleKeySet() {
+		return contents.keySet();
+	}
+
+	@Override
+	public Enumeration<String> getKeys() {
+		return Collections.enumeration( contents.keySet() );
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.resourceloading;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
+
+/**
+ * A {@link ResourceBundleLocator} implementation that wraps around another locator and flattens the bundles retrieved
+ * from that locator: the content of a bundle and of its parents is copied into a single immutable map, so that
+ * looking up a message key does not go through the parent chain of the bundle.
+ * <p>
+ * The bundles of the locales to initialize are flattened when the locator is created, the bundles of the other
+ * locales are flattened and cached the first time they are requested.
+ * <p>
+ * Only the properties based bundles are flattened, the other bundles are returned as is. The content of the bundles
+ * is copied once and for all, thus this locator must only be used with locators whose bundles do not change over
+ * time.
+ *
+ * @since 9.1
+ */
+@Incubating
+public class FlattenedResourceBundleLocator extends DelegatingResourceBundleLocator {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	@Immutable
+	private final Map<Locale, ResourceBundle> preloadedResourceBundles;
+
+	private final ConcurrentMap<Locale, ResourceBundle> bundleCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link FlattenedResourceBundleLocator}.
+	 *
+	 * @param delegate the locator from which the bundles are retrieved
+	 */
+	public FlattenedResourceBundleLocator(ResourceBundleLocator delegate) {
+		this( delegate, Collections.emptySet() );
+	}
+
+	/**
+	 * Creates a new {@link FlattenedResourceBundleLocator}.
+	 *
+	 * @param delegate the locator from which the bundles are retrieved
+	 * @param localesToInitialize the set of locales to initialize at bootstrap
+	 */
+	public FlattenedResourceBundleLocator(ResourceBundleLocator delegate, Set<Locale> localesToInitialize) {
+		super( delegate );
+
+		this.preloadedResourceBundles = ResourceBundlePreloader.preload( localesToInitialize,
+				localeToPreload -> flatten( super.getResourceBundle( localeToPreload ) ) );
+	}
+
+	@Override
+	public ResourceBundle getResourceBundle(Locale locale) {
+		// we need to use containsKey() as the preloaded resource bundle can be null
+		if ( preloadedResourceBundles.containsKey( locale ) ) {
+			return preloadedResourceBundles.get( locale );
+		}
+
+		ResourceBundle cachedResourceBundle = bundleCache.get( locale );
+		if ( cachedResourceBundle == null ) {
+			final ResourceBundle bundle = flatten( super.getResourceBundle( locale ) );
+			if ( bundle != null ) {
+				cachedResourceBundle = bundleCache.putIfAbsent( locale, bundle );
+				if ( cachedResourceBundle == null ) {
+					return bundle;
+				}
+			}
+		}
+		return cachedResourceBundle;
+	}
+
+	private static ResourceBundle flatten(ResourceBundle bundle) {
+		// only the bundles whose keys can be enumerated are flattened, the bundles implemented as classes might
+		// compute their values on demand
+		if ( !( bundle instanceof PropertyResourceBundle ) && !( bundle instanceof AggregateResourceBundle ) ) {
+			return bundle;
+		}
+		try {
+			return new FlattenedResourceBundle( bundle );
+		}
+		catch (RuntimeException e) {
+			// one of the parents of the bundle does not support the enumeration of its keys
+			LOG.debugf( e, "Unable to flatten resource bundle %s for locale %s", bundle.getBaseBundleName(), bundle.getLocale() );
+			return bundle;
+		}
+	}
+}
@@ -23,7 +23,6 @@
 import java.util.Set;
 
 import org.hibernate.validator.Incubating;
-import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.actions.GetClassLoader;
 import org.hibernate.validator.internal.util.actions.GetMethod;
@@ -146,16 +145,7 @@ public PlatformResourceBundleLocator(String bundleName,
 
 		this.aggregate = aggregate && RESOURCE_BUNDLE_CONTROL_INSTANTIABLE;
 
-		if ( !localesToInitialize.isEmpty() ) {
-			Map<Locale, ResourceBundle> tmpPreloadedResourceBundles = CollectionHelper.newHashMap( localesToInitialize.size() );
-			for ( Locale localeToPreload : localesToInitialize ) {
-				tmpPreloadedResourceBundles.put( localeToPreload, doGetResourceBundle( localeToPreload ) );
-			}
-			this.preloadedResourceBundles = CollectionHelper.toImmutableMap( tmpPreloadedResourceBundles );
-		}
-		else {
-			this.preloadedResourceBundles = Collections.emptyMap();
-		}
+		this.preloadedResourceBundles = ResourceBundlePreloader.preload( localesToInitialize, this::doGetResourceBundle );
 	}
 
 	/**
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.resourceloading;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.validator.internal.util.CollectionHelper;
+
+/**
+ * Loads the resource bundles of the locales to initialize at bootstrap.
+ */
+final class ResourceBundlePreloader {
+
+	private ResourceBundlePreloader() {
+	}
+
+	/**
+	 * Loads the resource bundles of the given locales.
+	 *
+	 * @param localesToInitialize the locales whose bundles are loaded
+	 * @param bundleLoader loads the bundle of a given locale, might return {@code null} if the bundle does not exist
+	 * @return an unmodifiable map of the loaded bundles per locale, which might contain {@code null} values
+	 */
+	static Map<Locale, ResourceBundle> preload(Set<Locale> localesToInitialize, Function<Locale, ResourceBundle> bundleLoader) {
+		if ( localesToInitialize.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		Map<Locale, ResourceBundle> preloadedResourceBundles = CollectionHelper.newHashMap( localesToInitialize.size() );
+		for ( Locale localeToPreload : localesToInitialize ) {
+			preloadedResourceBundles.put( localeToPreload, bundleLoader.apply( localeToPreload ) );
+		}
+		// the bundle of a given locale might not exist, thus we cannot use an immutable map which does not allow null values
+		return Collections.unmodifiableMap( preloadedResourceBundles );
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.instrumentation;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * {@link ValidationListener} aggregating the events into counters and {@link LatencyHistogram}s:
+ * <ul>
+ * <li>the duration of the validation calls per root bean class,</li>
+ * <li>the duration of the constraint evaluations per constraint type and per bean class declaring the constraints,
+ * and the number of failed evaluations per constraint type,</li>
+ * <li>the duration of the cascaded validations per cascaded bean class,</li>
+ * <li>the duration of the message interpolations,</li>
+ * <li>the duration of the metadata builds per bean class.</li>
+ * </ul>
+ * <p>
+ * The returned maps are live read-only views which can be exported periodically, e.g. to JMX or to a metrics registry.
+ * <p>
+ * The statistics are kept per class and are never evicted: the listener should have the same lifecycle as the
+ * validator factory it is registered to, or be {@link #reset() reset} when classes are redeployed.
+ *
+ * @since 9.1
+ */
+@Incubating
+public class AggregatingValidationListener implements ValidationListener {
+
+	private final ConcurrentMap<Class<?>, LatencyHistogram> validationLatencies = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<? extends Annotation>, LatencyHistogram> constraintLatenciesByConstraintType = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, LatencyHistogram> constraintLatenciesByBeanClass = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<? extends Annotation>, LongAdder> constraintFailuresByConstraintType = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, LatencyHistogram> cascadeLatencies = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, LatencyHistogram> beanMetaDataBuildLatencies = new ConcurrentHashMap<>();
+
+	private volatile LatencyHistogram messageInterpolationLatencies = new LatencyHistogram();
+
+	@Override
+	public void validationEnded(Class<?> rootBeanClass, int numberOfConstraintViolations, long durationNanos) {
+		histogram( validationLatencies, rootBeanClass ).record( durationNanos );
+	}
+
+	@Override
+	public void constraintEvaluated(Class<?> beanClass, ConstraintDescriptor<?> constraintDescriptor, boolean valid, long durationNanos) {
+		Class<? extends Annotation> constraintType = constraintDescriptor.getAnnotation().annotationType();
+
+		histogram( constraintLatenciesByConstraintType, constraintType ).record( durationNanos );
+		histogram( constraintLatenciesByBeanClass, beanClass ).record( durationNanos );
+		if ( !valid ) {
+			constraintFailuresByConstraintType.computeIfAbsent( constraintType, k -> new LongAdder() ).increment();
+		}
+	}
+
+	@Override
+	public void cascadeExited(Class<?> beanClass, long durationNanos) {
+		histogram( cascadeLatencies, beanClass ).record( durationNanos );
+	}
+
+	@Override
+	public void messageInterpolated(String messageTemplate, long durationNanos) {
+		messageInterpolationLatencies.record( durationNanos );
+	}
+
+	@Override
+	public void beanMetaDataBuilt(Class<?> beanClass, long durationNanos) {
+		histogram( beanMetaDataBuildLatencies, beanClass ).record( durationNanos );
+	}
+
+	/**
+	 * @return the durations of the validation calls per root bean class
+	 */
+	public Map<Class<?>, LatencyHistogram> getValidationLatencies() {
+		return Collections.unmodifiableMap( validationLatencies );
+	}
+
+	/**
+	 * @return the durations of the constraint evaluations per constraint type
+	 */
+	public Map<Class<? extends Annotation>, LatencyHistogram> getConstraintLatenciesByConstraintType() {
+		return Collections.unmodifiableMap( constraintLatenciesByConstraintType );
+	}
+
+	/**
+	 * @return the durations of the constraint evaluations per bean class declaring the constraints
+	 */
+	public Map<Class<?>, LatencyHistogram> getConstraintLatenciesByBeanClass() {
+		return Collections.unmodifiableMap( constraintLatenciesByBeanClass );
+	}
+
+	/**
+	 * @param constraintType the constraint type
+	 * @return the number of evaluations of constraints of the given type which failed
+	 */
+	public long getConstraintFailureCount(Class<? extends Annotation> constraintType) {
+		LongAdder failures = constraintFailuresByConstraintType.get( constraintType );
+		return failures == null ? 0 : failures.sum();
+	}
+
+	/**
+	 * @return the durations of the cascaded validations per cascaded bean class
+	 */
+	public Map<Class<?>, LatencyHistogram> getCascadeLatencies() {
+		return Collections.unmodifiableMap( cascadeLatencies );
+	}
+
+	/**
+	 * @return the durations of the message interpolations
+	 */
+	public LatencyHistogram getMessageInterpolationLatencies() {
+		return messageInterpolationLatencies;
+	}
+
+	/**
+	 * @return the durations of the metadata builds per bean class
+	 */
+	public Map<Class<?>, LatencyHistogram> getBeanMetaDataBuildLatencies() {
+		return Collections.unmodifiableMap( beanMetaDataBuildLatencies );
+	}
+
+	/**
+	 * Discards all the statistics collected so far.
+	 */
+	public void reset() {
+		validationLatencies.clear();
+		constraintLatenciesByConstraintType.clear();
+		constraintLatenciesByBeanClass.clear();
+		constraintFailuresByConstraintType.clear();
+		cascadeLatencies.clear();
+		beanMetaDataBuildLatencies.clear();
+		messageInterpolationLatencies = new LatencyHistogram();
+	}
+
+	private static <K> LatencyHistogram histogram(ConcurrentMap<K, LatencyHistogram> histograms, K key) {
+		LatencyHistogram histogram = histograms.get( key );
+		if ( histogram == null ) {
+			histogram = histograms.computeIfAbsent( key, k -> new LatencyHistogram() );
+		}
+		return histogram;
+	}
+}
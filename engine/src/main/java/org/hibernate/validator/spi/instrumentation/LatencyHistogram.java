@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Thread-safe histogram of durations with exponential buckets.
+ * <p>
+ * The upper bounds of the buckets are the powers of two from 2<sup>10</sup> nanoseconds (about 1 µs) to
+ * 2<sup>36</sup> nanoseconds (about 69 s), a last bucket collecting the longer durations. This gives a relative
+ * precision of a factor 2 at most, which is enough to spot the expensive constraints, for a fixed and small footprint.
+ * <p>
+ * The getters read the live values without any locking, so values read one after the other might be slightly
+ * inconsistent while durations are being recorded. The layout maps directly onto the histograms of the usual metrics
+ * libraries, e.g. as a cumulative histogram through {@link #getBucketUpperBoundsNanos()} and {@link #getBucketCounts()}.
+ *
+ * @since 9.1
+ */
+@Incubating
+public final class LatencyHistogram {
+
+	private static final int SMALLEST_BUCKET_EXPONENT = 10;
+
+	private static final int LARGEST_BUCKET_EXPONENT = 36;
+
+	private static final long[] BUCKET_UPPER_BOUNDS_NANOS = createBucketUpperBounds();
+
+	private final AtomicLongArray bucketCounts = new AtomicLongArray( BUCKET_UPPER_BOUNDS_NANOS.length );
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final LongAccumulator maxNanos = new LongAccumulator( Long::max, 0L );
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param durationNanos the duration in nanoseconds, negative values are recorded as {@code 0}
+	 */
+	public void record(long durationNanos) {
+		long duration = Math.max( 0L, durationNanos );
+
+		bucketCounts.incrementAndGet( bucketIndex( duration ) );
+		count.increment();
+		totalNanos.add( duration );
+		maxNanos.accumulate( duration );
+	}
+
+	/**
+	 * Adds the durations recorded by another histogram to this one, e.g. to aggregate the histograms of several
+	 * components.
+	 *
+	 * @param other the histogram to add
+	 */
+	public void add(LatencyHistogram other) {
+		for ( int i = 0; i < bucketCounts.length(); i++ ) {
+			bucketCounts.addAndGet( i, other.bucketCounts.get( i ) );
+		}
+		count.add( other.getCount() );
+		totalNanos.add( other.getTotalNanos() );
+		maxNanos.accumulate( other.getMaxNanos() );
+	}
+
+	/**
+	 * @return the number of recorded durations
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the sum of the recorded durations in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	/**
+	 * @return the longest recorded duration in nanoseconds, {@code 0} if no duration was recorded
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * @return the mean of the recorded durations in nanoseconds, {@code 0} if no duration was recorded
+	 */
+	public double getMeanNanos() {
+		long currentCount = getCount();
+		return currentCount == 0 ? 0 : (double) getTotalNanos() / currentCount;
+	}
+
+	/**
+	 * @return the inclusive upper bounds of the buckets in nanoseconds, the last one being {@link Long#MAX_VALUE}
+	 */
+	public long[] getBucketUpperBoundsNanos() {
+		return BUCKET_UPPER_BOUNDS_NANOS.clone();
+	}
+
+	/**
+	 * @return the number of durations recorded in each bucket, in the order of {@link #getBucketUpperBoundsNanos()}
+	 */
+	public long[] getBucketCounts() {
+		long[] counts = new long[bucketCounts.length()];
+		for ( int i = 0; i < counts.length; i++ ) {
+			counts[i] = bucketCounts.get( i );
+		}
+		return counts;
+	}
+
+	/**
+	 * Estimates a percentile of the recorded durations.
+	 *
+	 * @param percentile the percentile, between {@code 0} and {@code 100}
+	 * @return the upper bound of the bucket containing the given percentile, capped by the longest recorded duration,
+	 * {@code 0} if no duration was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] counts = getBucketCounts();
+		long total = 0;
+		for ( long bucketCount : counts ) {
+			total += bucketCount;
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		long rank = (long) Math.ceil( Math.min( 100d, Math.max( 0d, percentile ) ) / 100d * total );
+		long cumulativeCount = 0;
+		for ( int i = 0; i < counts.length; i++ ) {
+			cumulativeCount += counts[i];
+			if ( cumulativeCount >= rank && cumulativeCount > 0 ) {
+				return Math.min( BUCKET_UPPER_BOUNDS_NANOS[i], getMaxNanos() );
+			}
+		}
+		return getMaxNanos();
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram{count=" + getCount() + ", meanNanos=" + getMeanNanos() + ", maxNanos=" + getMaxNanos() + "}";
+	}
+
+	private static int bucketIndex(long durationNanos) {
+		if ( durationNanos <= BUCKET_UPPER_BOUNDS_NANOS[0] ) {
+			return 0;
+		}
+		// the smallest exponent e such that durationNanos <= 2^e
+		int exponent = Long.SIZE - Long.numberOfLeadingZeros( durationNanos - 1 );
+		return Math.min( exponent - SMALLEST_BUCKET_EXPONENT, BUCKET_UPPER_BOUNDS_NANOS.length - 1 );
+	}
+
+	private static long[] createBucketUpperBounds() {
+		long[] upperBounds = new long[LARGEST_BUCKET_EXPONENT - SMALLEST_BUCKET_EXPONENT + 2];
+		for ( int i = 0; i < upperBounds.length - 1; i++ ) {
+			upperBounds[i] = 1L << ( SMALLEST_BUCKET_EXPONENT + i );
+		}
+		upperBounds[upperBounds.length - 1] = Long.MAX_VALUE;
+		return upperBounds;
+	}
+}
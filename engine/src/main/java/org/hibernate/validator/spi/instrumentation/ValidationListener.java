@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.instrumentation;
+
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Receives the events of the validation engine, e.g. to measure the time spent in each constraint.
+ * <p>
+ * All the methods do nothing by default so that implementations only override the events they are interested in.
+ * Durations are measured with {@link System#nanoTime()} and expressed in nanoseconds.
+ * <p>
+ * Implementations must be thread-safe: the listener is shared by all the validators of a validator factory and the
+ * events are fired in the threads running the validation. They should also be fast, as they are called on the
+ * validation hot path. When no listener is registered, no event is created at all.
+ *
+ * @see org.hibernate.validator.HibernateValidatorConfiguration#validationListener(ValidationListener)
+ * @see AggregatingValidationListener
+ * @since 9.1
+ */
+@Incubating
+public interface ValidationListener {
+
+	/**
+	 * Called when a validation call starts.
+	 *
+	 * @param rootBeanClass the class of the root bean of the validation
+	 */
+	default void validationStarted(Class<?> rootBeanClass) {
+	}
+
+	/**
+	 * Called when a validation call ends, be it successfully or not.
+	 *
+	 * @param rootBeanClass the class of the root bean of the validation
+	 * @param numberOfConstraintViolations the number of constraint violations found
+	 * @param durationNanos the duration of the validation call
+	 */
+	default void validationEnded(Class<?> rootBeanClass, int numberOfConstraintViolations, long durationNanos) {
+	}
+
+	/**
+	 * Called when a constraint has been evaluated.
+	 *
+	 * @param beanClass the class declaring the constraint
+	 * @param constraintDescriptor the descriptor of the constraint
+	 * @param valid whether the value satisfied the constraint
+	 * @param durationNanos the duration of the evaluation, including the creation of the violations if any
+	 */
+	default void constraintEvaluated(Class<?> beanClass, ConstraintDescriptor<?> constraintDescriptor, boolean valid, long durationNanos) {
+	}
+
+	/**
+	 * Called when the validation cascades to a bean.
+	 *
+	 * @param beanClass the class of the cascaded bean
+	 */
+	default void cascadeEntered(Class<?> beanClass) {
+	}
+
+	/**
+	 * Called when the validation of a cascaded bean ends.
+	 *
+	 * @param beanClass the class of the cascaded bean
+	 * @param durationNanos the duration of the validation of the cascaded bean, including its own cascades
+	 */
+	default void cascadeExited(Class<?> beanClass, long durationNanos) {
+	}
+
+	/**
+	 * Called when the message of a constraint violation has been interpolated.
+	 *
+	 * @param messageTemplate the interpolated message template
+	 * @param durationNanos the duration of the interpolation
+	 */
+	default void messageInterpolated(String messageTemplate, long durationNanos) {
+	}
+
+	/**
+	 * Called when the metadata of a bean class has been built.
+	 *
+	 * @param beanClass the bean class
+	 * @param durationNanos the duration of the metadata build
+	 */
+	default void beanMetaDataBuilt(Class<?> beanClass, long durationNanos) {
+	}
+}
@@ -0,0 +1,11 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * <p>This package provides support for observing the validation engine, e.g. to collect metrics about the cost of the
+ * constraints under real traffic.</p>
+ * <p>This package is part of the public Hibernate Validator SPI.</p>
+ */
+package org.hibernate.validator.spi.instrumentation;
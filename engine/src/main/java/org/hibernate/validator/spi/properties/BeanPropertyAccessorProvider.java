@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.properties;
+
+import java.util.function.Function;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Provides reflection-free accessors to the fields and getters declared by a given bean class.
+ * <p>
+ * Implementations are discovered via the {@link java.util.ServiceLoader} mechanism when the validator factory is
+ * bootstrapped. They are typically generated at build time by the Hibernate Validator annotation processor (see its
+ * {@code generatePropertyAccessors} option) but can also be written by hand.
+ * <p>
+ * When no accessor is provided for a given member, Hibernate Validator falls back to its default access strategy.
+ * <p>
+ * Implementations must be thread-safe and the returned functions must not have side effects.
+ *
+ * @since 9.1
+ */
+@Incubating
+public interface BeanPropertyAccessorProvider {
+
+	/**
+	 * @return the bean class declaring the members this provider gives access to
+	 */
+	Class<?> getBeanClass();
+
+	/**
+	 * Returns an accessor returning the value of the given field for a bean instance.
+	 *
+	 * @param fieldName the name of a field declared by {@link #getBeanClass()}
+	 * @return the accessor or {@code null} if this provider does not give access to this field
+	 */
+	Function<Object, Object> getFieldAccessor(String fieldName);
+
+	/**
+	 * Returns an accessor invoking the given getter on a bean instance.
+	 *
+	 * @param methodName the name of a getter declared by {@link #getBeanClass()}
+	 * @return the accessor or {@code null} if this provider does not give access to this getter
+	 */
+	Function<Object, Object> getGetterAccessor(String methodName);
+}
@@ -4,7 +4,7 @@
  */
 
 /**
- * <p>This package provides support for customizing the getter detection logic.</p>
+ * <p>This package provides support for customizing the getter detection logic and the access to the property values.</p>
  * <p>This package is part of the public Hibernate Validator SPI.</p>
  */
 package org.hibernate.validator.spi.properties;
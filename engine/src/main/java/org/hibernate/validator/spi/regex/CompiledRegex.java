@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.regex;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A regular expression compiled by a {@link RegexEngine}.
+ * <p>
+ * Compiled regular expressions are shared by the constraint validators and must be thread-safe.
+ *
+ * @since 9.1
+ */
+@Incubating
+@FunctionalInterface
+public interface CompiledRegex {
+
+	/**
+	 * @param input the character sequence to match
+	 *
+	 * @return {@code true} if the entire character sequence matches the regular expression, {@code false} otherwise
+	 */
+	boolean matches(CharSequence input);
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.regex;
+
+import java.util.regex.PatternSyntaxException;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Compiles the regular expressions of the {@link Pattern} and {@link Email} constraints.
+ * <p>
+ * The default implementation relies on {@link java.util.regex.Pattern}. A custom implementation might for instance
+ * rely on a regular expression engine guaranteeing a linear matching time, to protect the validation of user input
+ * against catastrophic backtracking.
+ * <p>
+ * The compiled regular expressions are cached by the validator factory: an implementation does not need to cache
+ * them. Implementations must be thread-safe.
+ *
+ * @since 9.1
+ */
+@Incubating
+public interface RegexEngine {
+
+	/**
+	 * Compiles the given regular expression.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the flags of the regular expression, a combination of the flags of {@link java.util.regex.Pattern},
+	 * see {@link Pattern.Flag#getValue()}
+	 *
+	 * @return the compiled regular expression, never {@code null}
+	 *
+	 * @throws PatternSyntaxException if the regular expression is invalid, or uses a construct or a flag not supported by
+	 * the engine
+	 */
+	CompiledRegex compile(String regexp, int flags);
+}
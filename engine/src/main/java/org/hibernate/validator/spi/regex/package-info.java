@@ -0,0 +1,11 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * <p>This package provides support for customization of the regular expression engine used by the {@code Pattern}
+ * and {@code Email} constraints.</p>
+ * <p>This package is part of the public Hibernate Validator SPI.</p>
+ */
+package org.hibernate.validator.spi.regex;
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.IDN;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import jakarta.validation.constraints.Email;
+
+import org.hibernate.validator.internal.constraintvalidators.AbstractEmailValidator;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the email and domain name validation gives the same results as the regular expressions previously used
+ * to implement it, on hand-picked and randomly generated values.
+ * <p>
+ * The number of random values can be raised with the {@code org.hibernate.validator.test.differential.randomValues}
+ * system property for a more thorough run.
+ */
+public class EmailAndDomainNameDifferentialTest {
+
+	private static final int RANDOM_VALUES = Integer.getInteger( "org.hibernate.validator.test.differential.randomValues", 5_000 );
+
+	private static final String[] TOKENS = {
+			"a", "Z", "x", "0", "7", "9", "1", "25", "255", "256", "099", "-", "--", ".", "..", ":", "::", "@", "\"", "\\",
+			"\\\"", "\\\\", "[", "]", "IPv6:", "ipv6:", "ffff", "FFFF", "fe80", "FE80", "0000", "abcd", "12345", "%",
+			"eth0", " ", "(", ")", ",", ";", "<", "!", "#", "~", "_", "+", "'", "é", "ü", "\u3002", "\uFF0E", "\u00A0",
+			"xn--", "xn--nxasmq6b", "\uD83D\uDE00", "\uD83D", "\uDE00", "\n", "\u0000", "a".repeat( 30 ), "b".repeat( 63 ), "c".repeat( 64 ),
+			"ü".repeat( 40 )
+	};
+
+	private static final String[] IP_V6_GROUPS = { "", "0", "1", "ab", "fFf", "ffff", "FFFF", "12345", "g", "fe80", "0000", "00000" };
+
+	private final AbstractEmailValidator<Email> emailValidator = new AbstractEmailValidator<>();
+
+	@Test
+	public void handPickedValues() {
+		String[] values = {
+				"", "@", "a@", "@a", "a@b", "a.b@c.d", ".a@b", "a.@b", "a..b@c", "\"\"@a", "\"a\"@b", "\"a\".b@c", "\"a\"b@c",
+				"\"a\\\"@b", "\"a\\\\\"@b", "\"a\\b\"@c", "\"a@b\"@c", "a@b.", "a@.b", "a@b..c", "a@-b", "a@b-", "a@b-.c",
+				"a@b--c", "a@é.com", "a@xn--nxasmq6b.com", "a@b\u3002c", "a@b\uFF0Ec", "a@" + "b".repeat( 63 ) + ".com",
+				"a@" + "b".repeat( 64 ) + ".com", "a@" + ( "b".repeat( 62 ) + "." ).repeat( 4 ) + "com",
+				"a@" + ( "b".repeat( 62 ) + "." ).repeat( 3 ) + "c".repeat( 60 ), "c".repeat( 64 ) + "@a", "c".repeat( 65 ) + "@a",
+				"a@[1.2.3.4]", "a@[1.2.3]", "a@[1234.2.3.4]", "a@[999.999.999.999]", "a@[IPv6:::1]", "a@[ipv6:::]",
+				"a@[IPv6:1:2:3:4:5:6:7:8]", "a@[IPv6:1:2:3:4:5:6:7:8:9]", "a@[IPv6:1:2:3:4:5:6:7]", "a@[IPv6:1:2:3:4:5:6:7::]",
+				"a@[IPv6:1:2:3:4:5:6::7]", "a@[IPv6:1:2:3:4:5:6:7::8]", "a@[IPv6:::1:2:3:4:5:6:7]", "a@[IPv6:::1:2:3:4:5:6:7:8]",
+				"a@[IPv6:1::2::3]", "a@[IPv6::::1]", "a@[IPv6:1:::]", "a@[IPv6:fe80::1%eth0]", "a@[IPv6:fe80:%1]",
+				"a@[IPv6:fe80:::::%1]", "a@[IPv6:fe80::::::%1]", "a@[IPv6:fe80::12345%1]", "a@[IPv6:fe80%1]",
+				"a@[IPv6:fe80::1%]", "a@[IPv6:fe80::1%e.0]", "a@[IPv6:::1.2.3.4]", "a@[IPv6:::ffff:1.2.3.4]",
+				"a@[IPv6:::ffff:0:1.2.3.4]", "a@[IPv6:::ffff:00000:1.2.3.4]", "a@[IPv6:::ffff:1:1.2.3.4]",
+				"a@[IPv6:1:2:3:4::1.2.3.4]", "a@[IPv6:1:2:3:4:5::1.2.3.4]", "a@[IPv6:1::1.2.3.256]", "a@[IPv6:1::1.2.3.099]",
+				"a@[IPv6:1::1.2.3.09]", "a@[IPv6:1:1.2.3.4]", "a@[IPv6:1.2.3.4]", "a@[::1]", "a@[]", "a@[", "a@]", "a@[IPv6:]"
+		};
+		for ( String value : values ) {
+			assertSameResults( value );
+		}
+	}
+
+	@Test
+	public void randomValues() {
+		Random random = new Random( 42L );
+		StringBuilder value = new StringBuilder();
+		for ( int i = 0; i < RANDOM_VALUES; i++ ) {
+			value.setLength( 0 );
+			int tokens = random.nextInt( 12 );
+			for ( int j = 0; j < tokens; j++ ) {
+				value.append( TOKENS[random.nextInt( TOKENS.length )] );
+			}
+			assertSameResults( value.toString() );
+			assertSameResults( "a@" + value );
+			assertSameResults( value + "@example.com" );
+		}
+	}
+
+	@Test
+	public void randomIpAddressLiterals() {
+		Random random = new Random( 42L );
+		StringBuilder value = new StringBuilder();
+		for ( int i = 0; i < RANDOM_VALUES; i++ ) {
+			value.setLength( 0 );
+			if ( random.nextInt( 4 ) == 0 ) {
+				value.append( random.nextBoolean() ? "fe80" : "::" );
+			}
+			int groups = random.nextInt( 10 );
+			for ( int j = 0; j < groups; j++ ) {
+				if ( j > 0 || random.nextBoolean() ) {
+					value.append( random.nextInt( 6 ) == 0 ? "::" : ":" );
+				}
+				value.append( IP_V6_GROUPS[random.nextInt( IP_V6_GROUPS.length )] );
+			}
+			if ( random.nextInt( 3 ) == 0 ) {
+				value.append( random.nextBoolean() ? ":" : "::" );
+				for ( int j = 0; j < 4; j++ ) {
+					if ( j > 0 ) {
+						value.append( '.' );
+					}
+					int octet = random.nextInt( 300 );
+					value.append( random.nextInt( 5 ) == 0 ? String.format( "%03d", octet ) : String.valueOf( octet ) );
+				}
+			}
+			if ( random.nextInt( 4 ) == 0 ) {
+				value.append( '%' ).append( random.nextBoolean() ? "eth0" : "" );
+			}
+			assertSameResults( "a@[IPv6:" + value + "]" );
+			assertSameResults( "a@[" + value + "]" );
+		}
+	}
+
+	private void assertSameResults(String value) {
+		assertThat( emailValidator.isValid( value, null ) )
+				.as( "email %s", value )
+				.isEqualTo( RegexEmailValidation.isValidEmail( value ) );
+
+		int splitPosition = value.lastIndexOf( '@' );
+		String domain = value.substring( splitPosition + 1 );
+		assertThat( DomainNameUtil.isValidEmailDomainAddress( domain ) )
+				.as( "email domain %s", domain )
+				.isEqualTo( RegexEmailValidation.isValidDomainAddress( domain, RegexEmailValidation.EMAIL_DOMAIN_PATTERN ) );
+		assertThat( DomainNameUtil.isValidDomainAddress( domain ) )
+				.as( "domain %s", domain )
+				.isEqualTo( RegexEmailValidation.isValidDomainAddress( domain, RegexEmailValidation.DOMAIN_PATTERN ) );
+	}
+
+	/**
+	 * The validation of emails and domains based on regular expressions, as previously implemented.
+	 */
+	private static final class RegexEmailValidation {
+
+		private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+		private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+		private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+				"(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
+						"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*",
+				CASE_INSENSITIVE
+		);
+
+		private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+		private static final String DOMAIN_LABEL = DOMAIN_CHARS_WITHOUT_DASH + "++(?:-++" + DOMAIN_CHARS_WITHOUT_DASH + "++)*+";
+		private static final String DOMAIN = DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*+";
+		private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+		private static final String IP_V6_DOMAIN =
+				"(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+
+		private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+				DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+		);
+		private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
+				DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+		);
+
+		private static boolean isValidEmail(String value) {
+			if ( value.isEmpty() ) {
+				return true;
+			}
+			int splitPosition = value.lastIndexOf( '@' );
+			if ( splitPosition < 0 ) {
+				return false;
+			}
+			String localPart = value.substring( 0, splitPosition );
+			if ( localPart.length() > 64 || !LOCAL_PART_PATTERN.matcher( localPart ).matches() ) {
+				return false;
+			}
+			return isValidDomainAddress( value.substring( splitPosition + 1 ), EMAIL_DOMAIN_PATTERN );
+		}
+
+		private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+			if ( domain.endsWith( "." ) ) {
+				return false;
+			}
+			String asciiString;
+			try {
+				asciiString = IDN.toASCII( domain );
+			}
+			catch (IllegalArgumentException e) {
+				return false;
+			}
+			if ( asciiString.length() > 255 ) {
+				return false;
+			}
+			return pattern.matcher( domain ).matches();
+		}
+	}
+}
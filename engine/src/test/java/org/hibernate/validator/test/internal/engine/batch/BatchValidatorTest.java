@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.batch;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.BatchValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link BatchValidator}.
+ */
+public class BatchValidatorTest {
+
+	private BatchValidator batchValidator;
+
+	@BeforeMethod
+	public void setUp() {
+		batchValidator = ValidatorUtil.getValidator().unwrap( BatchValidator.class );
+	}
+
+	@Test
+	public void testOnlyInvalidBeansAreReported() {
+		Map<Integer, Set<ConstraintViolation<Object>>> violations = batchValidator.validateAll( Arrays.asList(
+				new Item( "valid", 1 ),
+				new Item( null, 1 ),
+				new Item( "valid", 1 ),
+				new Item( null, 0 )
+		) );
+
+		Assertions.assertThat( violations ).containsOnlyKeys( 1, 3 );
+		assertThat( violations.get( 1 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+		assertThat( violations.get( 3 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+	}
+
+	@Test
+	public void testBeansOfDifferentTypes() {
+		Map<Integer, Set<ConstraintViolation<Object>>> violations = batchValidator.validateAll( Arrays.asList(
+				new Item( null, 1 ),
+				new Unconstrained(),
+				new Customer( null ),
+				new Item( null, 0 )
+		) );
+
+		Assertions.assertThat( violations ).containsOnlyKeys( 0, 2, 3 );
+		assertThat( violations.get( 2 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "email" )
+		);
+	}
+
+	@Test
+	public void testGroups() {
+		List<Item> items = Arrays.asList( new Item( null, 0 ), new Item( "valid", 0 ) );
+
+		Map<Integer, Set<ConstraintViolation<Item>>> violations = batchValidator.validateAll( items, Strict.class );
+		Assertions.assertThat( violations ).containsOnlyKeys( 0, 1 );
+		assertThat( violations.get( 0 ) ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "quantity" )
+		);
+
+		violations = batchValidator.validateAll( items, Default.class, Strict.class );
+		assertThat( violations.get( 0 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Min.class ).withProperty( "quantity" )
+		);
+	}
+
+	@Test
+	public void testStream() {
+		Map<Integer, Set<ConstraintViolation<Item>>> violations = batchValidator.validateAll(
+				Arrays.asList( new Item( "valid", 1 ), new Item( null, 1 ) ).stream()
+		);
+
+		Assertions.assertThat( violations ).containsOnlyKeys( 1 );
+	}
+
+	@Test
+	public void testExecutor() {
+		List<Item> items = new ArrayList<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			items.add( i % 3 == 0 ? new Item( null, 1 ) : new Item( "valid", 1 ) );
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			Map<Integer, Set<ConstraintViolation<Item>>> violations = batchValidator.validateAll( items, executor );
+
+			Assertions.assertThat( violations ).hasSize( 334 );
+			Assertions.assertThat( new ArrayList<>( violations.keySet() ) ).isSorted().allMatch( index -> index % 3 == 0 );
+			Assertions.assertThat( violations ).isEqualTo( batchValidator.validateAll( items ) );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testEmptyBatch() {
+		Assertions.assertThat( batchValidator.validateAll( Collections.emptyList() ) ).isEmpty();
+		Assertions.assertThat( batchValidator.validateAll( Collections.emptyList(), Runnable::run ) ).isEmpty();
+	}
+
+	@Test
+	public void testNullBeanIsRejected() {
+		List<Item> items = Arrays.asList( new Item( "valid", 1 ), null );
+
+		assertThatThrownBy( () -> batchValidator.validateAll( items ) )
+				.isInstanceOf( IllegalArgumentException.class );
+		assertThatThrownBy( () -> batchValidator.validateAll( items, Runnable::run ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
+	@Test
+	public void testUnwrap() {
+		Validator validator = ValidatorUtil.getValidator();
+		Assertions.assertThat( validator.unwrap( BatchValidator.class ) ).isSameAs( validator );
+	}
+
+	private interface Strict {
+	}
+
+	private static class Item {
+
+		@NotNull
+		private final String name;
+
+		@Min(value = 1, groups = Strict.class)
+		private final int quantity;
+
+		private Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Customer {
+
+		@NotNull
+		private final String email;
+
+		private Customer(String email) {
+			this.email = email;
+		}
+	}
+
+	private static class Unconstrained {
+	}
+}
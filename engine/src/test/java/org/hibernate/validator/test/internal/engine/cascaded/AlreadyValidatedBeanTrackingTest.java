@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.StreamingValidator;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the tracking of the beans already validated.
+ */
+public class AlreadyValidatedBeanTrackingTest {
+
+	@Test
+	public void testCyclicGraph() {
+		Node first = new Node();
+		Node second = new Node();
+		first.next = second;
+		second.next = first;
+		first.children.add( second );
+		second.children.add( first );
+
+		assertThat( getValidator().validate( first ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "next" ).property( "name" ) ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "children" ).property( "name", true, null, 0, List.class, 0 ) )
+		);
+	}
+
+	@Test
+	public void testConstraintDefinedForSeveralGroupsIsOnlyReportedOnce() {
+		Node first = new Node();
+		first.next = first;
+
+		assertThat( getValidator().validate( first, Default.class, Extended.class ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+	}
+
+	@Test
+	public void testSharedBeanOfAcyclicGraphIsValidatedForEachPath() {
+		Leaf leaf = new Leaf();
+		Branch branch = new Branch( leaf );
+		Tree tree = new Tree( branch, branch, leaf );
+
+		Validator validator = getValidator();
+
+		assertThat( validator.validate( tree ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "left" ).property( "leaf" ).property( "name" ) ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "right" ).property( "leaf" ).property( "name" ) ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "leaves" ).property( "name", true, null, 0, List.class, 0 ) )
+		);
+	}
+
+	@Test
+	public void testBeanReachedThroughSeveralConvertedGroupsIsOnlyValidatedOnce() {
+		Validator validator = getValidator();
+		Order order = new Order( new Address() );
+
+		CountingValidator.COUNT.set( 0 );
+		assertThat( validator.validate( order, First.class, Second.class ) ).containsOnlyViolations(
+				violationOf( Counted.class ).withPropertyPath( pathWith().property( "address" ).property( "street" ) )
+		);
+		assertEquals( CountingValidator.COUNT.get(), 1 );
+
+		CountingValidator.COUNT.set( 0 );
+		List<Object> violations = new ArrayList<>();
+		int violationCount = validator.unwrap( StreamingValidator.class )
+				.validate( order, violations::add, First.class, Second.class );
+		assertEquals( violationCount, 1 );
+		assertEquals( violations.size(), 1 );
+		assertEquals( CountingValidator.COUNT.get(), 1 );
+	}
+
+	private interface Extended {
+	}
+
+	private interface First {
+	}
+
+	private interface Second {
+	}
+
+	private static class Node {
+
+		@NotNull(groups = { Default.class, Extended.class })
+		private String name;
+
+		@Valid
+		private Node next;
+
+		private final List<@Valid Node> children = new ArrayList<>();
+	}
+
+	private static final class Leaf {
+
+		@NotNull
+		private String name;
+	}
+
+	private static final class Branch {
+
+		@Valid
+		private final Leaf leaf;
+
+		private Branch(Leaf leaf) {
+			this.leaf = leaf;
+		}
+	}
+
+	private static final class Tree {
+
+		@Valid
+		private final Branch left;
+
+		@Valid
+		private final Branch right;
+
+		private final List<@Valid Leaf> leaves = new ArrayList<>();
+
+		private Tree(Branch left, Branch right, Leaf leaf) {
+			this.left = left;
+			this.right = right;
+			this.leaves.add( leaf );
+		}
+	}
+
+	private static final class Address {
+
+		@Counted
+		private String street;
+	}
+
+	private static final class Order {
+
+		@Valid
+		@ConvertGroup(from = First.class, to = Default.class)
+		@ConvertGroup(from = Second.class, to = Default.class)
+		private final Address address;
+
+		private Order(Address address) {
+			this.address = address;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = CountingValidator.class)
+	@Target(FIELD)
+	@Retention(RUNTIME)
+	public @interface Counted {
+
+		String message() default "counted";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class CountingValidator implements ConstraintValidator<Counted, String> {
+
+		private static final AtomicInteger COUNT = new AtomicInteger();
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			COUNT.incrementAndGet();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Set;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the state of a constraint validator context used for a satisfied constraint does not leak into the
+ * violations of the following constraints, as the context is reused.
+ */
+public class ConstraintValidatorContextReuseTest {
+
+	@Test
+	public void testStateOfSatisfiedConstraintDoesNotLeak() {
+		Set<ConstraintViolation<Bean>> violations = getValidator().validate( new Bean() );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( AlwaysInvalid.class ).withProperty( "invalid1" ).withMessage( "invalid {leaked}" ),
+				violationOf( AlwaysInvalid.class ).withProperty( "invalid2" ).withMessage( "invalid {leaked}" )
+		);
+		for ( ConstraintViolation<Bean> violation : violations ) {
+			Assertions.assertThat( violation.unwrap( HibernateConstraintViolation.class ).getDynamicPayload( String.class ) ).isNull();
+		}
+	}
+
+	private static class Bean {
+
+		@StateLeaking
+		private String valid1;
+
+		@AlwaysInvalid
+		private String invalid1;
+
+		@StateLeaking
+		private String valid2;
+
+		@AlwaysInvalid
+		private String invalid2;
+
+		@StateLeaking
+		private String valid3;
+	}
+
+	@Target({ ElementType.FIELD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = StateLeakingValidator.class)
+	public @interface StateLeaking {
+
+		String message() default "leaking";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class StateLeakingValidator implements ConstraintValidator<StateLeaking, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			HibernateConstraintValidatorContext hibernateContext = context.unwrap( HibernateConstraintValidatorContext.class );
+			hibernateContext.addMessageParameter( "leaked", "value" );
+			hibernateContext.addExpressionVariable( "leaked", "value" );
+			hibernateContext.withDynamicPayload( "payload" );
+			hibernateContext.disableDefaultConstraintViolation();
+			hibernateContext.buildConstraintViolationWithTemplate( "leaked violation" ).addConstraintViolation();
+			return true;
+		}
+	}
+
+	@Target({ ElementType.FIELD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = AlwaysInvalidValidator.class)
+	public @interface AlwaysInvalid {
+
+		String message() default "invalid {leaked}";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class AlwaysInvalidValidator implements ConstraintValidator<AlwaysInvalid, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			return false;
+		}
+	}
+}
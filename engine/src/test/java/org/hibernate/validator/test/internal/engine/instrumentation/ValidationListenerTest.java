@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.instrumentation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.spi.instrumentation.AggregatingValidationListener;
+import org.hibernate.validator.spi.instrumentation.LatencyHistogram;
+import org.hibernate.validator.spi.instrumentation.ValidationListener;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@link ValidationListener} SPI.
+ */
+public class ValidationListenerTest {
+
+	@Test
+	public void testEventsAreFired() {
+		RecordingValidationListener listener = new RecordingValidationListener();
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.validationListener( listener )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( null, 1, -1 ) );
+		assertEquals( violations.size(), 2 );
+		assertEquals( listener.events, List.of(
+				"metadata Order",
+				"started Order",
+				// the message is interpolated while the constraint is being evaluated
+				"message",
+				"constraint Order NotNull false",
+				// the list itself is validated as a bean before its elements
+				"metadata Object",
+				"metadata ArrayList",
+				"cascade entered ArrayList",
+				"metadata AbstractList",
+				"metadata AbstractCollection",
+				"cascade exited ArrayList",
+				"metadata Line",
+				"cascade entered Line",
+				"constraint Line Min true",
+				"cascade exited Line",
+				"cascade entered Line",
+				"message",
+				"constraint Line Min false",
+				"cascade exited Line",
+				"ended Order 2"
+		) );
+	}
+
+	@Test
+	public void testMessageInterpolationIsReportedWhenLazy() {
+		RecordingValidationListener listener = new RecordingValidationListener();
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.lazyMessageInterpolation( true )
+				.validationListener( listener )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( null ) );
+		assertFalse( listener.events.contains( "message" ) );
+
+		violations.iterator().next().getMessage();
+		assertTrue( listener.events.contains( "message" ) );
+	}
+
+	@Test
+	public void testAggregatingValidationListener() {
+		AggregatingValidationListener listener = new AggregatingValidationListener();
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.validationListener( listener )
+				.buildValidatorFactory()
+				.getValidator();
+
+		validator.validate( new Order( "ref", 1, -1 ) );
+		validator.validate( new Order( null ) );
+
+		assertEquals( listener.getValidationLatencies().get( Order.class ).getCount(), 2 );
+		assertEquals( listener.getConstraintLatenciesByConstraintType().get( NotNull.class ).getCount(), 2 );
+		assertEquals( listener.getConstraintLatenciesByConstraintType().get( Min.class ).getCount(), 2 );
+		assertEquals( listener.getConstraintLatenciesByBeanClass().get( Line.class ).getCount(), 2 );
+		assertEquals( listener.getConstraintFailureCount( NotNull.class ), 1 );
+		assertEquals( listener.getConstraintFailureCount( Min.class ), 1 );
+		assertEquals( listener.getCascadeLatencies().get( Line.class ).getCount(), 2 );
+		assertEquals( listener.getMessageInterpolationLatencies().getCount(), 2 );
+		assertEquals( listener.getBeanMetaDataBuildLatencies().get( Order.class ).getCount(), 1 );
+
+		listener.reset();
+
+		assertTrue( listener.getValidationLatencies().isEmpty() );
+		assertEquals( listener.getMessageInterpolationLatencies().getCount(), 0 );
+	}
+
+	@Test
+	public void testLatencyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( histogram.getValueAtPercentile( 50 ), 0 );
+
+		histogram.record( 500 );
+		histogram.record( 1_500 );
+		histogram.record( 3_000 );
+		histogram.record( 1_000_000 );
+
+		assertEquals( histogram.getCount(), 4 );
+		assertEquals( histogram.getTotalNanos(), 1_005_000 );
+		assertEquals( histogram.getMaxNanos(), 1_000_000 );
+		assertEquals( histogram.getMeanNanos(), 251_250d );
+
+		long[] counts = histogram.getBucketCounts();
+		assertEquals( counts.length, histogram.getBucketUpperBoundsNanos().length );
+		assertEquals( counts[0], 1 );
+		assertEquals( counts[1], 1 );
+		assertEquals( counts[2], 1 );
+		assertEquals( counts[10], 1 );
+
+		assertEquals( histogram.getValueAtPercentile( 25 ), 1_024 );
+		assertEquals( histogram.getValueAtPercentile( 50 ), 2_048 );
+		assertEquals( histogram.getValueAtPercentile( 75 ), 4_096 );
+		assertEquals( histogram.getValueAtPercentile( 100 ), 1_000_000 );
+	}
+
+	private static class RecordingValidationListener implements ValidationListener {
+
+		private final List<String> events = new ArrayList<>();
+
+		@Override
+		public void validationStarted(Class<?> rootBeanClass) {
+			events.add( "started " + rootBeanClass.getSimpleName() );
+		}
+
+		@Override
+		public void validationEnded(Class<?> rootBeanClass, int numberOfConstraintViolations, long durationNanos) {
+			events.add( "ended " + rootBeanClass.getSimpleName() + " " + numberOfConstraintViolations );
+		}
+
+		@Override
+		public void constraintEvaluated(Class<?> beanClass, ConstraintDescriptor<?> constraintDescriptor, boolean valid,
+				long durationNanos) {
+			events.add( "constraint " + beanClass.getSimpleName() + " " + constraintDescriptor.getAnnotation().annotationType().getSimpleName()
+					+ " " + valid );
+		}
+
+		@Override
+		public void cascadeEntered(Class<?> beanClass) {
+			events.add( "cascade entered " + beanClass.getSimpleName() );
+		}
+
+		@Override
+		public void cascadeExited(Class<?> beanClass, long durationNanos) {
+			events.add( "cascade exited " + beanClass.getSimpleName() );
+		}
+
+		@Override
+		public void messageInterpolated(String messageTemplate, long durationNanos) {
+			events.add( "message" );
+		}
+
+		@Override
+		public void beanMetaDataBuilt(Class<?> beanClass, long durationNanos) {
+			events.add( "metadata " + beanClass.getSimpleName() );
+		}
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@Valid
+		private final List<Line> lines = new ArrayList<>();
+
+		private Order(String reference, int... quantities) {
+			this.reference = reference;
+			for ( int quantity : quantities ) {
+				lines.add( new Line( quantity ) );
+			}
+		}
+	}
+
+	private static class Line {
+
+		@Min(0)
+		private final int quantity;
+
+		private Line(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
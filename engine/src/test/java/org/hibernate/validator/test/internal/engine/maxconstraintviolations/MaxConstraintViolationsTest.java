@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.maxconstraintviolations;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the maximum number of constraint violations reported by a validation call.
+ */
+public class MaxConstraintViolationsTest {
+
+	@Test
+	public void testNoLimitByDefault() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		Set<ConstraintViolation<Upload>> constraintViolations = validator.validate( new Upload( 10 ) );
+		assertEquals( constraintViolations.size(), 10 );
+		assertTruncated( constraintViolations, false );
+	}
+
+	@Test
+	public void testLimitSetOnConfiguration() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.maxConstraintViolations( 3 )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Upload>> constraintViolations = validator.validate( new Upload( 10 ) );
+		assertEquals( constraintViolations.size(), 3 );
+		assertTruncated( constraintViolations, true );
+	}
+
+	@Test
+	public void testLimitSetAsProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.MAX_CONSTRAINT_VIOLATIONS, "5" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Upload>> constraintViolations = validator.validate( new Upload( 10 ) );
+		assertEquals( constraintViolations.size(), 5 );
+		assertTruncated( constraintViolations, true );
+	}
+
+	@Test
+	public void testLimitSetOnValidatorContext() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.maxConstraintViolations( 4 )
+				.getValidator();
+
+		Set<ConstraintViolation<Upload>> constraintViolations = validator.validate( new Upload( 10 ) );
+		assertEquals( constraintViolations.size(), 4 );
+		assertTruncated( constraintViolations, true );
+	}
+
+	@Test
+	public void testResultNotTruncatedWhenLimitIsReachedExactly() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.maxConstraintViolations( 10 )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Upload>> constraintViolations = validator.validate( new Upload( 10 ) );
+		assertEquals( constraintViolations.size(), 10 );
+		assertTruncated( constraintViolations, false );
+	}
+
+	@Test
+	public void testLimitAppliesPerValidationCall() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.maxConstraintViolations( 3 )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertEquals( validator.validate( new Upload( 10 ) ).size(), 3 );
+		Set<ConstraintViolation<Upload>> constraintViolations = validator.validate( new Upload( 2 ) );
+		assertEquals( constraintViolations.size(), 2 );
+		assertTruncated( constraintViolations, false );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000276.*")
+	public void testNegativeLimitIsRejected() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class ).maxConstraintViolations( -1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000277.*")
+	public void testInvalidPropertyIsRejected() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.MAX_CONSTRAINT_VIOLATIONS, "many" )
+				.buildValidatorFactory();
+	}
+
+	private static void assertTruncated(Set<? extends ConstraintViolation<?>> constraintViolations, boolean truncated) {
+		for ( ConstraintViolation<?> constraintViolation : constraintViolations ) {
+			if ( truncated ) {
+				assertTrue( constraintViolation.unwrap( HibernateConstraintViolation.class ).isResultTruncated() );
+			}
+			else {
+				assertFalse( constraintViolation.unwrap( HibernateConstraintViolation.class ).isResultTruncated() );
+			}
+		}
+	}
+
+	private static class Upload {
+
+		@Valid
+		private final List<Line> parsedLines = new ArrayList<>();
+
+		private Upload(int numberOfInvalidLines) {
+			for ( int i = 0; i < numberOfInvalidLines; i++ ) {
+				parsedLines.add( new Line() );
+			}
+		}
+	}
+
+	private static class Line {
+
+		@NotNull
+		private String content;
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessageTemplate;
+import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
+import org.hibernate.validator.internal.engine.messageinterpolation.LocalizedMessage;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Makes sure interpolating the compiled message templates gives the same results as parsing the message for the
+ * message parameters and then parsing the result for the EL expressions.
+ */
+public class CompiledMessageTemplateTest {
+
+	private static final String[] MESSAGES = {
+			"{max}",
+			"size must be between {min} and {max}",
+			"{unknown} and {max}",
+			"{plain}{plain}",
+			"{meta}",
+			"regexp: \"{meta}\" and {max}",
+			"{el}",
+			"{dollar}{max}",
+			"{backslash} {max}",
+			"${validatedValue}",
+			"${validatedValue} is not between {min} and {max}",
+			"${max}",
+			"$${max}",
+			"\\${max}",
+			"$\\{max}",
+			"{max}$",
+			"{max}${validatedValue}",
+			"\\{max\\} is {max}",
+			"\\\\{max}",
+			"\\\\$",
+			"${'a\\}b'} {min}",
+			"${var} {var}",
+			"${min == 0 ? 'zero' : 'other'} {plain}",
+			"$ {max} $",
+			"${validatedValue} {el}",
+			"{el} ${validatedValue}",
+			"{dollar}{max}{dollar}",
+			"{unbalanced",
+			"unbalanced}",
+			"{nested{max}}",
+			"${unterminated"
+	};
+
+	private TestMessageInterpolator interpolator;
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+	private Map<String, Object> messageParameters;
+	private Map<String, Object> expressionVariables;
+
+	@BeforeMethod
+	public void setUp() {
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				ConstraintHelper.forAllBuiltinConstraints(),
+				null,
+				new ConstraintAnnotationDescriptor.Builder<>( Size.class ).build(),
+				ConstraintLocationKind.FIELD
+		);
+
+		messageParameters = new HashMap<>();
+		messageParameters.put( "plain", "plain value" );
+		messageParameters.put( "meta", "\\d{3}$" );
+		messageParameters.put( "el", "${1 + 1}" );
+		messageParameters.put( "dollar", "5$" );
+		messageParameters.put( "backslash", "a\\b" );
+
+		expressionVariables = new HashMap<>();
+		expressionVariables.put( "var", "variable value" );
+
+		interpolator = new TestMessageInterpolator();
+	}
+
+	@Test
+	public void testSameResultsAsTwoPassesInterpolation() {
+		for ( ExpressionLanguageFeatureLevel featureLevel : ExpressionLanguageFeatureLevel.values() ) {
+			if ( featureLevel == ExpressionLanguageFeatureLevel.DEFAULT ) {
+				continue;
+			}
+			MessageInterpolator.Context context = new MessageInterpolatorContext(
+					sizeDescriptor,
+					"validated",
+					null,
+					null,
+					messageParameters,
+					expressionVariables,
+					featureLevel,
+					true
+			);
+			for ( String message : MESSAGES ) {
+				// the second call uses the cached template
+				for ( int i = 0; i < 2; i++ ) {
+					assertEquals(
+							interpolator.interpolate( message, context, Locale.ENGLISH ),
+							interpolateInTwoPasses( message, context ),
+							"Wrong interpolation of " + message + " with feature level " + featureLevel
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCacheIsBounded() {
+		BoundedConcurrentCache<LocalizedMessage, CompiledMessageTemplate> cache = new BoundedConcurrentCache<>( 2 );
+
+		CompiledMessageTemplate first = cache.get( new LocalizedMessage( "{first}", Locale.ENGLISH ), lm -> CompiledMessageTemplate.compile( "{first}" ) );
+		assertSame( cache.get( new LocalizedMessage( "{first}", Locale.ENGLISH ), lm -> CompiledMessageTemplate.compile( "{first}" ) ), first );
+		cache.get( new LocalizedMessage( "{first}", Locale.FRENCH ), lm -> CompiledMessageTemplate.compile( "{first}" ) );
+		cache.get( new LocalizedMessage( "{second}", Locale.ENGLISH ), lm -> CompiledMessageTemplate.compile( "{second}" ) );
+
+		assertEquals( cache.size(), 2 );
+		assertEquals( cache.getHitCount(), 1 );
+		assertEquals( cache.getMissCount(), 3 );
+		assertEquals( cache.getEvictionCount(), 1 );
+	}
+
+	private String interpolateInTwoPasses(String message, MessageInterpolator.Context context) {
+		try {
+			String interpolatedMessage = interpolateTerms( message, InterpolationTermType.PARAMETER, context );
+			if ( ( (MessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE ) {
+				interpolatedMessage = interpolateTerms( interpolatedMessage, InterpolationTermType.EL, context );
+			}
+			return interpolatedMessage.replace( "\\{", "{" )
+					.replace( "\\}", "}" )
+					.replace( "\\\\", "\\" )
+					.replace( "\\$", "$" );
+		}
+		catch (MessageDescriptorFormatException e) {
+			return message;
+		}
+	}
+
+	private String interpolateTerms(String message, InterpolationTermType termType, MessageInterpolator.Context context) {
+		if ( message.indexOf( '{' ) < 0 ) {
+			return message;
+		}
+		TokenIterator tokenIterator = new TokenIterator( new TokenCollector( message, termType ).getTokenList() );
+		while ( tokenIterator.hasMoreInterpolationTerms() ) {
+			tokenIterator.replaceCurrentInterpolationTerm( interpolator.interpolateTerm( context, tokenIterator.nextInterpolationTerm() ) );
+		}
+		return tokenIterator.getInterpolatedMessage();
+	}
+
+	private static class TestMessageInterpolator extends ResourceBundleMessageInterpolator {
+
+		private String interpolateTerm(Context context, String term) {
+			return interpolate( context, Locale.ENGLISH, term );
+		}
+	}
+}
@@ -8,6 +8,7 @@
 
 import java.util.Collections;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.constraints.NotNull;
@@ -115,6 +116,32 @@ public void testExpressionLanguageGraphNavigationVariables() {
 		assertEquals( actual, expected, "Wrong substitution" );
 	}
 
+	@Test
+	public void testFailingUserCodeIsOnlyInvokedOnce() {
+		AtomicInteger toStringCalls = new AtomicInteger();
+		Object validatedValue = new Object() {
+
+			@Override
+			public String toString() {
+				toStringCalls.incrementAndGet();
+				throw new IllegalStateException( "broken" );
+			}
+		};
+		MessageInterpolator.Context context = new MessageInterpolatorContext(
+				notNullDescriptor,
+				validatedValue,
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>emptyMap(),
+				ExpressionLanguageFeatureLevel.VARIABLES,
+				false );
+
+		String actual = interpolatorUnderTest.interpolate( "${validatedValue}", context );
+		assertEquals( actual, "${validatedValue}", "Wrong substitution" );
+		assertEquals( toStringCalls.get(), 1 );
+	}
+
 	@Test
 	public void testUnknownPropertyInExpressionLanguageGraphNavigation() {
 		MessageInterpolator.Context context = new MessageInterpolatorContext(
@@ -207,6 +234,45 @@ public void testPrecedenceOfParameterInterpolation() {
 		assertEquals( actual, expected, "Wrong substitution" );
 	}
 
+	@Test
+	public void testCachedExpressionIsEvaluatedWithCurrentValues() {
+		for ( ExpressionLanguageFeatureLevel featureLevel : new ExpressionLanguageFeatureLevel[] {
+				ExpressionLanguageFeatureLevel.VARIABLES,
+				ExpressionLanguageFeatureLevel.BEAN_PROPERTIES,
+				ExpressionLanguageFeatureLevel.BEAN_METHODS } ) {
+			for ( String value : new String[] { "foo", "bar" } ) {
+				MessageInterpolator.Context context = new MessageInterpolatorContext(
+						notNullDescriptor,
+						value,
+						null,
+						null,
+						Collections.<String, Object>emptyMap(),
+						Collections.<String, Object>singletonMap( "variable", value + "Variable" ),
+						featureLevel,
+						false );
+
+				String actual = interpolatorUnderTest.interpolate( "${validatedValue} ${variable}", context );
+				assertEquals( actual, value + " " + value + "Variable", "Wrong substitution" );
+			}
+		}
+	}
+
+	@Test
+	public void testExpressionVariablesTakePrecedence() {
+		MessageInterpolator.Context context = new MessageInterpolatorContext(
+				notNullDescriptor,
+				"foo",
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>singletonMap( "validatedValue", "overridden" ),
+				ExpressionLanguageFeatureLevel.VARIABLES,
+				false );
+
+		String actual = interpolatorUnderTest.interpolate( "${validatedValue}", context );
+		assertEquals( actual, "overridden", "Wrong substitution" );
+	}
+
 	@Test
 	public void testLocaleBasedFormatting() {
 		MessageInterpolator.Context context = new MessageInterpolatorContext(
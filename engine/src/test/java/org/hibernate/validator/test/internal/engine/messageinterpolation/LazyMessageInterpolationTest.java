@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the lazy interpolation of the constraint violation messages.
+ */
+public class LazyMessageInterpolationTest {
+
+	@Test
+	public void testMessageIsInterpolatedOnFirstAccessOnly() {
+		CountingMessageInterpolator interpolator = new CountingMessageInterpolator();
+		Validator validator = getConfiguration( interpolator )
+				.lazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Foo>> violations = validator.validate( new Foo( null, 20 ) );
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ).withMessage( "must not be null" ),
+				violationOf( Max.class ).withProperty( "count" ).withMessage( "must be less than or equal to 10" )
+		);
+		assertEquals( interpolator.count.get(), 2 );
+
+		for ( ConstraintViolation<Foo> violation : violations ) {
+			violation.getMessage();
+		}
+		assertEquals( interpolator.count.get(), 2 );
+	}
+
+	@Test
+	public void testMessageIsNotInterpolatedWhenNotRequested() {
+		CountingMessageInterpolator interpolator = new CountingMessageInterpolator();
+		Validator validator = getConfiguration( interpolator )
+				.lazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Foo>> violations = validator.validate( new Foo( null, 20 ) );
+		assertEquals( violations.size(), 2 );
+		for ( ConstraintViolation<Foo> violation : violations ) {
+			assertNotEquals( violation.getMessageTemplate(), null );
+		}
+		assertEquals( interpolator.count.get(), 0 );
+	}
+
+	@Test
+	public void testEnableLazyMessageInterpolationUsingProperty() {
+		CountingMessageInterpolator interpolator = new CountingMessageInterpolator();
+		HibernateValidatorConfiguration configuration = getConfiguration( interpolator );
+		configuration.addProperty( HibernateValidatorConfiguration.LAZY_MESSAGE_INTERPOLATION, Boolean.TRUE.toString() );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertEquals( validator.validate( new Foo( null, 20 ) ).size(), 2 );
+		assertEquals( interpolator.count.get(), 0 );
+	}
+
+	@Test
+	public void testEnableLazyMessageInterpolationForValidator() {
+		CountingMessageInterpolator interpolator = new CountingMessageInterpolator();
+		ValidatorFactory validatorFactory = getConfiguration( interpolator ).buildValidatorFactory();
+
+		Validator lazyValidator = validatorFactory.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.lazyMessageInterpolation( true )
+				.getValidator();
+		assertEquals( lazyValidator.validate( new Foo( null, 20 ) ).size(), 2 );
+		assertEquals( interpolator.count.get(), 0 );
+
+		assertEquals( validatorFactory.getValidator().validate( new Foo( null, 20 ) ).size(), 2 );
+		assertEquals( interpolator.count.get(), 2 );
+	}
+
+	@Test
+	public void testEqualityDoesNotRequireInterpolation() {
+		CountingMessageInterpolator interpolator = new CountingMessageInterpolator();
+		Validator validator = getConfiguration( interpolator )
+				.lazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Foo foo = new Foo( null, 20 );
+		Set<ConstraintViolation<Foo>> violations = validator.validate( foo );
+		Set<ConstraintViolation<Foo>> otherViolations = validator.validate( foo );
+
+		assertEquals( violations, otherViolations );
+		assertEquals( violations.hashCode(), otherViolations.hashCode() );
+		assertEquals( interpolator.count.get(), 0 );
+
+		// interpolating the message does not change the equality
+		for ( ConstraintViolation<Foo> violation : violations ) {
+			violation.getMessage();
+		}
+		assertEquals( violations, otherViolations );
+		assertEquals( violations.hashCode(), otherViolations.hashCode() );
+	}
+
+	@Test
+	public void testSerializedViolationIsInterpolated() throws Exception {
+		CountingMessageInterpolator interpolator = new CountingMessageInterpolator();
+		Validator validator = getConfiguration( interpolator )
+				.lazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		ConstraintViolation<SerializableFoo> violation = validator.validate( new SerializableFoo() ).iterator().next();
+		ConstraintViolation<?> deserializedViolation = deserialize( serialize( violation ) );
+
+		assertEquals( interpolator.count.get(), 1 );
+		assertEquals( deserializedViolation.getMessage(), "must not be null" );
+		assertEquals( violation.getMessage(), "must not be null" );
+		assertEquals( interpolator.count.get(), 1 );
+	}
+
+	@Test
+	public void testLazilyInterpolatedMessageIsSameAsEagerlyInterpolatedOne() {
+		Foo foo = new Foo( null, 20 );
+		Validator lazyValidator = getConfiguration( new CountingMessageInterpolator() )
+				.lazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+		Validator eagerValidator = getConfiguration( new CountingMessageInterpolator() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( lazyValidator.validate( foo ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ).withMessage( "must not be null" ),
+				violationOf( Max.class ).withProperty( "count" ).withMessage( "must be less than or equal to 10" )
+		);
+		assertThat( eagerValidator.validate( foo ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ).withMessage( "must not be null" ),
+				violationOf( Max.class ).withProperty( "count" ).withMessage( "must be less than or equal to 10" )
+		);
+	}
+
+	private static HibernateValidatorConfiguration getConfiguration(CountingMessageInterpolator interpolator) {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class, Locale.ENGLISH );
+		interpolator.delegate = configuration.getDefaultMessageInterpolator();
+		return configuration.messageInterpolator( interpolator );
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( object );
+		}
+		return bytes.toByteArray();
+	}
+
+	private static ConstraintViolation<?> deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			return (ConstraintViolation<?>) in.readObject();
+		}
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		private MessageInterpolator delegate;
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			count.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			count.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
+	private static class Foo {
+
+		@NotNull
+		private final String name;
+
+		@Max(10)
+		private final int count;
+
+		private Foo(String name, int count) {
+			this.name = name;
+			this.count = count;
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class SerializableFoo implements Serializable {
+
+		@NotNull
+		private String name;
+	}
+}
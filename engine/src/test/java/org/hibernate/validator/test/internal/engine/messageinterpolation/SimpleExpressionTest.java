@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.SimpleExpression;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.BoundVariables;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link SimpleExpression}.
+ */
+public class SimpleExpressionTest {
+
+	@DataProvider(name = "supportedExpressions")
+	public static Object[][] supportedExpressions() {
+		// lines of (String expression, Object validatedValue, String expectedResult)
+		return new Object[][] {
+				{ "${validatedValue}", "foo", "foo" },
+				{ "${validatedValue}", null, "" },
+				{ "${validatedValue}", 10, "10" },
+				{ "${validatedValue}", Locale.ENGLISH, "en" },
+				{ "${'lit\\'eral'}", null, "lit'eral" },
+				{ "${\"literal\"}", null, "literal" },
+				{ "${inclusive == true ? 'or equal to ' : ''}", null, "or equal to " },
+				{ "${inclusive eq false ? 'or equal to ' : ''}", null, "" },
+				{ "${days == 0 ? '' : days == 1 ? ' 1 day' : ' ' += days += ' days'}", null, " 3 days" },
+				{ "${hours == 0 ? '' : hours == 1 ? ' 1 hour' : ' ' += hours += ' hours'}", null, "" },
+				{ "${days == 0 && hours == 0 ? ' 0' : ''}", null, "" },
+				{ "${days == 0 || hours == 0 ? ' 0' : ''}", null, " 0" },
+				{ "${days > 2 and not (hours >= 1)}", null, "true" },
+				{ "${days < 2.5 ? 'less' : 'more'}", null, null },
+				{ "${!inclusive}", null, "false" },
+				{ "${empty validatedValue}", "", "true" },
+				{ "${empty validatedValue}", Collections.singletonList( 1 ), "false" },
+				{ "${validatedValue == null}", null, "true" },
+				{ "${validatedValue != 'foo'}", "bar", "true" },
+				{ "${validatedValue > 'a'}", "b", "true" },
+				{ "${validatedValue > 1}", 1.5d, "true" },
+				{ "${formatter.format('%1$.2f', validatedValue)}", 3.14159d, "3.14" },
+				{ "${formatter.format('%s-%s', validatedValue, days)}", "foo", "foo-3" },
+		};
+	}
+
+	@DataProvider(name = "unsupportedExpressions")
+	public static Object[][] unsupportedExpressions() {
+		return new Object[][] {
+				{ "${validatedValue.length()}" },
+				{ "${validatedValue[0]}" },
+				{ "${validatedValue + 1}" },
+				{ "${-1}" },
+				{ "${1.5}" },
+				{ "${validatedValue = 1}" },
+				{ "${x -> x}" },
+				{ "${fn:length(validatedValue)}" },
+				{ "${formatter.toString()}" },
+				{ "${validatedValue instanceof java.lang.String}" },
+				{ "${'unterminated}" },
+				{ "#{validatedValue}" },
+		};
+	}
+
+	@Test(dataProvider = "supportedExpressions")
+	public void testSupportedExpression(String expression, Object validatedValue, String expectedResult) {
+		SimpleExpression simpleExpression = SimpleExpression.parse( expression );
+		if ( expectedResult == null ) {
+			assertSame( simpleExpression, SimpleExpression.NOT_SUPPORTED );
+			return;
+		}
+
+		assertNotSame( simpleExpression, SimpleExpression.NOT_SUPPORTED );
+		assertTrue( simpleExpression.isEvaluable( variables( validatedValue ) ) );
+		assertEquals( simpleExpression.evaluate( variables( validatedValue ) ), expectedResult );
+	}
+
+	@Test(dataProvider = "unsupportedExpressions")
+	public void testUnsupportedExpression(String expression) {
+		assertSame( SimpleExpression.parse( expression ), SimpleExpression.NOT_SUPPORTED );
+	}
+
+	@Test
+	public void testUnknownVariableIsNotEvaluable() {
+		assertFalse( SimpleExpression.parse( "${unknown}" ).isEvaluable( variables( null ) ) );
+	}
+
+	@Test
+	public void testComparisonRequiringCoercionIsNotEvaluable() {
+		assertFalse( SimpleExpression.parse( "${validatedValue == 1}" ).isEvaluable( variables( "1" ) ) );
+		assertFalse( SimpleExpression.parse( "${validatedValue == 1}" ).isEvaluable( variables( 'c' ) ) );
+		assertFalse( SimpleExpression.parse( "${validatedValue != true}" ).isEvaluable( variables( "true" ) ) );
+	}
+
+	@Test
+	public void testUnsupportedNumberTypeIsNotEvaluable() {
+		assertFalse( SimpleExpression.parse( "${validatedValue > 1}" ).isEvaluable( variables( new BigDecimal( "1.5" ) ) ) );
+	}
+
+	@Test
+	public void testBothBranchesOfConditionalAreChecked() {
+		// the branch which would not be taken requires a coercion: nothing is evaluated
+		SimpleExpression expression = SimpleExpression.parse( "${inclusive ? 'or equal to ' : validatedValue > 1}" );
+		assertFalse( expression.isEvaluable( variables( "2" ) ) );
+		assertTrue( expression.isEvaluable( variables( 2L ) ) );
+	}
+
+	@Test
+	public void testValuesAreCheckedBeforeInvokingUserCode() {
+		AtomicInteger toStringCalls = new AtomicInteger();
+		Object value = new Object() {
+
+			@Override
+			public String toString() {
+				toStringCalls.incrementAndGet();
+				return "value";
+			}
+		};
+
+		// the formatter call comes first but the comparison requires a coercion
+		SimpleExpression expression = SimpleExpression.parse( "${formatter.format('%s', validatedValue) += (validatedValue == 'value')}" );
+		assertFalse( expression.isEvaluable( variables( value ) ) );
+		assertEquals( toStringCalls.get(), 0 );
+
+		expression = SimpleExpression.parse( "${formatter.format('%s', validatedValue)}" );
+		assertTrue( expression.isEvaluable( variables( value ) ) );
+		assertEquals( toStringCalls.get(), 0 );
+		assertEquals( expression.evaluate( variables( value ) ), "value" );
+		assertEquals( toStringCalls.get(), 1 );
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "broken")
+	public void testExceptionOfUserCodeIsPropagated() {
+		Object value = new Object() {
+
+			@Override
+			public String toString() {
+				throw new IllegalStateException( "broken" );
+			}
+		};
+
+		SimpleExpression expression = SimpleExpression.parse( "${validatedValue}" );
+		assertTrue( expression.isEvaluable( variables( value ) ) );
+		expression.evaluate( variables( value ) );
+	}
+
+	private static BoundVariables variables(Object validatedValue) {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put( "inclusive", true );
+		attributes.put( "days", 3L );
+		attributes.put( "hours", 0L );
+		return new BoundVariables( validatedValue, Locale.ENGLISH, attributes, null );
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.parallelcascadedvalidation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.StreamingValidator;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the parallel validation of the elements of large cascaded containers: the result must be the one of a
+ * sequential validation.
+ */
+public class ParallelCascadedValidationTest {
+
+	private static final String THREAD_NAME_PREFIX = "parallel-cascaded-validation-";
+
+	private static final int THRESHOLD = 50;
+
+	private ExecutorService executor;
+
+	@BeforeClass
+	public void startExecutor() {
+		AtomicInteger threadCount = new AtomicInteger();
+		executor = Executors.newFixedThreadPool( 4, runnable -> {
+			Thread thread = new Thread( runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		} );
+	}
+
+	@AfterClass(alwaysRun = true)
+	public void stopExecutor() {
+		executor.shutdownNow();
+	}
+
+	@BeforeMethod
+	public void resetRecordedThreads() {
+		RecordedValidator.THREADS.clear();
+	}
+
+	@Test
+	public void testSameViolationsAsSequentialValidation() {
+		Order order = Order.withInvalidLines( 2000, 7 );
+		// the same line in two elements is validated for each of them
+		order.lines.set( 6, order.lines.get( 5 ) );
+		for ( int i = 0; i < 200; i++ ) {
+			Line line = new Line( order, i % 3 == 0 ? 0 : 1 );
+			if ( i % 5 == 0 ) {
+				line.discounts.add( new Discount( 150 ) );
+			}
+			order.linesByCode.put( "code-" + i, line );
+		}
+		order.lineArray = order.lines.subList( 0, 100 ).toArray( new Line[0] );
+
+		List<String> sequentialViolations = describe( getValidator( 0 ).validate( order ) );
+		List<String> parallelViolations = describe( getValidator( THRESHOLD ).validate( order ) );
+
+		assertThat( parallelViolations ).isNotEmpty();
+		assertThat( parallelViolations ).containsExactlyElementsOf( sequentialViolations );
+		assertThat( RecordedValidator.THREADS ).anyMatch( name -> name.startsWith( THREAD_NAME_PREFIX ) );
+	}
+
+	@Test
+	public void testSmallContainersAreValidatedSequentially() {
+		Order order = Order.withInvalidLines( THRESHOLD - 1, 7 );
+
+		assertThat( describe( getValidator( THRESHOLD ).validate( order ) ) )
+				.containsExactlyElementsOf( describe( getValidator( 0 ).validate( order ) ) );
+		assertThat( RecordedValidator.THREADS ).noneMatch( name -> name.startsWith( THREAD_NAME_PREFIX ) );
+	}
+
+	@Test
+	public void testFailFastReportsTheFirstViolation() {
+		Order order = new Order( "ref", 1000 );
+		order.lines.get( 600 ).quantity = 0;
+		order.lines.get( 800 ).quantity = 0;
+
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.failFast( true )
+				.parallelCascadedValidationThreshold( THRESHOLD )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( describe( validator.validate( order ) ) ).containsExactly( "lines[600].quantity: 0" );
+	}
+
+	@Test
+	public void testMaxConstraintViolationsKeepsTheFirstViolations() {
+		Order order = new Order( "ref", 1000 );
+		for ( int index : new int[] { 100, 300, 500, 700, 900 } ) {
+			order.lines.get( index ).quantity = 0;
+		}
+
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.maxConstraintViolations( 3 )
+				.parallelCascadedValidationThreshold( THRESHOLD )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( order );
+		assertThat( describe( violations ) ).containsExactly( "lines[100].quantity: 0", "lines[300].quantity: 0", "lines[500].quantity: 0" );
+		assertThat( violations ).allMatch( violation -> violation.unwrap( HibernateConstraintViolation.class ).isResultTruncated() );
+	}
+
+	@Test
+	public void testViolationsArePushedToTheSinkInOrder() {
+		Order order = Order.withInvalidLines( 1000, 10 );
+		StreamingValidator sequentialValidator = getValidator( 0 ).unwrap( StreamingValidator.class );
+		StreamingValidator parallelValidator = getValidator( THRESHOLD ).unwrap( StreamingValidator.class );
+
+		List<String> sequentialViolations = new ArrayList<>();
+		sequentialValidator.validate( order, violation -> sequentialViolations.add( describe( violation ) ) );
+		List<String> parallelViolations = new ArrayList<>();
+		int count = parallelValidator.validate( order, violation -> parallelViolations.add( describe( violation ) ) );
+
+		assertThat( count ).isEqualTo( sequentialViolations.size() );
+		assertThat( parallelViolations ).containsExactlyElementsOf( sequentialViolations );
+
+		List<String> firstViolations = new ArrayList<>();
+		count = parallelValidator.validate( order, violation -> firstViolations.add( describe( violation ) ) && firstViolations.size() < 2 );
+
+		assertThat( count ).isEqualTo( 2 );
+		assertThat( firstViolations ).containsExactlyElementsOf( sequentialViolations.subList( 0, 2 ) );
+	}
+
+	@Test
+	public void testExceptionOfAChunkIsPropagated() {
+		Order order = new Order( "ref", 1000 );
+		order.lines.get( 700 ).quantity = RecordedValidator.FAILING_QUANTITY;
+
+		assertThatThrownBy( () -> getValidator( THRESHOLD ).validate( order ) )
+				.isInstanceOf( ValidationException.class )
+				.hasRootCauseInstanceOf( IllegalStateException.class );
+	}
+
+	@Test
+	public void testThresholdSetOnValidatorContext() {
+		Order order = Order.withInvalidLines( 1000, 10 );
+
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.parallelCascadedValidationThreshold( THRESHOLD )
+				.getValidator();
+
+		assertThat( describe( validator.validate( order ) ) ).containsExactlyElementsOf( describe( getValidator( 0 ).validate( order ) ) );
+		assertThat( RecordedValidator.THREADS ).anyMatch( name -> name.startsWith( THREAD_NAME_PREFIX ) );
+	}
+
+	@Test
+	public void testThresholdSetAsProperty() {
+		Order order = Order.withInvalidLines( 1000, 10 );
+
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD, String.valueOf( THRESHOLD ) )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( describe( validator.validate( order ) ) ).containsExactlyElementsOf( describe( getValidator( 0 ).validate( order ) ) );
+		assertThat( RecordedValidator.THREADS ).anyMatch( name -> name.startsWith( THREAD_NAME_PREFIX ) );
+	}
+
+	@Test
+	public void testInvalidThreshold() {
+		assertThatThrownBy( () -> ValidatorUtil.getConfiguration( HibernateValidator.class ).parallelCascadedValidationThreshold( -1 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "HV000283" );
+
+		assertThatThrownBy( () -> ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADED_VALIDATION_THRESHOLD, "many" )
+				.buildValidatorFactory() )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000284" );
+	}
+
+	private Validator getValidator(int threshold) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.parallelCascadedValidationThreshold( threshold )
+				.parallelCascadedValidationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static List<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+		return violations.stream()
+				.map( ParallelCascadedValidationTest::describe )
+				.sorted()
+				.collect( Collectors.toList() );
+	}
+
+	private static String describe(ConstraintViolation<?> violation) {
+		return violation.getPropertyPath() + ": " + violation.getInvalidValue();
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@Valid
+		private final List<Line> lines = new ArrayList<>();
+
+		@Valid
+		private final Map<String, Line> linesByCode = new LinkedHashMap<>();
+
+		@Valid
+		private Line[] lineArray;
+
+		private Order(String reference, int lineCount) {
+			this.reference = reference;
+			for ( int i = 0; i < lineCount; i++ ) {
+				lines.add( new Line( this, 1 ) );
+			}
+		}
+
+		private static Order withInvalidLines(int lineCount, int invalidLineFrequency) {
+			Order order = new Order( "ref", lineCount );
+			for ( int i = 0; i < lineCount; i++ ) {
+				Line line = order.lines.get( i );
+				if ( i % invalidLineFrequency == 0 ) {
+					line.quantity = 0;
+				}
+				if ( i % 11 == 0 ) {
+					line.discounts.add( new Discount( 150 ) );
+				}
+			}
+			return order;
+		}
+	}
+
+	@Recorded
+	private static class Line {
+
+		// cycle back to the root bean, which must not be validated again
+		@Valid
+		private final Order order;
+
+		@Min(1)
+		private int quantity;
+
+		@Valid
+		private final List<Discount> discounts = new ArrayList<>();
+
+		private Line(Order order, int quantity) {
+			this.order = order;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Discount {
+
+		@Max(100)
+		private final int percentage;
+
+		private Discount(int percentage) {
+			this.percentage = percentage;
+		}
+	}
+
+	@Constraint(validatedBy = RecordedValidator.class)
+	@Target(TYPE)
+	@Retention(RUNTIME)
+	public @interface Recorded {
+
+		String message() default "recorded";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class RecordedValidator implements ConstraintValidator<Recorded, Line> {
+
+		private static final int FAILING_QUANTITY = -42;
+
+		private static final Set<String> THREADS = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public boolean isValid(Line line, ConstraintValidatorContext context) {
+			THREADS.add( Thread.currentThread().getName() );
+			if ( line.quantity == FAILING_QUANTITY ) {
+				throw new IllegalStateException( "Invalid line" );
+			}
+			return true;
+		}
+	}
+}
@@ -15,11 +15,18 @@
 import static org.testng.Assert.assertTrue;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -254,6 +261,66 @@ public void testCreationOfExecutablePath() throws Exception {
 		assertEquals( methodParameterPath.toString(), "addItem" );
 	}
 
+	@Test
+	public void testMaterializedPathsShareTheirPrefix() {
+		ModifiablePath path = ModifiablePath.createPathFromString( "items[0].lines" );
+		path.makeLeafNodeIterableAndSetIndex( 1 );
+		path.addPropertyNode( "amount" );
+		Path first = path.materialize();
+
+		path.removeLeafNode();
+		path.removeLeafNode();
+		path.addPropertyNode( "lines" );
+		path.makeLeafNodeIterableAndSetIndex( 2 );
+		path.addPropertyNode( "amount" );
+		Path second = path.materialize();
+
+		assertEquals( first.toString(), "items[0].lines[1].amount" );
+		assertEquals( second.toString(), "items[0].lines[2].amount" );
+		assertFalse( first.equals( second ) );
+		// the hash code takes the whole path into account, not only the leaf node
+		assertTrue( first.hashCode() != second.hashCode() );
+
+		Path copy = ModifiablePath.createPathFromString( "items[0].lines[1].amount" ).materialize();
+		assertEquals( copy, first );
+		assertEquals( copy.hashCode(), first.hashCode() );
+	}
+
+	@Test
+	public void testMaterializedPathIteratedConcurrently() throws Exception {
+		int threadCount = 8;
+		ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			for ( int round = 0; round < 200; round++ ) {
+				ModifiablePath modifiablePath = ModifiablePath.createPathFromString( "customer.orders[" + round + "].lines[1].product.supplier.address.city" );
+				Path path = modifiablePath.materialize();
+				String expected = modifiablePath.toString();
+
+				CyclicBarrier barrier = new CyclicBarrier( threadCount );
+				List<Future<String>> results = new ArrayList<>();
+				for ( int i = 0; i < threadCount; i++ ) {
+					results.add( executor.submit( () -> {
+						barrier.await();
+						StringBuilder nodes = new StringBuilder();
+						for ( Path.Node node : path ) {
+							nodes.append( node.getName() ).append( '/' );
+						}
+						return nodes.toString();
+					} ) );
+				}
+
+				String first = results.get( 0 ).get( 10, TimeUnit.SECONDS );
+				assertEquals( first, "customer/orders/lines/product/supplier/address/city/", expected );
+				for ( Future<String> result : results ) {
+					assertEquals( result.get( 10, TimeUnit.SECONDS ), first );
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void testCreationOfExecutablePathFailsDueToMissingExecutable() {
 		ModifiablePath.createPathForExecutable( null );
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
+import org.hibernate.validator.spi.regex.CompiledRegex;
+import org.hibernate.validator.spi.regex.RegexEngine;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the regular expressions of the {@code @Pattern} and {@code @Email} constraints: they are compiled once per
+ * validator factory by the configured {@link RegexEngine}.
+ */
+public class RegexEngineTest {
+
+	private static final String CODE_REGEXP = "[A-Z]{3}-[0-9]+";
+
+	@Test
+	public void testRegularExpressionsAreCompiledOncePerFactory() {
+		CountingRegexEngine regexEngine = new CountingRegexEngine();
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.regexEngine( regexEngine )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		assertThat( validator.validate( new Product( "ABC-1", "ABC-2", "ABC-3", "contact@example.com" ) ) ).isEmpty();
+		Set<ConstraintViolation<Product>> violations = validator.validate( new Product( "abc", "abc", "abc-3", "contact@example.org" ) );
+		assertThat( violations ).extracting( violation -> violation.getPropertyPath().toString() )
+				.containsExactlyInAnyOrder( "code", "previousCode", "contact" );
+		assertThat( validator.validate( new Product( "ABC-1", "ABC-2", "ABC-3", "contact@example.com" ), Strict.class ) ).isEmpty();
+
+		// once without flags and once case insensitive
+		assertThat( regexEngine.compilations.get( CODE_REGEXP ) ).hasValue( 2 );
+		assertThat( regexEngine.compilations.get( ".*@example\\.com" ) ).hasValue( 1 );
+
+		CacheStatistics compiledRegexes = validatorFactory.getStatistics().getCacheStatistics( ValidatorFactoryStatistics.COMPILED_REGEX_CACHE );
+		assertThat( compiledRegexes ).isNotNull();
+		assertThat( compiledRegexes.getSize() ).isEqualTo( 3 );
+		assertThat( compiledRegexes.getMissCount() ).isEqualTo( 3 );
+		assertThat( compiledRegexes.getHitCount() ).isGreaterThanOrEqualTo( 2 );
+
+		validatorFactory.close();
+	}
+
+	@Test
+	public void testRegexEngineConfiguredThroughProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.REGEX_ENGINE_CLASSNAME, NoBackReferenceRegexEngine.class.getName() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new Product( "ABC-1", "ABC-2", "ABC-3", "contact@example.com" ) ) ).isEmpty();
+		assertThatThrownBy( () -> validator.validate( new Palindrome( "abba" ) ) )
+				.isInstanceOf( ValidationException.class )
+				.hasStackTraceContaining( "Back references are not supported" );
+	}
+
+	@Test
+	public void testInvalidRegularExpression() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.regexEngine( new CountingRegexEngine() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThatThrownBy( () -> validator.validate( new Unbalanced( "value" ) ) )
+				.isInstanceOf( ValidationException.class )
+				.hasStackTraceContaining( "HV000022" );
+	}
+
+	@Test
+	public void testUnknownRegexEngineClass() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.REGEX_ENGINE_CLASSNAME, "org.example.UnknownRegexEngine" );
+
+		assertThatThrownBy( configuration::buildValidatorFactory )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000286" );
+	}
+
+	private interface Strict {
+	}
+
+	private static class Product {
+
+		@jakarta.validation.constraints.Pattern(regexp = CODE_REGEXP)
+		@jakarta.validation.constraints.Pattern(regexp = CODE_REGEXP, groups = Strict.class, message = "{code.strict}")
+		private final String code;
+
+		@jakarta.validation.constraints.Pattern(regexp = CODE_REGEXP, message = "{code.previous}")
+		private final String previousCode;
+
+		@jakarta.validation.constraints.Pattern(regexp = CODE_REGEXP, flags = jakarta.validation.constraints.Pattern.Flag.CASE_INSENSITIVE)
+		private final String alias;
+
+		@Email(regexp = ".*@example\\.com")
+		private final String contact;
+
+		private Product(String code, String previousCode, String alias, String contact) {
+			this.code = code;
+			this.previousCode = previousCode;
+			this.alias = alias;
+			this.contact = contact;
+		}
+	}
+
+	private static class Palindrome {
+
+		@jakarta.validation.constraints.Pattern(regexp = "(.)(.)\\2\\1")
+		private final String value;
+
+		private Palindrome(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class Unbalanced {
+
+		@jakarta.validation.constraints.Pattern(regexp = "(unbalanced parentheses")
+		private final String value;
+
+		private Unbalanced(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class CountingRegexEngine implements RegexEngine {
+
+		private final Map<String, AtomicInteger> compilations = new ConcurrentHashMap<>();
+
+		@Override
+		public CompiledRegex compile(String regexp, int flags) {
+			compilations.computeIfAbsent( regexp, r -> new AtomicInteger() ).incrementAndGet();
+			Pattern pattern = Pattern.compile( regexp, flags );
+			return input -> pattern.matcher( input ).matches();
+		}
+	}
+
+	/**
+	 * Mimics the engines matching in linear time, which reject the back references.
+	 */
+	public static class NoBackReferenceRegexEngine implements RegexEngine {
+
+		private static final List<String> BACK_REFERENCES = List.of( "\\1", "\\2" );
+
+		@Override
+		public CompiledRegex compile(String regexp, int flags) {
+			for ( String backReference : BACK_REFERENCES ) {
+				int index = regexp.indexOf( backReference );
+				if ( index >= 0 ) {
+					throw new PatternSyntaxException( "Back references are not supported", regexp, index );
+				}
+			}
+			Pattern pattern = Pattern.compile( regexp, flags );
+			return input -> pattern.matcher( input ).matches();
+		}
+	}
+}
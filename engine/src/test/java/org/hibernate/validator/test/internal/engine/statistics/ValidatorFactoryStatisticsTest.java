@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.statistics;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.engine.CacheStatistics;
+import org.hibernate.validator.engine.ValidatorFactoryStatistics;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the statistics of the validator factory.
+ */
+public class ValidatorFactoryStatisticsTest {
+
+	@Test
+	public void testCacheStatistics() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		ValidatorFactoryStatistics statistics = validatorFactory.getStatistics();
+
+		assertEquals( cacheNames( statistics ), Set.of( ValidatorFactoryStatistics.BEAN_METADATA_CACHE, ValidatorFactoryStatistics.CONSTRAINT_VALIDATOR_CACHE,
+				ValidatorFactoryStatistics.VALUE_EXTRACTOR_CACHE, ValidatorFactoryStatistics.MESSAGE_TEMPLATE_CACHE, ValidatorFactoryStatistics.COMPILED_REGEX_CACHE ) );
+		assertEquals( statistics.getCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE ).getSize(), 0 );
+		assertNull( statistics.getCacheStatistics( ValidatorFactoryStatistics.VALIDATION_PLAN_CACHE ) );
+
+		Validator validator = validatorFactory.getValidator();
+		validator.validate( new Order( null, 1, -1 ) );
+
+		CacheStatistics beanMetaData = statistics.getCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE );
+		assertTrue( beanMetaData.getSize() >= 2 );
+		assertEquals( beanMetaData.getMissCount(), beanMetaData.getSize() );
+		assertEquals( beanMetaData.getEvictionCount(), 0 );
+		assertEquals( statistics.getBeanMetaDataBuildLatencies().getCount(), beanMetaData.getSize() );
+
+		long beanMetaDataHits = beanMetaData.getHitCount();
+		long messageTemplateHits = statistics.getCacheStatistics( ValidatorFactoryStatistics.MESSAGE_TEMPLATE_CACHE ).getHitCount();
+
+		validator.validate( new Order( null, 1, -1 ) );
+
+		// the metadata is built only once
+		beanMetaData = statistics.getCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE );
+		assertEquals( beanMetaData.getMissCount(), beanMetaData.getSize() );
+		assertTrue( beanMetaData.getHitCount() > beanMetaDataHits );
+
+		CacheStatistics messageTemplates = statistics.getCacheStatistics( ValidatorFactoryStatistics.MESSAGE_TEMPLATE_CACHE );
+		assertEquals( messageTemplates.getSize(), 2 );
+		assertEquals( messageTemplates.getMissCount(), 2 );
+		assertEquals( messageTemplates.getHitCount(), messageTemplateHits + 2 );
+
+		CacheStatistics constraintValidators = statistics.getCacheStatistics( ValidatorFactoryStatistics.CONSTRAINT_VALIDATOR_CACHE );
+		assertEquals( constraintValidators.getSize(), 2 );
+		assertEquals( constraintValidators.getMissCount(), 2 );
+
+		CacheStatistics valueExtractors = statistics.getCacheStatistics( ValidatorFactoryStatistics.VALUE_EXTRACTOR_CACHE );
+		assertTrue( valueExtractors.getSize() > 0 );
+		assertTrue( valueExtractors.getMissCount() > 0 );
+	}
+
+	@Test
+	public void testValidationPlanCacheStatistics() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.enableCompiledValidationPlans( true )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		validator.validate( new Order( "ref", 1 ) );
+		validator.validate( new Order( "ref", 1 ) );
+
+		CacheStatistics validationPlans = validatorFactory.getStatistics().getCacheStatistics( ValidatorFactoryStatistics.VALIDATION_PLAN_CACHE );
+		assertNotNull( validationPlans );
+		assertTrue( validationPlans.getSize() > 0 );
+		assertEquals( validationPlans.getMissCount(), validationPlans.getSize() );
+		assertTrue( validationPlans.getHitCount() > 0 );
+	}
+
+	@Test
+	public void testPredefinedScopeStatistics() {
+		HibernateValidatorFactory validatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( new HashSet<>( Arrays.asList( Order.class, Line.class ) ) )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		ValidatorFactoryStatistics statistics = validatorFactory.getStatistics();
+
+		CacheStatistics beanMetaData = statistics.getCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE );
+		assertTrue( beanMetaData.getSize() >= 2 );
+		assertEquals( beanMetaData.getHitCount(), 0 );
+		assertEquals( statistics.getBeanMetaDataBuildLatencies().getCount(), beanMetaData.getSize() );
+		// the constraint validators are not cached in the predefined scope
+		assertNull( statistics.getCacheStatistics( ValidatorFactoryStatistics.CONSTRAINT_VALIDATOR_CACHE ) );
+
+		validatorFactory.getValidator().validate( new Order( null, -1 ) );
+
+		beanMetaData = statistics.getCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE );
+		assertTrue( beanMetaData.getHitCount() > 0 );
+		assertEquals( beanMetaData.getEvictionCount(), 0 );
+	}
+
+	@Test
+	public void testStatisticsMBean() throws Exception {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName query = new ObjectName( "org.hibernate.validator:type=ValidatorFactoryStatistics,*" );
+		Set<ObjectName> existingNames = mBeanServer.queryNames( query, null );
+
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.enableStatisticsMBean( true )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		validatorFactory.getValidator().validate( new Order( null, 1 ) );
+
+		Set<ObjectName> names = new HashSet<>( mBeanServer.queryNames( query, null ) );
+		names.removeAll( existingNames );
+		assertEquals( names.size(), 1 );
+		ObjectName name = names.iterator().next();
+
+		CompositeData[] cacheStatistics = (CompositeData[]) mBeanServer.getAttribute( name, "CacheStatistics" );
+		CompositeData beanMetaData = Arrays.stream( cacheStatistics )
+				.filter( data -> ValidatorFactoryStatistics.BEAN_METADATA_CACHE.equals( data.get( "name" ) ) )
+				.findFirst()
+				.orElseThrow();
+		assertEquals( beanMetaData.get( "size" ),
+				validatorFactory.getStatistics().getCacheStatistics( ValidatorFactoryStatistics.BEAN_METADATA_CACHE ).getSize() );
+
+		CompositeData buildLatencies = (CompositeData) mBeanServer.getAttribute( name, "BeanMetaDataBuildLatencies" );
+		assertEquals( buildLatencies.get( "count" ), validatorFactory.getStatistics().getBeanMetaDataBuildLatencies().getCount() );
+
+		validatorFactory.close();
+
+		assertFalse( mBeanServer.isRegistered( name ) );
+	}
+
+	@Test
+	public void testStatisticsMBeanEnabledAsProperty() throws Exception {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName query = new ObjectName( "org.hibernate.validator:type=ValidatorFactoryStatistics,*" );
+		int existingNames = mBeanServer.queryNames( query, null ).size();
+
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.ENABLE_STATISTICS_MBEAN, "true" )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		assertEquals( mBeanServer.queryNames( query, null ).size(), existingNames + 1 );
+
+		validatorFactory.close();
+
+		assertEquals( mBeanServer.queryNames( query, null ).size(), existingNames );
+	}
+
+	private static Set<String> cacheNames(ValidatorFactoryStatistics statistics) {
+		return statistics.getCacheStatistics().stream()
+				.map( CacheStatistics::getName )
+				.collect( Collectors.toSet() );
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@Valid
+		private final List<Line> lines = new ArrayList<>();
+
+		private Order(String reference, int... quantities) {
+			this.reference = reference;
+			for ( int quantity : quantities ) {
+				lines.add( new Line( quantity ) );
+			}
+		}
+	}
+
+	private static class Line {
+
+		@Min(0)
+		private final int quantity;
+
+		private Line(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
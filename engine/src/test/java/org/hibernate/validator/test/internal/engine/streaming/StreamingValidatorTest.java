@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.streaming;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.StreamingValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link StreamingValidator}.
+ */
+public class StreamingValidatorTest {
+
+	private Validator validator;
+
+	private StreamingValidator streamingValidator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+		streamingValidator = validator.unwrap( StreamingValidator.class );
+	}
+
+	@Test
+	public void testAllViolationsArePushed() {
+		Order order = new Order( null, 0, new Customer( null ) );
+		List<ConstraintViolation<Order>> violations = new ArrayList<>();
+
+		int numberOfViolations = streamingValidator.validate( order, violations::add );
+
+		Assertions.assertThat( numberOfViolations ).isEqualTo( 3 );
+		Assertions.assertThat( new HashSet<>( violations ) ).isEqualTo( validator.validate( order ) );
+	}
+
+	@Test
+	public void testValidationIsCancelledBySink() {
+		Order order = new Order( null, 0, new Customer( null ) );
+		List<ConstraintViolation<Order>> violations = new ArrayList<>();
+
+		int numberOfViolations = streamingValidator.validate( order, violation -> {
+			violations.add( violation );
+			return false;
+		} );
+
+		Assertions.assertThat( numberOfViolations ).isEqualTo( 1 );
+		Assertions.assertThat( violations ).hasSize( 1 );
+	}
+
+	@Test
+	public void testValidBean() {
+		Assertions.assertThat( streamingValidator.validate( new Order( "reference", 1, new Customer( "name" ) ), violation -> true ) )
+				.isZero();
+		Assertions.assertThat( streamingValidator.validate( new Object(), violation -> true ) ).isZero();
+	}
+
+	@Test
+	public void testGroupSequence() {
+		List<ConstraintViolation<SequencedBean>> violations = new ArrayList<>();
+
+		int numberOfViolations = streamingValidator.validate( new SequencedBean(), violations::add );
+
+		// the second group of the sequence is not validated as the first one failed
+		Assertions.assertThat( numberOfViolations ).isEqualTo( 1 );
+		assertThat( new HashSet<>( violations ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "value" )
+		);
+	}
+
+	@Test
+	public void testValidateProperty() {
+		List<ConstraintViolation<Order>> violations = new ArrayList<>();
+
+		int numberOfViolations = streamingValidator.validateProperty( new Order( null, 0, null ), "quantity", violations::add );
+
+		Assertions.assertThat( numberOfViolations ).isEqualTo( 1 );
+		assertThat( new HashSet<>( violations ) ).containsOnlyViolations(
+				violationOf( Min.class ).withProperty( "quantity" )
+		);
+	}
+
+	@Test
+	public void testValidateValue() {
+		List<ConstraintViolation<Order>> violations = new ArrayList<>();
+
+		int numberOfViolations = streamingValidator.validateValue( Order.class, "reference", null, violations::add );
+
+		Assertions.assertThat( numberOfViolations ).isEqualTo( 1 );
+		assertThat( new HashSet<>( violations ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "reference" )
+		);
+	}
+
+	@Test
+	public void testNullSinkIsRejected() {
+		assertThatThrownBy( () -> streamingValidator.validate( new Order( null, 0, null ), null ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
+	@Test
+	public void testUnwrap() {
+		Assertions.assertThat( streamingValidator ).isSameAs( validator );
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@Min(1)
+		private final int quantity;
+
+		@Valid
+		private final Customer customer;
+
+		private Order(String reference, int quantity, Customer customer) {
+			this.reference = reference;
+			this.quantity = quantity;
+			this.customer = customer;
+		}
+	}
+
+	private static class Customer {
+
+		@NotNull
+		private final String name;
+
+		private Customer(String name) {
+			this.name = name;
+		}
+	}
+
+	@GroupSequence({ First.class, Second.class, SequencedBean.class })
+	private static class SequencedBean {
+
+		@NotNull(groups = First.class)
+		private String value;
+
+		@Size(min = 5, groups = Second.class)
+		private String otherValue = "abc";
+	}
+
+	private interface First {
+	}
+
+	private interface Second {
+	}
+}
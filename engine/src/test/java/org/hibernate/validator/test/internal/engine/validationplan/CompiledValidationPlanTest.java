@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.validationplan;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests that validating with the compiled validation plans enabled gives the same results as walking the metadata.
+ */
+public class CompiledValidationPlanTest {
+
+	@Test
+	public void testHierarchyAndCascading() {
+		Order order = new Order();
+		order.lines.add( new OrderLine( null, 0 ) );
+		order.lines.add( new OrderLine( "book", 1 ) );
+
+		Validator validator = getValidator( true );
+		assertThat( validator.validate( order ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "id" ),
+				violationOf( NotNull.class ).withProperty( "customer" ),
+				violationOf( AssertTrue.class ).withProperty( "valid" ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith()
+						.property( "lines" )
+						.property( "product", true, null, 0, List.class, 0 ) ),
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "lines" )
+						.property( "quantity", true, null, 0, List.class, 0 ) )
+		);
+
+		assertSameViolations( order );
+	}
+
+	@Test
+	public void testGroups() {
+		Order order = new Order();
+		order.id = 1L;
+		order.customer = "customer";
+		order.lines.add( new OrderLine( "book", 1000 ) );
+
+		Validator validator = getValidator( true );
+		assertThat( validator.validate( order, Checkout.class ) ).containsOnlyViolations(
+				violationOf( Max.class ).withPropertyPath( pathWith()
+						.property( "lines" )
+						.property( "quantity", true, null, 0, List.class, 0 ) )
+		);
+		assertThat( validator.validate( order, Default.class, Checkout.class ) ).containsOnlyViolations(
+				violationOf( AssertTrue.class ).withProperty( "valid" ),
+				violationOf( Max.class ).withPropertyPath( pathWith()
+						.property( "lines" )
+						.property( "quantity", true, null, 0, List.class, 0 ) )
+		);
+
+		assertSameViolations( order, Checkout.class );
+		assertSameViolations( order, Default.class, Checkout.class );
+		assertSameViolations( order, OrderChecks.class );
+	}
+
+	@Test
+	public void testInterfaceImplementedSeveralTimesInHierarchy() {
+		VerySpecialOrder order = new VerySpecialOrder();
+		order.id = 1L;
+		order.customer = "customer";
+
+		Validator validator = getValidator( true );
+		assertThat( validator.validate( order ) ).containsOnlyViolations(
+				violationOf( AssertTrue.class ).withProperty( "valid" ),
+				violationOf( Size.class ).withProperty( "code" )
+		);
+
+		assertSameViolations( order );
+	}
+
+	@Test
+	public void testRedefinedDefaultGroupSequence() {
+		SequencedOrder order = new SequencedOrder();
+
+		Validator validator = getValidator( true );
+		assertThat( validator.validate( order ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "id" ),
+				violationOf( NotNull.class ).withProperty( "customer" ),
+				violationOf( AssertTrue.class ).withProperty( "valid" )
+		);
+
+		assertSameViolations( order );
+	}
+
+	@Test
+	public void testFailFastOnPropertyViolation() {
+		Order order = new Order();
+
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.enableCompiledValidationPlans( true )
+				.failFastOnPropertyViolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+		Validator validatorWithoutPlans = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.failFastOnPropertyViolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( order ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "id" ),
+				violationOf( NotNull.class ).withProperty( "customer" ),
+				violationOf( AssertTrue.class ).withProperty( "valid" )
+		);
+		assertEquals( describe( validator.validate( order ) ), describe( validatorWithoutPlans.validate( order ) ) );
+	}
+
+	@Test
+	public void testFailFast() {
+		Order order = new Order();
+		order.lines.add( new OrderLine( null, 0 ) );
+
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		Validator validator = configuration.enableCompiledValidationPlans( true )
+				.failFast( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertEquals( validator.validate( order ).size(), 1 );
+	}
+
+	@Test
+	public void testEnableCompiledValidationPlansUsingProperty() {
+		Order order = new Order();
+
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.ENABLE_COMPILED_VALIDATION_PLANS, Boolean.TRUE.toString() );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertThat( validator.validate( order ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "id" ),
+				violationOf( NotNull.class ).withProperty( "customer" ),
+				violationOf( AssertTrue.class ).withProperty( "valid" )
+		);
+	}
+
+	private static Validator getValidator(boolean compiledValidationPlansEnabled) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.enableCompiledValidationPlans( compiledValidationPlansEnabled )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static void assertSameViolations(Object bean, Class<?>... groups) {
+		assertEquals( describe( getValidator( true ).validate( bean, groups ) ), describe( getValidator( false ).validate( bean, groups ) ) );
+	}
+
+	private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+		return violations.stream()
+				.map( violation -> violation.getPropertyPath() + " "
+						+ violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + " "
+						+ violation.getMessage() )
+				.collect( Collectors.toSet() );
+	}
+
+	private interface Checkout {
+	}
+
+	private interface OrderChecks {
+	}
+
+	private interface Coded {
+
+		@Size(min = 3)
+		default String getCode() {
+			return "A";
+		}
+	}
+
+	private static class Identified {
+
+		@NotNull
+		Long id;
+	}
+
+	private static class Order extends Identified {
+
+		@NotNull
+		String customer;
+
+		@Valid
+		List<OrderLine> lines = new ArrayList<>();
+
+		@AssertTrue(groups = { Default.class, OrderChecks.class })
+		public boolean isValid() {
+			return false;
+		}
+	}
+
+	private static class SpecialOrder extends Order implements Coded {
+	}
+
+	private static class VerySpecialOrder extends SpecialOrder implements Coded {
+	}
+
+	@GroupSequence({ SequencedOrder.class, Checkout.class })
+	private static class SequencedOrder extends Order {
+	}
+
+	private static class OrderLine {
+
+		@NotNull
+		final String product;
+
+		@Min(1)
+		@Max(value = 100, groups = Checkout.class)
+		final int quantity;
+
+		OrderLine(String product, int quantity) {
+			this.product = product;
+			this.quantity = quantity;
+		}
+	}
+}
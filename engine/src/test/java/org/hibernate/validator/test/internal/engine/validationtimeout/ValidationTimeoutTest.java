@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.validationtimeout;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.engine.ValidationTimeoutException;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the timeout of a validation call.
+ */
+public class ValidationTimeoutTest {
+
+	@Test
+	public void testNoTimeoutByDefault() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertEquals( validator.validate( new Order( 3 ) ).size(), 7 );
+	}
+
+	@Test
+	public void testValidationCompletingWithinTheTimeout() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.validationTimeout( Duration.ofMinutes( 1 ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertEquals( validator.validate( new Order( 3 ) ).size(), 7 );
+	}
+
+	@Test
+	public void testTimeoutSetOnConfiguration() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.validationTimeout( Duration.ofMillis( 10 ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertTimeout( validator );
+	}
+
+	@Test
+	public void testTimeoutSetAsProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.VALIDATION_TIMEOUT, "10" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertTimeout( validator );
+	}
+
+	@Test
+	public void testTimeoutSetOnValidatorContext() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.validationTimeout( Duration.ofMillis( 10 ) )
+				.getValidator();
+
+		assertTimeout( validator );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000278.*")
+	public void testNegativeTimeoutIsRejected() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class ).validationTimeout( Duration.ofMillis( -1 ) );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000279.*")
+	public void testInvalidPropertyIsRejected() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.VALIDATION_TIMEOUT, "soon" )
+				.buildValidatorFactory();
+	}
+
+	private static void assertTimeout(Validator validator) {
+		try {
+			validator.validate( new Order( 3 ) );
+			fail( "Expected a ValidationTimeoutException" );
+		}
+		catch (ValidationTimeoutException e) {
+			assertTrue( e.getMessage().startsWith( "HV000280" ) );
+			// the slow validator takes longer than the timeout, so only the first constraint is evaluated
+			assertThat( e.getConstraintViolations() ).containsOnlyViolations(
+					violationOf( Slow.class )
+			);
+		}
+	}
+
+	private static class Order {
+
+		@Slow
+		private final String reference = "ref";
+
+		@Valid
+		private final List<Line> lines = new ArrayList<>();
+
+		private Order(int numberOfLines) {
+			for ( int i = 0; i < numberOfLines; i++ ) {
+				lines.add( new Line() );
+			}
+		}
+	}
+
+	private static class Line {
+
+		@Slow
+		private final String product = "product";
+
+		@Slow
+		private final String quantity = "quantity";
+	}
+
+	@Constraint(validatedBy = SlowValidator.class)
+	@Target(FIELD)
+	@Retention(RUNTIME)
+	public @interface Slow {
+
+		String message() default "slow";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class SlowValidator implements ConstraintValidator<Slow, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			try {
+				Thread.sleep( 30 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.valueextraction;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.valueextraction.Unwrapping;
+
+import org.hibernate.validator.constraintvalidation.IntConstraintValidator;
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.testutil.ConstraintViolationAssert.PathExpectation;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the validation of the elements of primitive arrays unwrapped with {@link Unwrapping.Unwrap}, which are
+ * validated in bulk when possible: the violations must be the same as when the elements are validated one by one.
+ */
+public class PrimitiveArrayBulkValidationTest {
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = getValidator();
+
+		EvenValidator.PRIMITIVE_CALLS.set( 0 );
+		EvenValidator.BOXED_CALLS.set( 0 );
+	}
+
+	@Test
+	public void validArraysDoNotRaiseViolations() {
+		Measures measures = new Measures();
+		measures.counts = new int[] { 1, 2, Integer.MAX_VALUE };
+		measures.timestamps = new long[] { 10L, Long.MAX_VALUE };
+		measures.ratios = new double[] { 0D, 0.5D, 1D, Double.MIN_VALUE };
+
+		assertThat( validator.validate( measures ) ).isEmpty();
+	}
+
+	@Test
+	public void onlyInvalidElementsAreReported() {
+		Measures measures = new Measures();
+		measures.counts = new int[] { 1, 0, 3, -4 };
+		measures.timestamps = new long[] { 9L, 10L, Long.MIN_VALUE };
+		measures.ratios = new double[] { 0.5D, 1.5D, -0D, Double.NaN, Double.NEGATIVE_INFINITY };
+		measures.percentages = new short[] { 50, 101 };
+
+		assertThat( validator.validate( measures ) ).containsOnlyViolations(
+				violationOf( Positive.class ).withPropertyPath( elementPath( "counts", 1, int[].class ) ).withInvalidValue( 0 ),
+				violationOf( Positive.class ).withPropertyPath( elementPath( "counts", 3, int[].class ) ).withInvalidValue( -4 ),
+				violationOf( Min.class ).withPropertyPath( elementPath( "timestamps", 0, long[].class ) ).withInvalidValue( 9L ),
+				violationOf( Min.class ).withPropertyPath( elementPath( "timestamps", 2, long[].class ) ).withInvalidValue( Long.MIN_VALUE ),
+				violationOf( Max.class ).withPropertyPath( elementPath( "ratios", 1, double[].class ) ).withInvalidValue( 1.5D ),
+				// the sign of -0.0 is taken into account, as for Double values
+				violationOf( PositiveOrZero.class ).withPropertyPath( elementPath( "ratios", 2, double[].class ) ).withInvalidValue( -0D ),
+				// NaN is considered greater than the maximum and less than zero
+				violationOf( Max.class ).withPropertyPath( elementPath( "ratios", 3, double[].class ) ).withInvalidValue( Double.NaN ),
+				violationOf( PositiveOrZero.class ).withPropertyPath( elementPath( "ratios", 3, double[].class ) ).withInvalidValue( Double.NaN ),
+				violationOf( PositiveOrZero.class ).withPropertyPath( elementPath( "ratios", 4, double[].class ) )
+						.withInvalidValue( Double.NEGATIVE_INFINITY ),
+				violationOf( Max.class ).withPropertyPath( elementPath( "percentages", 1, short[].class ) ).withInvalidValue( (short) 101 )
+		);
+	}
+
+	@Test
+	public void customConstraintValidatorIsOnlyCalledWithBoxedValuesForRejectedElements() {
+		Measures measures = new Measures();
+		measures.evenNumbers = new int[] { 2, 3, 4, 6, 7 };
+
+		assertThat( validator.validate( measures ) ).containsOnlyViolations(
+				violationOf( Even.class ).withPropertyPath( elementPath( "evenNumbers", 1, int[].class ) ).withMessage( "3 is odd" ),
+				violationOf( Even.class ).withPropertyPath( elementPath( "evenNumbers", 4, int[].class ) ).withMessage( "7 is odd" )
+		);
+		assertEquals( EvenValidator.PRIMITIVE_CALLS.get(), 5 );
+		assertEquals( EvenValidator.BOXED_CALLS.get(), 2 );
+	}
+
+	private static PathExpectation elementPath(String property, int index, Class<?> containerClass) {
+		return pathWith()
+				.property( property )
+				.containerElement( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, true, null, index, containerClass, null );
+	}
+
+	private static class Measures {
+
+		@Positive(payload = Unwrapping.Unwrap.class)
+		private int[] counts;
+
+		@Min(value = 10, payload = Unwrapping.Unwrap.class)
+		private long[] timestamps;
+
+		@Max(value = 1, payload = Unwrapping.Unwrap.class)
+		@PositiveOrZero(payload = Unwrapping.Unwrap.class)
+		private double[] ratios;
+
+		@Even(payload = Unwrapping.Unwrap.class)
+		private int[] evenNumbers;
+
+		// no primitive contract for short values: the elements are validated one by one
+		@Max(value = 100, payload = Unwrapping.Unwrap.class)
+		private short[] percentages;
+	}
+
+	@Documented
+	@Constraint(validatedBy = EvenValidator.class)
+	@Target({ FIELD, TYPE_USE })
+	@Retention(RUNTIME)
+	public @interface Even {
+
+		String message() default "must be even";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class EvenValidator implements ConstraintValidator<Even, Integer>, IntConstraintValidator {
+
+		private static final AtomicInteger PRIMITIVE_CALLS = new AtomicInteger();
+
+		private static final AtomicInteger BOXED_CALLS = new AtomicInteger();
+
+		@Override
+		public boolean isValid(Integer value, ConstraintValidatorContext context) {
+			BOXED_CALLS.incrementAndGet();
+			if ( value == null || value % 2 == 0 ) {
+				return true;
+			}
+
+			context.disableDefaultConstraintViolation();
+			context.buildConstraintViolationWithTemplate( value + " is odd" ).addConstraintViolation();
+			return false;
+		}
+
+		@Override
+		public boolean isValid(int value) {
+			PRIMITIVE_CALLS.incrementAndGet();
+			return value % 2 == 0;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata.aggregated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.validation.Valid;
+
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
+import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the resolution of the value extractors of {@link ContainerCascadingMetaData}.
+ */
+public class ContainerCascadingMetaDataTest {
+
+	private ValueExtractorManager valueExtractorManager;
+
+	private BeanMetaDataManager beanMetaDataManager;
+
+	@BeforeMethod
+	public void setupBeanMetaDataManager() {
+		ConstraintCreationContext constraintCreationContext = getDummyConstraintCreationContext();
+		valueExtractorManager = constraintCreationContext.getValueExtractorManager();
+		beanMetaDataManager = new BeanMetaDataManagerImpl(
+				constraintCreationContext,
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new DefaultBeanMetaDataClassNormalizer(),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build()
+		);
+	}
+
+	@Test
+	public void valueExtractorIsBoundForMonomorphicContainers() {
+		ContainerCascadingMetaData optional = getContainerElementCascadingMetaData( "optional" );
+		assertThat( optional.getValueExtractorCandidates() ).hasSize( 1 );
+		assertThat( optional.getValueExtractor( valueExtractorManager, Optional.class ).getContainerType() ).isEqualTo( Optional.class );
+
+		// the List candidates might include the JavaFX ones, the value extractor is then cached for the runtime type
+		ContainerCascadingMetaData list = getContainerElementCascadingMetaData( "list" );
+		assertThat( list.getValueExtractor( valueExtractorManager, ArrayList.class ).getContainerType() ).isEqualTo( List.class );
+		assertThat( list.getValueExtractor( valueExtractorManager, LinkedList.class ).getContainerType() ).isEqualTo( List.class );
+
+		ContainerCascadingMetaData array = getContainerElementCascadingMetaData( "array" );
+		assertThat( array.getValueExtractor( valueExtractorManager, Item[].class ).getContainerType() ).isEqualTo( Object[].class );
+	}
+
+	@Test
+	public void valueExtractorIsResolvedForTheRuntimeTypeOfPolymorphicContainers() {
+		ContainerCascadingMetaData iterable = getContainerElementCascadingMetaData( "iterable" );
+		assertThat( iterable.getValueExtractorCandidates().size() ).isGreaterThan( 1 );
+
+		assertThat( iterable.getValueExtractor( valueExtractorManager, ArrayList.class ).getContainerType() ).isEqualTo( List.class );
+		// the cached value extractor must not be used for another runtime type
+		assertThat( iterable.getValueExtractor( valueExtractorManager, HashSet.class ).getContainerType() ).isEqualTo( Iterable.class );
+		assertThat( iterable.getValueExtractor( valueExtractorManager, ArrayList.class ).getContainerType() ).isEqualTo( List.class );
+		assertThat( iterable.getValueExtractor( valueExtractorManager, HashSet.class ).getContainerType() ).isEqualTo( Iterable.class );
+	}
+
+	private ContainerCascadingMetaData getContainerElementCascadingMetaData(String propertyName) {
+		return beanMetaDataManager.getBeanMetaData( Bean.class ).getMetaDataFor( propertyName )
+				.getCascadables().iterator().next()
+				.getCascadingMetaData()
+				.as( ContainerCascadingMetaData.class )
+				.getContainerElementTypesCascadingMetaData()
+				.get( 0 );
+	}
+
+	@SuppressWarnings("unused")
+	private static class Bean {
+
+		private List<@Valid Item> list;
+
+		private Optional<@Valid Item> optional;
+
+		private @Valid Item[] array;
+
+		private Iterable<@Valid Item> iterable;
+	}
+
+	private static class Item {
+	}
+}
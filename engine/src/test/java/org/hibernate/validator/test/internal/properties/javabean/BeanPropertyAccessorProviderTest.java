@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.properties.javabean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.spi.properties.BeanPropertyAccessorProvider;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the {@link BeanPropertyAccessorProvider}s registered via the service loader are used to access the
+ * property values.
+ */
+public class BeanPropertyAccessorProviderTest {
+
+	@Test
+	public void testProvidedAccessorsAreUsed() {
+		int fieldAccessesBefore = ProvidedAccessorBeanPropertyAccessorProvider.FIELD_ACCESSES.get();
+		int getterAccessesBefore = ProvidedAccessorBeanPropertyAccessorProvider.GETTER_ACCESSES.get();
+
+		Set<ConstraintViolation<ProvidedAccessorBean>> violations = getValidator().validate( new ProvidedAccessorBean( null, 0, "a" ) );
+
+		ConstraintViolationAssert.assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Min.class ).withProperty( "count" ),
+				// this field is not covered by the provider and is accessed using the default strategy
+				violationOf( Size.class ).withProperty( "code" )
+		);
+		assertThat( ProvidedAccessorBeanPropertyAccessorProvider.FIELD_ACCESSES.get() ).isEqualTo( fieldAccessesBefore + 1 );
+		assertThat( ProvidedAccessorBeanPropertyAccessorProvider.GETTER_ACCESSES.get() ).isEqualTo( getterAccessesBefore + 1 );
+	}
+
+	public static class ProvidedAccessorBean {
+
+		@NotNull
+		String name;
+
+		private final int count;
+
+		@Size(min = 2)
+		private final String code;
+
+		ProvidedAccessorBean(String name, int count, String code) {
+			this.name = name;
+			this.count = count;
+			this.code = code;
+		}
+
+		@Min(1)
+		public int getCount() {
+			return count;
+		}
+	}
+
+	public static class ProvidedAccessorBeanPropertyAccessorProvider implements BeanPropertyAccessorProvider {
+
+		private static final AtomicInteger FIELD_ACCESSES = new AtomicInteger();
+
+		private static final AtomicInteger GETTER_ACCESSES = new AtomicInteger();
+
+		@Override
+		public Class<?> getBeanClass() {
+			return ProvidedAccessorBean.class;
+		}
+
+		@Override
+		public Function<Object, Object> getFieldAccessor(String fieldName) {
+			switch ( fieldName ) {
+				case "name":
+					return bean -> {
+						FIELD_ACCESSES.incrementAndGet();
+						return ( (ProvidedAccessorBean) bean ).name;
+					};
+				default:
+					return null;
+			}
+		}
+
+		@Override
+		public Function<Object, Object> getGetterAccessor(String methodName) {
+			switch ( methodName ) {
+				case "getCount":
+					return bean -> {
+						GETTER_ACCESSES.incrementAndGet();
+						return ( (ProvidedAccessorBean) bean ).getCount();
+					};
+				default:
+					return null;
+			}
+		}
+	}
+}
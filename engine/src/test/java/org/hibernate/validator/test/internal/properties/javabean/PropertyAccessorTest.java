@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.properties.javabean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import jakarta.validation.ValidationException;
+
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanField;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanGetter;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the accessors returned by {@link JavaBeanField#createAccessor()} and {@link JavaBeanGetter#createAccessor()}.
+ */
+public class PropertyAccessorTest {
+
+	@Test
+	public void testFieldAccessors() throws Exception {
+		Bean bean = new Bean( "value", 42 );
+
+		assertThat( fieldAccessor( "name" ).getValueFrom( bean ) ).isEqualTo( "value" );
+		assertThat( fieldAccessor( "count" ).getValueFrom( bean ) ).isEqualTo( 42 );
+		assertThat( fieldAccessor( "inherited" ).getValueFrom( bean ) ).isEqualTo( "inherited" );
+	}
+
+	@Test
+	public void testGetterAccessors() throws Exception {
+		Bean bean = new Bean( null, 3 );
+
+		assertThat( getterAccessor( Bean.class, "getName", "name" ).getValueFrom( bean ) ).isNull();
+		assertThat( getterAccessor( Bean.class, "getCount", "count" ).getValueFrom( bean ) ).isEqualTo( 3 );
+		assertThat( getterAccessor( Bean.class, "isOdd", "odd" ).getValueFrom( bean ) ).isEqualTo( true );
+		assertThat( getterAccessor( Parent.class, "getInherited", "inherited" ).getValueFrom( bean ) ).isEqualTo( "inherited" );
+		assertThat( getterAccessor( Named.class, "getDefaultName", "defaultName" ).getValueFrom( bean ) ).isEqualTo( "default" );
+	}
+
+	@Test
+	public void testGetterThrowingExceptionIsWrapped() throws Exception {
+		PropertyAccessor accessor = getterAccessor( Bean.class, "getFailing", "failing" );
+
+		try {
+			accessor.getValueFrom( new Bean( "value", 1 ) );
+			fail( "A ValidationException should have been raised" );
+		}
+		catch (ValidationException e) {
+			assertThat( e.getCause() ).isInstanceOf( InvocationTargetException.class );
+			assertThat( e.getCause().getCause() ).isInstanceOf( IllegalStateException.class );
+		}
+	}
+
+	private static PropertyAccessor fieldAccessor(String name) throws Exception {
+		Class<?> declaringClass = "inherited".equals( name ) ? Parent.class : Bean.class;
+		return new JavaBeanField( declaringClass.getDeclaredField( name ), name ).createAccessor();
+	}
+
+	private static PropertyAccessor getterAccessor(Class<?> declaringClass, String methodName, String propertyName) throws Exception {
+		return new JavaBeanGetter( declaringClass, declaringClass.getDeclaredMethod( methodName ), propertyName, propertyName ).createAccessor();
+	}
+
+	private interface Named {
+
+		default String getDefaultName() {
+			return "default";
+		}
+	}
+
+	private static class Parent {
+
+		private final String inherited = "inherited";
+
+		private String getInherited() {
+			return inherited;
+		}
+	}
+
+	private static class Bean extends Parent implements Named {
+
+		private final String name;
+
+		private final int count;
+
+		private Bean(String name, int count) {
+			this.name = name;
+			this.count = count;
+		}
+
+		private String getName() {
+			return name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		boolean isOdd() {
+			return count % 2 == 1;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException( "failing getter" );
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.validator.internal.util.BoundedConcurrentCache;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for {@link BoundedConcurrentCache}.
+ */
+public class BoundedConcurrentCacheTest {
+
+	private static final int MAXIMUM_SIZE = 16;
+
+	@Test
+	public void testHotKeySurvivesColdKeys() {
+		BoundedConcurrentCache<Integer, String> cache = new BoundedConcurrentCache<>( MAXIMUM_SIZE );
+		AtomicInteger hotKeyComputations = new AtomicInteger();
+
+		// 0 is the first key iterated in the underlying map, the one an arbitrary eviction would always pick
+		Integer hotKey = 0;
+		cache.get( hotKey, key -> "hot-" + hotKeyComputations.incrementAndGet() );
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			cache.get( i, key -> "cold-" + key );
+			assertEquals( cache.get( hotKey, key -> "hot-" + hotKeyComputations.incrementAndGet() ), "hot-1" );
+			assertTrue( cache.size() <= MAXIMUM_SIZE );
+		}
+
+		assertEquals( hotKeyComputations.get(), 1 );
+		assertEquals( cache.getEvictionCount(), 1000 - MAXIMUM_SIZE + 1 );
+	}
+
+	@Test
+	public void testEvictionWhenAllEntriesAreReferenced() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( MAXIMUM_SIZE );
+		for ( int i = 0; i < MAXIMUM_SIZE; i++ ) {
+			cache.get( i, key -> key );
+			cache.get( i, key -> key );
+		}
+
+		cache.get( MAXIMUM_SIZE, key -> key );
+
+		assertEquals( cache.size(), MAXIMUM_SIZE );
+		assertEquals( cache.getEvictionCount(), 1 );
+		assertEquals( cache.getHitCount(), MAXIMUM_SIZE );
+		assertEquals( cache.getMissCount(), MAXIMUM_SIZE + 1 );
+	}
+}
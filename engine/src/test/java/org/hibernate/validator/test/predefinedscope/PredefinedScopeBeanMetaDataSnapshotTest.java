@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.predefinedscope;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
+import org.hibernate.validator.internal.metadata.BeanMetaDataSnapshot;
+
+import org.assertj.core.api.Assertions;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the bean metadata snapshot of the predefined scope validator factory.
+ */
+public class PredefinedScopeBeanMetaDataSnapshotTest {
+
+	@Test
+	public void testSnapshotRoundTrip() {
+		Set<Class<?>> beanClasses = new HashSet<>();
+		beanClasses.add( ConstrainedBean.class );
+		beanClasses.add( UnconstrainedBean.class );
+
+		byte[] snapshot;
+		try ( PredefinedScopeHibernateValidatorFactory validatorFactory = configure( beanClasses )
+				.buildValidatorFactory()
+				.unwrap( PredefinedScopeHibernateValidatorFactory.class ) ) {
+			snapshot = writeSnapshot( validatorFactory );
+		}
+
+		try ( PredefinedScopeHibernateValidatorFactory validatorFactory = configure( beanClasses )
+				.beanMetaDataSnapshot( new ByteArrayInputStream( snapshot ) )
+				.buildValidatorFactory()
+				.unwrap( PredefinedScopeHibernateValidatorFactory.class ) ) {
+			Validator validator = validatorFactory.getValidator();
+
+			assertThat( validator.validate( new ConstrainedBean() ) ).containsOnlyViolations(
+					violationOf( NotNull.class ).withProperty( "property" )
+			);
+			assertNoViolations( validator.validate( new UnconstrainedBean() ) );
+
+			// the classes skipped thanks to the snapshot are kept in the new snapshot
+			Assertions.assertThat( writeSnapshot( validatorFactory ) ).isEqualTo( snapshot );
+		}
+	}
+
+	@Test
+	public void testClassesMarkedAsUnconstrainedAreSkipped() {
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		BeanMetaDataSnapshot.write( snapshot, Collections.singleton( ConstrainedBean.class ) );
+
+		Validator validator = configure( Collections.singleton( ConstrainedBean.class ) )
+				.beanMetaDataSnapshot( new ByteArrayInputStream( snapshot.toByteArray() ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		// the snapshot marks the class as unconstrained and the fingerprint matches so the metadata is not created
+		assertNoViolations( validator.validate( new ConstrainedBean() ) );
+	}
+
+	@Test
+	public void testFallbackOnFingerprintMismatch() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BeanMetaDataSnapshot.write( out, Collections.singleton( ConstrainedBean.class ) );
+		byte[] snapshot = out.toByteArray();
+		// alter the fingerprint, which is the last element of the snapshot
+		snapshot[snapshot.length - 1]++;
+
+		Validator validator = configure( Collections.singleton( ConstrainedBean.class ) )
+				.beanMetaDataSnapshot( new ByteArrayInputStream( snapshot ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new ConstrainedBean() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "property" )
+		);
+	}
+
+	@Test
+	public void testFallbackOnInvalidSnapshot() {
+		Validator validator = configure( Collections.singleton( ConstrainedBean.class ) )
+				.beanMetaDataSnapshot( new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new ConstrainedBean() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "property" )
+		);
+	}
+
+	private static PredefinedScopeHibernateValidatorConfiguration configure(Set<Class<?>> beanClasses) {
+		return Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( beanClasses );
+	}
+
+	private static byte[] writeSnapshot(PredefinedScopeHibernateValidatorFactory validatorFactory) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		validatorFactory.writeBeanMetaDataSnapshot( out );
+		return out.toByteArray();
+	}
+
+	private static class ConstrainedBean {
+
+		@NotNull
+		private String property;
+	}
+
+	private static class UnconstrainedBean {
+
+		private String property;
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.predefinedscope;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.validation.GroupDefinitionException;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the parallel initialization of the bean metadata of the predefined scope validator factory.
+ */
+public class PredefinedScopeParallelInitializationTest {
+
+	@Test
+	public void testParallelInitialization() {
+		Set<Class<?>> beanClasses = new HashSet<>();
+		beanClasses.add( Order.class );
+		beanClasses.add( OrderLine.class );
+		beanClasses.add( SpecialOrder.class );
+		beanClasses.add( Customer.class );
+
+		Validator validator = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( beanClasses )
+				.parallelBeanMetaDataInitialization( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new SpecialOrder( null, new OrderLine( 0 ), new Customer( " " ) ) ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "reference" ),
+				violationOf( Min.class ).withPropertyPath( pathWith().property( "line" ).property( "quantity" ) ),
+				violationOf( NotBlank.class ).withPropertyPath( pathWith().property( "customer" ).property( "name" ) )
+		);
+		assertNoViolations( validator.validate( new Customer( "name" ) ) );
+	}
+
+	@Test
+	public void testFailureIsPropagated() {
+		Set<Class<?>> beanClasses = new HashSet<>();
+		beanClasses.add( Order.class );
+		beanClasses.add( InvalidBean.class );
+
+		assertThatThrownBy( () -> Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( beanClasses )
+				.parallelBeanMetaDataInitialization( true )
+				.buildValidatorFactory() )
+				.isInstanceOf( GroupDefinitionException.class );
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@Valid
+		private final OrderLine line;
+
+		private Order(String reference, OrderLine line) {
+			this.reference = reference;
+			this.line = line;
+		}
+	}
+
+	private static class SpecialOrder extends Order {
+
+		@Valid
+		private final Customer customer;
+
+		private SpecialOrder(String reference, OrderLine line, Customer customer) {
+			super( reference, line );
+			this.customer = customer;
+		}
+	}
+
+	private static class OrderLine {
+
+		@Min(1)
+		private final int quantity;
+
+		private OrderLine(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Customer {
+
+		@NotBlank
+		private final String name;
+
+		private Customer(String name) {
+			this.name = name;
+		}
+	}
+
+	@GroupSequence(Extended.class)
+	private static class InvalidBean {
+
+		@NotNull
+		private String value;
+	}
+
+	private interface Extended {
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.resourceloading;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.hibernate.validator.resourceloading.FlattenedResourceBundleLocator;
+import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test for {@link FlattenedResourceBundleLocator}.
+ */
+public class FlattenedResourceBundleLocatorTest {
+
+	private static final String BUNDLE_NAME =
+			FlattenedResourceBundleLocatorTest.class.getPackage()
+					.getName() + ".FlattenedResourceBundleLocatorTestBundle";
+
+	@Test
+	public void valuesOfParentBundlesAreFlattened() {
+		Set<Locale> locales = Collections.singleton( Locale.GERMAN );
+		ResourceBundleLocator locator = new FlattenedResourceBundleLocator(
+				new PlatformResourceBundleLocator( BUNDLE_NAME, locales ), locales );
+
+		ResourceBundle resourceBundle = locator.getResourceBundle( Locale.GERMAN );
+
+		// contained in the german bundle
+		assertEquals( resourceBundle.getString( "key_2" ), "value 2 from german bundle" );
+
+		// inherited from the base bundle
+		assertEquals( resourceBundle.getString( "key_1" ), "value 1 from base bundle" );
+
+		assertEquals( resourceBundle.keySet().size(), 2 );
+		assertFalse( resourceBundle.containsKey( "key_3" ) );
+		assertSame( locator.getResourceBundle( Locale.GERMAN ), resourceBundle );
+	}
+
+	@Test
+	public void bundlesOfOtherLocalesAreFlattenedLazily() {
+		ResourceBundleLocator locator = new FlattenedResourceBundleLocator( new PlatformResourceBundleLocator( BUNDLE_NAME ) );
+
+		ResourceBundle resourceBundle = locator.getResourceBundle( Locale.GERMAN );
+
+		assertEquals( resourceBundle.getString( "key_1" ), "value 1 from base bundle" );
+		assertEquals( resourceBundle.getString( "key_2" ), "value 2 from german bundle" );
+		assertSame( locator.getResourceBundle( Locale.GERMAN ), resourceBundle );
+	}
+
+	@Test
+	public void nullReturnedAsBundleDoesNotExist() {
+		Set<Locale> locales = Collections.singleton( Locale.GERMAN );
+		ResourceBundleLocator locator = new FlattenedResourceBundleLocator(
+				new PlatformResourceBundleLocator( "org.hibernate.validator.test.resourceloading.DoesNotExist", locales ), locales );
+
+		assertNull( locator.getResourceBundle( Locale.GERMAN ) );
+	}
+}
@@ -8,6 +8,7 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 
 import java.io.IOException;
 import java.net.URL;
@@ -69,6 +70,14 @@ public void the_most_specific_key_value_pair_is_returned() {
 		);
 	}
 
+	@Test
+	public void missing_bundles_can_be_preloaded() {
+		PlatformResourceBundleLocator locator = new PlatformResourceBundleLocator(
+				"org/hibernate/validator/test/resourceloading/MissingMessages", Collections.singleton( Locale.ROOT )
+		);
+		assertNull( locator.getResourceBundle( Locale.ROOT ) );
+	}
+
 	public class TestClassLoader extends URLClassLoader {
 		private final Map<String, List<String>> mappedResources;
 
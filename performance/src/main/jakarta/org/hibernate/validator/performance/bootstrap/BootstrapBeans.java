@@ -0,0 +1,426 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * The beans used by the bootstrap benchmarks: each of them has its own metadata to build.
+ */
+final class BootstrapBeans {
+
+	static final List<Class<?>> BEAN_CLASSES = Arrays.asList(
+			Bean0.class,
+			Bean1.class,
+			Bean2.class,
+			Bean3.class,
+			Bean4.class,
+			Bean5.class,
+			Bean6.class,
+			Bean7.class,
+			Bean8.class,
+			Bean9.class
+	);
+
+	private BootstrapBeans() {
+	}
+
+	/**
+	 * Returns a valid instance of each of the first {@code beanCount} bean classes.
+	 */
+	static Object[] newBeans(int beanCount) {
+		Object[] beans = new Object[beanCount];
+		for ( int i = 0; i < beanCount; i++ ) {
+			try {
+				beans[i] = BEAN_CLASSES.get( i ).getDeclaredConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException e) {
+				throw new IllegalStateException( e );
+			}
+		}
+		return beans;
+	}
+
+	public static class Bean0 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean1 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean2 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean3 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean4 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean5 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean6 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean7 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean8 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Bean9 {
+
+		@NotBlank
+		@Size(max = 50)
+		private String name = "name";
+
+		@Email
+		private String email = "john.doe@example.com";
+
+		@Min(0)
+		@Max(150)
+		private int age = 42;
+
+		@Past
+		private LocalDate birthDate = LocalDate.of( 1980, 1, 1 );
+
+		@NotNull
+		@DecimalMin("0.00")
+		private BigDecimal amount = BigDecimal.TEN;
+
+		@Pattern(regexp = "[A-Z]{2}[0-9]{4}")
+		private String code = "AB1234";
+
+		@Valid
+		private Detail detail = new Detail();
+
+		public String getName() {
+			return name;
+		}
+
+		@NotNull
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	public static class Detail {
+
+		@NotNull
+		@Size(min = 1, max = 20)
+		private String label = "label";
+	}
+}
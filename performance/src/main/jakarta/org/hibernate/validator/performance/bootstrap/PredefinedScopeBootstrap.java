@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the bootstrap of a predefined scope {@link ValidatorFactory}, which initializes the metadata of all the
+ * beans eagerly.
+ *
+ * @see PredefinedScopeValidation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Threads(1)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+public class PredefinedScopeBootstrap {
+
+	@Param({ "1", "10" })
+	private int beanCount;
+
+	private Set<Class<?>> beanClasses;
+
+	private Object[] beans;
+
+	@Setup
+	public void setup() {
+		beanClasses = new HashSet<>( BootstrapBeans.BEAN_CLASSES.subList( 0, beanCount ) );
+		beanClasses.add( BootstrapBeans.Detail.class );
+		beans = BootstrapBeans.newBeans( beanCount );
+	}
+
+	@Benchmark
+	public void bootstrapAndValidate(Blackhole bh) {
+		try ( ValidatorFactory factory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( beanClasses )
+				.buildValidatorFactory() ) {
+			Validator validator = factory.getValidator();
+			for ( Object bean : beans ) {
+				bh.consume( validator.validate( bean ) );
+			}
+		}
+	}
+}
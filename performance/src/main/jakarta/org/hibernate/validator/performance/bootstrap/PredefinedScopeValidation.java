@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the validation with a predefined scope validator to the validation with a default one, once the metadata
+ * has been initialized.
+ *
+ * @see PredefinedScopeBootstrap
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Threads(50)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class PredefinedScopeValidation {
+
+	public enum ValidatorScope {
+		DEFAULT,
+		PREDEFINED
+	}
+
+	@Param({ "DEFAULT", "PREDEFINED" })
+	private ValidatorScope validatorScope;
+
+	private ValidatorFactory factory;
+
+	private Validator validator;
+
+	private Object[] beans;
+
+	@Setup
+	public void setup() {
+		beans = BootstrapBeans.newBeans( BootstrapBeans.BEAN_CLASSES.size() );
+
+		if ( validatorScope == ValidatorScope.PREDEFINED ) {
+			Set<Class<?>> beanClasses = new HashSet<>( BootstrapBeans.BEAN_CLASSES );
+			beanClasses.add( BootstrapBeans.Detail.class );
+			factory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+					.configure()
+					.initializeBeanMetaData( beanClasses )
+					.buildValidatorFactory();
+		}
+		else {
+			factory = Validation.buildDefaultValidatorFactory();
+		}
+		validator = factory.getValidator();
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public void validate(Blackhole bh) {
+		for ( Object bean : beans ) {
+			bh.consume( validator.validate( bean ) );
+		}
+	}
+}
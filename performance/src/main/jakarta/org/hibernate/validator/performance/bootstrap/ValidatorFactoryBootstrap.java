@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the bootstrap of a {@link ValidatorFactory} followed by the first validation of a number of beans, i.e. the
+ * cost paid by an application on startup.
+ * <p>
+ * The constraints are either declared with annotations or with an XML mapping, to also cover the parsing of the
+ * mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Threads(1)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+public class ValidatorFactoryBootstrap {
+
+	public enum ConstraintDeclaration {
+		ANNOTATIONS,
+		XML_MAPPING
+	}
+
+	@Param({ "1", "10" })
+	private int beanCount;
+
+	@Param({ "ANNOTATIONS", "XML_MAPPING" })
+	private ConstraintDeclaration constraintDeclaration;
+
+	private Object[] beans;
+
+	private byte[] mapping;
+
+	@Setup
+	public void setup() {
+		beans = BootstrapBeans.newBeans( beanCount );
+		mapping = XmlMappings.generate( BootstrapBeans.BEAN_CLASSES.subList( 0, beanCount ) ).getBytes( StandardCharsets.UTF_8 );
+	}
+
+	@Benchmark
+	public void bootstrapAndValidate(Blackhole bh) {
+		Configuration<?> configuration = Validation.byDefaultProvider().configure();
+		if ( constraintDeclaration == ConstraintDeclaration.XML_MAPPING ) {
+			configuration.addMapping( new ByteArrayInputStream( mapping ) );
+		}
+
+		try ( ValidatorFactory factory = configuration.buildValidatorFactory() ) {
+			Validator validator = factory.getValidator();
+			for ( Object bean : beans ) {
+				bh.consume( validator.validate( bean ) );
+			}
+		}
+	}
+
+	@Benchmark
+	public void bootstrapOnly(Blackhole bh) {
+		Configuration<?> configuration = Validation.byDefaultProvider().configure();
+		if ( constraintDeclaration == ConstraintDeclaration.XML_MAPPING ) {
+			configuration.addMapping( new ByteArrayInputStream( mapping ) );
+		}
+
+		try ( ValidatorFactory factory = configuration.buildValidatorFactory() ) {
+			bh.consume( factory.getValidator() );
+		}
+	}
+}
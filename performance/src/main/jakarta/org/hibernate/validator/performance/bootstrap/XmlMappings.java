@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.util.List;
+
+/**
+ * Generates an XML mapping declaring the same constraints as the annotations of the {@link BootstrapBeans}.
+ */
+final class XmlMappings {
+
+	private XmlMappings() {
+	}
+
+	static String generate(List<Class<?>> beanClasses) {
+		StringBuilder mapping = new StringBuilder();
+		mapping.append( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" )
+				.append( "<constraint-mappings xmlns=\"https://jakarta.ee/xml/ns/validation/mapping\"\n" )
+				.append( "\t\txmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" )
+				.append( "\t\txsi:schemaLocation=\"https://jakarta.ee/xml/ns/validation/mapping https://jakarta.ee/xml/ns/validation/validation-mapping-3.0.xsd\"\n" )
+				.append( "\t\tversion=\"3.0\">\n" );
+
+		for ( Class<?> beanClass : beanClasses ) {
+			mapping.append( "\t<bean class=\"" ).append( beanClass.getName() ).append( "\" ignore-annotations=\"true\">\n" );
+			field( mapping, "name",
+					"<constraint annotation=\"jakarta.validation.constraints.NotBlank\"/>",
+					"<constraint annotation=\"jakarta.validation.constraints.Size\"><element name=\"max\">50</element></constraint>" );
+			field( mapping, "email",
+					"<constraint annotation=\"jakarta.validation.constraints.Email\"/>" );
+			field( mapping, "age",
+					"<constraint annotation=\"jakarta.validation.constraints.Min\"><element name=\"value\">0</element></constraint>",
+					"<constraint annotation=\"jakarta.validation.constraints.Max\"><element name=\"value\">150</element></constraint>" );
+			field( mapping, "birthDate",
+					"<constraint annotation=\"jakarta.validation.constraints.Past\"/>" );
+			field( mapping, "amount",
+					"<constraint annotation=\"jakarta.validation.constraints.NotNull\"/>",
+					"<constraint annotation=\"jakarta.validation.constraints.DecimalMin\"><element name=\"value\">0.00</element></constraint>" );
+			field( mapping, "code",
+					"<constraint annotation=\"jakarta.validation.constraints.Pattern\"><element name=\"regexp\">[A-Z]{2}[0-9]{4}</element></constraint>" );
+			field( mapping, "detail", "<valid/>" );
+			mapping.append( "\t\t<getter name=\"email\">\n" )
+					.append( "\t\t\t<constraint annotation=\"jakarta.validation.constraints.NotNull\"/>\n" )
+					.append( "\t\t</getter>\n" );
+			mapping.append( "\t</bean>\n" );
+		}
+
+		return mapping.append( "</constraint-mappings>\n" ).toString();
+	}
+
+	private static void field(StringBuilder mapping, String name, String... elements) {
+		mapping.append( "\t\t<field name=\"" ).append( name ).append( "\">\n" );
+		for ( String element : elements ) {
+			mapping.append( "\t\t\t" ).append( element ).append( '\n' );
+		}
+		mapping.append( "\t\t</field>\n" );
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.email;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.constraintvalidators.RegexpURLValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of email addresses and URLs, typically the fields of a signup form: the syntax check of the
+ * local part and of the domain dominate.
+ * <p>
+ * The URLs are validated with both the default {@code java.net} based validator and the {@link RegexpURLValidator},
+ * which also checks the domain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Threads(4)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class EmailValidation {
+
+	private static final String[] VALID_EMAILS = {
+			"john.doe@example.com",
+			"first.middle.last+newsletter@mail.subdomain.example.org",
+			"\"john doe\"@example.com",
+			"admin@[192.168.0.1]",
+			"admin@[IPv6:2001:db8:85a3::8a2e:370:7334]",
+			"jöhn@exämple.com"
+	};
+
+	private static final String[] INVALID_EMAILS = {
+			"john.doe",
+			"john..doe@example.com",
+			"john.doe@example..com",
+			"john.doe@-example.com",
+			"john.doe@example.com.",
+			"\"john\"doe\"@example.com"
+	};
+
+	private static final String[] VALID_URLS = {
+			"http://example.com",
+			"https://www.example.com:8443/path/to/resource?query=value#fragment",
+			"http://[2001:db8::1]/index.html"
+	};
+
+	@Param({ "valid", "invalid" })
+	private String values;
+
+	private ValidatorFactory factory;
+
+	private Validator validator;
+
+	private ValidatorFactory regexpUrlFactory;
+
+	private Validator regexpUrlValidator;
+
+	private String[] emails;
+
+	@Setup
+	public void setup() {
+		factory = Validation.buildDefaultValidatorFactory();
+		validator = factory.getValidator();
+
+		HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class ).configure();
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.constraintDefinition( URL.class )
+				.includeExistingValidators( false )
+				.validatedBy( RegexpURLValidator.class );
+		regexpUrlFactory = configuration.addMapping( mapping ).buildValidatorFactory();
+		regexpUrlValidator = regexpUrlFactory.getValidator();
+
+		emails = "valid".equals( values ) ? VALID_EMAILS : INVALID_EMAILS;
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+		regexpUrlFactory.close();
+	}
+
+	@Benchmark
+	public void validateEmails(Blackhole bh) {
+		for ( String email : emails ) {
+			Set<ConstraintViolation<Signup>> violations = validator.validateValue( Signup.class, "email", email );
+			bh.consume( violations );
+		}
+	}
+
+	@Benchmark
+	public void validateUrls(Blackhole bh) {
+		for ( String url : VALID_URLS ) {
+			Set<ConstraintViolation<Signup>> violations = validator.validateValue( Signup.class, "website", url );
+			bh.consume( violations );
+		}
+	}
+
+	@Benchmark
+	public void validateUrlsWithRegexpURLValidator(Blackhole bh) {
+		for ( String url : VALID_URLS ) {
+			Set<ConstraintViolation<Signup>> violations = regexpUrlValidator.validateValue( Signup.class, "website", url );
+			bh.consume( violations );
+		}
+	}
+
+	private static class Signup {
+
+		@Email
+		private String email;
+
+		@URL
+		private String website;
+	}
+}
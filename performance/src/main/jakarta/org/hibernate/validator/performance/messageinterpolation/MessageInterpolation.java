@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.messageinterpolation;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the interpolation of the messages of the constraint violations, as it is the main cost of the validation
+ * of an invalid bean.
+ * <p>
+ * Each bean has three constraints always failing, whose messages are either the default messages of the built-in
+ * constraints, messages with parameters or messages with Expression Language expressions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Threads(50)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class MessageInterpolation {
+
+	public enum Interpolator {
+		RESOURCE_BUNDLE,
+		PARAMETER
+	}
+
+	public enum Messages {
+		DEFAULT,
+		PARAMETERS,
+		EXPRESSION_LANGUAGE
+	}
+
+	@Param({ "RESOURCE_BUNDLE", "PARAMETER" })
+	private Interpolator interpolator;
+
+	@Param({ "DEFAULT", "PARAMETERS", "EXPRESSION_LANGUAGE" })
+	private Messages messages;
+
+	private ValidatorFactory factory;
+
+	private Validator validator;
+
+	private Object bean;
+
+	@Setup
+	public void setup() {
+		factory = Validation.byDefaultProvider()
+				.configure()
+				.messageInterpolator( interpolator == Interpolator.RESOURCE_BUNDLE
+						? new ResourceBundleMessageInterpolator()
+						: new ParameterMessageInterpolator() )
+				.buildValidatorFactory();
+		validator = factory.getValidator();
+
+		switch ( messages ) {
+			case DEFAULT:
+				bean = new DefaultMessages();
+				break;
+			case PARAMETERS:
+				bean = new ParameterMessages();
+				break;
+			case EXPRESSION_LANGUAGE:
+				bean = new ExpressionLanguageMessages();
+				break;
+			default:
+				throw new IllegalStateException( "Unknown messages " + messages );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public void interpolateMessages(Blackhole bh) {
+		Set<ConstraintViolation<Object>> violations = validator.validate( bean );
+		assert violations.size() == 3;
+		for ( ConstraintViolation<Object> violation : violations ) {
+			bh.consume( violation.getMessage() );
+		}
+	}
+
+	private static class DefaultMessages {
+
+		@NotNull
+		private String name;
+
+		@AssertTrue
+		private boolean active;
+
+		@Null
+		private String comment = "comment";
+	}
+
+	private static class ParameterMessages {
+
+		@Size(min = 5, max = 10)
+		private String name = "ab";
+
+		@Min(10)
+		private int quantity = 1;
+
+		@DecimalMax("1.5")
+		private BigDecimal ratio = BigDecimal.TEN;
+	}
+
+	private static class ExpressionLanguageMessages {
+
+		@Size(min = 5, max = 10, message = "'${validatedValue}' must have between {min} and {max} characters")
+		private String name = "ab";
+
+		@Max(value = 10, message = "${validatedValue} is ${validatedValue > 100 ? 'way' : 'slightly'} more than {value}")
+		private int quantity = 12;
+
+		@DecimalMax("1.5")
+		private BigDecimal ratio = BigDecimal.TEN;
+	}
+}
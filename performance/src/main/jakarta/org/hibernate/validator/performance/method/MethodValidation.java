@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.method;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.executable.ExecutableValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of the parameters and of the return values of methods and constructors, as done for each
+ * call of a service by the method validation integrations (CDI, Spring...).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Threads(50)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class MethodValidation {
+
+	@Param({ "true", "false" })
+	private boolean valid;
+
+	private ValidatorFactory factory;
+
+	private ExecutableValidator validator;
+
+	private OrderService service;
+
+	private Method registerMethod;
+
+	private Object[] registerParameters;
+
+	private Method placeOrderMethod;
+
+	private Object[] placeOrderParameters;
+
+	private Method getLinesMethod;
+
+	private List<OrderLine> lines;
+
+	private Constructor<OrderService> constructor;
+
+	private Object[] constructorParameters;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		factory = Validation.buildDefaultValidatorFactory();
+		validator = factory.getValidator().forExecutables();
+
+		service = new OrderService( "EU" );
+		registerMethod = OrderService.class.getMethod( "register", String.class, int.class, String.class );
+		placeOrderMethod = OrderService.class.getMethod( "placeOrder", Order.class );
+		getLinesMethod = OrderService.class.getMethod( "getLines" );
+		constructor = OrderService.class.getConstructor( String.class );
+
+		if ( valid ) {
+			registerParameters = new Object[] { "John Doe", 42, "john.doe@example.com" };
+			placeOrderParameters = new Object[] { new Order( "REF-1", Arrays.asList( new OrderLine( "item", 1 ), new OrderLine( "other item", 2 ) ) ) };
+			lines = Arrays.asList( new OrderLine( "item", 1 ), new OrderLine( "other item", 2 ) );
+			constructorParameters = new Object[] { "EU" };
+		}
+		else {
+			registerParameters = new Object[] { "J", 12, "not an email" };
+			placeOrderParameters = new Object[] { new Order( null, Arrays.asList( new OrderLine( null, 1 ), new OrderLine( "other item", 0 ) ) ) };
+			lines = Collections.emptyList();
+			constructorParameters = new Object[] { null };
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public void validateParameters(Blackhole bh) {
+		bh.consume( validator.validateParameters( service, registerMethod, registerParameters ) );
+	}
+
+	@Benchmark
+	public void validateCascadedParameters(Blackhole bh) {
+		bh.consume( validator.validateParameters( service, placeOrderMethod, placeOrderParameters ) );
+	}
+
+	@Benchmark
+	public void validateReturnValue(Blackhole bh) {
+		bh.consume( validator.validateReturnValue( service, getLinesMethod, lines ) );
+	}
+
+	@Benchmark
+	public void validateConstructorParameters(Blackhole bh) {
+		bh.consume( validator.validateConstructorParameters( constructor, constructorParameters ) );
+	}
+
+	public static class OrderService {
+
+		private final String region;
+
+		public OrderService(@NotNull @Size(min = 2, max = 2) String region) {
+			this.region = region;
+		}
+
+		public void register(@NotNull @Size(min = 2, max = 50) String name, @Min(18) int age, @NotNull @Email String email) {
+		}
+
+		public void placeOrder(@NotNull @Valid Order order) {
+		}
+
+		public @NotEmpty List<@Valid OrderLine> getLines() {
+			return null;
+		}
+
+		public String getRegion() {
+			return region;
+		}
+	}
+
+	public static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@NotEmpty
+		private final List<@Valid OrderLine> lines;
+
+		public Order(String reference, List<OrderLine> lines) {
+			this.reference = reference;
+			this.lines = lines;
+		}
+	}
+
+	public static class OrderLine {
+
+		@NotNull
+		private final String item;
+
+		@Min(1)
+		private final int quantity;
+
+		public OrderLine(String item, int quantity) {
+			this.item = item;
+			this.quantity = quantity;
+		}
+	}
+}
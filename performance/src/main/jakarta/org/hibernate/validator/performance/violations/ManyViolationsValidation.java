@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.violations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of a bean failing with many violations, typically a rejected import: the creation of the
+ * violations, of their paths and the interpolation of their messages dominate.
+ * <p>
+ * Each item has three failing constraints. The validation is executed with and without the fail fast mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1)
+@Threads(4)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class ManyViolationsValidation {
+
+	@Param({ "10", "100", "1000" })
+	private int itemCount;
+
+	@Param({ "false", "true" })
+	private boolean failFast;
+
+	private ValidatorFactory factory;
+
+	private Validator validator;
+
+	private Batch batch;
+
+	@Setup
+	public void setup() {
+		factory = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.failFast( failFast )
+				.buildValidatorFactory();
+		validator = factory.getValidator();
+
+		List<Item> items = new ArrayList<>( itemCount );
+		for ( int i = 0; i < itemCount; i++ ) {
+			items.add( new Item( " ", "item-" + i, -i ) );
+		}
+		batch = new Batch( items );
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public void validateInvalidBatch(Blackhole bh) {
+		Set<ConstraintViolation<Batch>> violations = validator.validate( batch );
+		assert failFast ? violations.size() == 1 : violations.size() == itemCount * 3;
+		bh.consume( violations );
+	}
+
+	private static class Batch {
+
+		@Size(max = 1000)
+		private final List<@Valid Item> items;
+
+		private Batch(List<Item> items) {
+			this.items = items;
+		}
+	}
+
+	private static class Item {
+
+		@NotBlank
+		private final String name;
+
+		@Pattern(regexp = "[A-Z]{3}[0-9]+")
+		private final String code;
+
+		@Min(1)
+		private final int quantity;
+
+		private Item(String name, String code, int quantity) {
+			this.name = name;
+			this.code = code;
+			this.quantity = quantity;
+		}
+	}
+}
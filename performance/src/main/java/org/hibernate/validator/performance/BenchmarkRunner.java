@@ -29,6 +29,16 @@ public final class BenchmarkRunner {
 			"org.hibernate.validator.performance.cascaded.CascadedWithLotsOfItemsValidation",
 			"org.hibernate.validator.performance.simple.SimpleValidation",
 			"org.hibernate.validator.performance.statistical.StatisticalValidation",
+			// Benchmarks specific to Jakarta Validation
+			// Tests are located in the jakarta source folder, they cover the bootstrap, the message interpolation,
+			// the method validation, the validation failing with many violations and the email validation
+			"org.hibernate.validator.performance.bootstrap.ValidatorFactoryBootstrap",
+			"org.hibernate.validator.performance.bootstrap.PredefinedScopeBootstrap",
+			"org.hibernate.validator.performance.bootstrap.PredefinedScopeValidation",
+			"org.hibernate.validator.performance.messageinterpolation.MessageInterpolation",
+			"org.hibernate.validator.performance.method.MethodValidation",
+			"org.hibernate.validator.performance.violations.ManyViolationsValidation",
+			"org.hibernate.validator.performance.email.EmailValidation",
 			// Benchmarks specific to Bean Validation 2.0
 			// Tests are located in a separate source folder only added for implementations compatible with BV 2.0
 			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation"